@@ -16,6 +16,8 @@ CREATE TABLE `orth_job_group`
     `title`        varchar(64) NOT NULL COMMENT 'Executor display name',
     `address_type` tinyint(4)  NOT NULL DEFAULT '0' COMMENT 'Address type: 0=auto-register, 1=manual',
     `address_list` text COMMENT 'Executor address list, comma-separated',
+    `trigger_rate`  int(11)     NOT NULL DEFAULT '0' COMMENT 'Max trigger RPCs per second to the group, 0=unlimited',
+    `trigger_burst` int(11)     NOT NULL DEFAULT '0' COMMENT 'Trigger RPCs sent at once after idling, 0=one second of rate',
     `update_time`  datetime             DEFAULT NULL,
     PRIMARY KEY (`id`)
 ) ENGINE = InnoDB
@@ -23,11 +25,15 @@ CREATE TABLE `orth_job_group`
 
 CREATE TABLE `orth_job_registry`
 (
-    `id`             int(11)      NOT NULL AUTO_INCREMENT,
-    `registry_group` varchar(50)  NOT NULL,
-    `registry_key`   varchar(255) NOT NULL,
-    `registry_value` varchar(255) NOT NULL,
-    `update_time`    datetime DEFAULT NULL,
+    `id`              int(11)      NOT NULL AUTO_INCREMENT,
+    `registry_group`  varchar(50)  NOT NULL,
+    `registry_key`    varchar(255) NOT NULL,
+    `registry_value`  varchar(255) NOT NULL,
+    `job_threads`     int(11)      NOT NULL DEFAULT '-1' COMMENT 'Executor job threads at the last heartbeat, -1=not reported',
+    `queued_triggers` int(11)      NOT NULL DEFAULT '-1' COMMENT 'Executor triggers waiting in job thread queues, -1=not reported',
+    `running_workers` int(11)      NOT NULL DEFAULT '-1' COMMENT 'Executor jobs running, -1=not reported',
+    `cpu_load`        double       NOT NULL DEFAULT '-1' COMMENT 'Executor process CPU load 0-1, -1=not reported',
+    `update_time`     datetime DEFAULT NULL,
     PRIMARY KEY (`id`),
     UNIQUE KEY `i_g_k_v` (`registry_group`, `registry_key`, `registry_value`) USING BTREE
 ) ENGINE = InnoDB
@@ -47,6 +53,8 @@ CREATE TABLE `orth_job_info`
     `schedule_type`             varchar(50)  NOT NULL DEFAULT 'NONE' COMMENT 'Schedule type: CRON, FIX_RATE, NONE',
     `schedule_conf`             varchar(128)          DEFAULT NULL COMMENT 'Schedule config, meaning depends on schedule type',
     `misfire_strategy`          varchar(50)  NOT NULL DEFAULT 'DO_NOTHING' COMMENT 'Misfire strategy: DO_NOTHING, FIRE_ONCE_NOW',
+    `schedule_jitter`           int(11)      NOT NULL DEFAULT '0' COMMENT 'Spread window in seconds after the schedule time, 0=none',
+    `priority`                  varchar(10)  NOT NULL DEFAULT 'NORMAL' COMMENT 'Trigger priority class: HIGH, NORMAL, LOW',
     `executor_route_strategy`   varchar(50)           DEFAULT NULL COMMENT 'Executor routing strategy',
     `executor_handler`          varchar(255)          DEFAULT NULL COMMENT 'Job handler name',
     `executor_param`            varchar(512)          DEFAULT NULL COMMENT 'Job handler parameters',
@@ -54,6 +62,7 @@ CREATE TABLE `orth_job_info`
     `executor_concurrency`      int(11)      NOT NULL DEFAULT '1' COMMENT 'Concurrency level for CONCURRENT block strategy, 1=serial',
     `executor_timeout`          int(11)      NOT NULL DEFAULT '0' COMMENT 'Execution timeout in seconds, 0=unlimited',
     `executor_fail_retry_count` int(11)      NOT NULL DEFAULT '0' COMMENT 'Fail retry count',
+    `shard_count`               int(11)      NOT NULL DEFAULT '0' COMMENT 'Virtual shard count for SHARDING_BROADCAST, 0=one shard per executor',
     `glue_type`                 varchar(50)  NOT NULL COMMENT 'GLUE type: BEAN, GLUE_GROOVY, GLUE_SHELL, etc.',
     `glue_source`               mediumtext COMMENT 'GLUE source code',
     `glue_remark`               varchar(128)          DEFAULT NULL COMMENT 'GLUE remark',
@@ -63,7 +72,8 @@ CREATE TABLE `orth_job_info`
     `trigger_status`            tinyint(4)   NOT NULL DEFAULT '0' COMMENT 'Trigger status: 0=stopped, 1=running',
     `trigger_last_time`         bigint(13)   NOT NULL DEFAULT '0' COMMENT 'Last trigger time (epoch ms)',
     `trigger_next_time`         bigint(13)   NOT NULL DEFAULT '0' COMMENT 'Next trigger time (epoch ms)',
-    PRIMARY KEY (`id`)
+    PRIMARY KEY (`id`),
+    KEY `i_update_time` (`update_time`)
 ) ENGINE = InnoDB
   DEFAULT CHARSET = utf8mb4;
 
@@ -121,12 +131,44 @@ CREATE TABLE `orth_job_log_report`
 ) ENGINE = InnoDB
   DEFAULT CHARSET = utf8mb4;
 
+CREATE TABLE `orth_job_trigger_deferred`
+(
+    `id`            bigint(20) NOT NULL AUTO_INCREMENT,
+    `job_id`        int(11)    NOT NULL COMMENT 'Job ID',
+    `schedule_time` bigint(13) NOT NULL COMMENT 'Logical schedule time of the deferred CRON trigger, in ms',
+    `defer_count`   int(11)    NOT NULL COMMENT 'Times the trigger was rejected by saturated trigger pools',
+    `retry_time`    bigint(13) NOT NULL COMMENT 'Next retry time in ms; rows long overdue are recovered by any admin node',
+    PRIMARY KEY (`id`),
+    KEY `i_retry_time` (`retry_time`)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE `orth_job_shard`
+(
+    `job_log_id`   bigint(20)   NOT NULL COMMENT 'Parent log ID of the virtually sharded run',
+    `shard_index`  int(11)      NOT NULL COMMENT 'Virtual shard index, 0-based',
+    `status`       tinyint(4)   NOT NULL DEFAULT '0' COMMENT 'Status: 0=pending, 1=leased, 2=done, 3=failed',
+    `attempt`      int(11)      NOT NULL DEFAULT '0' COMMENT 'Leases taken so far',
+    `max_attempts` int(11)      NOT NULL DEFAULT '1' COMMENT 'Max leases, 1 + job fail retry count',
+    `lease_token`  bigint(20)   NOT NULL DEFAULT '0' COMMENT 'Token of the current lease; guards ack and reclaim',
+    `lease_owner`  varchar(255)          DEFAULT NULL COMMENT 'Executor address holding or last holding the lease',
+    `lease_expire` bigint(13)   NOT NULL DEFAULT '0' COMMENT 'Lease expiry in ms (database clock)',
+    `update_time`  bigint(13)   NOT NULL DEFAULT '0' COMMENT 'Last change in ms (database clock)',
+    `handle_msg`   varchar(512)          DEFAULT NULL COMMENT 'Handle message of the last attempt',
+    PRIMARY KEY (`job_log_id`, `shard_index`),
+    KEY `i_status_expire` (`status`, `lease_expire`)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4;
+
 ## —————————————————————— lock ——————————————————
 
-CREATE TABLE `orth_job_lock`
+CREATE TABLE `orth_job_lease`
 (
-    `lock_name` varchar(50) NOT NULL COMMENT 'Lock name',
-    PRIMARY KEY (`lock_name`)
+    `lease_name`    varchar(50)  NOT NULL COMMENT 'Lease name, schedule_<partition>',
+    `owner`         varchar(255) NOT NULL DEFAULT '' COMMENT 'Holder admin address, empty when released',
+    `fencing_token` bigint(20)   NOT NULL DEFAULT '0' COMMENT 'Incremented on every acquisition; guards schedule write-back',
+    `expire_time`   bigint(13)   NOT NULL DEFAULT '0' COMMENT 'Lease expiry in ms (database clock)',
+    PRIMARY KEY (`lease_name`)
 ) ENGINE = InnoDB
   DEFAULT CHARSET = utf8mb4;
 
@@ -190,7 +232,7 @@ VALUES (1, 1, 'Sample Job 01', now(), now(), 'admin', '', 'CRON', '0 0 0 * * ? *
 INSERT INTO `orth_job_user`(`id`, `username`, `password`, `role`, `permission`)
 VALUES (1, 'admin', '8d969eef6ecad3c29a3a629280e686cf0c3f5d5a86aff3ca12020c923adc6c92', 1, NULL);
 
-INSERT INTO `orth_job_lock` (`lock_name`)
-VALUES ('schedule_lock');
+-- Schedule partitions are guarded by orth_job_lease rows ('schedule_0' .. 'schedule_<n-1>'),
+-- created by admin nodes on startup.
 
 commit;
@@ -23,6 +23,30 @@ USE `xxl_job`;
 ALTER TABLE `xxl_job_group`
     MODIFY COLUMN `title` VARCHAR(64) NOT NULL COMMENT 'Executor display name';
 
+-- Add trigger_rate / trigger_burst: per-group token bucket pacing trigger RPCs (0 = unlimited)
+ALTER TABLE `xxl_job_group`
+    ADD COLUMN `trigger_rate` int(11) NOT NULL DEFAULT '0'
+        COMMENT 'Max trigger RPCs per second to the group, 0=unlimited'
+        AFTER `address_list`,
+    ADD COLUMN `trigger_burst` int(11) NOT NULL DEFAULT '0'
+        COMMENT 'Trigger RPCs sent at once after idling, 0=one second of rate'
+        AFTER `trigger_rate`;
+
+-- Add executor load columns: piggybacked on the registry heartbeat, read by LEAST_LOADED routing
+ALTER TABLE `xxl_job_registry`
+    ADD COLUMN `job_threads` int(11) NOT NULL DEFAULT '-1'
+        COMMENT 'Executor job threads at the last heartbeat, -1=not reported'
+        AFTER `registry_value`,
+    ADD COLUMN `queued_triggers` int(11) NOT NULL DEFAULT '-1'
+        COMMENT 'Executor triggers waiting in job thread queues, -1=not reported'
+        AFTER `job_threads`,
+    ADD COLUMN `running_workers` int(11) NOT NULL DEFAULT '-1'
+        COMMENT 'Executor jobs running, -1=not reported'
+        AFTER `queued_triggers`,
+    ADD COLUMN `cpu_load` double NOT NULL DEFAULT '-1'
+        COMMENT 'Executor process CPU load 0-1, -1=not reported'
+        AFTER `running_workers`;
+
 -- Add schedule_time: theoretical schedule time tracking
 -- NULL for manual/API triggers, set for scheduled triggers
 ALTER TABLE `xxl_job_log`
@@ -38,6 +62,28 @@ ALTER TABLE `xxl_job_info`
         AFTER `child_jobid`,
     ADD INDEX `idx_super_task_id` (`super_task_id`);
 
+-- Add schedule_jitter: per-job spread window after the schedule time (0 = fire on time)
+ALTER TABLE `xxl_job_info`
+    ADD COLUMN `schedule_jitter` int(11) NOT NULL DEFAULT '0'
+        COMMENT 'Spread window in seconds after the schedule time, 0=none'
+        AFTER `misfire_strategy`;
+
+-- Add priority: trigger priority class, weighs the job's share of the trigger pools
+ALTER TABLE `xxl_job_info`
+    ADD COLUMN `priority` varchar(10) NOT NULL DEFAULT 'NORMAL'
+        COMMENT 'Trigger priority class: HIGH, NORMAL, LOW'
+        AFTER `schedule_jitter`;
+
+-- Add shard_count: virtual shards of a SHARDING_BROADCAST run, leased by its executors
+ALTER TABLE `xxl_job_info`
+    ADD COLUMN `shard_count` int(11) NOT NULL DEFAULT '0'
+        COMMENT 'Virtual shard count for SHARDING_BROADCAST, 0=one shard per executor'
+        AFTER `executor_fail_retry_count`;
+
+-- Index update_time: admin nodes poll recently changed jobs to refresh the schedule index
+ALTER TABLE `xxl_job_info`
+    ADD INDEX `i_update_time` (`update_time`);
+
 
 -- ═══════════ Step 2: Create orth_job database and migrate tables ═══════════
 
@@ -57,6 +103,55 @@ RENAME TABLE
 
 DROP DATABASE IF EXISTS `xxl_job`;
 
+-- Schedule partition leases (replace the schedule_lock row lock). Stop all old admin nodes
+-- before starting new ones: nodes using the row lock and nodes using leases do not exclude
+-- each other.
+CREATE TABLE IF NOT EXISTS `orth_job`.`orth_job_lease`
+(
+    `lease_name`    varchar(50)  NOT NULL COMMENT 'Lease name, schedule_<partition>',
+    `owner`         varchar(255) NOT NULL DEFAULT '' COMMENT 'Holder admin address, empty when released',
+    `fencing_token` bigint(20)   NOT NULL DEFAULT '0' COMMENT 'Incremented on every acquisition; guards schedule write-back',
+    `expire_time`   bigint(13)   NOT NULL DEFAULT '0' COMMENT 'Lease expiry in ms (database clock)',
+    PRIMARY KEY (`lease_name`)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4;
+
+-- Drop the schedule_lock row lock. Nodes using the row lock and nodes using leases do not
+-- exclude each other; without the table, an old admin node still running fails its lock query
+-- and schedules nothing instead of firing jobs a second time.
+DROP TABLE IF EXISTS `orth_job`.`orth_job_lock`;
+
+-- Deferred CRON triggers (rejected by saturated trigger pools, retried with backoff)
+CREATE TABLE IF NOT EXISTS `orth_job`.`orth_job_trigger_deferred`
+(
+    `id`            bigint(20) NOT NULL AUTO_INCREMENT,
+    `job_id`        int(11)    NOT NULL COMMENT 'Job ID',
+    `schedule_time` bigint(13) NOT NULL COMMENT 'Logical schedule time of the deferred CRON trigger, in ms',
+    `defer_count`   int(11)    NOT NULL COMMENT 'Times the trigger was rejected by saturated trigger pools',
+    `retry_time`    bigint(13) NOT NULL COMMENT 'Next retry time in ms; rows long overdue are recovered by any admin node',
+    PRIMARY KEY (`id`),
+    KEY `i_retry_time` (`retry_time`)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4;
+
+
+-- Virtual shards of SHARDING_BROADCAST runs with shard_count > 0, leased by executors
+CREATE TABLE IF NOT EXISTS `orth_job`.`orth_job_shard`
+(
+    `job_log_id`   bigint(20)   NOT NULL COMMENT 'Parent log ID of the virtually sharded run',
+    `shard_index`  int(11)      NOT NULL COMMENT 'Virtual shard index, 0-based',
+    `status`       tinyint(4)   NOT NULL DEFAULT '0' COMMENT 'Status: 0=pending, 1=leased, 2=done, 3=failed',
+    `attempt`      int(11)      NOT NULL DEFAULT '0' COMMENT 'Leases taken so far',
+    `max_attempts` int(11)      NOT NULL DEFAULT '1' COMMENT 'Max leases, 1 + job fail retry count',
+    `lease_token`  bigint(20)   NOT NULL DEFAULT '0' COMMENT 'Token of the current lease; guards ack and reclaim',
+    `lease_owner`  varchar(255)          DEFAULT NULL COMMENT 'Executor address holding or last holding the lease',
+    `lease_expire` bigint(13)   NOT NULL DEFAULT '0' COMMENT 'Lease expiry in ms (database clock)',
+    `update_time`  bigint(13)   NOT NULL DEFAULT '0' COMMENT 'Last change in ms (database clock)',
+    `handle_msg`   varchar(512)          DEFAULT NULL COMMENT 'Handle message of the last attempt',
+    PRIMARY KEY (`job_log_id`, `shard_index`),
+    KEY `i_status_expire` (`status`, `lease_expire`)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4;
 
 -- ═══════════ Step 3: Update existing seed data ═══════════
 
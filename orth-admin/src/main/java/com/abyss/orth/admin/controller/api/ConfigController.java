@@ -10,6 +10,7 @@ import org.springframework.web.bind.annotation.RestController;
 
 import com.abyss.orth.admin.scheduler.misfire.MisfireStrategyEnum;
 import com.abyss.orth.admin.scheduler.route.ExecutorRouteStrategyEnum;
+import com.abyss.orth.admin.scheduler.trigger.JobPriorityEnum;
 import com.abyss.orth.admin.scheduler.type.ScheduleTypeEnum;
 import com.abyss.orth.admin.util.I18nUtil;
 import com.abyss.orth.core.constant.ExecutorBlockStrategyEnum;
@@ -34,6 +35,7 @@ public class ConfigController {
         enumData.put("ExecutorBlockStrategyEnum", toMap(ExecutorBlockStrategyEnum.values()));
         enumData.put("ScheduleTypeEnum", toMap(ScheduleTypeEnum.values()));
         enumData.put("MisfireStrategyEnum", toMap(MisfireStrategyEnum.values()));
+        enumData.put("JobPriorityEnum", toMap(JobPriorityEnum.values()));
         return Response.ofSuccess(enumData);
     }
 
@@ -78,6 +80,15 @@ public class ConfigController {
         return map;
     }
 
+    /** Priority titles are looked up here, so the enum itself needs no i18n bundle. */
+    private Map<String, String> toMap(JobPriorityEnum[] values) {
+        Map<String, String> map = new LinkedHashMap<>();
+        for (JobPriorityEnum e : values) {
+            map.put(e.name(), I18nUtil.getString("job_priority_" + e.name().toLowerCase()));
+        }
+        return map;
+    }
+
     @GetMapping("/i18n")
     public Response<Map<String, String>> i18n() {
         Map<String, String> i18nData = I18nUtil.getAllStrings();
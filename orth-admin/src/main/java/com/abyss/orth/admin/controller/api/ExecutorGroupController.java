@@ -4,6 +4,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -22,6 +23,9 @@ import com.abyss.orth.admin.mapper.JobInfoMapper;
 import com.abyss.orth.admin.mapper.JobRegistryMapper;
 import com.abyss.orth.admin.model.JobGroup;
 import com.abyss.orth.admin.model.JobRegistry;
+import com.abyss.orth.admin.scheduler.config.OrthAdminBootstrap;
+import com.abyss.orth.admin.scheduler.thread.ExecutorCircuitBreakerHelper;
+import com.abyss.orth.admin.scheduler.thread.JobGroupRateLimitHelper;
 import com.abyss.orth.admin.util.I18nUtil;
 import com.abyss.orth.admin.util.JobGroupPermissionUtil;
 import com.abyss.orth.admin.web.security.JwtUserInfo;
@@ -75,6 +79,7 @@ public class ExecutorGroupController {
 
         List<JobGroup> list = jobGroupMapper.pageList(offset, pagesize, appname, title);
         int totalCount = jobGroupMapper.pageListCount(offset, pagesize, appname, title);
+        list.forEach(this::fillRuntimeState);
 
         PageModel<JobGroup> pageModel = new PageModel<>();
         pageModel.setData(list);
@@ -164,6 +169,9 @@ public class ExecutorGroupController {
         }
 
         JobGroup jobGroup = jobGroupMapper.load(id);
+        if (jobGroup != null) {
+            fillRuntimeState(jobGroup);
+        }
         return jobGroup != null ? Response.ofSuccess(jobGroup) : Response.ofFail();
     }
 
@@ -185,6 +193,30 @@ public class ExecutorGroupController {
         return Response.ofSuccess();
     }
 
+    /** Sets the circuit states and the rate limit utilization of a group. */
+    private void fillRuntimeState(JobGroup jobGroup) {
+        fillCircuitStates(jobGroup);
+        JobGroupRateLimitHelper rateLimiter =
+                OrthAdminBootstrap.getInstance().getJobGroupRateLimitHelper();
+        if (rateLimiter != null && jobGroup.getTriggerRate() > 0) {
+            jobGroup.setTriggerRateUtilization(rateLimiter.getUtilization(jobGroup.getId()));
+        }
+    }
+
+    /** Sets the circuit breaker state of each registry address, when the breaker is enabled. */
+    private void fillCircuitStates(JobGroup jobGroup) {
+        ExecutorCircuitBreakerHelper breaker =
+                OrthAdminBootstrap.getInstance().getExecutorCircuitBreakerHelper();
+        if (breaker == null || CollectionTool.isEmpty(jobGroup.getRegistryList())) {
+            return;
+        }
+        Map<String, String> circuitStates = new LinkedHashMap<>();
+        for (String address : jobGroup.getRegistryList()) {
+            circuitStates.put(address, breaker.getState(address).name());
+        }
+        jobGroup.setCircuitStates(circuitStates);
+    }
+
     private Response<String> validateJobGroup(JobGroup orthJobGroup) {
         Response<String> basicValidation = validateBasicFields(orthJobGroup);
         if (!basicValidation.isSuccess()) {
@@ -220,6 +252,10 @@ public class ExecutorGroupController {
                             + I18nUtil.getString("jobgroup_field_title"));
         }
 
+        if (orthJobGroup.getTriggerRate() < 0 || orthJobGroup.getTriggerBurst() < 0) {
+            return Response.ofFail(I18nUtil.getString("jobgroup_field_trigger_rate_unvalid"));
+        }
+
         return Response.ofSuccess();
     }
 
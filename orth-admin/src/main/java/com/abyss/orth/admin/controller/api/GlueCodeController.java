@@ -18,6 +18,8 @@ import com.abyss.orth.admin.mapper.JobInfoMapper;
 import com.abyss.orth.admin.mapper.JobLogGlueMapper;
 import com.abyss.orth.admin.model.JobInfo;
 import com.abyss.orth.admin.model.JobLogGlue;
+import com.abyss.orth.admin.scheduler.config.OrthAdminBootstrap;
+import com.abyss.orth.admin.scheduler.thread.JobInfoCacheHelper;
 import com.abyss.orth.admin.util.I18nUtil;
 import com.abyss.orth.admin.util.JobGroupPermissionUtil;
 import com.abyss.orth.admin.web.security.JwtUserInfo;
@@ -127,6 +129,11 @@ public class GlueCodeController {
         jobInfo.setGlueUpdatetime(new Date());
         jobInfo.setUpdateTime(new Date());
         jobInfoMapper.update(jobInfo);
+
+        JobInfoCacheHelper jobInfoCache = OrthAdminBootstrap.getInstance().getJobInfoCacheHelper();
+        if (jobInfoCache != null) {
+            jobInfoCache.invalidate(jobInfo.getId());
+        }
     }
 
     private void saveCodeBackup(JobInfo jobInfo, String glueSource, String glueRemark) {
@@ -361,12 +361,15 @@ public class JobController {
         exportData.put("scheduleType", jobInfo.getScheduleType());
         exportData.put("scheduleConf", jobInfo.getScheduleConf());
         exportData.put("misfireStrategy", jobInfo.getMisfireStrategy());
+        exportData.put("scheduleJitter", jobInfo.getScheduleJitter());
+        exportData.put("priority", jobInfo.getPriority());
         exportData.put("executorRouteStrategy", jobInfo.getExecutorRouteStrategy());
         exportData.put("executorHandler", jobInfo.getExecutorHandler());
         exportData.put("executorParam", jobInfo.getExecutorParam());
         exportData.put("executorBlockStrategy", jobInfo.getExecutorBlockStrategy());
         exportData.put("executorTimeout", jobInfo.getExecutorTimeout());
         exportData.put("executorFailRetryCount", jobInfo.getExecutorFailRetryCount());
+        exportData.put("shardCount", jobInfo.getShardCount());
         exportData.put("glueType", jobInfo.getGlueType());
         exportData.put("glueSource", jobInfo.getGlueSource());
         exportData.put("glueRemark", jobInfo.getGlueRemark());
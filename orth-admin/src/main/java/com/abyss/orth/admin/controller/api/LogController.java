@@ -20,7 +20,10 @@ import com.abyss.orth.admin.mapper.JobInfoMapper;
 import com.abyss.orth.admin.mapper.JobLogMapper;
 import com.abyss.orth.admin.model.JobInfo;
 import com.abyss.orth.admin.model.JobLog;
+import com.abyss.orth.admin.model.JobShardProgress;
 import com.abyss.orth.admin.scheduler.config.OrthAdminBootstrap;
+import com.abyss.orth.admin.scheduler.thread.JobShardHelper;
+import com.abyss.orth.admin.scheduler.trigger.TriggerDiagnostics;
 import com.abyss.orth.admin.util.I18nUtil;
 import com.abyss.orth.admin.util.JobGroupPermissionUtil;
 import com.abyss.orth.core.context.OrthJobContext;
@@ -106,6 +109,7 @@ public class LogController {
                         timeRange[1],
                         logStatus,
                         permittedGroupIds);
+        list.forEach(this::renderMessages);
 
         PageModel<JobLog> pageModel = new PageModel<>();
         pageModel.setData(list);
@@ -157,6 +161,11 @@ public class LogController {
 
         JobGroupPermissionUtil.validJobGroupPermission(request, jobInfo.getJobGroup());
 
+        // Virtually sharded run: its other executors stop at their next lease
+        if (JobShardHelper.isVirtualShardRun(log)) {
+            OrthAdminBootstrap.getInstance().getJobShardHelper().discardShards(log.getId());
+        }
+
         Response<String> killResult = sendKillRequest(log, jobInfo);
 
         if (killResult.getCode() == OrthJobContext.HANDLE_CODE_SUCCESS) {
@@ -246,6 +255,27 @@ public class LogController {
         }
     }
 
+    /**
+     * Renders the compact trigger and handle diagnostics of a log to localized HTML; a running
+     * virtually sharded run shows its shard progress.
+     */
+    private void renderMessages(JobLog jobLog) {
+        if (jobLog.getHandleCode() == 0 && JobShardHelper.isVirtualShardRun(jobLog)) {
+            JobShardProgress progress =
+                    OrthAdminBootstrap.getInstance().getJobShardHelper().progress(jobLog.getId());
+            if (progress != null && progress.getTotal() > 0) {
+                jobLog.setHandleMsg(
+                        TriggerDiagnostics.shardSummary(
+                                progress.getTotal(),
+                                progress.getDone(),
+                                progress.getFailed(),
+                                List.of()));
+            }
+        }
+        jobLog.setTriggerMsg(TriggerDiagnostics.renderTriggerMsg(jobLog));
+        jobLog.setHandleMsg(TriggerDiagnostics.renderHandleMsg(jobLog.getHandleMsg()));
+    }
+
     private void updateLogAfterKill(JobLog log, Response<String> killResult) {
         log.setHandleCode(OrthJobContext.HANDLE_CODE_FAIL);
         log.setHandleMsg(
@@ -1,5 +1,6 @@
 package com.abyss.orth.admin.mapper;
 
+import java.util.Date;
 import java.util.List;
 
 import org.apache.ibatis.annotations.Mapper;
@@ -60,14 +61,54 @@ public interface JobInfoMapper {
      * Query jobs due for scheduling (time-ring pre-read).
      *
      * <p>Only returns jobs with triggerStatus=1 (STARTED) and triggerNextTime &lt;= maxNextTime.
-     * Used by JobScheduleHelper to populate the time-ring buffer.
+     * Used by JobScheduleHelper to populate the time-ring buffer. When partitionCount &gt; 1, only
+     * jobs with {@code id % partitionCount == partition} are returned.
      *
      * @param maxNextTime maximum next trigger time (current time + pre-read window)
      * @param pagesize batch size for pre-read
+     * @param partitionCount total schedule partitions (1 = unpartitioned)
+     * @param partition partition index to scan, in [0, partitionCount)
      * @return list of jobs ready to schedule
      */
     List<JobInfo> scheduleJobQuery(
-            @Param("maxNextTime") long maxNextTime, @Param("pagesize") int pagesize);
+            @Param("maxNextTime") long maxNextTime,
+            @Param("pagesize") int pagesize,
+            @Param("partitionCount") int partitionCount,
+            @Param("partition") int partition);
+
+    /**
+     * Query running jobs by ID (schedule index path).
+     *
+     * <p>Reads only the jobs the in-memory schedule index reports as due. Jobs that are no longer
+     * running are omitted.
+     *
+     * @param ids job IDs
+     * @return running jobs among the given IDs
+     */
+    List<JobInfo> scheduleJobQueryByIds(@Param("ids") List<Integer> ids);
+
+    /**
+     * Load the schedule index columns (id, trigger_status, trigger_next_time) of all running jobs.
+     *
+     * @return running jobs with index columns only
+     */
+    List<JobInfo> scheduleIndexLoad();
+
+    /**
+     * Load the schedule index columns of jobs updated since the given time, whatever their status.
+     *
+     * @param updateTimeFrom lower bound on update_time (inclusive)
+     * @return updated jobs with index columns only
+     */
+    List<JobInfo> scheduleIndexLoadUpdated(@Param("updateTimeFrom") Date updateTimeFrom);
+
+    /**
+     * Load the IDs of jobs updated since the given time (job info cache invalidation).
+     *
+     * @param updateTimeFrom lower bound on update_time (inclusive)
+     * @return IDs of updated jobs
+     */
+    List<Integer> findIdsUpdatedSince(@Param("updateTimeFrom") Date updateTimeFrom);
 
     /**
      * Update job trigger state after scheduling (with optimistic locking).
@@ -80,6 +121,44 @@ public interface JobInfoMapper {
      */
     int scheduleUpdate(JobInfo orthJobInfo);
 
+    /**
+     * Batch variant of {@link #scheduleUpdate(JobInfo)} using a single multi-row CASE update,
+     * fenced by the schedule lease.
+     *
+     * <p>Keeps the per-row {@code trigger_status = 1} guard, so jobs stopped concurrently are left
+     * untouched. Nothing is written unless {@code fencingToken} is still the current token of the
+     * lease, so a node that lost its lease cannot overwrite the new holder's trigger times. Callers
+     * should chunk the list to keep the statement size bounded.
+     *
+     * @param jobs jobs with updated trigger times
+     * @param leaseName schedule lease guarding the jobs' partition
+     * @param fencingToken fencing token obtained when the lease was acquired
+     * @return number of rows updated (0 if the lease was lost)
+     */
+    int scheduleUpdateBatch(
+            @Param("list") List<JobInfo> jobs,
+            @Param("leaseName") String leaseName,
+            @Param("fencingToken") long fencingToken);
+
+    /**
+     * Move a job's next trigger time back to a fire that was written back but never triggered,
+     * fenced by the schedule lease like {@link #scheduleUpdateBatch}.
+     *
+     * <p>Only moves the time backwards, and only for running jobs, so the next lease holder reads
+     * the job again from that fire.
+     *
+     * @param id job ID
+     * @param triggerNextTime schedule time of the untriggered fire
+     * @param leaseName schedule lease guarding the job's partition
+     * @param fencingToken fencing token obtained when the lease was acquired
+     * @return 1 if moved back, 0 if the job moved on, stopped or the lease was lost
+     */
+    int scheduleRollback(
+            @Param("id") int id,
+            @Param("triggerNextTime") long triggerNextTime,
+            @Param("leaseName") String leaseName,
+            @Param("fencingToken") long fencingToken);
+
     /**
      * Find all SubTasks linked to a SuperTask template.
      *
@@ -0,0 +1,78 @@
+package com.abyss.orth.admin.mapper;
+
+import java.util.List;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import com.abyss.orth.admin.model.JobLease;
+
+/**
+ * MyBatis mapper for schedule leases.
+ *
+ * <p>Leases replace the long-held {@code SELECT ... FOR UPDATE} schedule lock: each statement is a
+ * single auto-committed row update, and expiry is evaluated against the database clock so admin
+ * node clock skew does not matter.
+ */
+@Mapper
+public interface JobLeaseMapper {
+
+    /**
+     * Create a lease row if it does not exist yet (INSERT IGNORE).
+     *
+     * @param leaseName lease name
+     * @return 1 if created, 0 if already present
+     */
+    int initLease(@Param("leaseName") String leaseName);
+
+    /**
+     * Acquire a lease and increment its fencing token.
+     *
+     * <p>Without {@code preempt}, only takes a lease that expired more than {@code graceMs} ago
+     * (or was released). With {@code preempt}, takes the lease from any other holder.
+     *
+     * @param leaseName lease name
+     * @param owner acquiring admin address
+     * @param leaseMs lease duration in milliseconds
+     * @param preempt take the lease even if another holder's lease is still valid
+     * @param graceMs extra time the lease must have been expired for (ignored with preempt)
+     * @return 1 if acquired, 0 otherwise
+     */
+    int acquire(
+            @Param("leaseName") String leaseName,
+            @Param("owner") String owner,
+            @Param("leaseMs") long leaseMs,
+            @Param("preempt") boolean preempt,
+            @Param("graceMs") long graceMs);
+
+    /**
+     * Extend every unexpired lease held by an owner. Fencing tokens are unchanged.
+     *
+     * @param owner holder admin address
+     * @param leaseMs lease duration in milliseconds
+     * @return number of renewed leases
+     */
+    int renew(@Param("owner") String owner, @Param("leaseMs") long leaseMs);
+
+    /**
+     * Release every lease held by an owner, so other nodes can acquire them immediately.
+     *
+     * @param owner holder admin address
+     * @return number of released leases
+     */
+    int release(@Param("owner") String owner);
+
+    /**
+     * Load all leases.
+     *
+     * @return all lease rows
+     */
+    List<JobLease> findAll();
+
+    /**
+     * Current database time, the clock lease expiry is evaluated against.
+     *
+     * @return database time in epoch milliseconds
+     */
+    long dbTime();
+}
@@ -59,12 +59,44 @@ public interface JobLogMapper {
     /** Save new job log and return generated ID. */
     long save(JobLog orthJobLog);
 
+    /**
+     * Save new job logs with one multi-row insert.
+     *
+     * <p>The rows get consecutive auto-increment IDs, set on each log in list order.
+     *
+     * @param jobLogs new job logs
+     * @return number of rows inserted
+     */
+    int saveBatch(List<JobLog> jobLogs);
+
     /** Update trigger information (time, code, message). */
     int updateTriggerInfo(JobLog orthJobLog);
 
+    /**
+     * Update trigger information of several logs with one statement.
+     *
+     * <p>Writes the columns set once the executor answered (code, message, executor details);
+     * trigger and schedule times are left as inserted. Callers should chunk the list to keep the
+     * statement size bounded.
+     *
+     * @param jobLogs job logs with trigger information
+     * @return number of rows updated
+     */
+    int updateTriggerInfoBatch(List<JobLog> jobLogs);
+
     /** Update execution result information (time, code, message). */
     int updateHandleInfo(JobLog orthJobLog);
 
+    /**
+     * Update execution result information only if no result was recorded yet, so concurrent
+     * completions of one log (such as its last virtual shards, acked on different admin nodes)
+     * complete it once.
+     *
+     * @param orthJobLog job log with execution result
+     * @return 1 if updated, 0 if a result was already recorded
+     */
+    int updateHandleInfoIfRunning(JobLog orthJobLog);
+
     /** Delete all logs for a specific job. */
     int delete(@Param("jobId") int jobId);
 
@@ -107,6 +139,15 @@ public interface JobLogMapper {
             @Param("oldAlarmStatus") int oldAlarmStatus,
             @Param("newAlarmStatus") int newAlarmStatus);
 
-    /** Find lost job log IDs (jobs that never reported back after being triggered). */
+    /**
+     * Find lost job log IDs (jobs that never reported back after being triggered). Virtually
+     * sharded runs are excluded: their executors do not report back, shard leases expire instead.
+     */
     List<Long> findLostJobIds(@Param("lostTime") Date lostTime);
+
+    /**
+     * Find which of the given logs are still waiting for their result; deleted logs are not
+     * returned.
+     */
+    List<Long> findRunningLogIds(@Param("logIds") List<Long> logIds);
 }
@@ -7,6 +7,7 @@ import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
 import com.abyss.orth.admin.model.JobRegistry;
+import com.abyss.orth.core.openapi.model.ExecutorLoad;
 
 /**
  * MyBatis mapper for executor registry operations.
@@ -37,6 +38,18 @@ public interface JobRegistryMapper {
             @Param("registryValue") String registryValue,
             @Param("updateTime") Date updateTime);
 
+    /**
+     * Insert or update executor registry entry (upsert), with the load the executor reported.
+     *
+     * <p>Creates new entry if not exists, updates timestamp and load if exists.
+     */
+    int registrySaveOrUpdateLoad(
+            @Param("registryGroup") String registryGroup,
+            @Param("registryKey") String registryKey,
+            @Param("registryValue") String registryValue,
+            @Param("load") ExecutorLoad load,
+            @Param("updateTime") Date updateTime);
+
     /** Delete specific registry entry. */
     int registryDelete(
             @Param("registryGroup") String registryGroup,
@@ -0,0 +1,143 @@
+package com.abyss.orth.admin.mapper;
+
+import java.util.List;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import com.abyss.orth.admin.model.JobShard;
+import com.abyss.orth.admin.model.JobShardProgress;
+
+/**
+ * MyBatis mapper for virtual shards.
+ *
+ * <p>Every state change is a single auto-committed row update guarded by the shard's status (and
+ * lease token, once leased), so admin nodes serve leases and acks of the same run concurrently.
+ * Lease expiry is evaluated against the database clock.
+ */
+@Mapper
+public interface JobShardMapper {
+
+    /**
+     * Insert pending shards of a run.
+     *
+     * @param jobLogId parent log ID
+     * @param shardIndexes shard indexes to insert
+     * @param maxAttempts max leases per shard
+     * @return number of rows inserted
+     */
+    int saveBatch(
+            @Param("jobLogId") long jobLogId,
+            @Param("shardIndexes") List<Integer> shardIndexes,
+            @Param("maxAttempts") int maxAttempts);
+
+    /**
+     * Lease the lowest pending shard of a run under a new token.
+     *
+     * @param jobLogId parent log ID
+     * @param leaseToken new lease token
+     * @param leaseOwner leasing executor address
+     * @param leaseMs lease duration in milliseconds
+     * @return 1 if a shard was leased, 0 if none is pending
+     */
+    int lease(
+            @Param("jobLogId") long jobLogId,
+            @Param("leaseToken") long leaseToken,
+            @Param("leaseOwner") String leaseOwner,
+            @Param("leaseMs") long leaseMs);
+
+    /**
+     * Load the shard leased under a token.
+     *
+     * @param jobLogId parent log ID
+     * @param leaseToken lease token
+     * @return the shard, or null
+     */
+    JobShard loadByToken(@Param("jobLogId") long jobLogId, @Param("leaseToken") long leaseToken);
+
+    /**
+     * Finish a leased shard: done on success; otherwise pending again while attempts are left,
+     * failed after the last.
+     *
+     * @param jobLogId parent log ID
+     * @param shardIndex shard index
+     * @param leaseToken token of the lease
+     * @param success whether the shard was handled successfully
+     * @param handleMsg handle message (optional)
+     * @return 1 if finished, 0 if the lease is no longer held (expired and reclaimed)
+     */
+    int ack(
+            @Param("jobLogId") long jobLogId,
+            @Param("shardIndex") int shardIndex,
+            @Param("leaseToken") long leaseToken,
+            @Param("success") boolean success,
+            @Param("handleMsg") String handleMsg);
+
+    /**
+     * Count the shards of a run by status.
+     *
+     * @param jobLogId parent log ID
+     * @return shard counts; total 0 if the run has no shards
+     */
+    JobShardProgress progress(@Param("jobLogId") long jobLogId);
+
+    /**
+     * Load indexes of failed shards of a run.
+     *
+     * @param jobLogId parent log ID
+     * @param limit max rows
+     * @return failed shard indexes, ascending
+     */
+    List<Integer> findFailed(@Param("jobLogId") long jobLogId, @Param("limit") int limit);
+
+    /**
+     * Load leased shards whose lease expired.
+     *
+     * @param limit max rows
+     * @return expired shards
+     */
+    List<JobShard> findExpired(@Param("limit") int limit);
+
+    /**
+     * Take back an expired lease: the shard is pending again while attempts are left, failed after
+     * the last.
+     *
+     * @param jobLogId parent log ID
+     * @param shardIndex shard index
+     * @param leaseToken token of the expired lease
+     * @param handleMsg reason recorded on the shard
+     * @return 1 if reclaimed, 0 if acked or reclaimed meanwhile
+     */
+    int reclaim(
+            @Param("jobLogId") long jobLogId,
+            @Param("shardIndex") int shardIndex,
+            @Param("leaseToken") long leaseToken,
+            @Param("handleMsg") String handleMsg);
+
+    /**
+     * Load runs with pending shards but none leased, and no shard change for a while: no executor
+     * is working on them any more.
+     *
+     * @param idleMs time since the last shard change, in milliseconds
+     * @param limit max rows
+     * @return parent log IDs
+     */
+    List<Long> findStalled(@Param("idleMs") long idleMs, @Param("limit") int limit);
+
+    /**
+     * Fail the pending shards of a run.
+     *
+     * @param jobLogId parent log ID
+     * @param handleMsg reason recorded on the shards
+     * @return number of shards failed
+     */
+    int failPending(@Param("jobLogId") long jobLogId, @Param("handleMsg") String handleMsg);
+
+    /**
+     * Delete the shards of a run.
+     *
+     * @param jobLogId parent log ID
+     * @return number of rows deleted
+     */
+    int delete(@Param("jobLogId") long jobLogId);
+}
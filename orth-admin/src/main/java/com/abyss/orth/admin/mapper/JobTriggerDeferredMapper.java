@@ -0,0 +1,44 @@
+package com.abyss.orth.admin.mapper;
+
+import java.util.List;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import com.abyss.orth.admin.model.JobTriggerDeferred;
+
+/**
+ * MyBatis mapper for deferred CRON triggers.
+ *
+ * <p>A deferred trigger is claimed by deleting its row: only the node whose delete removed the row
+ * may fire it.
+ */
+@Mapper
+public interface JobTriggerDeferredMapper {
+
+    /**
+     * Insert a deferred trigger.
+     *
+     * @param deferred deferred trigger; its ID is set once inserted
+     * @return 1 if inserted
+     */
+    int save(JobTriggerDeferred deferred);
+
+    /**
+     * Claim a deferred trigger by deleting its row.
+     *
+     * @param id deferred trigger ID
+     * @return 1 if claimed, 0 if another node claimed it first
+     */
+    int delete(@Param("id") long id);
+
+    /**
+     * Load deferred triggers whose retry is overdue, left behind by a stopped or stalled node.
+     *
+     * @param retryTimeBefore retry time upper bound (exclusive), epoch ms
+     * @param limit max rows
+     * @return overdue deferred triggers, oldest retry first
+     */
+    List<JobTriggerDeferred> findOverdue(
+            @Param("retryTimeBefore") long retryTimeBefore, @Param("limit") int limit);
+}
@@ -4,6 +4,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
 
 import com.xxl.tool.core.StringTool;
 
@@ -31,11 +32,19 @@ public class JobGroup {
     private String title;
     private int addressType; // Executor address type (AUTO or MANUAL)
     private String addressList; // Executor addresses (comma-separated, for manual type)
+    private int triggerRate; // Max trigger RPCs per second, 0 = unlimited
+    private int triggerBurst; // Trigger RPCs sent at once after idling, 0 = one second of rate
     private Date updateTime;
 
     // Cached registry list for automatic registration
     private List<String> registryList;
 
+    // Circuit breaker state per registry address (API only, not persisted)
+    private Map<String, String> circuitStates;
+
+    // Rate limit bucket utilization, 0-1 (API only, not persisted)
+    private Double triggerRateUtilization;
+
     /**
      * Gets the list of registered executor addresses.
      *
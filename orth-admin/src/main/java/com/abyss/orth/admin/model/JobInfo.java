@@ -30,6 +30,8 @@ public class JobInfo {
     private String scheduleType; // Schedule type (see ScheduleTypeEnum)
     private String scheduleConf; // Schedule config (format depends on scheduleType)
     private String misfireStrategy; // Misfire handling strategy (see MisfireStrategyEnum)
+    private int scheduleJitter; // Spread window in seconds after the schedule time, 0 = none
+    private String priority = "NORMAL"; // Trigger priority class (see JobPriorityEnum)
 
     // Execution configuration
     private String executorRouteStrategy; // Routing strategy (see ExecutorRouteStrategyEnum)
@@ -39,6 +41,7 @@ public class JobInfo {
     private int executorConcurrency = 1; // Concurrency level for CONCURRENT block strategy
     private int executorTimeout; // Execution timeout in seconds
     private int executorFailRetryCount; // Retry count on failure
+    private int shardCount; // Virtual shards of a SHARDING_BROADCAST run, 0 = one per executor
 
     // GLUE (dynamic code) configuration
     private String glueType; // GLUE type (see GlueTypeEnum)
@@ -0,0 +1,19 @@
+package com.abyss.orth.admin.model;
+
+import lombok.Data;
+
+/**
+ * Schedule lease entity.
+ *
+ * <p>One row per schedule partition. The holder must renew the lease before {@code expireTime};
+ * every acquisition increments {@code fencingToken}, so writes guarded by an older token are
+ * rejected once another admin node has taken over.
+ */
+@Data
+public class JobLease {
+
+    private String leaseName;
+    private String owner; // holder admin address (ip:port), empty when released
+    private long fencingToken;
+    private long expireTime; // epoch ms, database clock
+}
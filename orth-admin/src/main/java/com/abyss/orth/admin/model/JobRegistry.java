@@ -8,7 +8,7 @@ import lombok.Data;
  * Executor registry entity for service discovery.
  *
  * <p>Stores executor heartbeat information for automatic service registration and health
- * monitoring.
+ * monitoring, with the load the executor reported in its last heartbeat.
  */
 @Data
 public class JobRegistry {
@@ -17,5 +17,9 @@ public class JobRegistry {
     private String registryGroup;
     private String registryKey;
     private String registryValue;
+    private int jobThreads = -1; // Executor load at the last heartbeat, -1 = not reported
+    private int queuedTriggers = -1;
+    private int runningWorkers = -1;
+    private double cpuLoad = -1;
     private Date updateTime;
 }
@@ -0,0 +1,30 @@
+package com.abyss.orth.admin.model;
+
+import lombok.Data;
+
+/**
+ * Virtual shard entity.
+ *
+ * <p>One row per shard of a virtually sharded run, keyed by the run's parent log. Executors lease
+ * pending shards one at a time; every lease gets a new {@code leaseToken}, so the ack of a lease
+ * that expired and was reclaimed is rejected.
+ */
+@Data
+public class JobShard {
+
+    public static final int STATUS_PENDING = 0;
+    public static final int STATUS_LEASED = 1;
+    public static final int STATUS_DONE = 2;
+    public static final int STATUS_FAILED = 3;
+
+    private long jobLogId;
+    private int shardIndex;
+    private int status; // see STATUS_*
+    private int attempt; // leases taken so far
+    private int maxAttempts; // 1 + job fail retry count
+    private long leaseToken;
+    private String leaseOwner; // executor address
+    private long leaseExpire; // epoch ms, database clock
+    private long updateTime; // epoch ms, database clock
+    private String handleMsg;
+}
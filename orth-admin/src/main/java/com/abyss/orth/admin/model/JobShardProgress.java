@@ -0,0 +1,19 @@
+package com.abyss.orth.admin.model;
+
+import lombok.Data;
+
+/** Shard counts of a virtually sharded run, by status. */
+@Data
+public class JobShardProgress {
+
+    private int total;
+    private int pending;
+    private int leased;
+    private int done;
+    private int failed;
+
+    /** Shards not finished yet: pending or leased. */
+    public int getOpen() {
+        return pending + leased;
+    }
+}
@@ -0,0 +1,20 @@
+package com.abyss.orth.admin.model;
+
+import lombok.Data;
+
+/**
+ * Deferred trigger entity.
+ *
+ * <p>One row per CRON trigger rejected by the saturated trigger pools and waiting for its retry.
+ * The row is deleted by whichever admin node retries it, so a deferred trigger fires at most once
+ * even when a node recovers the rows of another.
+ */
+@Data
+public class JobTriggerDeferred {
+
+    private long id;
+    private int jobId;
+    private long scheduleTime; // logical schedule time, epoch ms
+    private int deferCount; // rejections so far
+    private long retryTime; // next retry, epoch ms
+}
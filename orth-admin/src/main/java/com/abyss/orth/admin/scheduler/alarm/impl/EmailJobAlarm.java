@@ -15,6 +15,7 @@ import com.abyss.orth.admin.model.JobInfo;
 import com.abyss.orth.admin.model.JobLog;
 import com.abyss.orth.admin.scheduler.alarm.JobAlarm;
 import com.abyss.orth.admin.scheduler.config.OrthAdminBootstrap;
+import com.abyss.orth.admin.scheduler.trigger.TriggerDiagnostics;
 import com.abyss.orth.admin.util.I18nUtil;
 import com.abyss.orth.core.context.OrthJobContext;
 
@@ -115,13 +116,15 @@ public class EmailJobAlarm implements JobAlarm {
 
         // Add trigger failure details if present
         if (jobLog.getTriggerCode() != OrthJobContext.HANDLE_CODE_SUCCESS) {
-            content.append("<br>TriggerMsg=<br>").append(jobLog.getTriggerMsg());
+            content.append("<br>TriggerMsg=<br>")
+                    .append(TriggerDiagnostics.renderTriggerMsg(jobLog));
         }
 
         // Add execution failure details if present
         if (jobLog.getHandleCode() > 0
                 && jobLog.getHandleCode() != OrthJobContext.HANDLE_CODE_SUCCESS) {
-            content.append("<br>HandleCode=").append(jobLog.getHandleMsg());
+            content.append("<br>HandleCode=")
+                    .append(TriggerDiagnostics.renderHandleMsg(jobLog.getHandleMsg()));
         }
 
         return content.toString();
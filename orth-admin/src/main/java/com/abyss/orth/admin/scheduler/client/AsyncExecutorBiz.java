@@ -0,0 +1,123 @@
+package com.abyss.orth.admin.scheduler.client;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import com.abyss.orth.core.openapi.ExecutorBiz;
+import com.abyss.orth.core.openapi.model.*;
+import com.xxl.tool.response.Response;
+
+/**
+ * Non-blocking variant of {@link ExecutorBiz} used on the admin's trigger path.
+ *
+ * <p>Every call returns at once; the future completes with the executor's response, or
+ * exceptionally on connection failure, non-200 status or when the per-call deadline passes. No
+ * thread is held while the request is in flight.
+ *
+ * @see ExecutorBizHttpClient
+ */
+public interface AsyncExecutorBiz {
+
+    /**
+     * Health check, see {@link ExecutorBiz#beat()}.
+     *
+     * @return future of the beat response
+     */
+    CompletableFuture<Response<String>> beatAsync();
+
+    /**
+     * Idle check for a job, see {@link ExecutorBiz#idleBeat(IdleBeatRequest)}.
+     *
+     * @param idleBeatRequest request with job ID to check
+     * @return future of the idle-beat response
+     */
+    CompletableFuture<Response<String>> idleBeatAsync(IdleBeatRequest idleBeatRequest);
+
+    /**
+     * Triggers a job execution, see {@link ExecutorBiz#run(TriggerRequest)}.
+     *
+     * @param triggerRequest trigger parameters
+     * @return future of the run response
+     */
+    CompletableFuture<Response<String>> runAsync(TriggerRequest triggerRequest);
+
+    /**
+     * Triggers several job executions in one request, see {@link ExecutorBiz#runBatch(List)}.
+     *
+     * @param triggerRequests trigger parameters, one per execution
+     * @return future of the per-item run responses
+     */
+    CompletableFuture<Response<List<Response<String>>>> runBatchAsync(
+            List<TriggerRequest> triggerRequests);
+
+    /**
+     * Kills a running job, see {@link ExecutorBiz#kill(KillRequest)}.
+     *
+     * @param killRequest request with job ID to kill
+     * @return future of the kill response
+     */
+    CompletableFuture<Response<String>> killAsync(KillRequest killRequest);
+
+    /**
+     * Retrieves job execution logs, see {@link ExecutorBiz#log(LogRequest)}.
+     *
+     * @param logRequest request with log ID, date, and starting line number
+     * @return future of the log result
+     */
+    CompletableFuture<Response<LogResult>> logAsync(LogRequest logRequest);
+
+    /**
+     * Adapts a blocking {@link ExecutorBiz}; calls run on the caller's thread and return completed
+     * futures. Used for in-process stub executors in tests and simulations.
+     *
+     * @param executorBiz blocking client
+     * @return async view of the client
+     */
+    static AsyncExecutorBiz of(ExecutorBiz executorBiz) {
+        if (executorBiz instanceof AsyncExecutorBiz asyncExecutorBiz) {
+            return asyncExecutorBiz;
+        }
+        return new AsyncExecutorBiz() {
+            @Override
+            public CompletableFuture<Response<String>> beatAsync() {
+                return call(executorBiz::beat);
+            }
+
+            @Override
+            public CompletableFuture<Response<String>> idleBeatAsync(
+                    IdleBeatRequest idleBeatRequest) {
+                return call(() -> executorBiz.idleBeat(idleBeatRequest));
+            }
+
+            @Override
+            public CompletableFuture<Response<String>> runAsync(TriggerRequest triggerRequest) {
+                return call(() -> executorBiz.run(triggerRequest));
+            }
+
+            @Override
+            public CompletableFuture<Response<List<Response<String>>>> runBatchAsync(
+                    List<TriggerRequest> triggerRequests) {
+                return call(() -> executorBiz.runBatch(triggerRequests));
+            }
+
+            @Override
+            public CompletableFuture<Response<String>> killAsync(KillRequest killRequest) {
+                return call(() -> executorBiz.kill(killRequest));
+            }
+
+            @Override
+            public CompletableFuture<Response<LogResult>> logAsync(LogRequest logRequest) {
+                return call(() -> executorBiz.log(logRequest));
+            }
+
+            private <T> CompletableFuture<T> call(Supplier<T> call) {
+                try {
+                    return CompletableFuture.completedFuture(call.get());
+                } catch (Throwable e) {
+                    return CompletableFuture.failedFuture(e);
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,213 @@
+package com.abyss.orth.admin.scheduler.client;
+
+import java.lang.reflect.Type;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+
+import com.abyss.orth.core.constant.Const;
+import com.abyss.orth.core.openapi.ExecutorBiz;
+import com.abyss.orth.core.openapi.model.*;
+import com.google.gson.reflect.TypeToken;
+import com.xxl.tool.core.StringTool;
+import com.xxl.tool.gson.GsonTool;
+import com.xxl.tool.response.Response;
+
+/**
+ * HTTP client of one executor's {@code EmbedServer}, built on the JDK {@link HttpClient}.
+ *
+ * <p>Speaks the same protocol as the xxl-tool {@code HttpTool} proxy it replaces: a JSON POST to
+ * {@code <address>/<method>} with the access token header, answered by a JSON {@link Response}.
+ *
+ * <ul>
+ *   <li><b>Connection reuse</b>: all clients share one {@link HttpClient}, which keeps a pool of
+ *       HTTP/1.1 keep-alive connections per executor, so a trigger only pays connection setup when
+ *       every pooled connection to that executor is busy
+ *   <li><b>Deadline</b>: every call is bounded by the {@code orth.job.timeout} deadline, connect
+ *       included; the future then completes exceptionally with {@code HttpTimeoutException}
+ *   <li><b>No blocked threads</b>: {@link AsyncExecutorBiz} calls return at once; the blocking
+ *       {@link ExecutorBiz} methods wait on the same futures, for callers off the trigger path
+ * </ul>
+ *
+ * <p>Requests to one executor run concurrently on separate pooled connections; the JDK client does
+ * not pipeline HTTP/1.1 requests on one connection.
+ */
+public class ExecutorBizHttpClient implements ExecutorBiz, AsyncExecutorBiz {
+
+    private static final String CONTENT_TYPE = "application/json;charset=UTF-8";
+
+    /** Data type of a batch run response: {@code List<Response<String>>}. */
+    private static final Type RUN_BATCH_DATA_TYPE =
+            TypeToken.getParameterized(
+                            List.class,
+                            TypeToken.getParameterized(Response.class, String.class).getType())
+                    .getType();
+
+    private final HttpClient httpClient;
+    private final String baseUrl;
+    private final String accessToken;
+    private final Duration timeout;
+
+    /**
+     * Creates a client of one executor.
+     *
+     * @param httpClient shared HTTP client (connection pools, I/O threads)
+     * @param address executor address, e.g. {@code http://127.0.0.1:9999/}
+     * @param accessToken access token sent to the executor (nullable)
+     * @param timeoutMs per-call deadline in milliseconds
+     */
+    public ExecutorBizHttpClient(
+            HttpClient httpClient, String address, String accessToken, long timeoutMs) {
+        this.httpClient = httpClient;
+        this.baseUrl = address.endsWith("/") ? address : address + "/";
+        this.accessToken = accessToken;
+        this.timeout = Duration.ofMillis(timeoutMs);
+    }
+
+    /**
+     * Creates the HTTP client shared by all executor clients.
+     *
+     * @param connectTimeoutMs connect timeout in milliseconds
+     * @return HTTP/1.1 client (the embedded executor server does not speak HTTP/2)
+     */
+    public static HttpClient newHttpClient(long connectTimeoutMs) {
+        return HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .build();
+    }
+
+    // ---------------------- async ----------------------
+
+    @Override
+    public CompletableFuture<Response<String>> beatAsync() {
+        return call("beat", null, String.class);
+    }
+
+    @Override
+    public CompletableFuture<Response<String>> idleBeatAsync(IdleBeatRequest idleBeatRequest) {
+        return call("idleBeat", idleBeatRequest, String.class);
+    }
+
+    @Override
+    public CompletableFuture<Response<String>> runAsync(TriggerRequest triggerRequest) {
+        return call("run", triggerRequest, String.class);
+    }
+
+    @Override
+    public CompletableFuture<Response<List<Response<String>>>> runBatchAsync(
+            List<TriggerRequest> triggerRequests) {
+        return call("runBatch", triggerRequests, RUN_BATCH_DATA_TYPE);
+    }
+
+    @Override
+    public CompletableFuture<Response<String>> killAsync(KillRequest killRequest) {
+        return call("kill", killRequest, String.class);
+    }
+
+    @Override
+    public CompletableFuture<Response<LogResult>> logAsync(LogRequest logRequest) {
+        return call("log", logRequest, LogResult.class);
+    }
+
+    // ---------------------- blocking ----------------------
+
+    @Override
+    public Response<String> beat() {
+        return await(beatAsync());
+    }
+
+    @Override
+    public Response<String> idleBeat(IdleBeatRequest idleBeatRequest) {
+        return await(idleBeatAsync(idleBeatRequest));
+    }
+
+    @Override
+    public Response<String> run(TriggerRequest triggerRequest) {
+        return await(runAsync(triggerRequest));
+    }
+
+    @Override
+    public Response<List<Response<String>>> runBatch(List<TriggerRequest> triggerRequests) {
+        return await(runBatchAsync(triggerRequests));
+    }
+
+    @Override
+    public Response<String> kill(KillRequest killRequest) {
+        return await(killAsync(killRequest));
+    }
+
+    @Override
+    public Response<LogResult> log(LogRequest logRequest) {
+        return await(logAsync(logRequest));
+    }
+
+    // ---------------------- tool ----------------------
+
+    /**
+     * Sends one request.
+     *
+     * @param method executor method, also the URI path
+     * @param request request body object, or null for an empty body
+     * @param dataType type of the response data
+     * @return future of the parsed response
+     */
+    private <T> CompletableFuture<Response<T>> call(String method, Object request, Type dataType) {
+        HttpRequest.Builder builder =
+                HttpRequest.newBuilder(URI.create(baseUrl + method))
+                        .timeout(timeout)
+                        .header("Content-Type", CONTENT_TYPE)
+                        .POST(
+                                request != null
+                                        ? HttpRequest.BodyPublishers.ofString(
+                                                GsonTool.toJson(request), StandardCharsets.UTF_8)
+                                        : HttpRequest.BodyPublishers.noBody());
+        if (StringTool.isNotBlank(accessToken)) {
+            builder.header(Const.ORTH_ACCESS_TOKEN, accessToken);
+        }
+
+        return httpClient
+                .sendAsync(
+                        builder.build(), HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8))
+                .thenApply(httpResponse -> parse(method, httpResponse, dataType));
+    }
+
+    private <T> Response<T> parse(String method, HttpResponse<String> httpResponse, Type dataType) {
+        if (httpResponse.statusCode() != 200) {
+            throw new IllegalStateException(
+                    "Http Request fail, statusCode("
+                            + httpResponse.statusCode()
+                            + ") for url : "
+                            + baseUrl
+                            + method);
+        }
+        if (StringTool.isBlank(httpResponse.body())) {
+            throw new IllegalStateException(
+                    "Http Request fail, response empty for url : " + baseUrl + method);
+        }
+        return GsonTool.fromJson(httpResponse.body(), Response.class, dataType);
+    }
+
+    /** Waits for a call; failures are rethrown unwrapped, as the xxl-tool proxy did. */
+    private static <T> Response<T> await(CompletableFuture<Response<T>> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Http Request interrupted", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new CompletionException(cause);
+        }
+    }
+}
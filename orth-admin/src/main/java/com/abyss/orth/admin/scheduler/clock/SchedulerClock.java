@@ -0,0 +1,45 @@
+package com.abyss.orth.admin.scheduler.clock;
+
+/**
+ * Time source of the Orth scheduler.
+ *
+ * <p>The schedule loop, trigger pool and completion handling read time and sleep only through this
+ * interface, so they can run against {@link VirtualSchedulerClock} in benchmarks and simulations.
+ * The clock is injected through {@code OrthAdminBootstrap}; without a {@code SchedulerClock} bean
+ * the {@link SystemSchedulerClock system clock} is used.
+ *
+ * <p>Lease and registry heartbeats are coordinated with the database clock and keep using real
+ * time.
+ */
+public interface SchedulerClock {
+
+    /**
+     * Current wall-clock time.
+     *
+     * @return epoch milliseconds
+     */
+    long currentTimeMillis();
+
+    /**
+     * Current monotonic time, for measuring elapsed time only.
+     *
+     * @return nanoseconds from an arbitrary origin
+     */
+    long nanoTime();
+
+    /**
+     * Sleeps for the given time.
+     *
+     * @param millis milliseconds to sleep, no-op if not positive
+     * @throws InterruptedException if the thread is interrupted while sleeping
+     */
+    void sleep(long millis) throws InterruptedException;
+
+    /**
+     * Parks the current thread for up to the given time; returns early if interrupted, leaving
+     * the interrupt status set (same contract as {@link java.util.concurrent.locks.LockSupport}).
+     *
+     * @param nanos nanoseconds to park
+     */
+    void parkNanos(long nanos);
+}
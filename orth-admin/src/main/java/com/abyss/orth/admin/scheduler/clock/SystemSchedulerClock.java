@@ -0,0 +1,32 @@
+package com.abyss.orth.admin.scheduler.clock;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/** Scheduler clock backed by the system clock. */
+public final class SystemSchedulerClock implements SchedulerClock {
+
+    public static final SystemSchedulerClock INSTANCE = new SystemSchedulerClock();
+
+    private SystemSchedulerClock() {}
+
+    @Override
+    public long currentTimeMillis() {
+        return System.currentTimeMillis();
+    }
+
+    @Override
+    public long nanoTime() {
+        return System.nanoTime();
+    }
+
+    @Override
+    public void sleep(long millis) throws InterruptedException {
+        TimeUnit.MILLISECONDS.sleep(millis);
+    }
+
+    @Override
+    public void parkNanos(long nanos) {
+        LockSupport.parkNanos(nanos);
+    }
+}
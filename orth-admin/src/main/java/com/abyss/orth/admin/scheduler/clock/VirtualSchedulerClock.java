@@ -0,0 +1,117 @@
+package com.abyss.orth.admin.scheduler.clock;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Discrete-event scheduler clock for benchmarks and simulations.
+ *
+ * <p>Time only moves when the driver calls {@link #advance}: once the expected number of threads
+ * sleep on the clock and the system is otherwise idle, time jumps straight to the earliest
+ * wake-up. A simulated day runs as fast as the scheduling work itself, and results do not depend
+ * on the speed of the host.
+ *
+ * <p>Wake-ups are rounded up to multiples of the quantum, so threads ticking faster than the
+ * quantum (the 1ms ring thread) are batched; measured lateness has the quantum as resolution.
+ */
+public class VirtualSchedulerClock implements SchedulerClock {
+
+    private final long quantumMs;
+    private final List<Long> wakeups = new ArrayList<>();
+    private volatile long nowMs;
+
+    /**
+     * Creates a virtual clock.
+     *
+     * @param startTimeMs initial time in epoch milliseconds
+     * @param quantumMs wake-up granularity in milliseconds
+     */
+    public VirtualSchedulerClock(long startTimeMs, long quantumMs) {
+        this.nowMs = startTimeMs;
+        this.quantumMs = Math.max(1, quantumMs);
+    }
+
+    @Override
+    public long currentTimeMillis() {
+        return nowMs;
+    }
+
+    @Override
+    public long nanoTime() {
+        return TimeUnit.MILLISECONDS.toNanos(nowMs);
+    }
+
+    @Override
+    public synchronized void sleep(long millis) throws InterruptedException {
+        if (millis <= 0) {
+            return;
+        }
+        long target = nowMs + millis;
+        Long wakeup = (target + quantumMs - 1) / quantumMs * quantumMs;
+        wakeups.add(wakeup);
+        notifyAll();
+        try {
+            while (nowMs < wakeup) {
+                wait();
+            }
+        } finally {
+            wakeups.remove(wakeup);
+            notifyAll();
+        }
+    }
+
+    @Override
+    public void parkNanos(long nanos) {
+        try {
+            sleep(Math.max(1, TimeUnit.NANOSECONDS.toMillis(nanos)));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Moves time to the earliest wake-up once the system is quiescent.
+     *
+     * @param sleepers number of threads that must be sleeping on the clock, at least 1
+     * @param idle additional quiescence condition (e.g. no trigger in flight), polled every 1ms
+     * @param timeoutMs real-time limit for reaching quiescence
+     * @return false if quiescence was not reached within the timeout (time is not moved)
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public synchronized boolean advance(int sleepers, BooleanSupplier idle, long timeoutMs)
+            throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+        while (getSleeperCount() < sleepers || !idle.getAsBoolean()) {
+            if (System.nanoTime() - deadline >= 0) {
+                return false;
+            }
+            wait(1);
+        }
+        long next = Long.MAX_VALUE;
+        for (long wakeup : wakeups) {
+            if (wakeup > nowMs) {
+                next = Math.min(next, wakeup);
+            }
+        }
+        nowMs = next;
+        notifyAll();
+        return true;
+    }
+
+    /**
+     * Number of threads sleeping on the clock, not counting those already due but not yet awake.
+     *
+     * @return sleeper count
+     */
+    public synchronized int getSleeperCount() {
+        int count = 0;
+        for (long wakeup : wakeups) {
+            if (wakeup > nowMs) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
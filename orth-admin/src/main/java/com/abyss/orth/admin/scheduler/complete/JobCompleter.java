@@ -1,7 +1,5 @@
 package com.abyss.orth.admin.scheduler.complete;
 
-import java.text.MessageFormat;
-
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
@@ -11,11 +9,11 @@ import com.abyss.orth.admin.mapper.JobLogMapper;
 import com.abyss.orth.admin.model.JobInfo;
 import com.abyss.orth.admin.model.JobLog;
 import com.abyss.orth.admin.scheduler.config.OrthAdminBootstrap;
+import com.abyss.orth.admin.scheduler.thread.JobInfoCacheHelper;
+import com.abyss.orth.admin.scheduler.trigger.TriggerDiagnostics;
 import com.abyss.orth.admin.scheduler.trigger.TriggerTypeEnum;
-import com.abyss.orth.admin.util.I18nUtil;
 import com.abyss.orth.core.context.OrthJobContext;
 import com.xxl.tool.core.StringTool;
-import com.xxl.tool.response.Response;
 
 import jakarta.annotation.Resource;
 
@@ -35,8 +33,8 @@ import jakarta.annotation.Resource;
  *
  * <ol>
  *   <li>Job execution completes (success/fail)
- *   <li>Process child jobs (if success and configured)
  *   <li>Truncate execution message if needed
+ *   <li>Process child jobs (if success and configured)
  *   <li>Persist final state to database
  * </ol>
  *
@@ -59,12 +57,6 @@ public class JobCompleter {
     private static final int INVALID_JOB_ID = -1;
     private static final int SHARD_INDEX_NOT_SPECIFIED = -1;
 
-    // HTML formatting for child job trigger messages
-    private static final String CHILD_TRIGGER_HEADER_TEMPLATE =
-            "<br><br><span style=\"color:#00c0ef;\"> >>>>>>>>>>>"
-                    + "%s"
-                    + "<<<<<<<<<<< </span><br>";
-
     @Resource private JobInfoMapper jobInfoMapper;
     @Resource private JobLogMapper jobLogMapper;
 
@@ -74,8 +66,8 @@ public class JobCompleter {
      * <p>This is the main entry point for job completion. It orchestrates:
      *
      * <ol>
-     *   <li>Child job processing (triggers on success)
      *   <li>Message truncation (prevents database overflow)
+     *   <li>Child job processing (triggers on success)
      *   <li>State persistence (updates orth_job_log)
      * </ol>
      *
@@ -86,12 +78,12 @@ public class JobCompleter {
      * @return number of rows updated (1 on success, 0 if log not found)
      */
     public int complete(JobLog orthJobLog) {
-        // Process child jobs first (may append to handle message)
-        processChildJob(orthJobLog);
-
         // Truncate handle message if it exceeds database limit (TEXT = 64KB)
         truncateHandleMessageIfNeeded(orthJobLog);
 
+        // Process child jobs (may append a compact child trigger record to the handle message)
+        processChildJob(orthJobLog);
+
         // Persist final state to database
         return jobLogMapper.updateHandleInfo(orthJobLog);
     }
@@ -126,7 +118,11 @@ public class JobCompleter {
             return;
         }
 
-        JobInfo orthJobInfo = jobInfoMapper.loadById(orthJobLog.getJobId());
+        JobInfoCacheHelper jobInfoCache = OrthAdminBootstrap.getInstance().getJobInfoCacheHelper();
+        JobInfo orthJobInfo =
+                jobInfoCache != null
+                        ? jobInfoCache.load(orthJobLog.getJobId())
+                        : jobInfoMapper.loadById(orthJobLog.getJobId());
 
         // Guard clause: job definition not found
         if (orthJobInfo == null) {
@@ -148,43 +144,35 @@ public class JobCompleter {
         String triggerResultMessage =
                 triggerChildJobs(orthJobInfo, orthJobLog.getJobId(), scheduleTime);
 
-        // Append trigger results to parent job message
-        orthJobLog.setHandleMsg(orthJobLog.getHandleMsg() + triggerResultMessage);
+        // Append trigger results to parent job message, rendered when the log is read
+        String handleMsg = orthJobLog.getHandleMsg();
+        orthJobLog.setHandleMsg((handleMsg != null ? handleMsg : "") + triggerResultMessage);
     }
 
     /**
-     * Triggers all configured child jobs and builds formatted result message.
+     * Triggers all configured child jobs and records their outcome.
      *
      * @param parentJobInfo parent job definition with child job IDs
      * @param parentJobId parent job ID (used to prevent self-triggering)
      * @param scheduleTime parent's logical schedule time in millis (may be null)
-     * @return formatted HTML message with trigger results
+     * @return compact child trigger record, see {@link TriggerDiagnostics.ChildTriggers}
      */
     private String triggerChildJobs(JobInfo parentJobInfo, int parentJobId, Long scheduleTime) {
-        StringBuilder messageBuilder = new StringBuilder();
-
-        // Add header
-        String header =
-                String.format(
-                        CHILD_TRIGGER_HEADER_TEMPLATE,
-                        I18nUtil.getString("jobconf_trigger_child_run"));
-        messageBuilder.append(header);
+        TriggerDiagnostics.ChildTriggers childTriggers = new TriggerDiagnostics.ChildTriggers();
 
         // Parse child job IDs
         String[] childJobIds = parentJobInfo.getChildJobId().split(CHILD_JOB_DELIMITER);
 
         // Trigger each child job
-        for (int i = 0; i < childJobIds.length; i++) {
-            String childIdStr = childJobIds[i].trim();
-            int childIndex = i + 1;
+        for (String childJobIdStr : childJobIds) {
+            String childIdStr = childJobIdStr.trim();
 
             // Parse child job ID
             int childJobId = parseChildJobId(childIdStr);
 
             if (childJobId == INVALID_JOB_ID) {
                 // Invalid child ID
-                appendInvalidChildMessage(
-                        messageBuilder, childIndex, childJobIds.length, childIdStr);
+                childTriggers.invalid(childIdStr);
                 continue;
             }
 
@@ -193,20 +181,16 @@ public class JobCompleter {
                 logger.debug(
                         "orth scheduler: JobCompleter skipping child job ID {} (self-reference)",
                         childJobId);
+                childTriggers.skipped(childIdStr);
                 continue;
             }
 
-            // Trigger child job
-            triggerChild(
-                    childJobId,
-                    messageBuilder,
-                    childIndex,
-                    childJobIds.length,
-                    childIdStr,
-                    scheduleTime);
+            // Trigger child job (async, accepted by the trigger pool)
+            triggerChild(childJobId, scheduleTime);
+            childTriggers.triggered(childIdStr);
         }
 
-        return messageBuilder.toString();
+        return childTriggers.encode();
     }
 
     /**
@@ -229,23 +213,12 @@ public class JobCompleter {
     }
 
     /**
-     * Triggers a single child job and appends result message.
+     * Triggers a single child job.
      *
      * @param childJobId child job ID to trigger
-     * @param messageBuilder message builder for results
-     * @param childIndex current child index (1-based)
-     * @param totalChildren total number of children
-     * @param childIdStr child job ID as string (for display)
      * @param scheduleTime parent's logical schedule time in millis (may be null)
      */
-    private void triggerChild(
-            int childJobId,
-            StringBuilder messageBuilder,
-            int childIndex,
-            int totalChildren,
-            String childIdStr,
-            Long scheduleTime) {
-
+    private void triggerChild(int childJobId, Long scheduleTime) {
         // Trigger child job, preserving parent's schedule time
         OrthAdminBootstrap.getInstance()
                 .getJobTriggerPoolHelper()
@@ -257,41 +230,6 @@ public class JobCompleter {
                         null, // executorParam (inherited from job definition)
                         null, // addressList
                         scheduleTime);
-
-        // Build result message (currently always success, async trigger)
-        Response<String> triggerResult = Response.ofSuccess();
-
-        String resultMsg =
-                MessageFormat.format(
-                        I18nUtil.getString("jobconf_callback_child_msg1"),
-                        childIndex,
-                        totalChildren,
-                        childIdStr,
-                        triggerResult.isSuccess()
-                                ? I18nUtil.getString("system_success")
-                                : I18nUtil.getString("system_fail"),
-                        triggerResult.getMsg());
-
-        messageBuilder.append(resultMsg);
-    }
-
-    /**
-     * Appends a message for an invalid child job ID.
-     *
-     * @param messageBuilder message builder
-     * @param childIndex current child index (1-based)
-     * @param totalChildren total number of children
-     * @param childIdStr invalid child job ID string
-     */
-    private void appendInvalidChildMessage(
-            StringBuilder messageBuilder, int childIndex, int totalChildren, String childIdStr) {
-        String invalidMsg =
-                MessageFormat.format(
-                        I18nUtil.getString("jobconf_callback_child_msg2"),
-                        childIndex,
-                        totalChildren,
-                        childIdStr);
-        messageBuilder.append(invalidMsg);
     }
 
     /**
@@ -1,5 +1,6 @@
 package com.abyss.orth.admin.scheduler.config;
 
+import java.net.http.HttpClient;
 import java.util.Arrays;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
@@ -8,6 +9,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.stereotype.Component;
@@ -15,13 +17,18 @@ import org.springframework.transaction.PlatformTransactionManager;
 
 import com.abyss.orth.admin.mapper.*;
 import com.abyss.orth.admin.scheduler.alarm.JobAlarmer;
+import com.abyss.orth.admin.scheduler.client.AsyncExecutorBiz;
+import com.abyss.orth.admin.scheduler.client.ExecutorBizHttpClient;
+import com.abyss.orth.admin.scheduler.clock.SchedulerClock;
+import com.abyss.orth.admin.scheduler.clock.SystemSchedulerClock;
 import com.abyss.orth.admin.scheduler.complete.JobCompleter;
 import com.abyss.orth.admin.scheduler.thread.*;
+import com.abyss.orth.admin.scheduler.trigger.JobPriorityEnum;
 import com.abyss.orth.admin.scheduler.trigger.JobTrigger;
-import com.abyss.orth.core.constant.Const;
+import com.abyss.orth.admin.scheduler.trigger.TriggerTypeEnum;
 import com.abyss.orth.core.openapi.ExecutorBiz;
 import com.xxl.tool.core.StringTool;
-import com.xxl.tool.http.HttpTool;
+import com.xxl.tool.http.IPTool;
 
 import jakarta.annotation.Resource;
 
@@ -60,17 +67,86 @@ public class OrthAdminBootstrap implements InitializingBean, DisposableBean {
     }
 
     // job module
+    private JobLogWriteHelper jobLogWriteHelper;
     private JobTriggerPoolHelper jobTriggerPoolHelper;
+    private JobTriggerBatchHelper jobTriggerBatchHelper;
+    private JobTriggerAdmissionHelper jobTriggerAdmissionHelper;
+    private JobInfoCacheHelper jobInfoCacheHelper;
+    private ExecutorCircuitBreakerHelper executorCircuitBreakerHelper;
+    private ExecutorLoadHelper executorLoadHelper;
+    private ExecutorInflightHelper executorInflightHelper;
+    private JobGroupRateLimitHelper jobGroupRateLimitHelper;
+    private JobMisfireBackfillHelper jobMisfireBackfillHelper;
     private JobRegistryHelper jobRegistryHelper;
     private JobFailAlarmMonitorHelper jobFailAlarmMonitorHelper;
     private JobCompleteHelper jobCompleteHelper;
+    private JobShardHelper jobShardHelper;
     private JobLogReportHelper jobLogReportHelper;
+    private JobSchedulePartitionHelper jobSchedulePartitionHelper;
+    private JobScheduleLeaseHelper jobScheduleLeaseHelper;
+    private JobScheduleIndexHelper jobScheduleIndexHelper;
     private JobScheduleHelper jobScheduleHelper;
 
+    public JobLogWriteHelper getJobLogWriteHelper() {
+        return jobLogWriteHelper;
+    }
+
     public JobTriggerPoolHelper getJobTriggerPoolHelper() {
         return jobTriggerPoolHelper;
     }
 
+    public JobTriggerBatchHelper getJobTriggerBatchHelper() {
+        return jobTriggerBatchHelper;
+    }
+
+    public JobTriggerAdmissionHelper getJobTriggerAdmissionHelper() {
+        return jobTriggerAdmissionHelper;
+    }
+
+    /**
+     * Gets the job info cache of the trigger and completion paths.
+     *
+     * @return job info cache, or null when disabled ({@code orth.job.jobinfo.cache.enabled})
+     */
+    public JobInfoCacheHelper getJobInfoCacheHelper() {
+        return jobInfoCacheHelper;
+    }
+
+    /**
+     * Gets the per-address executor circuit breaker.
+     *
+     * @return circuit breaker, or null when disabled ({@code orth.job.breaker.enabled})
+     */
+    public ExecutorCircuitBreakerHelper getExecutorCircuitBreakerHelper() {
+        return executorCircuitBreakerHelper;
+    }
+
+    /**
+     * Gets the executor loads reported with the registry heartbeats.
+     *
+     * @return executor load helper
+     */
+    public ExecutorLoadHelper getExecutorLoadHelper() {
+        return executorLoadHelper;
+    }
+
+    /**
+     * Gets the runs in flight per executor address, counted by this node.
+     *
+     * @return executor in-flight helper
+     */
+    public ExecutorInflightHelper getExecutorInflightHelper() {
+        return executorInflightHelper;
+    }
+
+    public JobGroupRateLimitHelper getJobGroupRateLimitHelper() {
+        return jobGroupRateLimitHelper;
+    }
+
+    public JobMisfireBackfillHelper getJobMisfireBackfillHelper() {
+        return jobMisfireBackfillHelper;
+    }
+
     public JobRegistryHelper getJobRegistryHelper() {
         return jobRegistryHelper;
     }
@@ -79,13 +155,74 @@ public class OrthAdminBootstrap implements InitializingBean, DisposableBean {
         return jobCompleteHelper;
     }
 
+    public JobShardHelper getJobShardHelper() {
+        return jobShardHelper;
+    }
+
+    public JobSchedulePartitionHelper getJobSchedulePartitionHelper() {
+        return jobSchedulePartitionHelper;
+    }
+
+    public JobScheduleLeaseHelper getJobScheduleLeaseHelper() {
+        return jobScheduleLeaseHelper;
+    }
+
+    /**
+     * Gets the in-memory schedule index.
+     *
+     * @return schedule index, or null when disabled ({@code orth.job.schedule.index.enabled})
+     */
+    public JobScheduleIndexHelper getJobScheduleIndexHelper() {
+        return jobScheduleIndexHelper;
+    }
+
     /** do start */
     private void doStart() throws Exception {
+        // job-log-write start  ( batched log writes of the trigger path )
+        jobLogWriteHelper = new JobLogWriteHelper();
+        jobLogWriteHelper.start();
+
+        // group-ratelimit start  ( paces trigger RPCs per executor group )
+        jobGroupRateLimitHelper = new JobGroupRateLimitHelper();
+        jobGroupRateLimitHelper.start();
+
         // trigger-pool start
         jobTriggerPoolHelper = new JobTriggerPoolHelper();
         jobTriggerPoolHelper.start();
 
-        // registry monitor start
+        // trigger-batch start  ( run RPC coalescing per executor address )
+        jobTriggerBatchHelper = new JobTriggerBatchHelper();
+        jobTriggerBatchHelper.start();
+
+        // trigger-admission start  ( depend on JobTriggerPoolHelper, defers rejected triggers )
+        jobTriggerAdmissionHelper = new JobTriggerAdmissionHelper();
+        jobTriggerAdmissionHelper.start();
+
+        // job-info-cache start
+        if (jobInfoCacheEnabled) {
+            jobInfoCacheHelper = new JobInfoCacheHelper();
+            jobInfoCacheHelper.start();
+        }
+
+        // circuit-breaker start  ( per executor address, probes open circuits )
+        if (breakerEnabled) {
+            executorCircuitBreakerHelper = new ExecutorCircuitBreakerHelper();
+            executorCircuitBreakerHelper.start();
+        }
+
+        // misfire-backfill start  ( depend on JobTriggerPoolHelper )
+        jobMisfireBackfillHelper = new JobMisfireBackfillHelper();
+        jobMisfireBackfillHelper.start();
+
+        // executor-load start  ( fed by heartbeats, read by LEAST_LOADED routing )
+        executorLoadHelper = new ExecutorLoadHelper();
+        executorLoadHelper.start();
+
+        // executor-inflight start  ( fed by triggers and callbacks, read by TWO_CHOICES routing )
+        executorInflightHelper = new ExecutorInflightHelper();
+        executorInflightHelper.start();
+
+        // registry monitor start  ( depend on ExecutorLoadHelper )
         jobRegistryHelper = new JobRegistryHelper();
         jobRegistryHelper.start();
 
@@ -97,11 +234,30 @@ public class OrthAdminBootstrap implements InitializingBean, DisposableBean {
         jobCompleteHelper = new JobCompleteHelper();
         jobCompleteHelper.start();
 
+        // job-shard start  ( virtual shard leases, reclaims expired leases )
+        jobShardHelper = new JobShardHelper();
+        jobShardHelper.start();
+
         // log-report start
         jobLogReportHelper = new JobLogReportHelper();
         jobLogReportHelper.start();
 
-        // job-schedule start  ( depend on JobTriggerPoolHelper )
+        // schedule-partition start  ( admin heartbeat + partition ownership )
+        jobSchedulePartitionHelper = new JobSchedulePartitionHelper();
+        jobSchedulePartitionHelper.start();
+
+        // schedule-lease start  ( depend on JobSchedulePartitionHelper )
+        jobScheduleLeaseHelper = new JobScheduleLeaseHelper();
+        jobScheduleLeaseHelper.start();
+
+        // schedule-index start  ( depend on JobSchedulePartitionHelper )
+        if (scheduleIndexEnabled) {
+            jobScheduleIndexHelper = new JobScheduleIndexHelper();
+            jobScheduleIndexHelper.start();
+        }
+
+        // job-schedule start  ( depend on JobTriggerPoolHelper, JobSchedulePartitionHelper,
+        // JobScheduleLeaseHelper, JobScheduleIndexHelper )
         jobScheduleHelper = new JobScheduleHelper();
         jobScheduleHelper.start();
 
@@ -113,9 +269,23 @@ public class OrthAdminBootstrap implements InitializingBean, DisposableBean {
         // job-schedule stop
         jobScheduleHelper.stop();
 
+        // schedule-index stop
+        if (jobScheduleIndexHelper != null) {
+            jobScheduleIndexHelper.stop();
+        }
+
+        // schedule-lease stop  ( release leases for immediate failover )
+        jobScheduleLeaseHelper.stop();
+
+        // schedule-partition stop
+        jobSchedulePartitionHelper.stop();
+
         // log-report stop
         jobLogReportHelper.stop();
 
+        // job-shard stop  ( expired leases are reclaimed by any node )
+        jobShardHelper.stop();
+
         // job complate stop
         jobCompleteHelper.stop();
 
@@ -125,6 +295,34 @@ public class OrthAdminBootstrap implements InitializingBean, DisposableBean {
         // registry monitor stop
         jobRegistryHelper.stop();
 
+        // misfire-backfill stop
+        jobMisfireBackfillHelper.stop();
+
+        // trigger-admission stop  ( persisted deferrals are recovered after restart )
+        jobTriggerAdmissionHelper.stop();
+
+        // executor-inflight stop
+        executorInflightHelper.stop();
+
+        // circuit-breaker stop
+        if (executorCircuitBreakerHelper != null) {
+            executorCircuitBreakerHelper.stop();
+        }
+
+        // job-info-cache stop
+        if (jobInfoCacheHelper != null) {
+            jobInfoCacheHelper.stop();
+        }
+
+        // group-ratelimit stop  ( fail triggers still waiting for a token )
+        jobGroupRateLimitHelper.stop();
+
+        // trigger-batch stop  ( send open batches )
+        jobTriggerBatchHelper.stop();
+
+        // job-log-write stop  ( write queued logs )
+        jobLogWriteHelper.stop();
+
         // trigger-pool stop
         jobTriggerPoolHelper.stop();
 
@@ -135,6 +333,7 @@ public class OrthAdminBootstrap implements InitializingBean, DisposableBean {
 
     private static ConcurrentMap<String, ExecutorBiz> executorBizRepository =
             new ConcurrentHashMap<String, ExecutorBiz>();
+    private static volatile HttpClient executorHttpClient;
 
     public static ExecutorBiz getExecutorBiz(String address) throws Exception {
         // valid
@@ -150,20 +349,68 @@ public class OrthAdminBootstrap implements InitializingBean, DisposableBean {
         }
 
         // set-cache
+        long timeoutMs = OrthAdminBootstrap.getInstance().getTimeout() * 1000L;
         executorBiz =
-                HttpTool.createClient()
-                        .url(address)
-                        .timeout(OrthAdminBootstrap.getInstance().getTimeout() * 1000)
-                        .header(
-                                Const.ORTH_ACCESS_TOKEN,
-                                OrthAdminBootstrap.getInstance().getAccessToken())
-                        .proxy(ExecutorBiz.class);
-        executorBizRepository.put(address, executorBiz);
-        return executorBiz;
+                new ExecutorBizHttpClient(
+                        getExecutorHttpClient(timeoutMs),
+                        address,
+                        OrthAdminBootstrap.getInstance().getAccessToken(),
+                        timeoutMs);
+        ExecutorBiz existing = executorBizRepository.putIfAbsent(address, executorBiz);
+        return existing != null ? existing : executorBiz;
+    }
+
+    /**
+     * Gets the non-blocking client of an executor address.
+     *
+     * <p>Same cached client as {@link #getExecutorBiz(String)}; clients registered through {@link
+     * #setExecutorBiz(String, ExecutorBiz)} that only block are adapted with {@link
+     * AsyncExecutorBiz#of(ExecutorBiz)}.
+     *
+     * @param address executor address
+     * @return async client, or null if the address is blank
+     * @throws Exception if the client cannot be created
+     */
+    public static AsyncExecutorBiz getAsyncExecutorBiz(String address) throws Exception {
+        ExecutorBiz executorBiz = getExecutorBiz(address);
+        return executorBiz != null ? AsyncExecutorBiz.of(executorBiz) : null;
+    }
+
+    /** Shared HTTP client of all executor clients: keep-alive connection pools and I/O threads. */
+    private static HttpClient getExecutorHttpClient(long connectTimeoutMs) {
+        HttpClient httpClient = executorHttpClient;
+        if (httpClient == null) {
+            synchronized (OrthAdminBootstrap.class) {
+                httpClient = executorHttpClient;
+                if (httpClient == null) {
+                    httpClient = ExecutorBizHttpClient.newHttpClient(connectTimeoutMs);
+                    executorHttpClient = httpClient;
+                }
+            }
+        }
+        return httpClient;
+    }
+
+    /**
+     * Registers the client used for an executor address, replacing the HTTP client.
+     *
+     * <p>Used by benchmarks and simulations to route triggers to in-process stub executors.
+     *
+     * @param address executor address
+     * @param executorBiz client for the address
+     */
+    public static void setExecutorBiz(String address, ExecutorBiz executorBiz) {
+        executorBizRepository.put(address.trim(), executorBiz);
     }
 
     // ---------------------- field ----------------------
 
+    private static final int MAX_SCHEDULE_PARTITIONS = 256;
+    private static final int MAX_SCHEDULE_UPDATE_BATCH_SIZE = 1000;
+    private static final int MAX_TRIGGER_LOG_BATCH_SIZE = 1000;
+    private static final long MIN_SCHEDULE_LEASE_MS = 1000;
+    private static final long MAX_SCHEDULE_LEASE_MS = 60000;
+
     // conf
     @Value("${orth.job.i18n}")
     private String i18n;
@@ -183,16 +430,105 @@ public class OrthAdminBootstrap implements InitializingBean, DisposableBean {
     @Value("${orth.job.triggerpool.slow.max}")
     private int triggerPoolSlowMax;
 
+    @Value("${orth.job.triggerpool.mode:pool}")
+    private String triggerPoolMode;
+
+    @Value("${orth.job.triggerpool.virtual.max-inflight:10000}")
+    private int triggerPoolVirtualMaxInFlight;
+
+    @Value("${orth.job.triggerpool.per-address:64}")
+    private int triggerPoolPerAddress;
+
+    @Value("${orth.job.triggerpool.batch.window-ms:5}")
+    private long triggerBatchWindowMs;
+
+    @Value("${orth.job.triggerpool.batch.max-size:64}")
+    private int triggerBatchMaxSize;
+
+    @Value("${orth.job.triggerpool.priority.weights:8,4,1}")
+    private String triggerPoolPriorityWeights;
+
+    @Value("${orth.job.triggerpool.priority.manual:HIGH}")
+    private String triggerPriorityManual;
+
+    @Value("${orth.job.triggerpool.priority.backfill:LOW}")
+    private String triggerPriorityBackfill;
+
+    @Value("${orth.job.triggerpool.priority.retry:JOB}")
+    private String triggerPriorityRetry;
+
+    @Value("${orth.job.triggerpool.priority.misfire:LOW}")
+    private String triggerPriorityMisfire;
+
+    @Value("${orth.job.triggerpool.priority.cron:JOB}")
+    private String triggerPriorityCron;
+
+    @Value("${orth.job.triggerlog.batchsize:100}")
+    private int triggerLogBatchSize;
+
+    @Value("${orth.job.triggerlog.queuesize:10000}")
+    private int triggerLogQueueCapacity;
+
+    @Value("${orth.job.admission.queuesize:10000}")
+    private int admissionQueueCapacity;
+
+    @Value("${orth.job.admission.max-defers:20}")
+    private int admissionMaxDefers;
+
     @Value("${orth.job.logretentiondays}")
     private int logretentiondays;
 
+    @Value("${orth.job.schedule.partitions:1}")
+    private int schedulePartitions;
+
+    @Value("${orth.job.schedule.update.batchsize:200}")
+    private int scheduleUpdateBatchSize;
+
+    @Value("${orth.job.schedule.lease.ms:2000}")
+    private long scheduleLeaseMs;
+
+    @Value("${orth.job.schedule.index.enabled:true}")
+    private boolean scheduleIndexEnabled;
+
+    @Value("${orth.job.jobinfo.cache.enabled:true}")
+    private boolean jobInfoCacheEnabled;
+
+    @Value("${orth.job.breaker.enabled:true}")
+    private boolean breakerEnabled;
+
+    @Value("${orth.job.breaker.failure-rate:50}")
+    private int breakerFailureRate;
+
+    @Value("${orth.job.breaker.slow-call-ms:2000}")
+    private long breakerSlowCallMs;
+
+    @Value("${orth.job.breaker.open-ms:10000}")
+    private long breakerOpenMs;
+
+    @Value("${orth.job.misfire.backfill.window:1}")
+    private int misfireBackfillWindow;
+
+    @Value("${orth.job.misfire.backfill.rate:20}")
+    private int misfireBackfillRate;
+
+    @Value("${orth.job.group.ratelimit.max-queued:10000}")
+    private int groupRateLimitMaxQueued;
+
+    @Value("${orth.job.shard.lease.seconds:300}")
+    private int shardLeaseSeconds;
+
+    @Value("${server.port:8080}")
+    private int serverPort;
+
     // service, mapper
     @Resource private JobLogMapper jobLogMapper;
     @Resource private JobInfoMapper jobInfoMapper;
     @Resource private JobRegistryMapper jobRegistryMapper;
     @Resource private JobGroupMapper jobGroupMapper;
     @Resource private JobLogReportMapper jobLogReportMapper;
-    @Resource private JobLockMapper jobLockMapper;
+    @Resource private JobLeaseMapper jobLeaseMapper;
+    @Resource private JobTriggerDeferredMapper jobTriggerDeferredMapper;
+    @Resource private JobShardMapper jobShardMapper;
     @Resource private JavaMailSender mailSender;
     /*@Resource
     private DataSource dataSource;*/
@@ -201,6 +537,9 @@ public class OrthAdminBootstrap implements InitializingBean, DisposableBean {
     @Resource private JobTrigger jobTrigger;
     @Resource private JobCompleter jobCompleter;
 
+    @Autowired(required = false)
+    private SchedulerClock clock;
+
     public String getI18n() {
         if (!Arrays.asList("zh_CN", "zh_TC", "en").contains(i18n)) {
             return "zh_CN";
@@ -234,6 +573,159 @@ public class OrthAdminBootstrap implements InitializingBean, DisposableBean {
         return triggerPoolSlowMax;
     }
 
+    /**
+     * Trigger pool mode: fast/slow thread pools, or a thread per trigger with per-address
+     * admission.
+     *
+     * @return {@link JobTriggerPoolHelper#MODE_POOL} or {@link JobTriggerPoolHelper#MODE_VIRTUAL}
+     */
+    public String getTriggerPoolMode() {
+        if (JobTriggerPoolHelper.MODE_VIRTUAL.equalsIgnoreCase(triggerPoolMode)) {
+            return JobTriggerPoolHelper.MODE_VIRTUAL;
+        }
+        return JobTriggerPoolHelper.MODE_POOL;
+    }
+
+    /**
+     * Max triggers submitted and not yet completed in virtual trigger pool mode.
+     *
+     * @return global in-flight cap
+     */
+    public int getTriggerPoolVirtualMaxInFlight() {
+        return Math.max(100, triggerPoolVirtualMaxInFlight);
+    }
+
+    /**
+     * Max concurrent trigger RPCs per executor address, in both trigger pool modes.
+     *
+     * @return per-address concurrency limit
+     */
+    public int getTriggerPoolPerAddress() {
+        return Math.max(1, triggerPoolPerAddress);
+    }
+
+    /**
+     * Max time a trigger RPC waits to be coalesced with others bound for the same executor.
+     *
+     * @return batch window in milliseconds; 0 disables coalescing
+     */
+    public long getTriggerBatchWindowMs() {
+        return Math.max(0, Math.min(100, triggerBatchWindowMs));
+    }
+
+    /**
+     * Max trigger RPCs sent to an executor in one batch request.
+     *
+     * @return batch size limit
+     */
+    public int getTriggerBatchMaxSize() {
+        return Math.max(1, triggerBatchMaxSize);
+    }
+
+    /**
+     * Weights of the HIGH, NORMAL and LOW trigger priority classes in the trigger pool queues.
+     * Malformed weights fall back to the default 8,4,1.
+     *
+     * @return one weight per class, each at least 1; null for plain FIFO queues (blank config)
+     */
+    public int[] getTriggerPoolPriorityWeights() {
+        if (StringTool.isBlank(triggerPoolPriorityWeights)) {
+            return null;
+        }
+        String[] parts = triggerPoolPriorityWeights.split(",");
+        if (parts.length != JobPriorityEnum.values().length) {
+            return new int[] {8, 4, 1};
+        }
+        int[] weights = new int[parts.length];
+        try {
+            for (int i = 0; i < parts.length; i++) {
+                weights[i] = Math.max(1, Integer.parseInt(parts[i].trim()));
+            }
+        } catch (NumberFormatException e) {
+            return new int[] {8, 4, 1};
+        }
+        return weights;
+    }
+
+    /**
+     * Priority class a trigger type maps to. A manual trigger with a schedule time is a backfill.
+     * API and parent triggers, and types mapped to {@code JOB}, take the job's own priority.
+     *
+     * @param triggerType trigger type
+     * @param scheduleTime theoretical schedule time (nullable)
+     * @return priority class; null for the job's own priority
+     */
+    public JobPriorityEnum getTriggerPriority(TriggerTypeEnum triggerType, Long scheduleTime) {
+        if (triggerType == null) {
+            return null;
+        }
+        String priority =
+                switch (triggerType) {
+                    case MANUAL ->
+                            scheduleTime != null ? triggerPriorityBackfill : triggerPriorityManual;
+                    case RETRY -> triggerPriorityRetry;
+                    case MISFIRE -> triggerPriorityMisfire;
+                    case CRON -> triggerPriorityCron;
+                    default -> null;
+                };
+        return JobPriorityEnum.match(priority, null);
+    }
+
+    /**
+     * Max job log rows written by one statement of the trigger path.
+     *
+     * @return log write batch size
+     */
+    public int getTriggerLogBatchSize() {
+        return Math.max(1, Math.min(triggerLogBatchSize, MAX_TRIGGER_LOG_BATCH_SIZE));
+    }
+
+    /**
+     * Max job log rows waiting for each write stage of the trigger path.
+     *
+     * @return log write queue capacity
+     */
+    public int getTriggerLogQueueCapacity() {
+        return Math.max(100, triggerLogQueueCapacity);
+    }
+
+    /**
+     * Max triggers deferred after a rejection by the saturated trigger pools.
+     *
+     * @return defer queue capacity
+     */
+    public int getAdmissionQueueCapacity() {
+        return Math.max(100, admissionQueueCapacity);
+    }
+
+    /**
+     * Rejections by the saturated trigger pools after which a trigger is dropped.
+     *
+     * @return max defers per trigger
+     */
+    public int getAdmissionMaxDefers() {
+        return Math.max(1, admissionMaxDefers);
+    }
+
+    /**
+     * Max triggers waiting for a token of a rate limited executor group.
+     *
+     * @return max queued triggers per group
+     */
+    public int getGroupRateLimitMaxQueued() {
+        return Math.max(1, groupRateLimitMaxQueued);
+    }
+
+    /**
+     * Time an executor holds a virtual shard lease before the shard is reclaimed and leased again;
+     * also how long a run may go without any shard leased before its pending shards fail.
+     *
+     * @return lease duration in milliseconds
+     */
+    public long getShardLeaseMs() {
+        return Math.max(10, shardLeaseSeconds) * 1000L;
+    }
+
     public int getLogretentiondays() {
         if (logretentiondays < 3) {
             return -1; // Limit greater than or equal to 3, otherwise close
@@ -241,6 +733,83 @@ public class OrthAdminBootstrap implements InitializingBean, DisposableBean {
         return logretentiondays;
     }
 
+    public int getSchedulePartitions() {
+        if (schedulePartitions < 1) {
+            return 1;
+        }
+        return Math.min(schedulePartitions, MAX_SCHEDULE_PARTITIONS);
+    }
+
+    public int getScheduleUpdateBatchSize() {
+        if (scheduleUpdateBatchSize < 1) {
+            return 1;
+        }
+        return Math.min(scheduleUpdateBatchSize, MAX_SCHEDULE_UPDATE_BATCH_SIZE);
+    }
+
+    /**
+     * Schedule partition lease duration; bounds failover time after an admin node dies.
+     *
+     * @return lease duration in milliseconds
+     */
+    public long getScheduleLeaseMs() {
+        return Math.max(MIN_SCHEDULE_LEASE_MS, Math.min(scheduleLeaseMs, MAX_SCHEDULE_LEASE_MS));
+    }
+
+    /**
+     * Failure rate, in percent of the recent trigger RPCs to an address, opening its circuit.
+     *
+     * @return failure rate threshold in [1, 100]
+     */
+    public int getBreakerFailureRate() {
+        return Math.max(1, Math.min(100, breakerFailureRate));
+    }
+
+    /**
+     * Trigger RPC latency counted as a failure by the circuit breaker.
+     *
+     * @return slow call threshold in milliseconds
+     */
+    public long getBreakerSlowCallMs() {
+        return Math.max(100, breakerSlowCallMs);
+    }
+
+    /**
+     * Time an open circuit skips its address before the half-open probe.
+     *
+     * @return open duration in milliseconds
+     */
+    public long getBreakerOpenMs() {
+        return Math.max(1000, breakerOpenMs);
+    }
+
+    /**
+     * Max replays of one job triggered at a time by the FIRE_ALL_MISSED backfill.
+     *
+     * @return per-job replay window
+     */
+    public int getMisfireBackfillWindow() {
+        return Math.max(1, misfireBackfillWindow);
+    }
+
+    /**
+     * Max replays per second across all jobs for the FIRE_ALL_MISSED backfill.
+     *
+     * @return replay rate limit
+     */
+    public int getMisfireBackfillRate() {
+        return Math.max(1, misfireBackfillRate);
+    }
+
+    /**
+     * Address identifying this admin node in the ADMIN registry ("ip:port").
+     *
+     * @return admin address
+     */
+    public String getAdminAddress() {
+        return IPTool.getIp() + ":" + serverPort;
+    }
+
     public JobLogMapper getJobLogMapper() {
         return jobLogMapper;
     }
@@ -261,8 +830,16 @@ public class OrthAdminBootstrap implements InitializingBean, DisposableBean {
         return jobLogReportMapper;
     }
 
-    public JobLockMapper getJobLockMapper() {
-        return jobLockMapper;
+    public JobLeaseMapper getJobLeaseMapper() {
+        return jobLeaseMapper;
+    }
+
+    public JobTriggerDeferredMapper getJobTriggerDeferredMapper() {
+        return jobTriggerDeferredMapper;
+    }
+
+    public JobShardMapper getJobShardMapper() {
+        return jobShardMapper;
     }
 
     public JavaMailSender getMailSender() {
@@ -288,4 +865,13 @@ public class OrthAdminBootstrap implements InitializingBean, DisposableBean {
     public JobCompleter getJobCompleter() {
         return jobCompleter;
     }
+
+    /**
+     * Gets the scheduler time source.
+     *
+     * @return the {@link SchedulerClock} bean if one is defined, the system clock otherwise
+     */
+    public SchedulerClock getClock() {
+        return clock != null ? clock : SystemSchedulerClock.INSTANCE;
+    }
 }
@@ -0,0 +1,264 @@
+package com.abyss.orth.admin.scheduler.config;
+
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+
+import org.springframework.stereotype.Component;
+
+import com.abyss.orth.admin.scheduler.thread.ExecutorCircuitBreakerHelper;
+import com.abyss.orth.admin.scheduler.thread.ExecutorInflightHelper;
+import com.abyss.orth.admin.scheduler.thread.ExecutorLoadHelper;
+import com.abyss.orth.admin.scheduler.thread.JobGroupRateLimitHelper;
+import com.abyss.orth.admin.scheduler.thread.JobInfoCacheHelper;
+import com.abyss.orth.admin.scheduler.thread.JobLogWriteHelper;
+import com.abyss.orth.admin.scheduler.thread.JobShardHelper;
+import com.abyss.orth.admin.scheduler.thread.JobTriggerAdmissionHelper;
+import com.abyss.orth.admin.scheduler.thread.JobTriggerBatchHelper;
+import com.abyss.orth.admin.scheduler.thread.JobTriggerPoolHelper;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Scheduler metrics, published to the actuator meter registry ({@code /actuator/metrics} once the
+ * endpoint is exposed).
+ *
+ * <p>Meters read the scheduler components of {@link OrthAdminBootstrap} on every scrape and report
+ * 0 for components that are disabled or not started yet.
+ */
+@Component
+public class OrthAdminMetrics implements MeterBinder {
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        // job info cache
+        counter(
+                registry,
+                "orth.jobinfo.cache.hits",
+                "Job row loads answered from the cache",
+                OrthAdminBootstrap::getJobInfoCacheHelper,
+                JobInfoCacheHelper::getHitCount);
+        counter(
+                registry,
+                "orth.jobinfo.cache.misses",
+                "Job row loads that read the database",
+                OrthAdminBootstrap::getJobInfoCacheHelper,
+                JobInfoCacheHelper::getMissCount);
+        counter(
+                registry,
+                "orth.jobinfo.cache.invalidations",
+                "Cached job rows dropped after an edit",
+                OrthAdminBootstrap::getJobInfoCacheHelper,
+                JobInfoCacheHelper::getInvalidationCount);
+        gauge(
+                registry,
+                "orth.jobinfo.cache.size",
+                "Cached job rows",
+                OrthAdminBootstrap::getJobInfoCacheHelper,
+                JobInfoCacheHelper::size);
+
+        // trigger pipeline: trigger pool, log insert, run RPC, trigger info update
+        gauge(
+                registry,
+                "orth.trigger.inflight",
+                "Triggers submitted and not yet completed",
+                OrthAdminBootstrap::getJobTriggerPoolHelper,
+                JobTriggerPoolHelper::getInFlightCount);
+        logStage(registry, "insert", JobLogWriteHelper::getInsertStage);
+        logStage(registry, "update", JobLogWriteHelper::getUpdateStage);
+        counter(
+                registry,
+                "orth.trigger.rpc.batches",
+                "Multi-run /runBatch requests sent",
+                OrthAdminBootstrap::getJobTriggerBatchHelper,
+                JobTriggerBatchHelper::getBatchCount);
+        counter(
+                registry,
+                "orth.trigger.rpc.batched.runs",
+                "Runs sent in multi-run /runBatch requests",
+                OrthAdminBootstrap::getJobTriggerBatchHelper,
+                JobTriggerBatchHelper::getBatchedRunCount);
+
+        // trigger admission: deferred, retried and dropped triggers
+        gauge(
+                registry,
+                "orth.trigger.pool.saturation",
+                "Fill ratio of the fuller trigger pool queue (in-flight cap in virtual mode)",
+                OrthAdminBootstrap::getJobTriggerPoolHelper,
+                JobTriggerPoolHelper::getSaturation);
+        gauge(
+                registry,
+                "orth.trigger.admission.deferred",
+                "Triggers rejected by the pools and waiting for a retry",
+                OrthAdminBootstrap::getJobTriggerAdmissionHelper,
+                JobTriggerAdmissionHelper::getDeferredCount);
+        counter(
+                registry,
+                "orth.trigger.admission.defers",
+                "Times a trigger was rejected by the pools and deferred",
+                OrthAdminBootstrap::getJobTriggerAdmissionHelper,
+                JobTriggerAdmissionHelper::getDeferCount);
+        counter(
+                registry,
+                "orth.trigger.admission.retries",
+                "Deferred triggers accepted by the pools on retry",
+                OrthAdminBootstrap::getJobTriggerAdmissionHelper,
+                JobTriggerAdmissionHelper::getRetryCount);
+        counter(
+                registry,
+                "orth.trigger.admission.drops",
+                "Triggers dropped after too many rejections or with a full defer queue",
+                OrthAdminBootstrap::getJobTriggerAdmissionHelper,
+                JobTriggerAdmissionHelper::getDropCount);
+        counter(
+                registry,
+                "orth.trigger.admission.throttled.scans",
+                "Schedule scans whose pre-read count was reduced by backpressure",
+                OrthAdminBootstrap::getJobTriggerAdmissionHelper,
+                JobTriggerAdmissionHelper::getThrottledScanCount);
+
+        // executor circuit breaker
+        gauge(
+                registry,
+                "orth.executor.circuits.open",
+                "Executor addresses skipped by routing (open or half-open circuit)",
+                OrthAdminBootstrap::getExecutorCircuitBreakerHelper,
+                ExecutorCircuitBreakerHelper::getOpenCount);
+        counter(
+                registry,
+                "orth.executor.circuit.trips",
+                "Times an executor circuit opened",
+                OrthAdminBootstrap::getExecutorCircuitBreakerHelper,
+                ExecutorCircuitBreakerHelper::getTripCount);
+
+        // executor loads
+        gauge(
+                registry,
+                "orth.executor.loads.reported",
+                "Executors with a fresh load from their heartbeat, for LEAST_LOADED routing",
+                OrthAdminBootstrap::getExecutorLoadHelper,
+                ExecutorLoadHelper::getReportedCount);
+        gauge(
+                registry,
+                "orth.executor.inflight",
+                "Runs sent by this node not yet reported back, for TWO_CHOICES routing",
+                OrthAdminBootstrap::getExecutorInflightHelper,
+                ExecutorInflightHelper::getInflightCount);
+
+        // executor group rate limits
+        gauge(
+                registry,
+                "orth.group.ratelimit.utilization",
+                "Utilization of the busiest executor group token bucket (1 once triggers queue)",
+                OrthAdminBootstrap::getJobGroupRateLimitHelper,
+                JobGroupRateLimitHelper::getUtilization);
+        gauge(
+                registry,
+                "orth.group.ratelimit.queued",
+                "Triggers waiting for a token of their executor group",
+                OrthAdminBootstrap::getJobGroupRateLimitHelper,
+                JobGroupRateLimitHelper::getQueuedCount);
+        counter(
+                registry,
+                "orth.group.ratelimit.delayed",
+                "Triggers that waited for a token of their executor group",
+                OrthAdminBootstrap::getJobGroupRateLimitHelper,
+                JobGroupRateLimitHelper::getDelayedCount);
+        counter(
+                registry,
+                "orth.group.ratelimit.rejected",
+                "Triggers failed because their executor group's backlog was full",
+                OrthAdminBootstrap::getJobGroupRateLimitHelper,
+                JobGroupRateLimitHelper::getRejectedCount);
+
+        // virtual shards
+        counter(
+                registry,
+                "orth.shard.leases",
+                "Virtual shard leases granted to executors",
+                OrthAdminBootstrap::getJobShardHelper,
+                JobShardHelper::getLeaseCount);
+        counter(
+                registry,
+                "orth.shard.reclaims",
+                "Virtual shard leases reclaimed after expiring",
+                OrthAdminBootstrap::getJobShardHelper,
+                JobShardHelper::getReclaimCount);
+        counter(
+                registry,
+                "orth.shard.failed",
+                "Virtual shards failed after their last attempt",
+                OrthAdminBootstrap::getJobShardHelper,
+                JobShardHelper::getFailedCount);
+    }
+
+    private void logStage(
+            MeterRegistry registry,
+            String stageName,
+            Function<JobLogWriteHelper, JobLogWriteHelper.Stage> stage) {
+        Function<OrthAdminBootstrap, JobLogWriteHelper.Stage> component =
+                bootstrap ->
+                        bootstrap.getJobLogWriteHelper() != null
+                                ? stage.apply(bootstrap.getJobLogWriteHelper())
+                                : null;
+        Gauge.builder(
+                        "orth.trigger.log.queue",
+                        this,
+                        m -> read(component, JobLogWriteHelper.Stage::getQueueSize))
+                .description("Job log rows waiting for a write stage")
+                .tag("stage", stageName)
+                .register(registry);
+        FunctionCounter.builder(
+                        "orth.trigger.log.rows",
+                        this,
+                        m -> read(component, JobLogWriteHelper.Stage::getRowCount))
+                .description("Job log rows written by a write stage")
+                .tag("stage", stageName)
+                .register(registry);
+        FunctionCounter.builder(
+                        "orth.trigger.log.batches",
+                        this,
+                        m -> read(component, JobLogWriteHelper.Stage::getBatchCount))
+                .description("Multi-row statements written by a write stage")
+                .tag("stage", stageName)
+                .register(registry);
+        FunctionCounter.builder(
+                        "orth.trigger.log.overflows",
+                        this,
+                        m -> read(component, JobLogWriteHelper.Stage::getOverflowCount))
+                .description("Job log rows written by the caller because the stage queue was full")
+                .tag("stage", stageName)
+                .register(registry);
+    }
+
+    private <T> void counter(
+            MeterRegistry registry,
+            String name,
+            String description,
+            Function<OrthAdminBootstrap, T> component,
+            ToDoubleFunction<T> count) {
+        FunctionCounter.builder(name, this, m -> read(component, count))
+                .description(description)
+                .register(registry);
+    }
+
+    private <T> void gauge(
+            MeterRegistry registry,
+            String name,
+            String description,
+            Function<OrthAdminBootstrap, T> component,
+            ToDoubleFunction<T> value) {
+        Gauge.builder(name, this, m -> read(component, value))
+                .description(description)
+                .register(registry);
+    }
+
+    private static <T> double read(
+            Function<OrthAdminBootstrap, T> component, ToDoubleFunction<T> value) {
+        OrthAdminBootstrap bootstrap = OrthAdminBootstrap.getInstance();
+        T instance = bootstrap != null ? component.apply(bootstrap) : null;
+        return instance != null ? value.applyAsDouble(instance) : 0;
+    }
+}
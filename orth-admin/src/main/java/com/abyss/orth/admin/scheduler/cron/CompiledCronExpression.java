@@ -0,0 +1,365 @@
+package com.abyss.orth.admin.scheduler.cron;
+
+import java.text.ParseException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.zone.ZoneRules;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.TimeZone;
+import java.util.TreeSet;
+
+/**
+ * Compiled cron expression with allocation-free next fire time computation.
+ *
+ * <p>The expression is parsed and validated by {@link CronExpression}, so both accept exactly the
+ * same syntax. The parsed fields are then compiled into bitsets (one bit per allowed value), and
+ * the next fire time is found by walking year/month/day/hour/minute/second as primitive fields
+ * with {@link Long#numberOfTrailingZeros} lookups, instead of {@code TreeSet} tail sets and a
+ * {@code Calendar}.
+ *
+ * <p><b>Allocation</b>: {@link #nextTimeAfter(long)} allocates nothing for fixed-offset zones
+ * (UTC, Asia/Shanghai, ...). For zones with DST transitions, the local/epoch conversion goes
+ * through {@link ZoneRules} and allocates a few short-lived {@code java.time} values.
+ *
+ * <p><b>DST transitions</b>: a fire time falling into a DST gap is shifted forward by the gap
+ * length (where {@link CronExpression} skips the whole day), and a fire time repeated by a DST
+ * overlap fires once, at its first occurrence. Outside transitions both produce identical times.
+ *
+ * <p><b>Fallback</b>: expressions using {@code L}, {@code W}, {@code #} or an explicit year field
+ * are evaluated by the parsed {@link CronExpression} itself.
+ *
+ * <p>Instances are immutable and thread-safe; obtain shared instances from {@link
+ * CronExpressionCache}.
+ */
+public final class CompiledCronExpression {
+
+    private static final int SECONDS_PER_DAY = 86400;
+    private static final int NO_FIXED_OFFSET = Integer.MIN_VALUE;
+
+    private final String expression;
+    private final ZoneId zone;
+    private final ZoneRules zoneRules;
+    private final int fixedOffsetSeconds;
+
+    // bitsets: bit n set = value n allowed
+    private final long secondBits;
+    private final long minuteBits;
+    private final long hourBits;
+    private final long dayOfMonthBits;
+    private final long monthBits;
+    private final long dayOfWeekBits; // 1=SUN .. 7=SAT
+    private final boolean dayOfMonthMode; // false: day-of-month is '?', match day-of-week
+
+    private final CronExpression fallback; // non-null when the bitsets cannot express the cron
+
+    /**
+     * Compiles a cron expression in the system default time zone.
+     *
+     * @param expression cron expression
+     * @throws ParseException if the expression is invalid
+     */
+    public CompiledCronExpression(String expression) throws ParseException {
+        this(expression, ZoneId.systemDefault());
+    }
+
+    /**
+     * Compiles a cron expression in the given time zone.
+     *
+     * @param expression cron expression
+     * @param zone time zone the expression is evaluated in
+     * @throws ParseException if the expression is invalid
+     */
+    public CompiledCronExpression(String expression, ZoneId zone) throws ParseException {
+        CronExpression parsed = new CronExpression(expression);
+        parsed.setTimeZone(TimeZone.getTimeZone(zone));
+
+        this.expression = expression;
+        this.zone = zone;
+        this.zoneRules = zone.getRules();
+        this.fixedOffsetSeconds =
+                zoneRules.isFixedOffset()
+                        ? zoneRules.getOffset(Instant.EPOCH).getTotalSeconds()
+                        : NO_FIXED_OFFSET;
+
+        if (isBitsetCompatible(parsed)) {
+            this.secondBits = toBits(parsed.seconds);
+            this.minuteBits = toBits(parsed.minutes);
+            this.hourBits = toBits(parsed.hours);
+            this.dayOfMonthBits = toBits(parsed.daysOfMonth);
+            this.monthBits = toBits(parsed.months);
+            this.dayOfWeekBits = toBits(parsed.daysOfWeek);
+            this.dayOfMonthMode = !parsed.daysOfMonth.contains(CronExpression.NO_SPEC);
+            this.fallback = null;
+        } else {
+            this.secondBits = 0;
+            this.minuteBits = 0;
+            this.hourBits = 0;
+            this.dayOfMonthBits = 0;
+            this.monthBits = 0;
+            this.dayOfWeekBits = 0;
+            this.dayOfMonthMode = false;
+            this.fallback = parsed;
+        }
+    }
+
+    /** True if the expression only uses plain values, ranges, lists and increments. */
+    private static boolean isBitsetCompatible(CronExpression parsed) {
+        if (!parsed.nearestWeekdays.isEmpty()
+                || parsed.lastDayOfWeek
+                || parsed.nthDayOfWeek != 0
+                || !parsed.years.contains(CronExpression.ALL_SPEC)) {
+            return false;
+        }
+        // 'L' / 'L-n' day-of-month values are encoded above 31
+        for (int day : parsed.daysOfMonth) {
+            if (day > CronExpression.DAY_OF_MONTH_MAX
+                    && day != CronExpression.ALL_SPEC_INT
+                    && day != CronExpression.NO_SPEC_INT) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static long toBits(TreeSet<Integer> values) {
+        long bits = 0;
+        for (int value : values) {
+            if (value >= 0 && value < Long.SIZE) { // skips '*' / '?' markers
+                bits |= 1L << value;
+            }
+        }
+        return bits;
+    }
+
+    /**
+     * Gets the cron expression string.
+     *
+     * @return cron expression
+     */
+    public String getExpression() {
+        return expression;
+    }
+
+    /**
+     * Gets the time zone the expression is evaluated in.
+     *
+     * @return time zone
+     */
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    /**
+     * Finds the next fire time strictly after the given time.
+     *
+     * @param date reference time
+     * @return next fire time, or null if the expression never fires again
+     */
+    public Date getNextValidTimeAfter(Date date) {
+        long next = nextTimeAfter(date.getTime());
+        return next < 0 ? null : new Date(next);
+    }
+
+    /**
+     * Finds the next {@code n} fire times strictly after {@code fromMs}.
+     *
+     * @param fromMs reference time in epoch milliseconds
+     * @param n maximum number of fire times
+     * @return fire times in ascending order (shorter than {@code n} if the expression stops firing)
+     */
+    public long[] nextN(long fromMs, int n) {
+        long[] times = new long[Math.max(0, n)];
+        int count = 0;
+        long time = fromMs;
+        while (count < times.length) {
+            time = nextTimeAfter(time);
+            if (time < 0) {
+                return Arrays.copyOf(times, count);
+            }
+            times[count++] = time;
+        }
+        return times;
+    }
+
+    /**
+     * Finds the next fire time strictly after the given time, at second precision.
+     *
+     * @param afterMs reference time in epoch milliseconds
+     * @return next fire time in epoch milliseconds, or -1 if the expression never fires again
+     */
+    public long nextTimeAfter(long afterMs) {
+        if (fallback != null) {
+            Date next = fallback.getNextValidTimeAfter(new Date(afterMs));
+            return next != null ? next.getTime() : -1;
+        }
+
+        long minEpochSecond = Math.floorDiv(afterMs, 1000) + 1;
+        long localSecond = minEpochSecond + offsetSeconds(minEpochSecond);
+        long epochDay = Math.floorDiv(localSecond, SECONDS_PER_DAY);
+        int secondOfDay = (int) Math.floorMod(localSecond, SECONDS_PER_DAY);
+
+        // civil date from epoch day (proleptic Gregorian)
+        long z = epochDay + 719468;
+        long era = Math.floorDiv(z, 146097);
+        int dayOfEra = (int) (z - era * 146097);
+        int yearOfEra =
+                (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+        int dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        int mp = (5 * dayOfYear + 2) / 153;
+        int day = dayOfYear - (153 * mp + 2) / 5 + 1;
+        int month = mp < 10 ? mp + 3 : mp - 9;
+        int year = (int) (yearOfEra + era * 400 + (month <= 2 ? 1 : 0));
+
+        int hour = secondOfDay / 3600;
+        int minute = secondOfDay / 60 % 60;
+        int second = secondOfDay % 60;
+
+        while (year <= CronExpression.MAX_YEAR) {
+            // month
+            int nextMonth = nextBit(monthBits, month);
+            if (nextMonth < 0) {
+                year++;
+                month = 1;
+                day = 1;
+                hour = minute = second = 0;
+                continue;
+            }
+            if (nextMonth != month) {
+                month = nextMonth;
+                day = 1;
+                hour = minute = second = 0;
+            }
+
+            // day
+            int nextDay = nextDay(year, month, day);
+            if (nextDay < 0) {
+                month++;
+                day = 1;
+                hour = minute = second = 0;
+                continue;
+            }
+            if (nextDay != day) {
+                day = nextDay;
+                hour = minute = second = 0;
+            }
+
+            // hour
+            int nextHour = nextBit(hourBits, hour);
+            if (nextHour < 0) {
+                day++;
+                hour = minute = second = 0;
+                continue;
+            }
+            if (nextHour != hour) {
+                hour = nextHour;
+                minute = second = 0;
+            }
+
+            // minute
+            int nextMinute = nextBit(minuteBits, minute);
+            if (nextMinute < 0) {
+                hour++;
+                minute = second = 0;
+                continue;
+            }
+            if (nextMinute != minute) {
+                minute = nextMinute;
+                second = 0;
+            }
+
+            // second
+            int nextSecond = nextBit(secondBits, second);
+            if (nextSecond < 0) {
+                minute++;
+                second = 0;
+                continue;
+            }
+            second = nextSecond;
+
+            long epochSecond = toEpochSecond(year, month, day, hour, minute, second);
+            if (epochSecond >= minEpochSecond) {
+                return epochSecond * 1000;
+            }
+            // local time repeated by a DST overlap and already passed, keep searching
+            second++;
+        }
+        return -1;
+    }
+
+    /** Next matching day of month >= {@code day}, or -1 if none left in this month. */
+    private int nextDay(int year, int month, int day) {
+        int monthLength = monthLength(year, month);
+        if (dayOfMonthMode) {
+            int next = nextBit(dayOfMonthBits, day);
+            return next > 0 && next <= monthLength ? next : -1;
+        }
+        if (day > monthLength) {
+            return -1;
+        }
+        // day-of-week: 1=SUN .. 7=SAT, epoch day 3 (1970-01-04) is a Sunday
+        int dayOfWeek = (int) Math.floorMod(epochDay(year, month, day) - 3, 7) + 1;
+        for (int d = day; d <= monthLength; d++) {
+            if ((dayOfWeekBits & (1L << dayOfWeek)) != 0) {
+                return d;
+            }
+            dayOfWeek = dayOfWeek == 7 ? 1 : dayOfWeek + 1;
+        }
+        return -1;
+    }
+
+    /** Smallest set bit >= {@code from}, or -1. */
+    private static int nextBit(long bits, int from) {
+        if (from >= Long.SIZE) {
+            return -1;
+        }
+        long remaining = bits & (-1L << from);
+        return remaining == 0 ? -1 : Long.numberOfTrailingZeros(remaining);
+    }
+
+    private static int monthLength(int year, int month) {
+        return switch (month) {
+            case 2 -> java.time.Year.isLeap(year) ? 29 : 28;
+            case 4, 6, 9, 11 -> 30;
+            default -> 31;
+        };
+    }
+
+    /** Epoch day of a civil date (proleptic Gregorian). */
+    private static long epochDay(int year, int month, int day) {
+        long y = month <= 2 ? year - 1 : year;
+        long era = Math.floorDiv(y, 400);
+        long yearOfEra = y - era * 400;
+        long dayOfYear = (153L * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+        long dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * 146097 + dayOfEra - 719468;
+    }
+
+    private int offsetSeconds(long epochSecond) {
+        if (fixedOffsetSeconds != NO_FIXED_OFFSET) {
+            return fixedOffsetSeconds;
+        }
+        return zoneRules.getOffset(Instant.ofEpochSecond(epochSecond)).getTotalSeconds();
+    }
+
+    /** Converts a local date-time to epoch seconds; DST gaps shift forward like a lenient Calendar. */
+    private long toEpochSecond(int year, int month, int day, int hour, int minute, int second) {
+        if (fixedOffsetSeconds != NO_FIXED_OFFSET) {
+            return epochDay(year, month, day) * SECONDS_PER_DAY
+                    + hour * 3600L
+                    + minute * 60L
+                    + second
+                    - fixedOffsetSeconds;
+        }
+        return ZonedDateTime.ofLocal(
+                        LocalDateTime.of(year, month, day, hour, minute, second), zone, null)
+                .toEpochSecond();
+    }
+
+    @Override
+    public String toString() {
+        return expression;
+    }
+}
@@ -0,0 +1,61 @@
+package com.abyss.orth.admin.scheduler.cron;
+
+import java.text.ParseException;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Bounded cache of {@link CompiledCronExpression}s keyed by the cron string.
+ *
+ * <p>Schedule refreshes evaluate the same expressions over and over; caching the compiled form
+ * removes parsing from the schedule hot path. Lookups are lock-free. When the cache is full, an
+ * arbitrary entry is evicted before inserting, so memory stays bounded even if expressions are
+ * edited constantly.
+ *
+ * <p>Invalid expressions are not cached: every lookup throws the parse error again.
+ */
+public final class CronExpressionCache {
+
+    /** Maximum cached expressions (distinct cron strings, not jobs). */
+    public static final int MAX_SIZE = 65536;
+
+    private static final ConcurrentMap<String, CompiledCronExpression> cache =
+            new ConcurrentHashMap<>();
+
+    private CronExpressionCache() {}
+
+    /**
+     * Gets the compiled form of a cron expression, compiling it on first use.
+     *
+     * @param expression cron expression
+     * @return compiled expression, evaluated in the system default time zone
+     * @throws ParseException if the expression is invalid
+     */
+    public static CompiledCronExpression get(String expression) throws ParseException {
+        CompiledCronExpression compiled = cache.get(expression);
+        if (compiled != null) {
+            return compiled;
+        }
+
+        compiled = new CompiledCronExpression(expression);
+        if (cache.size() >= MAX_SIZE) {
+            Iterator<String> it = cache.keySet().iterator();
+            if (it.hasNext()) {
+                it.next();
+                it.remove();
+            }
+        }
+        CompiledCronExpression existing = cache.putIfAbsent(expression, compiled);
+        return existing != null ? existing : compiled;
+    }
+
+    /**
+     * Number of cached expressions.
+     *
+     * @return cache size
+     */
+    public static int size() {
+        return cache.size();
+    }
+}
@@ -1,5 +1,7 @@
 package com.abyss.orth.admin.scheduler.misfire;
 
+import com.abyss.orth.admin.model.JobInfo;
+
 /**
  * Abstract strategy for handling job execution misfires in the Orth scheduler.
  *
@@ -19,7 +21,7 @@ package com.abyss.orth.admin.scheduler.misfire;
  * <ul>
  *   <li>Skip the missed execution and wait for next scheduled time
  *   <li>Execute immediately to compensate for the miss
- *   <li>Execute multiple times to catch up (not currently implemented)
+ *   <li>Replay every missed schedule time to catch up, at a bounded pace
  * </ul>
  *
  * <p>Misfire detection logic:
@@ -54,4 +56,35 @@ public abstract class MisfireHandler {
      * @param jobId the ID of the job that experienced a misfire
      */
     public abstract void handle(int jobId);
+
+    /**
+     * Handles a misfire event knowing which schedule times were missed.
+     *
+     * <p>Called by the schedule thread. The default ignores the missed window and delegates to
+     * {@link #handle(int)}; strategies replaying individual schedule times override it.
+     *
+     * @param jobInfo the job that experienced a misfire (schedule type and configuration)
+     * @param firstMissedTime first missed schedule time in milliseconds
+     * @param nowTime detection time in milliseconds; schedule times up to it were missed
+     */
+    public void handle(JobInfo jobInfo, long firstMissedTime, long nowTime) {
+        handle(jobInfo.getId());
+    }
+
+    /**
+     * Decides how much of a missed window this scan handles.
+     *
+     * <p>Called by the schedule thread before the next trigger time is written back. The default
+     * handles the whole window and lets the cadence restart from now; strategies working through a
+     * long window in bounded steps return the schedule time to resume from, which is written back
+     * as the job's next trigger time, so the next scans (on any admin node) continue there.
+     *
+     * @param jobInfo the job that experienced a misfire (schedule type and configuration)
+     * @param firstMissedTime first missed schedule time in milliseconds
+     * @param nowTime detection time in milliseconds
+     * @return first schedule time left for later scans, or {@code -1} to handle the whole window
+     */
+    public long resumeTime(JobInfo jobInfo, long firstMissedTime, long nowTime) {
+        return -1;
+    }
 }
@@ -3,6 +3,7 @@ package com.abyss.orth.admin.scheduler.misfire;
 import java.util.Arrays;
 
 import com.abyss.orth.admin.scheduler.misfire.strategy.MisfireDoNothing;
+import com.abyss.orth.admin.scheduler.misfire.strategy.MisfireFireAllMissed;
 import com.abyss.orth.admin.scheduler.misfire.strategy.MisfireFireOnceNow;
 import com.abyss.orth.admin.util.I18nUtil;
 
@@ -18,6 +19,7 @@ import com.abyss.orth.admin.util.I18nUtil;
  * <ul>
  *   <li><b>DO_NOTHING</b>: Skip the missed execution entirely; wait for next scheduled time
  *   <li><b>FIRE_ONCE_NOW</b>: Execute immediately to compensate for the missed trigger
+ *   <li><b>FIRE_ALL_MISSED</b>: Replay every missed schedule time with its logical schedule time
  * </ul>
  *
  * <p>Strategy selection considerations:
@@ -27,6 +29,8 @@ import com.abyss.orth.admin.util.I18nUtil;
  *       (e.g., market-close data snapshots)
  *   <li>Use FIRE_ONCE_NOW for data consistency jobs where every execution must complete (e.g.,
  *       batch ETL pipelines)
+ *   <li>Use FIRE_ALL_MISSED when every missed interval must be processed (e.g., batch data
+ *       collection per interval)
  * </ul>
  *
  * @author xuxueli 2020-10-29
@@ -37,7 +41,11 @@ public enum MisfireStrategyEnum {
     DO_NOTHING(I18nUtil.getString("misfire_strategy_do_nothing"), new MisfireDoNothing()),
 
     /** Execute immediately to compensate for the missed trigger */
-    FIRE_ONCE_NOW(I18nUtil.getString("misfire_strategy_fire_once_now"), new MisfireFireOnceNow());
+    FIRE_ONCE_NOW(I18nUtil.getString("misfire_strategy_fire_once_now"), new MisfireFireOnceNow()),
+
+    /** Replay every missed schedule time, rate limited */
+    FIRE_ALL_MISSED(
+            I18nUtil.getString("misfire_strategy_fire_all_missed"), new MisfireFireAllMissed());
 
     private final String title;
     private final MisfireHandler misfireHandler;
@@ -0,0 +1,186 @@
+package com.abyss.orth.admin.scheduler.misfire.strategy;
+
+import java.util.Arrays;
+import java.util.Date;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.abyss.orth.admin.model.JobInfo;
+import com.abyss.orth.admin.scheduler.config.OrthAdminBootstrap;
+import com.abyss.orth.admin.scheduler.misfire.MisfireHandler;
+import com.abyss.orth.admin.scheduler.thread.JobMisfireBackfillHelper;
+import com.abyss.orth.admin.scheduler.trigger.TriggerTypeEnum;
+import com.abyss.orth.admin.scheduler.type.ScheduleType;
+import com.abyss.orth.admin.scheduler.type.ScheduleTypeEnum;
+
+/**
+ * Misfire strategy that replays every missed schedule time in the Orth scheduler.
+ *
+ * <p>When a job misfire is detected, the schedule times from the first missed one up to the
+ * detection time are enumerated with the job's schedule type (cron or fixed rate) and handed to
+ * {@link JobMisfireBackfillHelper}, which replays them with their logical {@code scheduleTime}
+ * under a per-job concurrency window and a global rate limit.
+ *
+ * <p>Use this strategy when:
+ *
+ * <ul>
+ *   <li>Every interval must be processed, e.g. batch data collection keyed by schedule time
+ *   <li>Job handlers use the schedule time rather than the wall clock to select their data
+ * </ul>
+ *
+ * <p>A long window is worked through in batches of at most {@value #MAX_MISSED_FIRES_PER_SCAN}
+ * schedule times: a scan enumerates and enqueues one batch and leaves the job's next trigger time
+ * on the first schedule time after it, so the backfill position is persisted with the job and the
+ * next scan (on any admin node) continues from there. The next batch is only enumerated once the
+ * job's previous one has been released, so the backlog follows the replay pace instead of piling up
+ * in memory; at most one batch is lost when an admin node stops.
+ */
+public class MisfireFireAllMissed extends MisfireHandler {
+    private static final Logger logger = LoggerFactory.getLogger(MisfireFireAllMissed.class);
+
+    /** Max schedule times enumerated and enqueued by one scan. */
+    public static final int MAX_MISSED_FIRES_PER_SCAN = 100;
+
+    /**
+     * Triggers one compensatory execution when the missed window is unknown.
+     *
+     * @param jobId the ID of the job that misfired
+     */
+    @Override
+    public void handle(int jobId) {
+        OrthAdminBootstrap.getInstance()
+                .getJobTriggerPoolHelper()
+                .trigger(jobId, TriggerTypeEnum.MISFIRE, -1, null, null, null, null);
+
+        logger.warn(
+                "Orth scheduler misfire (FIRE_ALL_MISSED): missed window unknown, "
+                        + "triggering once for job {}",
+                jobId);
+    }
+
+    /**
+     * Leaves the schedule times after this scan's batch for the next scans.
+     *
+     * @param jobInfo the job that misfired
+     * @param firstMissedTime first missed schedule time in milliseconds
+     * @param nowTime detection time in milliseconds
+     * @return first schedule time after the batch, {@code firstMissedTime} while the previous batch
+     *     is still pending, or {@code -1} when the whole window fits in one batch
+     */
+    @Override
+    public long resumeTime(JobInfo jobInfo, long firstMissedTime, long nowTime) {
+        if (OrthAdminBootstrap.getInstance()
+                        .getJobMisfireBackfillHelper()
+                        .getPendingCount(jobInfo.getId())
+                > 0) {
+            return firstMissedTime;
+        }
+        return resumeTime(
+                missedFireTimes(jobInfo, firstMissedTime, nowTime, MAX_MISSED_FIRES_PER_SCAN + 1));
+    }
+
+    /**
+     * Resume time after a batch, given the missed times enumerated one beyond the batch size.
+     *
+     * @param missedTimes first missed times, at most {@code MAX_MISSED_FIRES_PER_SCAN + 1}
+     * @return the time just after the batch, or {@code -1} when the window ended within it
+     */
+    static long resumeTime(long[] missedTimes) {
+        return missedTimes.length > MAX_MISSED_FIRES_PER_SCAN
+                ? missedTimes[MAX_MISSED_FIRES_PER_SCAN]
+                : -1;
+    }
+
+    /**
+     * Enqueues the missed schedule times of this scan's batch for rate-limited replay.
+     *
+     * @param jobInfo the job that misfired
+     * @param firstMissedTime first missed schedule time in milliseconds
+     * @param nowTime last schedule time of the batch window, in milliseconds
+     */
+    @Override
+    public void handle(JobInfo jobInfo, long firstMissedTime, long nowTime) {
+        long[] missedTimes =
+                missedFireTimes(jobInfo, firstMissedTime, nowTime, MAX_MISSED_FIRES_PER_SCAN);
+        if (missedTimes.length == 0) {
+            return;
+        }
+        OrthAdminBootstrap.getInstance()
+                .getJobMisfireBackfillHelper()
+                .enqueue(jobInfo.getId(), missedTimes);
+
+        logger.warn(
+                "Orth scheduler misfire (FIRE_ALL_MISSED): replaying {} missed executions "
+                        + "for job {}, from {} to {}",
+                missedTimes.length,
+                jobInfo.getId(),
+                missedTimes[0],
+                missedTimes[missedTimes.length - 1]);
+    }
+
+    /**
+     * Enumerates the schedule times of a job within {@code [firstMissedTime, nowTime]}.
+     *
+     * <p>The enumeration stops after the first {@code limit} times, so its cost does not grow with
+     * the length of the window.
+     *
+     * @param jobInfo the job (schedule type and configuration)
+     * @param firstMissedTime first missed schedule time in milliseconds
+     * @param nowTime last time considered missed, in milliseconds
+     * @param limit max schedule times to return
+     * @return the first missed schedule times, ascending
+     */
+    static long[] missedFireTimes(JobInfo jobInfo, long firstMissedTime, long nowTime, int limit) {
+        return missedFireTimes(
+                ScheduleTypeEnum.match(jobInfo.getScheduleType(), ScheduleTypeEnum.NONE)
+                        .getScheduleType(),
+                jobInfo,
+                firstMissedTime,
+                nowTime,
+                limit);
+    }
+
+    /**
+     * Enumerates the schedule times of a job within {@code [firstMissedTime, nowTime]}, with the
+     * schedule type already resolved.
+     *
+     * @param scheduleType schedule type of the job
+     * @param jobInfo the job (schedule configuration)
+     * @param firstMissedTime first missed schedule time in milliseconds
+     * @param nowTime last time considered missed, in milliseconds
+     * @param limit max schedule times to return
+     * @return missed schedule times, ascending
+     * @see #missedFireTimes(JobInfo, long, long, int)
+     */
+    static long[] missedFireTimes(
+            ScheduleType scheduleType,
+            JobInfo jobInfo,
+            long firstMissedTime,
+            long nowTime,
+            int limit) {
+        if (firstMissedTime <= 0 || firstMissedTime > nowTime) {
+            return new long[0];
+        }
+
+        long[] missedTimes = new long[limit];
+        int count = 0;
+        long fireTime = firstMissedTime;
+        try {
+            while (count < limit && fireTime <= nowTime) {
+                missedTimes[count++] = fireTime;
+                Date next = scheduleType.generateNextTriggerTime(jobInfo, new Date(fireTime));
+                if (next == null || next.getTime() <= fireTime) {
+                    break;
+                }
+                fireTime = next.getTime();
+            }
+        } catch (Throwable e) {
+            logger.error(
+                    "Orth scheduler misfire (FIRE_ALL_MISSED): enumerate missed times error for job {}",
+                    jobInfo.getId(),
+                    e);
+        }
+        return Arrays.copyOf(missedTimes, count);
+    }
+}
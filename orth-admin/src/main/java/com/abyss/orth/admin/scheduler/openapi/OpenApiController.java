@@ -11,6 +11,8 @@ import com.abyss.orth.core.constant.Const;
 import com.abyss.orth.core.openapi.AdminBiz;
 import com.abyss.orth.core.openapi.model.CallbackRequest;
 import com.abyss.orth.core.openapi.model.RegistryRequest;
+import com.abyss.orth.core.openapi.model.ShardAckRequest;
+import com.abyss.orth.core.openapi.model.ShardLeaseRequest;
 import com.xxl.tool.core.StringTool;
 import com.xxl.tool.gson.GsonTool;
 import com.xxl.tool.response.Response;
@@ -75,6 +77,18 @@ public class OpenApiController {
                                 GsonTool.fromJson(requestBody, RegistryRequest.class);
                         return adminBiz.registryRemove(registryParam);
                     }
+                case "shardLease":
+                    {
+                        ShardLeaseRequest shardLeaseParam =
+                                GsonTool.fromJson(requestBody, ShardLeaseRequest.class);
+                        return adminBiz.shardLease(shardLeaseParam);
+                    }
+                case "shardAck":
+                    {
+                        ShardAckRequest shardAckParam =
+                                GsonTool.fromJson(requestBody, ShardAckRequest.class);
+                        return adminBiz.shardAck(shardAckParam);
+                    }
                 default:
                     return Response.ofFail("invalid request, uri-mapping(" + uri + ") not found.");
             }
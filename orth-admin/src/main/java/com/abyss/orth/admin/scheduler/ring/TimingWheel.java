@@ -0,0 +1,255 @@
+package com.abyss.orth.admin.scheduler.ring;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Hierarchical timing wheel with millisecond precision.
+ *
+ * <p>Replaces the 60-slot second ring. Entries are fired on the exact millisecond of their deadline
+ * (the schedule time, shifted by the job's jitter offset if any), which allows sub-second schedules
+ * and keeps the per-tick cost proportional to the entries due in that tick.
+ *
+ * <p><b>Levels</b>:
+ *
+ * <ul>
+ *   <li>Level 0: 1000 slots x 1ms (deadlines within the next second)
+ *   <li>Level 1: 60 slots x 1s (deadlines within the next minute)
+ *   <li>Level 2: 60 slots x 1min (deadlines within the next hour)
+ *   <li>Overflow: deadlines further out, re-examined every minute
+ * </ul>
+ *
+ * <p>Higher-level slots are cascaded down when the wheel reaches the start of their second or
+ * minute, so every entry is eventually fired from a level 0 slot.
+ *
+ * <p><b>Threading</b>: {@link #add} is lock-free and may be called from any thread; producers
+ * publish into an MPSC inbox. {@link #advanceTo} must only be called from a single consumer thread
+ * (the ring thread), which owns the slots, drains the inbox and fires due entries.
+ *
+ * <p><b>Dedupe</b>: an entry whose (jobId, scheduleTime) was already fired is dropped in O(1) using
+ * a per-job map of the last fired schedule time.
+ */
+public class TimingWheel {
+    private static final Logger logger = LoggerFactory.getLogger(TimingWheel.class);
+
+    private static final int MS_SLOTS = 1000; // level 0: 1ms ticks per second
+    private static final int SECOND_SLOTS = 60; // level 1: seconds per minute
+    private static final int MINUTE_SLOTS = 60; // level 2: minutes per hour
+    private static final long ONE_SECOND_MS = 1000;
+    private static final long ONE_MINUTE_MS = 60 * ONE_SECOND_MS;
+    private static final long ONE_HOUR_MS = 60 * ONE_MINUTE_MS;
+    private static final long DEDUPE_RETENTION_MS = ONE_MINUTE_MS;
+
+    /**
+     * Timing wheel entry.
+     *
+     * @param jobId job ID
+     * @param scheduleTime logical schedule time in milliseconds
+     * @param fireTime firing deadline in milliseconds, the schedule time plus any jitter offset
+     */
+    public record Entry(int jobId, long scheduleTime, long fireTime) {}
+
+    private final Queue<Entry> inbox = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pending = new AtomicInteger();
+
+    // owned by the consumer thread
+    private final List<Entry>[] msSlots = newSlots(MS_SLOTS);
+    private final List<Entry>[] secondSlots = newSlots(SECOND_SLOTS);
+    private final List<Entry>[] minuteSlots = newSlots(MINUTE_SLOTS);
+    private final List<Entry> overflow = new ArrayList<>();
+    private final Map<Integer, Long> lastFired = new HashMap<>();
+    private long currentTick; // next tick (epoch ms) to process
+
+    /**
+     * Creates a timing wheel whose first processed tick is {@code startTimeMs}.
+     *
+     * @param startTimeMs start time in epoch milliseconds
+     */
+    public TimingWheel(long startTimeMs) {
+        this.currentTick = startTimeMs;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Entry>[] newSlots(int size) {
+        List<Entry>[] slots = new List[size];
+        for (int i = 0; i < size; i++) {
+            slots[i] = new ArrayList<>();
+        }
+        return slots;
+    }
+
+    /**
+     * Adds an entry to fire at its schedule time. Thread-safe and lock-free.
+     *
+     * <p>Entries whose schedule time is already in the past fire on the next {@link #advanceTo}.
+     *
+     * @param jobId job ID
+     * @param scheduleTime schedule time in epoch milliseconds
+     */
+    public void add(int jobId, long scheduleTime) {
+        add(jobId, scheduleTime, scheduleTime);
+    }
+
+    /**
+     * Adds an entry to fire at {@code fireTime}, keeping {@code scheduleTime} as its logical time.
+     * Thread-safe and lock-free.
+     *
+     * @param jobId job ID
+     * @param scheduleTime logical schedule time in epoch milliseconds
+     * @param fireTime firing deadline in epoch milliseconds
+     */
+    public void add(int jobId, long scheduleTime, long fireTime) {
+        inbox.offer(new Entry(jobId, scheduleTime, fireTime));
+        pending.incrementAndGet();
+    }
+
+    /**
+     * Number of entries added but not yet fired (or deduped).
+     *
+     * @return pending entry count
+     */
+    public int size() {
+        return pending.get();
+    }
+
+    /**
+     * Advances the wheel up to and including {@code nowMs}, firing every due entry.
+     *
+     * <p>Must be called from a single thread. If the caller fell behind, all elapsed ticks are
+     * processed in order, so no entry is skipped.
+     *
+     * @param nowMs current time in epoch milliseconds
+     * @param consumer receives due entries, in deadline order
+     */
+    public void advanceTo(long nowMs, Consumer<Entry> consumer) {
+        // publish new entries
+        Entry entry;
+        while ((entry = inbox.poll()) != null) {
+            place(entry, consumer);
+        }
+
+        // process elapsed ticks
+        while (currentTick <= nowMs) {
+            long tick = currentTick;
+            if (tick % ONE_MINUTE_MS == 0) {
+                cascade(minuteSlots[(int) ((tick / ONE_MINUTE_MS) % MINUTE_SLOTS)], consumer);
+                if (!overflow.isEmpty()) {
+                    List<Entry> overflowCopy = new ArrayList<>(overflow);
+                    overflow.clear();
+                    for (Entry item : overflowCopy) {
+                        place(item, consumer);
+                    }
+                }
+                long dedupeFloor = tick - DEDUPE_RETENTION_MS;
+                lastFired.values().removeIf(scheduleTime -> scheduleTime < dedupeFloor);
+            }
+            if (tick % ONE_SECOND_MS == 0) {
+                cascade(secondSlots[(int) ((tick / ONE_SECOND_MS) % SECOND_SLOTS)], consumer);
+            }
+
+            List<Entry> slot = msSlots[(int) (tick % MS_SLOTS)];
+            if (!slot.isEmpty()) {
+                for (Entry item : slot) {
+                    fire(item, consumer);
+                }
+                slot.clear();
+            }
+            currentTick++;
+        }
+    }
+
+    /**
+     * Empties the wheel: fires the pending entries due by {@code untilMs} now, in deadline order,
+     * and hands the later ones to {@code dropped} unfired.
+     *
+     * <p>Used on shutdown, so entries due within a short grace period still fire and entries pushed
+     * far ahead (jittered jobs) are not fired early. Must be called from the consumer thread.
+     *
+     * @param untilMs latest deadline to fire, in epoch milliseconds
+     * @param consumer receives the pending entries due by {@code untilMs}
+     * @param dropped receives the other pending entries, in deadline order
+     */
+    public void drain(long untilMs, Consumer<Entry> consumer, Consumer<Entry> dropped) {
+        List<Entry> entries = new ArrayList<>();
+        Entry entry;
+        while ((entry = inbox.poll()) != null) {
+            entries.add(entry);
+        }
+        for (List<Entry>[] slots : List.of(msSlots, secondSlots, minuteSlots)) {
+            for (List<Entry> slot : slots) {
+                entries.addAll(slot);
+                slot.clear();
+            }
+        }
+        entries.addAll(overflow);
+        overflow.clear();
+
+        entries.sort(Comparator.comparingLong(Entry::fireTime));
+        for (Entry item : entries) {
+            if (item.fireTime() <= untilMs) {
+                fire(item, consumer);
+            } else {
+                pending.decrementAndGet();
+                dropped.accept(item);
+            }
+        }
+    }
+
+    /** Places an entry into the level matching its distance from the current tick. */
+    private void place(Entry entry, Consumer<Entry> consumer) {
+        long deadline = entry.fireTime();
+        long delta = deadline - currentTick;
+        if (delta < 0) {
+            fire(entry, consumer); // already due
+        } else if (delta < ONE_SECOND_MS) {
+            msSlots[(int) (deadline % MS_SLOTS)].add(entry);
+        } else if (delta < ONE_MINUTE_MS) {
+            secondSlots[(int) ((deadline / ONE_SECOND_MS) % SECOND_SLOTS)].add(entry);
+        } else if (delta < ONE_HOUR_MS) {
+            minuteSlots[(int) ((deadline / ONE_MINUTE_MS) % MINUTE_SLOTS)].add(entry);
+        } else {
+            overflow.add(entry);
+        }
+    }
+
+    /** Re-places every entry of a higher-level slot into a finer level. */
+    private void cascade(List<Entry> slot, Consumer<Entry> consumer) {
+        if (slot.isEmpty()) {
+            return;
+        }
+        List<Entry> entries = new ArrayList<>(slot);
+        slot.clear();
+        for (Entry entry : entries) {
+            place(entry, consumer);
+        }
+    }
+
+    /** Fires an entry unless the same (jobId, scheduleTime) was already fired. */
+    private void fire(Entry entry, Consumer<Entry> consumer) {
+        pending.decrementAndGet();
+        Long previous = lastFired.put(entry.jobId(), entry.scheduleTime());
+        if (previous != null && previous == entry.scheduleTime()) {
+            logger.warn(
+                    ">>>>>>>>>>> orth, timing-wheel found job repeat beat : jobId = {}, scheduleTime = {}",
+                    entry.jobId(),
+                    entry.scheduleTime());
+            return;
+        }
+        try {
+            consumer.accept(entry);
+        } catch (Throwable e) {
+            logger.error(
+                    ">>>>>>>>>>> orth, timing-wheel fire error : jobId = {}", entry.jobId(), e);
+        }
+    }
+}
@@ -24,6 +24,8 @@ import com.abyss.orth.admin.util.I18nUtil;
  *   <li><b>LEAST_RECENTLY_USED</b>: Route to executor with oldest last-used timestamp
  *   <li><b>FAILOVER</b>: Automatic failover to next executor on heartbeat failure
  *   <li><b>BUSYOVER</b>: Route to idle executors, skipping busy ones
+ *   <li><b>LEAST_LOADED</b>: Route to the executor with the lowest reported load
+ *   <li><b>TWO_CHOICES</b>: Route to the less busy of two random executors, by runs in flight
  *   <li><b>SHARDING_BROADCAST</b>: Execute on all executors with shard parameters
  * </ul>
  *
@@ -34,6 +36,8 @@ import com.abyss.orth.admin.util.I18nUtil;
  *   <li>Use CONSISTENT_HASH when jobs need executor affinity (e.g., local caching)
  *   <li>Use FAILOVER for critical jobs requiring high availability
  *   <li>Use BUSYOVER to avoid executor overload
+ *   <li>Use LEAST_LOADED for mixed-duration jobs that would pile up on some executors under ROUND
+ *   <li>Use TWO_CHOICES for the same without executor-side load reports, or for bursts of triggers
  *   <li>Use SHARDING_BROADCAST for parallel batch processing with data partitioning
  * </ul>
  *
@@ -68,6 +72,12 @@ public enum ExecutorRouteStrategyEnum {
     /** Route to idle executors only */
     BUSYOVER(I18nUtil.getString("jobconf_route_busyover"), new ExecutorRouteBusyover()),
 
+    /** Route to the executor with the lowest load reported with its heartbeats */
+    LEAST_LOADED(I18nUtil.getString("jobconf_route_least_loaded"), new ExecutorRouteLeastLoaded()),
+
+    /** Route to the less busy of two random executors, by runs in flight from this admin */
+    TWO_CHOICES(I18nUtil.getString("jobconf_route_two_choices"), new ExecutorRouteTwoChoices()),
+
     /** Broadcast to all executors with sharding parameters */
     SHARDING_BROADCAST(I18nUtil.getString("jobconf_route_shard"), null);
 
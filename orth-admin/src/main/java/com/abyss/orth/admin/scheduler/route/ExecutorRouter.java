@@ -1,10 +1,15 @@
 package com.abyss.orth.admin.scheduler.route;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.abyss.orth.admin.scheduler.config.OrthAdminBootstrap;
+import com.abyss.orth.admin.scheduler.thread.ExecutorCircuitBreakerHelper;
 import com.abyss.orth.core.openapi.model.TriggerRequest;
 import com.xxl.tool.response.Response;
 
@@ -26,12 +31,16 @@ import com.xxl.tool.response.Response;
  * <p>Routing strategies registered in {@link ExecutorRouteStrategyEnum} include:
  *
  * <ul>
- *   <li><b>Load distribution:</b> ROUND, RANDOM, CONSISTENT_HASH, LFU, LRU
+ *   <li><b>Load distribution:</b> ROUND, RANDOM, CONSISTENT_HASH, LFU, LRU, LEAST_LOADED,
+ *       TWO_CHOICES
  *   <li><b>High availability:</b> FAILOVER, BUSYOVER
  *   <li><b>Fixed selection:</b> FIRST, LAST
  *   <li><b>Special:</b> SHARDING_BROADCAST (handled separately, not via this interface)
  * </ul>
  *
+ * <p>Callers route through {@link #routeAvailable(TriggerRequest, List)}, which hides the addresses
+ * whose circuit is open from every strategy, so no strategy sends or probes a known-dead executor.
+ *
  * <p>Implementation guidelines:
  *
  * <ul>
@@ -47,6 +56,9 @@ import com.xxl.tool.response.Response;
 public abstract class ExecutorRouter {
     protected static final Logger logger = LoggerFactory.getLogger(ExecutorRouter.class);
 
+    private static final String MSG_ALL_CIRCUITS_OPEN =
+            "All executor circuits open, trigger not sent";
+
     /**
      * Selects an executor address to route the trigger request to.
      *
@@ -68,4 +80,86 @@ public abstract class ExecutorRouter {
      * @return a Response containing the selected executor address, or an error if routing fails
      */
     public abstract Response<String> route(TriggerRequest triggerParam, List<String> addressList);
+
+    /**
+     * Selects an executor address among those whose circuit is closed.
+     *
+     * <p>Addresses with an open or half-open circuit ({@link ExecutorCircuitBreakerHelper}) are
+     * removed before the strategy runs; if none remains, routing fails at once instead of waiting
+     * for an RPC timeout.
+     *
+     * @param triggerParam the trigger request containing job ID, parameters, and execution context
+     * @param addressList the list of available executor addresses from service discovery
+     * @return a Response containing the selected executor address, or an error if routing fails
+     */
+    public Response<String> routeAvailable(TriggerRequest triggerParam, List<String> addressList) {
+        ExecutorCircuitBreakerHelper breaker = circuitBreaker();
+        if (breaker != null) {
+            addressList = breaker.filterAvailable(addressList);
+            if (addressList.isEmpty()) {
+                return Response.ofFail(MSG_ALL_CIRCUITS_OPEN);
+            }
+        }
+        return route(triggerParam, addressList);
+    }
+
+    /**
+     * Records a health probe that failed in transport (FAILOVER and BUSYOVER), so the address's
+     * circuit can open.
+     *
+     * @param address executor address
+     */
+    protected static void recordProbeFailure(String address) {
+        ExecutorCircuitBreakerHelper breaker = circuitBreaker();
+        if (breaker != null) {
+            breaker.recordFailure(address);
+        }
+    }
+
+    /**
+     * Probes executors one after another, in address list order, until one answers successfully
+     * (FAILOVER and BUSYOVER). The next address is probed only once the previous probe failed, so a
+     * healthy first executor costs a single probe.
+     *
+     * @param addressList the executor addresses
+     * @param probe sends the probe of an address; its future never completes exceptionally
+     * @param onAnswer called with each probed address and its answer, in probe order
+     * @return future of the first successful answer, with the address as data, or of the last
+     *     failed answer; a failure without message if the list is empty
+     */
+    protected static CompletableFuture<Response<String>> probeInOrder(
+            List<String> addressList,
+            Function<String, CompletableFuture<Response<String>>> probe,
+            BiConsumer<String, Response<String>> onAnswer) {
+        if (addressList.isEmpty()) {
+            return CompletableFuture.completedFuture(Response.ofFail(null));
+        }
+        return probeFrom(0, addressList, probe, onAnswer);
+    }
+
+    private static CompletableFuture<Response<String>> probeFrom(
+            int index,
+            List<String> addressList,
+            Function<String, CompletableFuture<Response<String>>> probe,
+            BiConsumer<String, Response<String>> onAnswer) {
+        String address = addressList.get(index);
+        return probe.apply(address)
+                .thenCompose(
+                        answer -> {
+                            onAnswer.accept(address, answer);
+                            if (answer.isSuccess()) {
+                                answer.setData(address);
+                                return CompletableFuture.completedFuture(answer);
+                            }
+                            if (index + 1 == addressList.size()) {
+                                return CompletableFuture.completedFuture(answer);
+                            }
+                            return probeFrom(index + 1, addressList, probe, onAnswer);
+                        });
+    }
+
+    private static ExecutorCircuitBreakerHelper circuitBreaker() {
+        OrthAdminBootstrap bootstrap = OrthAdminBootstrap.getInstance();
+        return bootstrap != null ? bootstrap.getExecutorCircuitBreakerHelper() : null;
+    }
 }
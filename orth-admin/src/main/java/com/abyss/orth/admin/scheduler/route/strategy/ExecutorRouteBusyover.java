@@ -1,11 +1,12 @@
 package com.abyss.orth.admin.scheduler.route.strategy;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 import com.abyss.orth.admin.scheduler.config.OrthAdminBootstrap;
 import com.abyss.orth.admin.scheduler.route.ExecutorRouter;
 import com.abyss.orth.admin.util.I18nUtil;
-import com.abyss.orth.core.openapi.ExecutorBiz;
 import com.abyss.orth.core.openapi.model.IdleBeatRequest;
 import com.abyss.orth.core.openapi.model.TriggerRequest;
 import com.xxl.tool.response.Response;
@@ -20,8 +21,9 @@ import com.xxl.tool.response.Response;
  * <p>Algorithm:
  *
  * <ol>
- *   <li>Iterate through executor address list in order
- *   <li>Send idle-beat request for the specific job ID
+ *   <li>Send an idle-beat request for the specific job ID to the first executor in address list
+ *       order
+ *   <li>If it is busy or fails, chain the idle-beat of the next executor
  *   <li>Return the first executor that reports idle status
  *   <li>If all executors are busy, return failure
  * </ol>
@@ -34,9 +36,9 @@ import com.xxl.tool.response.Response;
  *   <li>Scenarios where job queueing should be avoided
  * </ul>
  *
- * <p><b>Performance consideration:</b> This strategy performs synchronous idle-beat checks on the
- * trigger path, adding latency. It's best used for jobs where avoiding busy executors is more
- * important than routing speed.
+ * <p><b>Performance consideration:</b> This strategy waits for idle-beat checks on the trigger
+ * path. An idle first executor costs one idle-beat; each busy executor before it adds one round
+ * trip. It's best used for jobs where avoiding busy executors is more important than routing speed.
  *
  * <p>The response message includes detailed diagnostics of all idle-beat attempts, useful for
  * understanding executor load patterns and troubleshooting availability issues.
@@ -51,9 +53,9 @@ public class ExecutorRouteBusyover extends ExecutorRouter {
     /**
      * Routes to the first idle executor for the specified job.
      *
-     * <p>This method probes each executor with an idle-beat request specific to the job ID. The
-     * first executor reporting idle status is selected. All idle-beat results are accumulated in
-     * the response message for diagnostic purposes.
+     * <p>This method probes the executors one by one with an idle-beat request specific to the job
+     * ID. The first executor reporting idle status is selected. All idle-beat results are
+     * accumulated in the response message for diagnostic purposes.
      *
      * @param triggerParam the trigger request containing the job ID
      * @param addressList the available executor addresses
@@ -64,19 +66,19 @@ public class ExecutorRouteBusyover extends ExecutorRouter {
         var diagnostics = new StringBuilder();
         var jobId = triggerParam.getJobId();
 
-        for (var address : addressList) {
-            // Check if executor is idle for this specific job
-            Response<String> idleBeatResult = checkExecutorIdle(address, jobId);
+        // Probe the executors in order, the next one only if the previous one is busy
+        Response<String> idleBeatResult =
+                probeInOrder(
+                                addressList,
+                                address -> checkExecutorIdle(address, jobId),
+                                (address, result) ->
+                                        appendDiagnostics(diagnostics, address, result))
+                        .join();
 
-            // Append diagnostic information
-            appendDiagnostics(diagnostics, address, idleBeatResult);
-
-            // Return immediately if executor is idle
-            if (idleBeatResult.isSuccess()) {
-                idleBeatResult.setMsg(diagnostics.toString());
-                idleBeatResult.setData(address);
-                return idleBeatResult;
-            }
+        // Return the first idle executor
+        if (idleBeatResult.isSuccess()) {
+            idleBeatResult.setMsg(diagnostics.toString());
+            return idleBeatResult;
         }
 
         // All executors are busy
@@ -88,22 +90,30 @@ public class ExecutorRouteBusyover extends ExecutorRouter {
      *
      * @param address the executor address
      * @param jobId the job identifier
-     * @return the idle-beat response indicating availability
+     * @return future of the idle-beat response indicating availability, never completed
+     *     exceptionally
      */
-    private Response<String> checkExecutorIdle(String address, int jobId) {
+    private CompletableFuture<Response<String>> checkExecutorIdle(String address, int jobId) {
+        CompletableFuture<Response<String>> idleBeat;
         try {
-            ExecutorBiz executorBiz = OrthAdminBootstrap.getExecutorBiz(address);
             var idleBeatRequest = new IdleBeatRequest(jobId);
-            return executorBiz.idleBeat(idleBeatRequest);
+            idleBeat =
+                    OrthAdminBootstrap.getAsyncExecutorBiz(address).idleBeatAsync(idleBeatRequest);
         } catch (Exception e) {
-            logger.error(
-                    "Idle-beat check failed for executor {} job {}: {}",
-                    address,
-                    jobId,
-                    e.getMessage(),
-                    e);
-            return Response.ofFail(e.toString());
+            idleBeat = CompletableFuture.failedFuture(e);
         }
+        return idleBeat.exceptionally(
+                e -> {
+                    Throwable cause = e instanceof CompletionException ? e.getCause() : e;
+                    recordProbeFailure(address);
+                    logger.error(
+                            "Idle-beat check failed for executor {} job {}: {}",
+                            address,
+                            jobId,
+                            cause.getMessage(),
+                            cause);
+                    return Response.ofFail(cause.toString());
+                });
     }
 
     /**
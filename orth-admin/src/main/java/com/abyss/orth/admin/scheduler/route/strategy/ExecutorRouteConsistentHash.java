@@ -1,11 +1,9 @@
 package com.abyss.orth.admin.scheduler.route.strategy;
 
-import java.nio.charset.StandardCharsets;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
 import java.util.List;
-import java.util.SortedMap;
-import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import com.abyss.orth.admin.scheduler.route.ExecutorRouter;
 import com.abyss.orth.core.openapi.model.TriggerRequest;
@@ -43,42 +41,134 @@ import com.xxl.tool.response.Response;
  *   <li>Scenarios requiring minimal job migration during executor scaling
  * </ul>
  *
- * <p>This implementation uses MD5 hashing for distribution on a 2^32 ring space.
+ * <p>A ring is built once per distinct address list and cached: a sorted {@code long[]} of virtual
+ * node positions with a parallel {@code int[]} of owning addresses, searched with a binary search.
+ * A registry change yields a different address list and so a new ring; rings of old lists are
+ * dropped once {@value #MAX_CACHED_RINGS} are cached. Positions come from a 64-bit murmur3-style
+ * hash on a 2^32 ring space, so routing costs no digest and no allocation.
  *
  * @author xuxueli 2017-03-10
  */
 public class ExecutorRouteConsistentHash extends ExecutorRouter {
 
     private static final int VIRTUAL_NODE_COUNT = 100;
-    private static final long HASH_RING_MAX = 0xFFFFFFFFL;
+    private static final int MAX_CACHED_RINGS = 1024;
+
+    /** Ring position in the high 32 bits; the low 32 bits hold the owner index while sorting */
+    private static final long POSITION_MASK = 0xFFFFFFFF00000000L;
+
+    private static final long OWNER_MASK = 0xFFFFFFFFL;
+
+    /** Rings by address list contents */
+    private static final ConcurrentMap<List<String>, HashRing> rings = new ConcurrentHashMap<>();
 
     /**
-     * Computes MD5 hash for a key, mapped to 2^32 ring space.
+     * Immutable hash ring of one address list.
      *
-     * <p>Uses MD5 digest truncated to 32 bits for hash ring positioning. This provides better
-     * distribution than Java's default {@code hashCode()}.
+     * <p>{@code positions} holds every virtual node's position, sorted; {@code owners[i]} is the
+     * index in {@code addresses} of the executor owning the node at {@code positions[i]}.
+     */
+    static final class HashRing {
+        private final String[] addresses;
+        private final long[] positions;
+        private final int[] owners;
+
+        HashRing(List<String> addressList) {
+            addresses = addressList.toArray(new String[0]);
+            long[] nodes = new long[addresses.length * VIRTUAL_NODE_COUNT];
+            int n = 0;
+            for (int owner = 0; owner < addresses.length; owner++) {
+                long addressHash = hash(addresses[owner]);
+                for (int i = 0; i < VIRTUAL_NODE_COUNT; i++) {
+                    // position and owner in one long, so one primitive sort orders both
+                    long position = mix(addressHash + i * 0x9E3779B97F4A7C15L) & POSITION_MASK;
+                    nodes[n++] = position | owner;
+                }
+            }
+            Arrays.sort(nodes);
+
+            positions = new long[nodes.length];
+            owners = new int[nodes.length];
+            for (int i = 0; i < nodes.length; i++) {
+                positions[i] = nodes[i] & POSITION_MASK;
+                owners[i] = (int) (nodes[i] & OWNER_MASK);
+            }
+        }
+
+        /**
+         * Finds the executor owning the first virtual node clockwise from a key.
+         *
+         * @param key job key
+         * @return executor address
+         */
+        String locate(int key) {
+            long position = mix(key) & POSITION_MASK;
+            int index = Arrays.binarySearch(positions, position);
+            if (index < 0) {
+                index = -index - 1; // insertion point: first node after the position
+            } else {
+                // several nodes may share a position: take the first, as a sorted walk would
+                while (index > 0 && positions[index - 1] == position) {
+                    index--;
+                }
+            }
+            if (index == positions.length) {
+                index = 0; // wrap around to the beginning of the ring
+            }
+            return addresses[owners[index]];
+        }
+
+        int size() {
+            return positions.length;
+        }
+    }
+
+    /**
+     * Hashes an address: FNV-1a over its chars, then the murmur3 finalizer.
      *
      * @param key the string to hash
-     * @return hash value in range [0, 2^32)
+     * @return 64-bit hash
+     */
+    private static long hash(String key) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < key.length(); i++) {
+            hash ^= key.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return mix(hash);
+    }
+
+    /**
+     * Murmur3 64-bit finalizer: every input bit affects every output bit.
+     *
+     * @param value value to mix
+     * @return mixed value
      */
-    private static long computeHash(String key) {
-        try {
-            var md5 = MessageDigest.getInstance("MD5");
-            var keyBytes = key.getBytes(StandardCharsets.UTF_8);
-            var digest = md5.digest(keyBytes);
-
-            // Extract 32-bit hash from first 4 bytes of digest
-            long hashCode =
-                    ((long) (digest[3] & 0xFF) << 24)
-                            | ((long) (digest[2] & 0xFF) << 16)
-                            | ((long) (digest[1] & 0xFF) << 8)
-                            | (digest[0] & 0xFF);
-
-            return hashCode & HASH_RING_MAX;
-
-        } catch (NoSuchAlgorithmException e) {
-            throw new RuntimeException("MD5 algorithm not available", e);
+    private static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb93fe1a85a53L;
+        value ^= value >>> 33;
+        return value;
+    }
+
+    /**
+     * Gets the ring of an address list, building it on first use.
+     *
+     * @param addressList the available executor addresses
+     * @return the ring
+     */
+    static HashRing ring(List<String> addressList) {
+        HashRing ring = rings.get(addressList);
+        if (ring != null) {
+            return ring;
+        }
+        if (rings.size() >= MAX_CACHED_RINGS) {
+            rings.clear(); // lists of past registry states
         }
+        List<String> snapshot = List.copyOf(addressList);
+        return rings.computeIfAbsent(snapshot, HashRing::new);
     }
 
     /**
@@ -87,9 +177,9 @@ public class ExecutorRouteConsistentHash extends ExecutorRouter {
      * <p>Algorithm:
      *
      * <ol>
-     *   <li>Build hash ring with virtual nodes for each executor
+     *   <li>Get the cached ring of the address list, or build it
      *   <li>Hash the job ID to find its position
-     *   <li>Find the first virtual node clockwise from that position
+     *   <li>Binary search the first virtual node clockwise from that position
      *   <li>Return the executor owning that virtual node
      * </ol>
      *
@@ -98,30 +188,7 @@ public class ExecutorRouteConsistentHash extends ExecutorRouter {
      * @return the selected executor address
      */
     public String selectExecutorByHash(int jobId, List<String> addressList) {
-        // Build consistent hash ring with virtual nodes
-        var hashRing = new TreeMap<Long, String>();
-
-        for (var address : addressList) {
-            // Create virtual nodes to improve distribution
-            for (int i = 0; i < VIRTUAL_NODE_COUNT; i++) {
-                var virtualNodeKey = "SHARD-" + address + "-NODE-" + i;
-                var virtualNodeHash = computeHash(virtualNodeKey);
-                hashRing.put(virtualNodeHash, address);
-            }
-        }
-
-        // Hash job ID to find position on ring
-        var jobHash = computeHash(String.valueOf(jobId));
-
-        // Find first node clockwise from job position (tailMap returns >= jobHash)
-        SortedMap<Long, String> clockwiseNodes = hashRing.tailMap(jobHash);
-
-        if (!clockwiseNodes.isEmpty()) {
-            return clockwiseNodes.get(clockwiseNodes.firstKey());
-        }
-
-        // Wrap around to beginning of ring
-        return hashRing.firstEntry().getValue();
+        return ring(addressList).locate(jobId);
     }
 
     /**
@@ -1,11 +1,12 @@
 package com.abyss.orth.admin.scheduler.route.strategy;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 import com.abyss.orth.admin.scheduler.config.OrthAdminBootstrap;
 import com.abyss.orth.admin.scheduler.route.ExecutorRouter;
 import com.abyss.orth.admin.util.I18nUtil;
-import com.abyss.orth.core.openapi.ExecutorBiz;
 import com.abyss.orth.core.openapi.model.TriggerRequest;
 import com.xxl.tool.response.Response;
 
@@ -19,8 +20,8 @@ import com.xxl.tool.response.Response;
  * <p>Algorithm:
  *
  * <ol>
- *   <li>Iterate through executor address list in order
- *   <li>Send heartbeat (beat) request to each executor
+ *   <li>Send a heartbeat (beat) request to the first executor in address list order
+ *   <li>If it fails, chain the beat of the next executor
  *   <li>Return the first executor that responds successfully
  *   <li>If all executors fail, return failure with diagnostic information
  * </ol>
@@ -33,9 +34,10 @@ import com.xxl.tool.response.Response;
  *   <li>Jobs that must avoid executing on unhealthy executors
  * </ul>
  *
- * <p><b>Performance consideration:</b> This strategy performs synchronous heartbeat checks on the
- * trigger path, adding latency. It's best used for critical, low-frequency jobs rather than
- * high-throughput scenarios.
+ * <p><b>Performance consideration:</b> This strategy waits for heartbeat checks on the trigger
+ * path. A healthy first executor costs one beat; each dead executor before it adds a failed beat,
+ * and its circuit soon opens so later triggers skip it without a probe. It's best used for
+ * critical, low-frequency jobs rather than high-throughput scenarios.
  *
  * <p>The response message includes detailed diagnostics of all heartbeat attempts, useful for
  * troubleshooting connectivity or executor health issues.
@@ -50,9 +52,9 @@ public class ExecutorRouteFailover extends ExecutorRouter {
     /**
      * Routes to the first healthy executor based on heartbeat checks.
      *
-     * <p>This method probes each executor with a heartbeat request. The first executor to respond
-     * successfully is selected. All heartbeat results are accumulated in the response message for
-     * diagnostic purposes.
+     * <p>This method probes the executors one by one with a heartbeat request. The first executor
+     * to respond successfully is selected. All heartbeat results are accumulated in the response
+     * message for diagnostic purposes.
      *
      * @param triggerParam the trigger request (unused by this strategy)
      * @param addressList the available executor addresses
@@ -62,19 +64,19 @@ public class ExecutorRouteFailover extends ExecutorRouter {
     public Response<String> route(TriggerRequest triggerParam, List<String> addressList) {
         var diagnostics = new StringBuilder();
 
-        for (var address : addressList) {
-            // Send heartbeat to check executor health
-            Response<String> beatResult = sendHeartbeat(address);
+        // Probe the executors in order, the next one only if the previous beat failed
+        Response<String> beatResult =
+                probeInOrder(
+                                addressList,
+                                this::sendHeartbeat,
+                                (address, result) ->
+                                        appendDiagnostics(diagnostics, address, result))
+                        .join();
 
-            // Append diagnostic information
-            appendDiagnostics(diagnostics, address, beatResult);
-
-            // Return immediately if executor is healthy
-            if (beatResult.isSuccess()) {
-                beatResult.setMsg(diagnostics.toString());
-                beatResult.setData(address);
-                return beatResult;
-            }
+        // Return the first healthy executor
+        if (beatResult.isSuccess()) {
+            beatResult.setMsg(diagnostics.toString());
+            return beatResult;
         }
 
         // All executors failed health check
@@ -85,16 +87,26 @@ public class ExecutorRouteFailover extends ExecutorRouter {
      * Sends a heartbeat request to an executor to check health.
      *
      * @param address the executor address
-     * @return the heartbeat response
+     * @return future of the heartbeat response, never completed exceptionally
      */
-    private Response<String> sendHeartbeat(String address) {
+    private CompletableFuture<Response<String>> sendHeartbeat(String address) {
+        CompletableFuture<Response<String>> beat;
         try {
-            ExecutorBiz executorBiz = OrthAdminBootstrap.getExecutorBiz(address);
-            return executorBiz.beat();
+            beat = OrthAdminBootstrap.getAsyncExecutorBiz(address).beatAsync();
         } catch (Exception e) {
-            logger.error("Heartbeat failed for executor {}: {}", address, e.getMessage(), e);
-            return Response.ofFail(e.getMessage());
+            beat = CompletableFuture.failedFuture(e);
         }
+        return beat.exceptionally(
+                e -> {
+                    Throwable cause = e instanceof CompletionException ? e.getCause() : e;
+                    recordProbeFailure(address);
+                    logger.error(
+                            "Heartbeat failed for executor {}: {}",
+                            address,
+                            cause.getMessage(),
+                            cause);
+                    return Response.ofFail(cause.getMessage());
+                });
     }
 
     /**
@@ -0,0 +1,58 @@
+package com.abyss.orth.admin.scheduler.route.strategy;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import com.abyss.orth.admin.scheduler.config.OrthAdminBootstrap;
+import com.abyss.orth.admin.scheduler.route.ExecutorRouter;
+import com.abyss.orth.admin.scheduler.thread.ExecutorLoadHelper;
+import com.abyss.orth.core.openapi.model.TriggerRequest;
+import com.xxl.tool.response.Response;
+
+/**
+ * Least-loaded routing strategy for the Orth scheduler.
+ *
+ * <p>This strategy routes each trigger to the executor with the lowest load, as reported with the
+ * executors' registry heartbeats and kept in memory by {@link ExecutorLoadHelper}. Unlike LFU and
+ * LRU, which only count this admin's past picks for one job, it sees the work each executor has in
+ * hand from all jobs; unlike BUSYOVER, it sends no RPC on the trigger path.
+ *
+ * <p>Algorithm:
+ *
+ * <ol>
+ *   <li>Score each address: queued triggers + running jobs + weighted process CPU, plus the
+ *       triggers sent to it since its last heartbeat
+ *   <li>Return the address with the lowest score, breaking ties at random
+ * </ol>
+ *
+ * <p>Use cases:
+ *
+ * <ul>
+ *   <li>Mixed-duration workloads, where round-robin piles long jobs up on some executors
+ *   <li>Groups of executors with different capacity
+ * </ul>
+ *
+ * <p>Loads are up to one heartbeat old; executors not reporting a load are balanced by the triggers
+ * sent to them. Without a running admin (no load helper), a random address is returned.
+ */
+public class ExecutorRouteLeastLoaded extends ExecutorRouter {
+
+    /**
+     * Routes to the least loaded executor.
+     *
+     * @param triggerParam the trigger request (not used for selection)
+     * @param addressList the available executor addresses
+     * @return the executor address with the lowest load
+     */
+    @Override
+    public Response<String> route(TriggerRequest triggerParam, List<String> addressList) {
+        OrthAdminBootstrap bootstrap = OrthAdminBootstrap.getInstance();
+        ExecutorLoadHelper loadHelper =
+                bootstrap != null ? bootstrap.getExecutorLoadHelper() : null;
+        String address =
+                loadHelper != null
+                        ? loadHelper.selectLeastLoaded(addressList)
+                        : addressList.get(ThreadLocalRandom.current().nextInt(addressList.size()));
+        return Response.ofSuccess(address);
+    }
+}
@@ -0,0 +1,58 @@
+package com.abyss.orth.admin.scheduler.route.strategy;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import com.abyss.orth.admin.scheduler.config.OrthAdminBootstrap;
+import com.abyss.orth.admin.scheduler.route.ExecutorRouter;
+import com.abyss.orth.admin.scheduler.thread.ExecutorInflightHelper;
+import com.abyss.orth.core.openapi.model.TriggerRequest;
+import com.xxl.tool.response.Response;
+
+/**
+ * Power-of-two-choices routing strategy for the Orth scheduler.
+ *
+ * <p>This strategy samples two executors at random and routes to the one with fewer runs in flight,
+ * as counted by this admin with {@link ExecutorInflightHelper} from trigger to callback. RANDOM and
+ * ROUND ignore how long the jobs they sent are still running, so long runs pile up on some
+ * executors; a choice between two is enough to cut the busiest executor's load to close to the
+ * average, and needs no load reports from the executors.
+ *
+ * <p>Algorithm:
+ *
+ * <ol>
+ *   <li>Pick two different addresses at random
+ *   <li>Return the one with fewer runs in flight, the first on a tie
+ * </ol>
+ *
+ * <p>Use cases:
+ *
+ * <ul>
+ *   <li>Mixed-duration workloads, with executors of any version
+ *   <li>High trigger rates: each route reads two striped counters, without locks
+ * </ul>
+ *
+ * <p>Only runs sent by this admin node are counted. Without a running admin (no in-flight helper),
+ * a random address is returned.
+ */
+public class ExecutorRouteTwoChoices extends ExecutorRouter {
+
+    /**
+     * Routes to the less busy of two random executors.
+     *
+     * @param triggerParam the trigger request (not used for selection)
+     * @param addressList the available executor addresses
+     * @return the selected executor address
+     */
+    @Override
+    public Response<String> route(TriggerRequest triggerParam, List<String> addressList) {
+        OrthAdminBootstrap bootstrap = OrthAdminBootstrap.getInstance();
+        ExecutorInflightHelper inflight =
+                bootstrap != null ? bootstrap.getExecutorInflightHelper() : null;
+        String address =
+                inflight != null
+                        ? inflight.selectTwoChoices(addressList)
+                        : addressList.get(ThreadLocalRandom.current().nextInt(addressList.size()));
+        return Response.ofSuccess(address);
+    }
+}
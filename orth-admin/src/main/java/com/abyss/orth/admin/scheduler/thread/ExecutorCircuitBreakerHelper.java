@@ -0,0 +1,317 @@
+package com.abyss.orth.admin.scheduler.thread;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.abyss.orth.admin.scheduler.config.OrthAdminBootstrap;
+import com.xxl.tool.response.Response;
+
+/**
+ * Executor circuit breaker helper, one circuit per executor address.
+ *
+ * <p>Without it every trigger routed to a dead executor waits the full RPC timeout, and the trigger
+ * pool fills up with triggers waiting on the same dead address. Each circuit tracks the outcome of
+ * the last {@value #WINDOW_SIZE} trigger RPCs to its address:
+ *
+ * <ul>
+ *   <li><b>CLOSED</b>: addresses are routed normally. A transport failure (connection refused,
+ *       deadline) or an RPC slower than {@code orth.job.breaker.slow-call-ms} counts as a failure;
+ *       once at least {@value #MIN_CALLS} outcomes are recorded and the failure rate reaches {@code
+ *       orth.job.breaker.failure-rate} percent, the circuit opens
+ *   <li><b>OPEN</b>: every router skips the address at once; no trigger is sent to it
+ *   <li><b>HALF_OPEN</b>: after {@code orth.job.breaker.open-ms} a background probe sends a beat;
+ *       success closes the circuit with a fresh window, failure opens it again. Triggers keep
+ *       skipping the address while the probe is in flight
+ * </ul>
+ *
+ * <p>An executor answering with a failure code (handler not found, job blocked) is alive and counts
+ * as a success: only the executor's reachability is tracked, not the jobs' results.
+ */
+public class ExecutorCircuitBreakerHelper {
+    private static final Logger logger =
+            LoggerFactory.getLogger(ExecutorCircuitBreakerHelper.class);
+
+    /** Outcomes kept per address. */
+    public static final int WINDOW_SIZE = 20;
+
+    /** Outcomes required before a circuit may open. */
+    public static final int MIN_CALLS = 5;
+
+    private static final long PROBE_INTERVAL_MS = 1000; // Open circuit check interval
+
+    /** Circuit state of an executor address. */
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    /** Sends the probe beat to an address. */
+    interface Prober {
+        CompletableFuture<Response<String>> beat(String address) throws Exception;
+    }
+
+    /** Circuit of one address; guarded by its own monitor, state also read without it. */
+    private static class Circuit {
+        final boolean[] failures = new boolean[WINDOW_SIZE];
+        int recorded;
+        int next;
+        int failureCount;
+        volatile State state = State.CLOSED;
+        long openUntil;
+
+        void reset() {
+            recorded = 0;
+            next = 0;
+            failureCount = 0;
+            state = State.CLOSED;
+        }
+    }
+
+    private final ConcurrentMap<String, Circuit> circuits = new ConcurrentHashMap<>();
+    private final AtomicLong tripCount = new AtomicLong();
+    private ScheduledExecutorService probeScheduler;
+    private LongSupplier clock;
+    private Prober prober;
+    private int failureRatePercent;
+    private long slowCallMs;
+    private long openMs;
+
+    /** Starts the breaker and its half-open prober. */
+    public void start() {
+        OrthAdminBootstrap bootstrap = OrthAdminBootstrap.getInstance();
+        init(
+                bootstrap.getBreakerFailureRate(),
+                bootstrap.getBreakerSlowCallMs(),
+                bootstrap.getBreakerOpenMs(),
+                bootstrap.getClock()::currentTimeMillis,
+                address -> OrthAdminBootstrap.getAsyncExecutorBiz(address).beatAsync());
+
+        probeScheduler =
+                Executors.newSingleThreadScheduledExecutor(
+                        r -> {
+                            Thread t =
+                                    new Thread(r, "orth-admin-ExecutorCircuitBreakerHelper-probe");
+                            t.setDaemon(true);
+                            return t;
+                        });
+        probeScheduler.scheduleWithFixedDelay(
+                ScheduledTaskUtil.safeRunnable("circuit-probe", this::probeOpenCircuits),
+                PROBE_INTERVAL_MS,
+                PROBE_INTERVAL_MS,
+                TimeUnit.MILLISECONDS);
+
+        logger.info(
+                ">>>>>>>>>>> orth, executor circuit breaker start, failureRate={}%, slowCallMs={}, openMs={}",
+                failureRatePercent, slowCallMs, openMs);
+    }
+
+    /**
+     * Sets limits, time source and prober, without starting the prober thread.
+     *
+     * @param failureRatePercent failure rate opening a circuit, in percent
+     * @param slowCallMs RPC latency counted as a failure
+     * @param openMs time an open circuit waits before its probe
+     * @param clock time source in milliseconds
+     * @param prober sends the probe beat
+     */
+    void init(
+            int failureRatePercent,
+            long slowCallMs,
+            long openMs,
+            LongSupplier clock,
+            Prober prober) {
+        this.failureRatePercent = failureRatePercent;
+        this.slowCallMs = slowCallMs;
+        this.openMs = openMs;
+        this.clock = clock;
+        this.prober = prober;
+    }
+
+    /** Stops the half-open prober. */
+    public void stop() {
+        if (probeScheduler != null) {
+            probeScheduler.shutdownNow();
+        }
+        logger.info(">>>>>>>>>>> orth, ExecutorCircuitBreakerHelper stop");
+    }
+
+    /**
+     * Whether triggers may be sent to an address.
+     *
+     * @param address executor address
+     * @return false while the address's circuit is open or half-open
+     */
+    public boolean allowRequest(String address) {
+        Circuit circuit = circuits.get(address);
+        return circuit == null || circuit.state == State.CLOSED;
+    }
+
+    /**
+     * Filters out the addresses whose circuit is not closed.
+     *
+     * @param addressList executor addresses
+     * @return the same list if every circuit is closed, otherwise a new list of routable addresses
+     *     in the same order (possibly empty)
+     */
+    public List<String> filterAvailable(List<String> addressList) {
+        List<String> available = null;
+        for (int i = 0; i < addressList.size(); i++) {
+            String address = addressList.get(i);
+            if (allowRequest(address)) {
+                if (available != null) {
+                    available.add(address);
+                }
+            } else if (available == null) {
+                available = new ArrayList<>(addressList.subList(0, i));
+            }
+        }
+        return available != null ? available : addressList;
+    }
+
+    /**
+     * Records a trigger RPC the executor answered.
+     *
+     * @param address executor address
+     * @param latencyMs time from send to answer
+     */
+    public void recordSuccess(String address, long latencyMs) {
+        record(address, latencyMs >= slowCallMs);
+    }
+
+    /**
+     * Records a trigger RPC that failed in transport (connection refused, deadline).
+     *
+     * @param address executor address
+     */
+    public void recordFailure(String address) {
+        record(address, true);
+    }
+
+    private void record(String address, boolean failure) {
+        Circuit circuit = circuits.computeIfAbsent(address, k -> new Circuit());
+        synchronized (circuit) {
+            if (circuit.state != State.CLOSED) {
+                return; // answers of RPCs sent before the circuit opened
+            }
+            if (circuit.recorded == WINDOW_SIZE && circuit.failures[circuit.next]) {
+                circuit.failureCount--;
+            }
+            circuit.failures[circuit.next] = failure;
+            circuit.next = (circuit.next + 1) % WINDOW_SIZE;
+            circuit.recorded = Math.min(circuit.recorded + 1, WINDOW_SIZE);
+            if (failure) {
+                circuit.failureCount++;
+            }
+
+            if (circuit.recorded >= MIN_CALLS
+                    && circuit.failureCount * 100 >= failureRatePercent * circuit.recorded) {
+                circuit.state = State.OPEN;
+                circuit.openUntil = clock.getAsLong() + openMs;
+                tripCount.incrementAndGet();
+                logger.warn(
+                        ">>>>>>>>>>> orth, executor circuit open, address={}, failures={}/{}",
+                        address,
+                        circuit.failureCount,
+                        circuit.recorded);
+            }
+        }
+    }
+
+    /** Probes the open circuits whose wait is over. */
+    void probeOpenCircuits() {
+        long now = clock.getAsLong();
+        for (var entry : circuits.entrySet()) {
+            String address = entry.getKey();
+            Circuit circuit = entry.getValue();
+            synchronized (circuit) {
+                if (circuit.state != State.OPEN || now < circuit.openUntil) {
+                    continue;
+                }
+                circuit.state = State.HALF_OPEN;
+            }
+
+            CompletableFuture<Response<String>> beat;
+            try {
+                beat = prober.beat(address);
+            } catch (Exception e) {
+                beat = CompletableFuture.failedFuture(e);
+            }
+            beat.whenComplete(
+                    (beatResult, e) ->
+                            completeProbe(
+                                    address,
+                                    circuit,
+                                    e == null && beatResult != null && beatResult.isSuccess()));
+        }
+    }
+
+    private void completeProbe(String address, Circuit circuit, boolean healthy) {
+        synchronized (circuit) {
+            if (healthy) {
+                circuit.reset();
+                logger.info(">>>>>>>>>>> orth, executor circuit closed, address={}", address);
+            } else {
+                circuit.state = State.OPEN;
+                circuit.openUntil = clock.getAsLong() + openMs;
+            }
+        }
+    }
+
+    /**
+     * Drops the circuits of addresses no longer in use, so the map follows the executors instead of
+     * growing with every address ever tried.
+     *
+     * @param addresses executor addresses still registered or configured
+     */
+    public void retainAddresses(Collection<String> addresses) {
+        circuits.keySet().retainAll(addresses);
+    }
+
+    /**
+     * Gets the circuit state of an address.
+     *
+     * @param address executor address
+     * @return circuit state; CLOSED for addresses without recorded RPCs
+     */
+    public State getState(String address) {
+        Circuit circuit = circuits.get(address);
+        return circuit != null ? circuit.state : State.CLOSED;
+    }
+
+    /**
+     * Number of addresses whose circuit is open or half-open.
+     *
+     * @return open circuit count
+     */
+    public int getOpenCount() {
+        int open = 0;
+        for (Circuit circuit : circuits.values()) {
+            if (circuit.state != State.CLOSED) {
+                open++;
+            }
+        }
+        return open;
+    }
+
+    /**
+     * Number of times a circuit opened.
+     *
+     * @return trip count
+     */
+    public long getTripCount() {
+        return tripCount.get();
+    }
+}
@@ -0,0 +1,219 @@
+package com.abyss.orth.admin.scheduler.thread;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.abyss.orth.admin.scheduler.config.OrthAdminBootstrap;
+
+/**
+ * Executor in-flight helper, counting per executor address the runs this admin node sent that have
+ * not reported back yet, for the {@code TWO_CHOICES} routing strategy.
+ *
+ * <p>A run is counted from its trigger RPC until its callback, so the count covers both the RPC in
+ * flight and the job running on the executor; it needs nothing from the executors:
+ *
+ * <ul>
+ *   <li><b>Dispatch</b>: counted when the run RPC is sent, uncounted again if the executor does not
+ *       accept it
+ *   <li><b>Completion</b>: uncounted on the run's callback or when the lost-result monitor fails it
+ *   <li><b>Reconcile</b>: a callback may reach another admin node. Every {@value
+ *       #RECONCILE_INTERVAL_MS} ms, runs counted for longer than that are looked up in {@code
+ *       orth_job_log} and uncounted once handled there
+ * </ul>
+ *
+ * <p>Counters are {@link LongAdder}s, striped across cells so that concurrent triggers to the same
+ * executor do not contend on one CAS; routing reads two of them, without locks or allocation.
+ * Virtually sharded runs are not counted: all their workers share one log ID.
+ */
+public class ExecutorInflightHelper {
+    private static final Logger logger = LoggerFactory.getLogger(ExecutorInflightHelper.class);
+
+    /** Interval of the reconcile pass, and minimum age of the runs it looks up. */
+    public static final long RECONCILE_INTERVAL_MS = 30_000;
+
+    private static final int RECONCILE_BATCH_SIZE = 500;
+
+    /** Finds which of some logs are still waiting for their result. */
+    interface LogStatus {
+        List<Long> findRunning(List<Long> logIds);
+    }
+
+    /** A counted run: the counter it was added to, so it is uncounted there. */
+    private static final class Dispatch {
+        final LongAdder counter;
+        final long sentTime;
+
+        Dispatch(LongAdder counter, long sentTime) {
+            this.counter = counter;
+            this.sentTime = sentTime;
+        }
+    }
+
+    private final ConcurrentMap<String, LongAdder> counters = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Long, Dispatch> dispatches = new ConcurrentHashMap<>();
+    private ScheduledExecutorService reconcileScheduler;
+    private LogStatus logStatus;
+    private LongSupplier clock;
+
+    /** Starts the helper and its reconcile pass. */
+    public void start() {
+        OrthAdminBootstrap bootstrap = OrthAdminBootstrap.getInstance();
+        init(
+                logIds -> bootstrap.getJobLogMapper().findRunningLogIds(logIds),
+                bootstrap.getClock()::currentTimeMillis);
+
+        reconcileScheduler =
+                Executors.newSingleThreadScheduledExecutor(
+                        r -> {
+                            Thread t = new Thread(r, "orth-admin-ExecutorInflightHelper-reconcile");
+                            t.setDaemon(true);
+                            return t;
+                        });
+        reconcileScheduler.scheduleWithFixedDelay(
+                ScheduledTaskUtil.safeRunnable("inflight-reconcile", this::reconcile),
+                RECONCILE_INTERVAL_MS,
+                RECONCILE_INTERVAL_MS,
+                TimeUnit.MILLISECONDS);
+
+        logger.info(">>>>>>>>>>> orth, executor in-flight helper start");
+    }
+
+    /**
+     * Sets the log lookup and time source, without starting the reconcile thread.
+     *
+     * @param logStatus finds the logs still waiting for their result
+     * @param clock time source in milliseconds
+     */
+    void init(LogStatus logStatus, LongSupplier clock) {
+        this.logStatus = logStatus;
+        this.clock = clock;
+    }
+
+    public void stop() {
+        if (reconcileScheduler != null) {
+            reconcileScheduler.shutdownNow();
+        }
+        logger.info(">>>>>>>>>>> orth, ExecutorInflightHelper stop");
+    }
+
+    /**
+     * Counts a run sent to an executor.
+     *
+     * @param logId log ID of the run
+     * @param address executor address
+     */
+    public void dispatched(long logId, String address) {
+        LongAdder counter = counters.computeIfAbsent(address, key -> new LongAdder());
+        if (dispatches.putIfAbsent(logId, new Dispatch(counter, clock.getAsLong())) == null) {
+            counter.increment();
+        }
+    }
+
+    /**
+     * Uncounts a run: not accepted, reported back or lost. Runs not counted by this node are
+     * ignored, so it may be called more than once.
+     *
+     * @param logId log ID of the run
+     */
+    public void completed(long logId) {
+        Dispatch dispatch = dispatches.remove(logId);
+        if (dispatch != null) {
+            dispatch.counter.decrement();
+        }
+    }
+
+    /**
+     * Gets the runs in flight to an executor.
+     *
+     * @param address executor address
+     * @return runs sent by this node and not reported back
+     */
+    public long getInflight(String address) {
+        LongAdder counter = counters.get(address);
+        return counter != null ? counter.sum() : 0;
+    }
+
+    /** Runs in flight to all executors. */
+    public int getInflightCount() {
+        return dispatches.size();
+    }
+
+    /**
+     * Picks two different addresses at random and returns the one with fewer runs in flight.
+     *
+     * <p>Sampling two instead of scanning all keeps each route O(1), and unlike the least loaded of
+     * all it does not send a burst of triggers, routed before their RPCs are counted, to the same
+     * executor.
+     *
+     * @param addressList available executor addresses, not empty
+     * @return selected address
+     */
+    public String selectTwoChoices(List<String> addressList) {
+        int size = addressList.size();
+        if (size == 1) {
+            return addressList.get(0);
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(size);
+        int second = random.nextInt(size - 1);
+        if (second >= first) {
+            second++;
+        }
+        String firstAddress = addressList.get(first);
+        String secondAddress = addressList.get(second);
+        return getInflight(secondAddress) < getInflight(firstAddress)
+                ? secondAddress
+                : firstAddress;
+    }
+
+    /**
+     * Uncounts the runs counted for longer than the reconcile interval whose log is no longer
+     * waiting for a result, then drops the counters of addresses with nothing in flight.
+     */
+    void reconcile() {
+        long before = clock.getAsLong() - RECONCILE_INTERVAL_MS;
+        List<Long> candidates = new ArrayList<>();
+        for (Map.Entry<Long, Dispatch> entry : dispatches.entrySet()) {
+            if (entry.getValue().sentTime <= before) {
+                candidates.add(entry.getKey());
+            }
+        }
+
+        int reconciled = 0;
+        for (int from = 0; from < candidates.size(); from += RECONCILE_BATCH_SIZE) {
+            List<Long> batch =
+                    candidates.subList(
+                            from, Math.min(from + RECONCILE_BATCH_SIZE, candidates.size()));
+            Set<Long> running = new HashSet<>(logStatus.findRunning(batch));
+            for (Long logId : batch) {
+                if (!running.contains(logId)) {
+                    completed(logId);
+                    reconciled++;
+                }
+            }
+        }
+
+        // A run counted concurrently on a dropped counter is uncounted there, unseen by routing
+        counters.values().removeIf(counter -> counter.sum() == 0);
+
+        if (reconciled > 0) {
+            logger.debug(
+                    ">>>>>>>>>>> orth, in-flight runs reported back to other nodes: {}",
+                    reconciled);
+        }
+    }
+}
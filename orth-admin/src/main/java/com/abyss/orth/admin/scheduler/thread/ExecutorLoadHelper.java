@@ -0,0 +1,191 @@
+package com.abyss.orth.admin.scheduler.thread;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.abyss.orth.admin.model.JobRegistry;
+import com.abyss.orth.core.constant.Const;
+import com.abyss.orth.core.constant.RegistType;
+import com.abyss.orth.core.openapi.model.ExecutorLoad;
+
+/**
+ * Executor load helper, keeping the last load each executor reported in memory for the {@code
+ * LEAST_LOADED} routing strategy.
+ *
+ * <p>Executors send their load (job threads, queued triggers, running jobs, process CPU) with every
+ * registry heartbeat. A heartbeat reaches one admin node, which records the load at once and writes
+ * it to {@code orth_job_registry}; every node picks up the loads of all heartbeats with its
+ * registry monitor cycle. Routing reads memory only, so it takes no RPC on the trigger path:
+ *
+ * <ul>
+ *   <li><b>Score</b>: queued triggers + running jobs + {@value #CPU_WEIGHT} x process CPU, plus the
+ *       triggers this node sent the executor since its last heartbeat, so a burst of triggers
+ *       between two heartbeats does not all go to the same executor
+ *   <li><b>Selection</b>: the address with the lowest score; ties are broken at random
+ *   <li><b>Unknown load</b>: executors not reporting a load (older versions) or whose last load is
+ *       older than the dead timeout score by the triggers sent to them only
+ * </ul>
+ */
+public class ExecutorLoadHelper {
+    private static final Logger logger = LoggerFactory.getLogger(ExecutorLoadHelper.class);
+
+    /** Weight of a fully busy process CPU, in queued triggers. */
+    public static final double CPU_WEIGHT = 4;
+
+    /** Last load of one executor, and the triggers sent to it since. */
+    private static final class Entry {
+        final ExecutorLoad load; // null if never reported
+        final long reportTime;
+        final AtomicInteger sentSince = new AtomicInteger();
+
+        Entry(ExecutorLoad load, long reportTime) {
+            this.load = load;
+            this.reportTime = reportTime;
+        }
+    }
+
+    private final ConcurrentMap<String, Entry> entries = new ConcurrentHashMap<>();
+    private LongSupplier clock;
+    private long staleMs;
+
+    /** Starts with the registry's dead timeout as load lifetime. */
+    public void start() {
+        init(Const.DEAD_TIMEOUT * 1000L, System::currentTimeMillis);
+        logger.info(">>>>>>>>>>> orth, executor load helper start, staleMs={}", staleMs);
+    }
+
+    /**
+     * Starts with explicit settings.
+     *
+     * @param staleMs age after which a reported load is no longer used
+     * @param clock time source in milliseconds, the one heartbeat times are recorded with
+     */
+    void init(long staleMs, LongSupplier clock) {
+        this.staleMs = staleMs;
+        this.clock = clock;
+    }
+
+    /**
+     * Records the load of a heartbeat received by this node.
+     *
+     * @param address executor address
+     * @param load reported load; ignored if null
+     * @param reportTime heartbeat time, as written to the registry row
+     */
+    public void report(String address, ExecutorLoad load, long reportTime) {
+        if (load == null) {
+            return;
+        }
+        entries.merge(
+                address,
+                new Entry(load, reportTime),
+                (current, reported) -> current.reportTime < reportTime ? reported : current);
+    }
+
+    /**
+     * Takes the loads of the live registry rows, written by the heartbeats any node received, and
+     * forgets executors no longer registered.
+     *
+     * @param registryList live registry rows
+     */
+    public void refresh(List<JobRegistry> registryList) {
+        Set<String> live = new HashSet<>();
+        for (JobRegistry registry : registryList) {
+            if (!RegistType.EXECUTOR.name().equals(registry.getRegistryGroup())) {
+                continue;
+            }
+            live.add(registry.getRegistryValue());
+            if (registry.getJobThreads() < 0 || registry.getUpdateTime() == null) {
+                continue; // load not reported
+            }
+            report(
+                    registry.getRegistryValue(),
+                    new ExecutorLoad(
+                            registry.getJobThreads(),
+                            registry.getQueuedTriggers(),
+                            registry.getRunningWorkers(),
+                            registry.getCpuLoad()),
+                    registry.getUpdateTime().getTime());
+        }
+        entries.keySet().retainAll(live);
+    }
+
+    /**
+     * Picks the least loaded executor and counts the trigger sent to it.
+     *
+     * @param addressList available executor addresses, not empty
+     * @return selected address
+     */
+    public String selectLeastLoaded(List<String> addressList) {
+        long now = clock.getAsLong();
+        String selected = null;
+        Entry selectedEntry = null;
+        double best = Double.MAX_VALUE;
+        int ties = 0;
+        for (String address : addressList) {
+            Entry entry = entries.computeIfAbsent(address, key -> new Entry(null, 0));
+            double score = score(entry, now);
+            if (score < best) {
+                best = score;
+                selected = address;
+                selectedEntry = entry;
+                ties = 1;
+            } else if (score == best && ThreadLocalRandom.current().nextInt(++ties) == 0) {
+                selected = address;
+                selectedEntry = entry;
+            }
+        }
+        if (selectedEntry != null) {
+            selectedEntry.sentSince.incrementAndGet();
+        }
+        return selected;
+    }
+
+    /**
+     * Gets the last load an executor reported.
+     *
+     * @param address executor address
+     * @return the load, or null if not reported or stale
+     */
+    public ExecutorLoad getLoad(String address) {
+        Entry entry = entries.get(address);
+        return entry != null && isFresh(entry, clock.getAsLong()) ? entry.load : null;
+    }
+
+    /** Executors with a fresh reported load. */
+    public int getReportedCount() {
+        long now = clock.getAsLong();
+        int count = 0;
+        for (Entry entry : entries.values()) {
+            if (isFresh(entry, now)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private double score(Entry entry, long now) {
+        double score = entry.sentSince.get();
+        if (isFresh(entry, now)) {
+            ExecutorLoad load = entry.load;
+            score +=
+                    load.getQueuedTriggers()
+                            + load.getRunningWorkers()
+                            + CPU_WEIGHT * Math.max(0, load.getProcessCpu());
+        }
+        return score;
+    }
+
+    private boolean isFresh(Entry entry, long now) {
+        return entry.load != null && now - entry.reportTime <= staleMs;
+    }
+}
@@ -105,7 +105,7 @@ public class JobCompleteHelper {
                             return t;
                         });
         monitorScheduler.scheduleWithFixedDelay(
-                safeRunnable("lost-result-monitor", this::processLostJobs),
+                ScheduledTaskUtil.safeRunnable("lost-result-monitor", this::processLostJobs),
                 STARTUP_DELAY_MS,
                 MONITOR_INTERVAL_SECONDS * 1000,
                 TimeUnit.MILLISECONDS);
@@ -118,7 +118,8 @@ public class JobCompleteHelper {
      * and marks them as failed.
      */
     private void processLostJobs() {
-        Date lostJobThreshold = DateTool.addMinutes(new Date(), LOST_JOB_TIMEOUT_MINUTES);
+        Date now = new Date(OrthAdminBootstrap.getInstance().getClock().currentTimeMillis());
+        Date lostJobThreshold = DateTool.addMinutes(now, LOST_JOB_TIMEOUT_MINUTES);
         List<Long> lostJobIds =
                 OrthAdminBootstrap.getInstance().getJobLogMapper().findLostJobIds(lostJobThreshold);
 
@@ -129,9 +130,11 @@ public class JobCompleteHelper {
                                 ids.stream()
                                         .forEach(
                                                 logId -> {
+                                                    completeInflight(logId);
+
                                                     JobLog failedLog = new JobLog();
                                                     failedLog.setId(logId);
-                                                    failedLog.setHandleTime(new Date());
+                                                    failedLog.setHandleTime(now);
                                                     failedLog.setHandleCode(
                                                             OrthJobContext.HANDLE_CODE_FAIL);
                                                     failedLog.setHandleMsg(
@@ -170,20 +173,6 @@ public class JobCompleteHelper {
         logger.info(">>>>>>>>>>> orth, lost result monitor stopped");
     }
 
-    /**
-     * Wraps a runnable to catch and log exceptions, preventing {@link ScheduledExecutorService}
-     * from silently cancelling future executions on uncaught exceptions.
-     */
-    private static Runnable safeRunnable(String taskName, Runnable task) {
-        return () -> {
-            try {
-                task.run();
-            } catch (Throwable e) {
-                logger.error("Scheduled task '{}' threw exception", taskName, e);
-            }
-        };
-    }
-
     // ---------------------- callback processing ----------------------
 
     /**
@@ -225,6 +214,9 @@ public class JobCompleteHelper {
      * @return success if processed, failure if log not found or duplicate callback detected
      */
     private Response<String> doCallback(CallbackRequest callbackRequest) {
+        // The run is no longer in flight, whatever becomes of its log
+        completeInflight(callbackRequest.getLogId());
+
         // Load and validate job log
         JobLog log =
                 OrthAdminBootstrap.getInstance().getJobLogMapper().load(callbackRequest.getLogId());
@@ -238,12 +230,24 @@ public class JobCompleteHelper {
             return Response.ofFail("Duplicate callback detected, ignoring");
         }
 
+        // Virtually sharded runs complete with their last shard, see JobShardHelper
+        if (JobShardHelper.isVirtualShardRun(log)) {
+            if (callbackRequest.getHandleCode() != OrthJobContext.HANDLE_CODE_SUCCESS) {
+                logger.warn(
+                        ">>>>>>>>>>> orth, virtual shard worker failed, logId={}, msg={}",
+                        log.getId(),
+                        callbackRequest.getHandleMsg());
+            }
+            return Response.ofSuccess();
+        }
+
         // Build consolidated handle message
         String consolidatedMsg =
                 buildConsolidatedMessage(log.getHandleMsg(), callbackRequest.getHandleMsg());
 
         // Update log and trigger completion logic
-        log.setHandleTime(new Date());
+        log.setHandleTime(
+                new Date(OrthAdminBootstrap.getInstance().getClock().currentTimeMillis()));
         log.setHandleCode(callbackRequest.getHandleCode());
         log.setHandleMsg(consolidatedMsg);
         OrthAdminBootstrap.getInstance().getJobCompleter().complete(log);
@@ -251,6 +255,19 @@ public class JobCompleteHelper {
         return Response.ofSuccess();
     }
 
+    /**
+     * Uncounts a run from its executor's in-flight runs, if this node sent it.
+     *
+     * @param logId log ID of the run
+     */
+    private void completeInflight(long logId) {
+        ExecutorInflightHelper inflight =
+                OrthAdminBootstrap.getInstance().getExecutorInflightHelper();
+        if (inflight != null) {
+            inflight.completed(logId);
+        }
+    }
+
     /**
      * Builds consolidated handle message by appending new message to existing message.
      *
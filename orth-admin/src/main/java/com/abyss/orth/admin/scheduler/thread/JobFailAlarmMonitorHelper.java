@@ -11,8 +11,8 @@ import org.slf4j.LoggerFactory;
 import com.abyss.orth.admin.model.JobInfo;
 import com.abyss.orth.admin.model.JobLog;
 import com.abyss.orth.admin.scheduler.config.OrthAdminBootstrap;
+import com.abyss.orth.admin.scheduler.trigger.TriggerDiagnostics;
 import com.abyss.orth.admin.scheduler.trigger.TriggerTypeEnum;
-import com.abyss.orth.admin.util.I18nUtil;
 
 /**
  * Job failure alarm and retry monitor.
@@ -89,7 +89,7 @@ public class JobFailAlarmMonitorHelper {
                             return t;
                         });
         monitorScheduler.scheduleWithFixedDelay(
-                safeRunnable("JobFailAlarmMonitor", this::processScanCycle),
+                ScheduledTaskUtil.safeRunnable("JobFailAlarmMonitor", this::processScanCycle),
                 0,
                 SCAN_INTERVAL_SECONDS,
                 TimeUnit.SECONDS);
@@ -278,16 +278,12 @@ public class JobFailAlarmMonitorHelper {
     }
 
     /**
-     * Appends retry marker to trigger message.
+     * Appends retry marker to trigger message, rendered when the log is read.
      *
      * @param log the failed job log
      */
     private void appendRetryMessage(JobLog log) {
-        String retryMsg =
-                "<br><br><span style=\"color:#00c0ef;\"> >>>>>>>>>>>"
-                        + I18nUtil.getString("jobconf_trigger_type_retry")
-                        + "<<<<<<<<<<< </span><br>";
-        log.setTriggerMsg(log.getTriggerMsg() + retryMsg);
+        log.setTriggerMsg(TriggerDiagnostics.markRetried(log.getTriggerMsg()));
     }
 
     /**
@@ -348,17 +344,4 @@ public class JobFailAlarmMonitorHelper {
 
     // ---------------------- Utility ----------------------
 
-    /**
-     * Wraps a runnable to catch and log exceptions, preventing {@link ScheduledExecutorService}
-     * from silently cancelling future executions on uncaught exceptions.
-     */
-    private static Runnable safeRunnable(String taskName, Runnable task) {
-        return () -> {
-            try {
-                task.run();
-            } catch (Throwable e) {
-                logger.error("Scheduled task '{}' threw exception", taskName, e);
-            }
-        };
-    }
 }
@@ -0,0 +1,307 @@
+package com.abyss.orth.admin.scheduler.thread;
+
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.IntSupplier;
+import java.util.function.LongSupplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.abyss.orth.admin.model.JobGroup;
+import com.abyss.orth.admin.scheduler.config.OrthAdminBootstrap;
+
+/**
+ * Executor group rate limit helper, pacing the trigger RPCs sent to each executor group.
+ *
+ * <p>A misfire recovery or a large {@code triggerBatch} can send thousands of {@code /run} calls to
+ * one group within a second, more than its executors' biz pools take. Each group with a {@code
+ * trigger_rate} gets a token bucket on every admin node, holding that node's share of the limit:
+ *
+ * <ul>
+ *   <li><b>Rate</b>: {@code trigger_rate} tokens per second split evenly over the live admin nodes;
+ *       each trigger RPC (each shard of a broadcast) takes one
+ *   <li><b>Burst</b>: the bucket holds up to {@code trigger_burst} tokens (default: one second of
+ *       rate), likewise split and at least one, so a group idle for a while takes a short burst at
+ *       once
+ *   <li><b>Queueing</b>: a trigger finding the bucket empty reserves the next free token and is
+ *       dispatched when it accrues, in arrival order, without holding a trigger pool thread
+ *   <li><b>Backlog limit</b>: with {@code orth.job.group.ratelimit.max-queued} triggers already
+ *       waiting, a trigger fails at once instead of queueing further
+ * </ul>
+ *
+ * <p>Groups without a rate are not limited and take no bucket. Triggers still waiting when the
+ * helper stops fail, so their jobs' retry and alarm settings apply.
+ */
+public class JobGroupRateLimitHelper {
+    private static final Logger logger = LoggerFactory.getLogger(JobGroupRateLimitHelper.class);
+
+    private static final int DISPATCH_THREADS = 4;
+    private static final double NANOS_PER_SECOND = 1_000_000_000d;
+
+    private final ConcurrentMap<Integer, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final Set<Pending<?>> pending = ConcurrentHashMap.newKeySet();
+    private final AtomicLong delayedCount = new AtomicLong();
+    private final AtomicLong rejectedCount = new AtomicLong();
+    private ScheduledExecutorService dispatcher;
+    private IntSupplier nodeCount;
+    private LongSupplier nanoClock;
+    private int maxQueued;
+
+    /** Starts the dispatch threads. */
+    public void start() {
+        AtomicInteger threadIndex = new AtomicInteger();
+        OrthAdminBootstrap bootstrap = OrthAdminBootstrap.getInstance();
+        init(
+                bootstrap.getGroupRateLimitMaxQueued(),
+                () -> {
+                    JobSchedulePartitionHelper partitions =
+                            bootstrap.getJobSchedulePartitionHelper();
+                    return partitions != null ? partitions.getLiveAdminCount() : 1;
+                },
+                bootstrap.getClock()::nanoTime,
+                Executors.newScheduledThreadPool(
+                        DISPATCH_THREADS,
+                        r -> {
+                            Thread t =
+                                    new Thread(
+                                            r,
+                                            "orth-admin-JobGroupRateLimitHelper-dispatch-"
+                                                    + threadIndex.incrementAndGet());
+                            t.setDaemon(true);
+                            return t;
+                        }));
+    }
+
+    /**
+     * Starts with explicit settings.
+     *
+     * @param maxQueued max triggers waiting for a token per group
+     * @param nodeCount live admin nodes sharing each group's limit
+     * @param nanoClock monotonic clock, in nanoseconds
+     * @param dispatcher runs queued triggers once their token accrues
+     */
+    void init(
+            int maxQueued,
+            IntSupplier nodeCount,
+            LongSupplier nanoClock,
+            ScheduledExecutorService dispatcher) {
+        this.maxQueued = maxQueued;
+        this.nodeCount = nodeCount;
+        this.nanoClock = nanoClock;
+        this.dispatcher = dispatcher;
+        logger.info(
+                ">>>>>>>>>>> orth, group rate limit helper start, maxQueued={}, dispatchThreads={}",
+                maxQueued,
+                DISPATCH_THREADS);
+    }
+
+    /** Stops the dispatch threads; triggers still waiting for a token fail. */
+    public void stop() {
+        if (dispatcher != null) {
+            dispatcher.shutdownNow();
+        }
+        for (Pending<?> waiting : pending) {
+            waiting.run(false);
+        }
+        logger.info(">>>>>>>>>>> orth, group rate limit helper stop");
+    }
+
+    /**
+     * Runs a trigger RPC of a group once the group's bucket has a token: at once on the calling
+     * thread if it has one, otherwise on a dispatch thread when the reserved token accrues.
+     *
+     * @param group executor group, with its rate and burst
+     * @param task sends the trigger; called with true if admitted, false if the group's backlog is
+     *     full (the trigger must then fail without an RPC)
+     * @return future of the task's result
+     */
+    public <T> CompletableFuture<T> submit(
+            JobGroup group, Function<Boolean, CompletableFuture<T>> task) {
+        if (group.getTriggerRate() <= 0) {
+            buckets.remove(group.getId());
+            return task.apply(true);
+        }
+
+        // this node's share of the group's limit
+        int nodes = Math.max(1, nodeCount.getAsInt());
+        int burst = group.getTriggerBurst() > 0 ? group.getTriggerBurst() : group.getTriggerRate();
+        double nodeRate = (double) group.getTriggerRate() / nodes;
+        double nodeBurst = Math.max(1, (double) burst / nodes);
+
+        TokenBucket bucket = buckets.computeIfAbsent(group.getId(), id -> new TokenBucket());
+        long waitNanos = bucket.reserve(nodeRate, nodeBurst, maxQueued, nanoClock);
+        if (waitNanos == 0) {
+            return task.apply(true);
+        }
+        if (waitNanos < 0) {
+            rejectedCount.incrementAndGet();
+            logger.warn(
+                    ">>>>>>>>>>> orth, group rate limit backlog full, trigger not sent, group={}",
+                    group.getAppname());
+            return task.apply(false);
+        }
+
+        delayedCount.incrementAndGet();
+        Pending<T> waiting = new Pending<>(task);
+        pending.add(waiting);
+        try {
+            dispatcher.schedule(() -> waiting.run(true), waitNanos, TimeUnit.NANOSECONDS);
+        } catch (RejectedExecutionException e) {
+            waiting.run(false); // stopping
+        }
+        return waiting.result;
+    }
+
+    /**
+     * Highest utilization of the group buckets: the share of its burst a bucket has handed out, 1
+     * once triggers queue for tokens.
+     *
+     * @return utilization in [0, 1]
+     */
+    public double getUtilization() {
+        double max = 0;
+        for (TokenBucket bucket : buckets.values()) {
+            max = Math.max(max, bucket.utilization(nanoClock));
+        }
+        return max;
+    }
+
+    /**
+     * Utilization of one group's bucket; see {@link #getUtilization()}.
+     *
+     * @param groupId executor group ID
+     * @return utilization in [0, 1]; 0 for groups without a rate
+     */
+    public double getUtilization(int groupId) {
+        TokenBucket bucket = buckets.get(groupId);
+        return bucket != null ? bucket.utilization(nanoClock) : 0;
+    }
+
+    /** Triggers waiting for a token, over all groups. */
+    public int getQueuedCount() {
+        return pending.size();
+    }
+
+    /** Groups with a rate that sent triggers since start. */
+    public int getLimitedGroupCount() {
+        return buckets.size();
+    }
+
+    /** Triggers that waited for a token. */
+    public long getDelayedCount() {
+        return delayedCount.get();
+    }
+
+    /** Triggers failed because their group's backlog was full. */
+    public long getRejectedCount() {
+        return rejectedCount.get();
+    }
+
+    /** A trigger waiting for its token; run exactly once, by its dispatch or by {@link #stop()}. */
+    private class Pending<T> {
+        final Function<Boolean, CompletableFuture<T>> task;
+        final CompletableFuture<T> result = new CompletableFuture<>();
+        final AtomicBoolean done = new AtomicBoolean();
+
+        Pending(Function<Boolean, CompletableFuture<T>> task) {
+            this.task = task;
+        }
+
+        void run(boolean admitted) {
+            if (!done.compareAndSet(false, true)) {
+                return;
+            }
+            pending.remove(this);
+            try {
+                task.apply(admitted)
+                        .whenComplete(
+                                (value, e) -> {
+                                    if (e != null) {
+                                        result.completeExceptionally(e);
+                                    } else {
+                                        result.complete(value);
+                                    }
+                                });
+            } catch (Throwable e) {
+                logger.error(e.getMessage(), e);
+                result.completeExceptionally(e);
+            }
+        }
+    }
+
+    /**
+     * Token bucket of one group. Tokens go negative while triggers queue: a balance of {@code -n}
+     * means {@code n} reserved tokens have not accrued yet.
+     */
+    static final class TokenBucket {
+        private double rate;
+        private double burst;
+        private double tokens;
+        private long lastNanos;
+        private boolean started;
+
+        /**
+         * Takes a token, or reserves the next free one.
+         *
+         * @param rate tokens per second, above 0
+         * @param burst bucket size; 0 or less for one second of rate
+         * @param maxQueued max reserved tokens not accrued yet
+         * @param nanoClock monotonic clock, in nanoseconds
+         * @return 0 if a token was taken, the wait in nanoseconds for a reserved token, or -1 if
+         *     the backlog is full and nothing was taken
+         */
+        synchronized long reserve(
+                double rate, double burst, int maxQueued, LongSupplier nanoClock) {
+            configure(rate, burst, nanoClock.getAsLong());
+            if (tokens - 1 < -maxQueued) {
+                return -1;
+            }
+            tokens -= 1;
+            if (tokens >= 0) {
+                return 0;
+            }
+            return (long) Math.ceil(-tokens * NANOS_PER_SECOND / this.rate);
+        }
+
+        /** Share of the burst handed out, 1 while triggers queue. */
+        synchronized double utilization(LongSupplier nanoClock) {
+            if (!started) {
+                return 0;
+            }
+            refill(nanoClock.getAsLong());
+            return Math.max(0, Math.min(1, 1 - tokens / burst));
+        }
+
+        private void configure(double rate, double burst, long now) {
+            double effectiveBurst = burst > 0 ? burst : rate;
+            if (!started) {
+                started = true;
+                tokens = effectiveBurst; // an idle group starts with a full bucket
+                lastNanos = now;
+            } else {
+                refill(now);
+            }
+            this.rate = rate;
+            this.burst = effectiveBurst;
+            tokens = Math.min(tokens, effectiveBurst); // shrunk burst: drop the excess
+        }
+
+        private void refill(long now) {
+            if (now > lastNanos) {
+                tokens = Math.min(burst, tokens + (now - lastNanos) * rate / NANOS_PER_SECOND);
+                lastNanos = now;
+            }
+        }
+    }
+}
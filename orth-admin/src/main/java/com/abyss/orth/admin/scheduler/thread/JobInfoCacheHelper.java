@@ -0,0 +1,231 @@
+package com.abyss.orth.admin.scheduler.thread;
+
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntFunction;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.abyss.orth.admin.model.JobInfo;
+import com.abyss.orth.admin.scheduler.config.OrthAdminBootstrap;
+
+/**
+ * Read-through cache of {@code orth_job_info} rows for the trigger and completion paths.
+ *
+ * <p>Every fire used to read the job row (and its SuperTask row) by primary key, and every
+ * successful completion read it once more for child jobs, each time pulling the full {@code
+ * glue_source}. Rows are cached by job ID here instead.
+ *
+ * <p><b>SuperTask inheritance</b> is resolved at read time from the SuperTask's own cached row
+ * rather than stored in each SubTask's entry: the SuperTask's code is cached once for all its
+ * SubTasks, and editing it invalidates a single entry.
+ *
+ * <p><b>Freshness</b>:
+ *
+ * <ul>
+ *   <li>Invalidated by {@code JobServiceImpl} and the GLUE editor on this node
+ *   <li>Polled every second for rows whose {@code update_time} changed (edits made on other admin
+ *       nodes). {@code update_time} has second precision, so every reported row is dropped rather
+ *       than compared with the cached version
+ * </ul>
+ *
+ * <p>The schedule thread updates {@code trigger_status}, {@code trigger_last_time} and {@code
+ * trigger_next_time} without touching {@code update_time}: those columns may be stale in cached
+ * rows and must be read from the database.
+ */
+public class JobInfoCacheHelper {
+    private static final Logger logger = LoggerFactory.getLogger(JobInfoCacheHelper.class);
+
+    /** Maximum cached jobs; an arbitrary entry is evicted when full. */
+    public static final int MAX_SIZE = 100_000;
+
+    private static final int POLL_INTERVAL_SECONDS = 1; // Changed-row poll interval
+    private static final long POLL_OVERLAP_MS = 5000; // Tolerates clock skew between nodes
+
+    private final ConcurrentMap<Integer, JobInfo> cache = new ConcurrentHashMap<>();
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong invalidationCount = new AtomicLong();
+    private IntFunction<JobInfo> loader;
+    private ScheduledExecutorService pollScheduler;
+    private volatile long lastPollTime;
+
+    /** Starts the cache and its changed-row poll. */
+    public void start() {
+        init(id -> OrthAdminBootstrap.getInstance().getJobInfoMapper().loadById(id));
+        lastPollTime = System.currentTimeMillis();
+
+        pollScheduler =
+                Executors.newSingleThreadScheduledExecutor(
+                        r -> {
+                            Thread t = new Thread(r, "orth-admin-JobInfoCacheHelper-poll");
+                            t.setDaemon(true);
+                            return t;
+                        });
+        pollScheduler.scheduleWithFixedDelay(
+                ScheduledTaskUtil.safeRunnable("job-info-cache-poll", this::pollChanged),
+                POLL_INTERVAL_SECONDS,
+                POLL_INTERVAL_SECONDS,
+                TimeUnit.SECONDS);
+
+        logger.info(">>>>>>>>>>> orth, job info cache start, maxSize={}", MAX_SIZE);
+    }
+
+    /**
+     * Sets the row loader used on cache misses.
+     *
+     * @param loader loads a job row by ID, null if absent
+     */
+    void init(IntFunction<JobInfo> loader) {
+        this.loader = loader;
+    }
+
+    /** Drops rows changed since the previous poll, including edits made on other nodes. */
+    private void pollChanged() {
+        long pollTime = System.currentTimeMillis();
+        List<Integer> changedIds =
+                OrthAdminBootstrap.getInstance()
+                        .getJobInfoMapper()
+                        .findIdsUpdatedSince(new Date(lastPollTime - POLL_OVERLAP_MS));
+        if (changedIds != null) {
+            for (Integer jobId : changedIds) {
+                invalidate(jobId);
+            }
+        }
+        lastPollTime = pollTime;
+    }
+
+    /**
+     * Loads a job row.
+     *
+     * @param jobId job ID
+     * @return private copy of the row, free to modify; null if the job does not exist
+     */
+    public JobInfo load(int jobId) {
+        JobInfo cached = cache.get(jobId);
+        if (cached != null) {
+            hitCount.incrementAndGet();
+            return copyOf(cached);
+        }
+
+        missCount.incrementAndGet();
+        JobInfo loaded = loader.apply(jobId);
+        if (loaded == null) {
+            return null; // absent jobs are not cached
+        }
+        if (cache.size() >= MAX_SIZE) {
+            Iterator<Integer> it = cache.keySet().iterator();
+            if (it.hasNext()) {
+                it.next();
+                it.remove();
+            }
+        }
+        JobInfo existing = cache.putIfAbsent(jobId, loaded);
+        return copyOf(existing != null ? existing : loaded);
+    }
+
+    /**
+     * Drops the cached row of a job; the next load reads it from the database.
+     *
+     * @param jobId job ID
+     */
+    public void invalidate(int jobId) {
+        if (cache.remove(jobId) != null) {
+            invalidationCount.incrementAndGet();
+        }
+    }
+
+    /**
+     * Number of loads answered from the cache.
+     *
+     * @return hit count
+     */
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    /**
+     * Number of loads that read the database.
+     *
+     * @return miss count
+     */
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    /**
+     * Number of cached rows dropped by local or polled invalidation.
+     *
+     * @return invalidation count
+     */
+    public long getInvalidationCount() {
+        return invalidationCount.get();
+    }
+
+    /**
+     * Number of cached rows.
+     *
+     * @return cache size
+     */
+    public int size() {
+        return cache.size();
+    }
+
+    /** Stops the changed-row poll. */
+    public void stop() {
+        pollScheduler.shutdown();
+        try {
+            if (!pollScheduler.awaitTermination(5, TimeUnit.SECONDS)) {
+                pollScheduler.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            pollScheduler.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        logger.info(">>>>>>>>>>> orth, JobInfoCacheHelper stop");
+    }
+
+    /** Copies every column, so callers can modify their copy without touching the cache. */
+    private static JobInfo copyOf(JobInfo source) {
+        JobInfo copy = new JobInfo();
+        copy.setId(source.getId());
+        copy.setJobGroup(source.getJobGroup());
+        copy.setJobDesc(source.getJobDesc());
+        copy.setAddTime(source.getAddTime());
+        copy.setUpdateTime(source.getUpdateTime());
+        copy.setAuthor(source.getAuthor());
+        copy.setAlarmEmail(source.getAlarmEmail());
+        copy.setScheduleType(source.getScheduleType());
+        copy.setScheduleConf(source.getScheduleConf());
+        copy.setMisfireStrategy(source.getMisfireStrategy());
+        copy.setScheduleJitter(source.getScheduleJitter());
+        copy.setPriority(source.getPriority());
+        copy.setExecutorRouteStrategy(source.getExecutorRouteStrategy());
+        copy.setExecutorHandler(source.getExecutorHandler());
+        copy.setExecutorParam(source.getExecutorParam());
+        copy.setExecutorBlockStrategy(source.getExecutorBlockStrategy());
+        copy.setExecutorConcurrency(source.getExecutorConcurrency());
+        copy.setExecutorTimeout(source.getExecutorTimeout());
+        copy.setExecutorFailRetryCount(source.getExecutorFailRetryCount());
+        copy.setShardCount(source.getShardCount());
+        copy.setGlueType(source.getGlueType());
+        copy.setGlueSource(source.getGlueSource());
+        copy.setGlueRemark(source.getGlueRemark());
+        copy.setGlueUpdatetime(source.getGlueUpdatetime());
+        copy.setChildJobId(source.getChildJobId());
+        copy.setSuperTaskId(source.getSuperTaskId());
+        copy.setSuperTaskName(source.getSuperTaskName());
+        copy.setTriggerStatus(source.getTriggerStatus());
+        copy.setTriggerLastTime(source.getTriggerLastTime());
+        copy.setTriggerNextTime(source.getTriggerNextTime());
+        return copy;
+    }
+}
@@ -37,7 +37,10 @@ public class JobLogReportHelper {
                             return t;
                         });
         logReportScheduler.scheduleWithFixedDelay(
-                safeRunnable("log-report", this::processLogReportCycle), 0, 1, TimeUnit.MINUTES);
+                ScheduledTaskUtil.safeRunnable("log-report", this::processLogReportCycle),
+                0,
+                1,
+                TimeUnit.MINUTES);
     }
 
     /**
@@ -165,18 +168,4 @@ public class JobLogReportHelper {
         }
         logger.info(">>>>>>>>>>> orth, job log report thread stop");
     }
-
-    /**
-     * Wraps a runnable to catch and log exceptions, preventing {@link ScheduledExecutorService}
-     * from silently cancelling future executions on uncaught exceptions.
-     */
-    private static Runnable safeRunnable(String taskName, Runnable task) {
-        return () -> {
-            try {
-                task.run();
-            } catch (Throwable e) {
-                logger.error("Scheduled task '{}' threw exception", taskName, e);
-            }
-        };
-    }
 }
@@ -0,0 +1,381 @@
+package com.abyss.orth.admin.scheduler.thread;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.abyss.orth.admin.mapper.JobLogMapper;
+import com.abyss.orth.admin.model.JobLog;
+import com.abyss.orth.admin.scheduler.config.OrthAdminBootstrap;
+
+/**
+ * Job log write helper, the database stages of the trigger pipeline.
+ *
+ * <p>A trigger writes its log row twice: once before the run RPC (to get the log ID sent to the
+ * executor) and once when the executor answers (trigger code and diagnostics). Done on the trigger
+ * threads, hundreds of them compete for the connection pool for two single-row statements each. The
+ * trigger path is split into stages instead, each with its own bounded queue:
+ *
+ * <ol>
+ *   <li><b>Insert</b> (this helper): a writer thread drains queued log rows and inserts them with
+ *       one multi-row {@code INSERT}; the rows get their IDs as one block of auto-increment values
+ *   <li><b>Run RPC</b> ({@link JobTriggerBatchHelper}): sent without blocking once the log ID is
+ *       known, bounded by the per-address permits of {@link JobTriggerPoolHelper}
+ *   <li><b>Trigger info</b> (this helper): a writer thread drains answered triggers and writes
+ *       their trigger code and diagnostics with one multi-row {@code UPDATE}
+ * </ol>
+ *
+ * <p>Only the two writer threads hold database connections for log writes. When a stage queue is
+ * full the caller writes its row itself, which slows the trigger threads down instead of dropping
+ * logs. A failed batch is retried row by row, so one bad row fails only its own trigger.
+ *
+ * <p>The shard rows of a broadcast are submitted together ({@link #saveAll}, {@link
+ * #updateTriggerInfoAll}) and kept in one statement when they fit in a batch, so a broadcast to
+ * hundreds of executors costs one insert and one update instead of hundreds.
+ */
+public class JobLogWriteHelper {
+    private static final Logger logger = LoggerFactory.getLogger(JobLogWriteHelper.class);
+
+    private static final long POLL_TIMEOUT_MS = 100; // Writer wake-up interval when idle
+
+    /** Log row store; {@link JobLogMapper} outside of tests. */
+    interface LogStore {
+        void saveBatch(List<JobLog> jobLogs);
+
+        void save(JobLog jobLog);
+
+        void updateTriggerInfoBatch(List<JobLog> jobLogs);
+
+        void updateTriggerInfo(JobLog jobLog);
+    }
+
+    private Stage insertStage;
+    private Stage updateStage;
+
+    /** Starts the insert and trigger info writers. */
+    public void start() {
+        JobLogMapper jobLogMapper = OrthAdminBootstrap.getInstance().getJobLogMapper();
+        start(
+                OrthAdminBootstrap.getInstance().getTriggerLogBatchSize(),
+                OrthAdminBootstrap.getInstance().getTriggerLogQueueCapacity(),
+                new LogStore() {
+                    @Override
+                    public void saveBatch(List<JobLog> jobLogs) {
+                        jobLogMapper.saveBatch(jobLogs);
+                    }
+
+                    @Override
+                    public void save(JobLog jobLog) {
+                        jobLogMapper.save(jobLog);
+                    }
+
+                    @Override
+                    public void updateTriggerInfoBatch(List<JobLog> jobLogs) {
+                        jobLogMapper.updateTriggerInfoBatch(jobLogs);
+                    }
+
+                    @Override
+                    public void updateTriggerInfo(JobLog jobLog) {
+                        jobLogMapper.updateTriggerInfo(jobLog);
+                    }
+                });
+    }
+
+    /**
+     * Starts with explicit limits and store.
+     *
+     * @param batchSize max rows per statement
+     * @param queueCapacity max submissions (single rows or broadcast groups) waiting per stage
+     * @param logStore log row store
+     */
+    void start(int batchSize, int queueCapacity, LogStore logStore) {
+        insertStage =
+                new Stage("insert", batchSize, queueCapacity, logStore::saveBatch, logStore::save);
+        updateStage =
+                new Stage(
+                        "update",
+                        batchSize,
+                        queueCapacity,
+                        logStore::updateTriggerInfoBatch,
+                        logStore::updateTriggerInfo);
+
+        logger.info(
+                ">>>>>>>>>>> orth, job log write helper start, batchSize={}, queueCapacity={}",
+                batchSize,
+                queueCapacity);
+    }
+
+    /** Writes every queued row and stops the writers. */
+    public void stop() {
+        if (insertStage != null) {
+            insertStage.stop();
+        }
+        if (updateStage != null) {
+            updateStage.stop();
+        }
+        logger.info(">>>>>>>>>>> orth, JobLogWriteHelper stop");
+    }
+
+    /**
+     * Inserts a new log row.
+     *
+     * @param jobLog log row; its ID is set once inserted
+     * @return future completed with the inserted row, or exceptionally if the insert failed
+     */
+    public CompletableFuture<JobLog> save(JobLog jobLog) {
+        return insertStage.submit(jobLog);
+    }
+
+    /**
+     * Inserts the log rows of one broadcast, with one multi-row statement when they fit in a batch.
+     *
+     * @param jobLogs log rows; their IDs are set once inserted
+     * @return future per row, in the given order; a failed row fails only its own future
+     */
+    public List<CompletableFuture<JobLog>> saveAll(List<JobLog> jobLogs) {
+        return insertStage.submitAll(jobLogs);
+    }
+
+    /**
+     * Writes the trigger info (trigger code, diagnostics, executor details) of an inserted row.
+     *
+     * @param jobLog inserted log row
+     * @return future completed once written, or exceptionally if the update failed
+     */
+    public CompletableFuture<JobLog> updateTriggerInfo(JobLog jobLog) {
+        return updateStage.submit(jobLog);
+    }
+
+    /**
+     * Writes the trigger info of the rows of one broadcast, with one multi-row statement when they
+     * fit in a batch.
+     *
+     * @param jobLogs inserted log rows
+     * @return future per row, in the given order
+     */
+    public List<CompletableFuture<JobLog>> updateTriggerInfoAll(List<JobLog> jobLogs) {
+        return updateStage.submitAll(jobLogs);
+    }
+
+    /**
+     * Gets the write counters of the insert stage.
+     *
+     * @return insert stage
+     */
+    public Stage getInsertStage() {
+        return insertStage;
+    }
+
+    /**
+     * Gets the write counters of the trigger info stage.
+     *
+     * @return trigger info stage
+     */
+    public Stage getUpdateStage() {
+        return updateStage;
+    }
+
+    /**
+     * One write stage: a bounded queue drained by a single writer thread. Each queue entry is one
+     * submission, a single row or the rows of a broadcast, which the writer does not split unless
+     * it exceeds a batch.
+     */
+    public static class Stage {
+        private final String name;
+        private final int batchSize;
+        private final BlockingQueue<List<PendingWrite>> queue;
+        private final Consumer<List<JobLog>> batchWriter;
+        private final Consumer<JobLog> rowWriter;
+        private final Thread writerThread;
+        private volatile boolean toStop = false;
+
+        private final AtomicLong batchCount = new AtomicLong();
+        private final AtomicLong rowCount = new AtomicLong();
+        private final AtomicLong overflowCount = new AtomicLong();
+
+        Stage(
+                String name,
+                int batchSize,
+                int queueCapacity,
+                Consumer<List<JobLog>> batchWriter,
+                Consumer<JobLog> rowWriter) {
+            this.name = name;
+            this.batchSize = batchSize;
+            this.queue = new ArrayBlockingQueue<>(queueCapacity);
+            this.batchWriter = batchWriter;
+            this.rowWriter = rowWriter;
+
+            writerThread = new Thread(this::runWriter, "orth-admin-JobLogWriteHelper-" + name);
+            writerThread.setDaemon(true);
+            writerThread.start();
+        }
+
+        CompletableFuture<JobLog> submit(JobLog jobLog) {
+            return submitAll(List.of(jobLog)).get(0);
+        }
+
+        List<CompletableFuture<JobLog>> submitAll(List<JobLog> jobLogs) {
+            List<PendingWrite> writes = new ArrayList<>(jobLogs.size());
+            List<CompletableFuture<JobLog>> futures = new ArrayList<>(jobLogs.size());
+            for (JobLog jobLog : jobLogs) {
+                PendingWrite write = new PendingWrite(jobLog);
+                writes.add(write);
+                futures.add(write.future);
+            }
+            if (writes.isEmpty()) {
+                return futures;
+            }
+            if (toStop || !queue.offer(writes)) {
+                // queue full (or stopping): write on the caller's thread
+                overflowCount.addAndGet(writes.size());
+                writeChunked(writes);
+            }
+            return futures;
+        }
+
+        private void runWriter() {
+            List<PendingWrite> batch = new ArrayList<>(batchSize);
+            while (!toStop) {
+                try {
+                    List<PendingWrite> first = queue.poll(POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+                    if (first == null) {
+                        continue;
+                    }
+                    batch.addAll(first);
+                    // only whole submissions that still fit; the writer is the only consumer
+                    List<PendingWrite> next;
+                    while ((next = queue.peek()) != null
+                            && batch.size() + next.size() <= batchSize) {
+                        batch.addAll(queue.poll());
+                    }
+                    writeChunked(batch);
+                } catch (InterruptedException e) {
+                    logger.error(">>>>>>>>>>> orth, job log {} writer interrupted", name, e);
+                    Thread.currentThread().interrupt();
+                    return;
+                } catch (Throwable e) {
+                    logger.error(">>>>>>>>>>> orth, job log {} writer error", name, e);
+                } finally {
+                    batch.clear();
+                }
+            }
+        }
+
+        private void writeChunked(List<PendingWrite> writes) {
+            for (int from = 0; from < writes.size(); from += batchSize) {
+                writeBatch(writes.subList(from, Math.min(from + batchSize, writes.size())));
+            }
+        }
+
+        private void writeBatch(List<PendingWrite> batch) {
+            if (batch.size() == 1) {
+                writeRow(batch.get(0));
+                return;
+            }
+
+            List<JobLog> rows = new ArrayList<>(batch.size());
+            for (PendingWrite write : batch) {
+                rows.add(write.jobLog);
+            }
+            try {
+                batchWriter.accept(rows);
+            } catch (Throwable e) {
+                logger.warn(
+                        ">>>>>>>>>>> orth, job log {} of {} rows failed, retrying row by row",
+                        name,
+                        rows.size(),
+                        e);
+                for (PendingWrite write : batch) {
+                    writeRow(write);
+                }
+                return;
+            }
+
+            batchCount.incrementAndGet();
+            rowCount.addAndGet(batch.size());
+            for (PendingWrite write : batch) {
+                write.future.complete(write.jobLog);
+            }
+        }
+
+        private void writeRow(PendingWrite write) {
+            try {
+                rowWriter.accept(write.jobLog);
+                rowCount.incrementAndGet();
+                write.future.complete(write.jobLog);
+            } catch (Throwable e) {
+                write.future.completeExceptionally(e);
+            }
+        }
+
+        void stop() {
+            toStop = true; // the writer notices within one poll timeout
+            try {
+                writerThread.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+
+            // write what is left
+            List<List<PendingWrite>> rest = new ArrayList<>();
+            queue.drainTo(rest);
+            List<PendingWrite> rows = new ArrayList<>();
+            rest.forEach(rows::addAll);
+            writeChunked(rows);
+        }
+
+        /**
+         * Number of submissions waiting in the queue; a broadcast counts once.
+         *
+         * @return queue size
+         */
+        public int getQueueSize() {
+            return queue.size();
+        }
+
+        /**
+         * Number of multi-row statements written.
+         *
+         * @return batch count
+         */
+        public long getBatchCount() {
+            return batchCount.get();
+        }
+
+        /**
+         * Number of rows written, in batches or one by one.
+         *
+         * @return row count
+         */
+        public long getRowCount() {
+            return rowCount.get();
+        }
+
+        /**
+         * Number of rows written on the caller's thread because the queue was full.
+         *
+         * @return overflow count
+         */
+        public long getOverflowCount() {
+            return overflowCount.get();
+        }
+    }
+
+    /** A queued row and the future of its write. */
+    private static class PendingWrite {
+        final JobLog jobLog;
+        final CompletableFuture<JobLog> future = new CompletableFuture<>();
+
+        PendingWrite(JobLog jobLog) {
+            this.jobLog = jobLog;
+        }
+    }
+}
@@ -0,0 +1,255 @@
+package com.abyss.orth.admin.scheduler.thread;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.abyss.orth.admin.scheduler.config.OrthAdminBootstrap;
+import com.abyss.orth.admin.scheduler.trigger.TriggerTypeEnum;
+
+/**
+ * Misfire backfill helper, replaying missed fire times at a bounded pace.
+ *
+ * <p>The {@code FIRE_ALL_MISSED} misfire strategy enqueues every missed fire time of a job here
+ * instead of triggering them at once, so a long outage does not flood {@link JobTriggerPoolHelper}
+ * (whose saturated pools drop triggers). Replays keep their logical {@code scheduleTime} and use
+ * trigger type {@link TriggerTypeEnum#MISFIRE}.
+ *
+ * <p><b>Pacing</b>:
+ *
+ * <ul>
+ *   <li><b>Per-job window</b>: at most {@code orth.job.misfire.backfill.window} replays of a job
+ *       are being triggered at a time; the next one is released when a trigger completes, so with
+ *       the default window of 1 a job's backlog is replayed in schedule order
+ *   <li><b>Global rate</b>: a token bucket admits {@code orth.job.misfire.backfill.rate} replays
+ *       per second across all jobs (burst of one second)
+ *   <li><b>Fairness</b>: jobs are served round-robin, one replay per job per pass
+ * </ul>
+ *
+ * <p>Only one batch per job is held here at a time: {@code FIRE_ALL_MISSED} enqueues the next batch
+ * once {@link #getPendingCount(int)} of the job drops to zero, and the rest of the backlog is kept
+ * as the job's next trigger time in the database. Replays still pending when the admin node stops
+ * are lost (at most one batch per job).
+ */
+public class JobMisfireBackfillHelper {
+    private static final Logger logger = LoggerFactory.getLogger(JobMisfireBackfillHelper.class);
+
+    private static final long DISPATCH_INTERVAL_MS = 50;
+
+    /** Triggers one replay and runs {@code onComplete} when the trigger is done. */
+    interface ReplayTrigger {
+        void trigger(int jobId, long scheduleTime, Runnable onComplete);
+    }
+
+    /** Pending replays of one job. */
+    private static class Backfill {
+        final ArrayDeque<Long> pending = new ArrayDeque<>();
+        final AtomicInteger inFlight = new AtomicInteger();
+        boolean removed;
+    }
+
+    private final Map<Integer, Backfill> backfills = new ConcurrentHashMap<>();
+    private ScheduledExecutorService dispatchScheduler;
+    private int window;
+    private double ratePerSecond;
+    private double tokens;
+    private long lastRefillNanos;
+    private int roundRobinCursor;
+
+    /** Starts the replay dispatcher. */
+    public void start() {
+        init(
+                OrthAdminBootstrap.getInstance().getMisfireBackfillWindow(),
+                OrthAdminBootstrap.getInstance().getMisfireBackfillRate(),
+                System.nanoTime());
+
+        dispatchScheduler =
+                Executors.newSingleThreadScheduledExecutor(
+                        r -> {
+                            Thread t =
+                                    new Thread(r, "orth-admin-JobMisfireBackfillHelper-dispatch");
+                            t.setDaemon(true);
+                            return t;
+                        });
+        dispatchScheduler.scheduleWithFixedDelay(
+                ScheduledTaskUtil.safeRunnable(
+                        "misfire-backfill-dispatch",
+                        () -> dispatch(System.nanoTime(), this::triggerReplay)),
+                DISPATCH_INTERVAL_MS,
+                DISPATCH_INTERVAL_MS,
+                TimeUnit.MILLISECONDS);
+
+        logger.info(
+                ">>>>>>>>>>> orth, misfire backfill helper start, window={}, ratePerSecond={}",
+                window,
+                ratePerSecond);
+    }
+
+    /**
+     * Sets the pacing limits and starts with a full token bucket.
+     *
+     * @param window max replays of one job triggered at a time
+     * @param ratePerSecond max replays per second across all jobs
+     * @param nowNanos current monotonic time
+     */
+    void init(int window, int ratePerSecond, long nowNanos) {
+        this.window = window;
+        this.ratePerSecond = ratePerSecond;
+        this.tokens = ratePerSecond;
+        this.lastRefillNanos = nowNanos;
+    }
+
+    private void triggerReplay(int jobId, long scheduleTime, Runnable onComplete) {
+        OrthAdminBootstrap.getInstance()
+                .getJobTriggerPoolHelper()
+                .trigger(
+                        jobId,
+                        TriggerTypeEnum.MISFIRE,
+                        -1,
+                        null,
+                        null,
+                        null,
+                        scheduleTime,
+                        onComplete);
+    }
+
+    /**
+     * Enqueues missed fire times of a job for replay.
+     *
+     * <p>Times not after the job's last queued time are ignored, so repeated misfire detection for
+     * the same outage does not replay a fire twice.
+     *
+     * @param jobId job ID
+     * @param scheduleTimes missed fire times, ascending
+     */
+    public void enqueue(int jobId, long[] scheduleTimes) {
+        while (true) {
+            Backfill backfill = backfills.computeIfAbsent(jobId, id -> new Backfill());
+            synchronized (backfill) {
+                if (backfill.removed) {
+                    continue;
+                }
+                for (long scheduleTime : scheduleTimes) {
+                    Long last = backfill.pending.peekLast();
+                    if (last == null || scheduleTime > last) {
+                        backfill.pending.addLast(scheduleTime);
+                    }
+                }
+                return;
+            }
+        }
+    }
+
+    /**
+     * Releases as many replays as the rate limit and per-job windows allow.
+     *
+     * @param nowNanos current monotonic time
+     * @param replayTrigger trigger for released replays
+     * @return number of replays released
+     */
+    synchronized int dispatch(long nowNanos, ReplayTrigger replayTrigger) {
+        // refill token bucket, burst of one second
+        tokens =
+                Math.min(
+                        ratePerSecond, tokens + (nowNanos - lastRefillNanos) / 1e9 * ratePerSecond);
+        lastRefillNanos = nowNanos;
+
+        List<Integer> jobIds = new ArrayList<>(backfills.keySet());
+        if (jobIds.isEmpty()) {
+            return 0;
+        }
+        Collections.rotate(jobIds, -(roundRobinCursor++ % jobIds.size()));
+
+        int released = 0;
+        boolean progress = true;
+        while (progress && tokens >= 1) {
+            progress = false;
+            for (Integer jobId : jobIds) {
+                if (tokens < 1) {
+                    break;
+                }
+                Backfill backfill = backfills.get(jobId);
+                if (backfill == null) {
+                    continue;
+                }
+                Long scheduleTime;
+                synchronized (backfill) {
+                    if (backfill.inFlight.get() >= window) {
+                        continue;
+                    }
+                    scheduleTime = backfill.pending.pollFirst();
+                    if (scheduleTime == null) {
+                        if (backfill.inFlight.get() == 0) {
+                            backfill.removed = true;
+                            backfills.remove(jobId, backfill);
+                        }
+                        continue;
+                    }
+                    backfill.inFlight.incrementAndGet();
+                }
+                tokens--;
+                released++;
+                progress = true;
+                replayTrigger.trigger(jobId, scheduleTime, backfill.inFlight::decrementAndGet);
+            }
+        }
+        return released;
+    }
+
+    /**
+     * Number of replays waiting to be released.
+     *
+     * @return pending replay count
+     */
+    public int getPendingCount() {
+        int count = 0;
+        for (Backfill backfill : backfills.values()) {
+            synchronized (backfill) {
+                count += backfill.pending.size();
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Number of replays of one job waiting to be released.
+     *
+     * @param jobId job ID
+     * @return pending replay count of the job
+     */
+    public int getPendingCount(int jobId) {
+        Backfill backfill = backfills.get(jobId);
+        if (backfill == null) {
+            return 0;
+        }
+        synchronized (backfill) {
+            return backfill.pending.size();
+        }
+    }
+
+    /** Stops the replay dispatcher; pending replays are dropped. */
+    public void stop() {
+        dispatchScheduler.shutdown();
+        try {
+            if (!dispatchScheduler.awaitTermination(5, TimeUnit.SECONDS)) {
+                dispatchScheduler.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            dispatchScheduler.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        int pending = getPendingCount();
+        if (pending > 0) {
+            logger.warn(
+                    ">>>>>>>>>>> orth, misfire backfill stopped with pending replays dropped, pending={}",
+                    pending);
+        }
+        logger.info(">>>>>>>>>>> orth, JobMisfireBackfillHelper stop");
+    }
+}
@@ -7,11 +7,13 @@ import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.abyss.orth.admin.mapper.JobRegistryMapper;
 import com.abyss.orth.admin.model.JobGroup;
 import com.abyss.orth.admin.model.JobRegistry;
 import com.abyss.orth.admin.scheduler.config.OrthAdminBootstrap;
 import com.abyss.orth.core.constant.Const;
 import com.abyss.orth.core.constant.RegistType;
+import com.abyss.orth.core.openapi.model.ExecutorLoad;
 import com.abyss.orth.core.openapi.model.RegistryRequest;
 import com.xxl.tool.core.StringTool;
 import com.xxl.tool.response.Response;
@@ -33,6 +35,8 @@ import com.xxl.tool.response.Response;
  *   <li>Executors send heartbeat every 30 seconds (BEAT_TIMEOUT)
  *   <li>Entries older than 90 seconds (DEAD_TIMEOUT) are considered dead
  *   <li>Group address cache is refreshed from live executor registrations
+ *   <li>Executor loads sent with the heartbeats are kept for load-aware routing ({@link
+ *       ExecutorLoadHelper})
  * </ul>
  *
  * @author xuxueli 2016-10-02 19:10:24
@@ -92,7 +96,7 @@ public class JobRegistryHelper {
                             return t;
                         });
         monitorScheduler.scheduleWithFixedDelay(
-                safeRunnable("registry-monitor", this::processRegistryMonitor),
+                ScheduledTaskUtil.safeRunnable("registry-monitor", this::processRegistryMonitor),
                 0,
                 Const.BEAT_TIMEOUT,
                 TimeUnit.SECONDS);
@@ -130,6 +134,19 @@ public class JobRegistryHelper {
             return;
         }
 
+        // fresh executor loads (heartbeats received by any admin node)
+        ExecutorLoadHelper loadHelper = OrthAdminBootstrap.getInstance().getExecutorLoadHelper();
+        if (loadHelper != null) {
+            loadHelper.refresh(list);
+        }
+
+        // forget circuits of executors neither registered nor configured by hand
+        ExecutorCircuitBreakerHelper breaker =
+                OrthAdminBootstrap.getInstance().getExecutorCircuitBreakerHelper();
+        if (breaker != null) {
+            breaker.retainAddresses(knownExecutorAddresses(list));
+        }
+
         Map<String, List<String>> appAddressMap =
                 list.stream()
                         .filter(item -> RegistType.EXECUTOR.name().equals(item.getRegistryGroup()))
@@ -155,6 +172,26 @@ public class JobRegistryHelper {
         }
     }
 
+    /** Addresses of the live executor registrations and of the manually configured groups. */
+    private Set<String> knownExecutorAddresses(List<JobRegistry> registryList) {
+        Set<String> addresses = new HashSet<>();
+        for (JobRegistry registry : registryList) {
+            if (RegistType.EXECUTOR.name().equals(registry.getRegistryGroup())) {
+                addresses.add(registry.getRegistryValue());
+            }
+        }
+        List<JobGroup> manualGroups =
+                OrthAdminBootstrap.getInstance().getJobGroupMapper().findByAddressType(1);
+        if (manualGroups != null) {
+            for (JobGroup group : manualGroups) {
+                if (group.getRegistryList() != null) {
+                    addresses.addAll(group.getRegistryList());
+                }
+            }
+        }
+        return addresses;
+    }
+
     /**
      * Stops the registry helper gracefully.
      *
@@ -177,20 +214,6 @@ public class JobRegistryHelper {
         logger.info(">>>>>>>>>>> orth, job registry monitor thread stop");
     }
 
-    /**
-     * Wraps a runnable to catch and log exceptions, preventing {@link ScheduledExecutorService}
-     * from silently cancelling future executions on uncaught exceptions.
-     */
-    private static Runnable safeRunnable(String taskName, Runnable task) {
-        return () -> {
-            try {
-                task.run();
-            } catch (Throwable e) {
-                logger.error("Scheduled task '{}' threw exception", taskName, e);
-            }
-        };
-    }
-
     // ---------------------- tool ----------------------
 
     /**
@@ -208,18 +231,36 @@ public class JobRegistryHelper {
             return Response.ofFail("Illegal Argument.");
         }
 
+        // executor load, for load-aware routing: at once on this node, via the row on the others
+        Date updateTime = new Date();
+        ExecutorLoad load =
+                RegistType.EXECUTOR.name().equals(registryParam.getRegistryGroup())
+                        ? registryParam.getLoad()
+                        : null;
+        ExecutorLoadHelper loadHelper = OrthAdminBootstrap.getInstance().getExecutorLoadHelper();
+        if (load != null && loadHelper != null) {
+            loadHelper.report(registryParam.getRegistryValue(), load, updateTime.getTime());
+        }
+
         // async execute
         registryOrRemoveThreadPool.execute(
                 () -> {
+                    JobRegistryMapper registryMapper =
+                            OrthAdminBootstrap.getInstance().getJobRegistryMapper();
                     // 0-fail; 1-save suc; 2-update suc;
                     int ret =
-                            OrthAdminBootstrap.getInstance()
-                                    .getJobRegistryMapper()
-                                    .registrySaveOrUpdate(
+                            load != null
+                                    ? registryMapper.registrySaveOrUpdateLoad(
+                                            registryParam.getRegistryGroup(),
+                                            registryParam.getRegistryKey(),
+                                            registryParam.getRegistryValue(),
+                                            load,
+                                            updateTime)
+                                    : registryMapper.registrySaveOrUpdate(
                                             registryParam.getRegistryGroup(),
                                             registryParam.getRegistryKey(),
                                             registryParam.getRegistryValue(),
-                                            new Date());
+                                            updateTime);
                     if (ret == 1) {
                         // fresh (add)
                         freshGroupRegistryInfo(registryParam);
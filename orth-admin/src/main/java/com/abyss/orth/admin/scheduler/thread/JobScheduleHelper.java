@@ -1,44 +1,61 @@
 package com.abyss.orth.admin.scheduler.thread;
 
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.transaction.TransactionStatus;
-import org.springframework.transaction.support.DefaultTransactionDefinition;
 
 import com.abyss.orth.admin.constant.TriggerStatus;
 import com.abyss.orth.admin.model.JobInfo;
+import com.abyss.orth.admin.scheduler.clock.SchedulerClock;
 import com.abyss.orth.admin.scheduler.config.OrthAdminBootstrap;
+import com.abyss.orth.admin.scheduler.misfire.MisfireHandler;
 import com.abyss.orth.admin.scheduler.misfire.MisfireStrategyEnum;
+import com.abyss.orth.admin.scheduler.ring.TimingWheel;
 import com.abyss.orth.admin.scheduler.trigger.TriggerTypeEnum;
 import com.abyss.orth.admin.scheduler.type.ScheduleTypeEnum;
+import com.abyss.orth.admin.scheduler.type.strategy.FixRateMsScheduleType;
 import com.xxl.tool.core.CollectionTool;
-import com.xxl.tool.core.MapTool;
 
 /**
  * Job schedule helper manages the time-ring scheduling algorithm.
  *
- * <p>This class implements a 60-slot time-ring buffer for efficient job scheduling. It consists of
- * two main threads:
+ * <p>This class drives a hierarchical {@link TimingWheel} for efficient job scheduling. It consists
+ * of two main threads:
  *
  * <ul>
- *   <li><b>Schedule Thread</b>: Acquires distributed lock, pre-reads jobs due within 5 seconds,
- *       pushes them to ring buffer
- *   <li><b>Ring Thread</b>: Checks current + 2 previous ring slots every second, triggers jobs
+ *   <li><b>Schedule Thread</b>: For each schedule partition whose lease this node holds, pre-reads
+ *       jobs due within 5 seconds, writes their next trigger times fenced by the lease token, then
+ *       pushes them to the timing wheel
+ *   <li><b>Ring Thread</b>: Advances the timing wheel every millisecond, triggers jobs on the exact
+ *       millisecond of their schedule time
  * </ul>
  *
  * <p><b>Time-Ring Algorithm</b>:
  *
  * <ul>
- *   <li>Ring slots: 60 (one per second, indexed 0-59)
+ *   <li>Wheel levels: 1000 x 1ms, 60 x 1s, 60 x 1min (+ overflow)
  *   <li>Pre-read window: 5 seconds ahead
- *   <li>Drift tolerance: 2 previous seconds checked to handle timing drift
+ *   <li>Catch-up: ticks missed by a late ring thread are replayed in order, nothing is skipped
  *   <li>Misfire threshold: 5+ seconds late
+ *   <li>FIX_RATE_MS jobs: every fire of the pre-read window is pushed in one scan
  * </ul>
  *
+ * <p><b>Jitter</b>: a job with a {@code scheduleJitter} window fires a fixed offset after each
+ * schedule time, derived from a hash of its job ID, so jobs sharing a cron time (e.g. second 0 of
+ * every minute) are spread across the window instead of hitting the trigger pools in one tick. The
+ * logical {@code scheduleTime} is unchanged; lateness and misfires are measured against the shifted
+ * fire time.
+ *
+ * <p><b>Backpressure</b>: the pre-read count of each scan is scaled down by {@link
+ * JobTriggerAdmissionHelper} while the trigger pools are saturated, so due jobs wait in the
+ * database rather than in overflowing pool queues. Jobs held back this way are not misfires: their
+ * late fires are triggered one per scan until they catch up.
+ *
+ * <p>Partition ownership across admin nodes is managed by {@link JobSchedulePartitionHelper}, and
+ * partition leases by {@link JobScheduleLeaseHelper}.
+ *
  * @author xuxueli 2019-05-21
  */
 public class JobScheduleHelper {
@@ -49,9 +66,13 @@ public class JobScheduleHelper {
             5000; // Pre-read window: 5 seconds (used by JobServiceImpl)
     private static final long ONE_SECOND_MS = 1000;
     private static final long ALIGNMENT_SLEEP_MS = 5000; // Initial alignment delay
-    private static final int RING_SIZE = 60; // Ring buffer size (seconds per minute)
-    private static final int DRIFT_TOLERANCE_SECONDS = 2; // Check 2 previous seconds for drift
+    private static final long RING_TICK_NANOS =
+            TimeUnit.MILLISECONDS.toNanos(1); // Timing wheel tick: 1ms
+    private static final long RING_DRAIN_TIMEOUT_MS = 8000; // Max wait for pending ring data
+    private static final long RING_STOP_GRACE_MS = 1000; // Entries due this soon fire on stop
     private static final int PRE_READ_QPS = 10; // Estimated QPS per thread (100ms per trigger)
+    public static final int MAX_SCHEDULE_JITTER_SECONDS =
+            60; // Max jitter window (used by JobServiceImpl)
 
     // Thread lifecycle
     private Thread scheduleThread;
@@ -59,10 +80,11 @@ public class JobScheduleHelper {
     private volatile boolean scheduleThreadToStop = false;
     private volatile boolean ringThreadToStop = false;
 
-    /** Ring item containing job ID and its theoretical schedule time */
-    private record RingItem(int jobId, long scheduleTime) {}
-
-    private final Map<Integer, List<RingItem>> ringData = new ConcurrentHashMap<>();
+    private TimingWheel timingWheel;
+    private SchedulerClock clock;
+    private JobTriggerAdmissionHelper admission;
+    private boolean scanFilled; // a partition of the current scan read its full pre-read count
+    private boolean scanHeldBack; // the current scan read a job held back by admission
 
     /**
      * Start the scheduler and ring threads.
@@ -71,11 +93,16 @@ public class JobScheduleHelper {
      *
      * <ul>
      *   <li><b>scheduleThread</b>: Pre-reads jobs and populates time ring every second
-     *   <li><b>ringThread</b>: Triggers jobs from time ring every second
+     *   <li><b>ringThread</b>: Triggers jobs from time ring every millisecond tick
      * </ul>
      */
     public void start() {
 
+        // timing wheel
+        clock = OrthAdminBootstrap.getInstance().getClock();
+        admission = OrthAdminBootstrap.getInstance().getJobTriggerAdmissionHelper();
+        timingWheel = new TimingWheel(clock.currentTimeMillis());
+
         // schedule thread
         scheduleThread =
                 new Thread(
@@ -85,9 +112,9 @@ public class JobScheduleHelper {
 
                                 // align time to second boundary
                                 try {
-                                    TimeUnit.MILLISECONDS.sleep(
+                                    clock.sleep(
                                             ALIGNMENT_SLEEP_MS
-                                                    - System.currentTimeMillis() % ONE_SECOND_MS);
+                                                    - clock.currentTimeMillis() % ONE_SECOND_MS);
                                 } catch (Throwable e) {
                                     if (!scheduleThreadToStop) {
                                         logger.error(e.getMessage(), e);
@@ -107,180 +134,64 @@ public class JobScheduleHelper {
                                 while (!scheduleThreadToStop) {
 
                                     // param
-                                    long start = System.currentTimeMillis();
-                                    boolean preReadSuc = true;
+                                    long start = clock.currentTimeMillis();
+                                    boolean preReadSuc = false;
 
-                                    // transaction start
-                                    TransactionStatus transactionStatus =
+                                    // scan partitions whose lease is held by this node
+                                    JobScheduleLeaseHelper leaseHelper =
                                             OrthAdminBootstrap.getInstance()
-                                                    .getTransactionManager()
-                                                    .getTransaction(
-                                                            new DefaultTransactionDefinition());
-                                    try {
-                                        // 1、job lock
-                                        String lockedRecord =
-                                                OrthAdminBootstrap.getInstance()
-                                                        .getJobLockMapper()
-                                                        .scheduleLock();
-                                        long nowTime = System.currentTimeMillis();
-
-                                        // scan and process job
-                                        List<JobInfo> scheduleList =
-                                                OrthAdminBootstrap.getInstance()
-                                                        .getJobInfoMapper()
-                                                        .scheduleJobQuery(
-                                                                nowTime + PRE_READ_MS,
-                                                                preReadCount);
-                                        if (CollectionTool.isNotEmpty(scheduleList)) {
-
-                                            // 2、push time-ring
-                                            for (JobInfo jobInfo : scheduleList) {
-
-                                                // time-ring jump
-                                                if (nowTime
-                                                        > jobInfo.getTriggerNextTime()
-                                                                + PRE_READ_MS) {
-                                                    // 2.1、trigger-expire > 5s：pass && make
-                                                    // next-trigger-time
-
-                                                    // 1、misfire handle
-                                                    MisfireStrategyEnum misfireStrategyEnum =
-                                                            MisfireStrategyEnum.match(
-                                                                    jobInfo.getMisfireStrategy(),
-                                                                    MisfireStrategyEnum.DO_NOTHING);
-                                                    misfireStrategyEnum
-                                                            .getMisfireHandler()
-                                                            .handle(jobInfo.getId());
-
-                                                    // 2、fresh next
-                                                    refreshNextTriggerTime(jobInfo, new Date());
-
-                                                } else if (nowTime > jobInfo.getTriggerNextTime()) {
-                                                    // 2.2、trigger-expire < 5s：direct-trigger &&
-                                                    // make next-trigger-time
-
-                                                    // Capture schedule time before refresh
-                                                    long currentScheduleTime =
-                                                            jobInfo.getTriggerNextTime();
-
-                                                    // 1、trigger direct
-                                                    OrthAdminBootstrap.getInstance()
-                                                            .getJobTriggerPoolHelper()
-                                                            .trigger(
-                                                                    jobInfo.getId(),
-                                                                    TriggerTypeEnum.CRON,
-                                                                    -1,
-                                                                    null,
-                                                                    null,
-                                                                    null,
-                                                                    currentScheduleTime);
-                                                    logger.debug(
-                                                            ">>>>>>>>>>> orth, schedule expire, direct trigger : jobId = {}",
-                                                            jobInfo.getId());
-
-                                                    // 2、fresh next
-                                                    refreshNextTriggerTime(jobInfo, new Date());
-
-                                                    // next-trigger-time in 5s, pre-read again
-                                                    if (jobInfo.getTriggerStatus()
-                                                                    == TriggerStatus.RUNNING
-                                                                            .getValue()
-                                                            && nowTime + PRE_READ_MS
-                                                                    > jobInfo
-                                                                            .getTriggerNextTime()) {
-
-                                                        // 1、make ring second
-                                                        int ringSecond =
-                                                                (int)
-                                                                        ((jobInfo
-                                                                                                .getTriggerNextTime()
-                                                                                        / 1000)
-                                                                                % 60);
-
-                                                        // 2、push time ring (pre read) with schedule
-                                                        // time
-                                                        pushTimeRing(
-                                                                ringSecond,
-                                                                jobInfo.getId(),
-                                                                jobInfo.getTriggerNextTime());
-                                                        logger.debug(
-                                                                ">>>>>>>>>>> orth, schedule pre-read, push trigger : jobId = {}",
-                                                                jobInfo.getId());
-
-                                                        // 3、fresh next
-                                                        refreshNextTriggerTime(
-                                                                jobInfo,
-                                                                new Date(
-                                                                        jobInfo
-                                                                                .getTriggerNextTime()));
-                                                    }
-
-                                                } else {
-                                                    // 2.3、trigger-pre-read：time-ring trigger &&
-                                                    // make next-trigger-time
-
-                                                    // 1、make ring second
-                                                    int ringSecond =
-                                                            (int)
-                                                                    ((jobInfo.getTriggerNextTime()
-                                                                                    / 1000)
-                                                                            % 60);
-
-                                                    // Capture schedule time before refresh
-                                                    long currentScheduleTime =
-                                                            jobInfo.getTriggerNextTime();
-
-                                                    // 2、push time ring with schedule time
-                                                    pushTimeRing(
-                                                            ringSecond,
-                                                            jobInfo.getId(),
-                                                            currentScheduleTime);
-                                                    logger.debug(
-                                                            ">>>>>>>>>>> orth, schedule normal, push trigger : jobId = {}",
-                                                            jobInfo.getId());
-
-                                                    // 3、fresh next
-                                                    refreshNextTriggerTime(
-                                                            jobInfo,
-                                                            new Date(jobInfo.getTriggerNextTime()));
-                                                }
-                                            }
-
-                                            // 3、update trigger info
-                                            for (JobInfo jobInfo : scheduleList) {
-                                                OrthAdminBootstrap.getInstance()
-                                                        .getJobInfoMapper()
-                                                        .scheduleUpdate(jobInfo);
-                                            }
-
-                                        } else {
-                                            preReadSuc = false;
+                                                    .getJobScheduleLeaseHelper();
+                                    int partitionCount =
+                                            OrthAdminBootstrap.getInstance()
+                                                    .getJobSchedulePartitionHelper()
+                                                    .getPartitionCount();
+                                    int[] heldPartitions = leaseHelper.getHeldPartitions();
+
+                                    // backpressure: read fewer jobs while the pools saturate
+                                    int admittedPreReadCount =
+                                            admission.admitPreReadCount(preReadCount, PRE_READ_QPS);
+                                    int partitionPreReadCount =
+                                            Math.max(
+                                                    PRE_READ_QPS,
+                                                    admittedPreReadCount
+                                                            / Math.max(1, heldPartitions.length));
+                                    scanFilled = false;
+                                    scanHeldBack = false;
+                                    for (int partition : heldPartitions) {
+                                        if (scheduleThreadToStop) {
+                                            break;
                                         }
-
-                                    } catch (Throwable e) {
-                                        if (!scheduleThreadToStop) {
-                                            logger.error(
-                                                    ">>>>>>>>>>> orth, JobScheduleHelper#scheduleThread error:{}",
-                                                    e.getMessage(),
-                                                    e);
+                                        long fencingToken = leaseHelper.getFencingToken(partition);
+                                        if (fencingToken == 0) {
+                                            continue; // lease expired since the lookup
                                         }
-                                    } finally {
-                                        // transaction commit
-                                        OrthAdminBootstrap.getInstance()
-                                                .getTransactionManager()
-                                                .commit(transactionStatus); // avlid schedule repeat
+                                        preReadSuc |=
+                                                schedulePartition(
+                                                        partition,
+                                                        partitionCount,
+                                                        partitionPreReadCount,
+                                                        fencingToken);
+                                    }
+
+                                    // a full scan that read every due job, none of them held
+                                    // back, ends the hold-back
+                                    if (admittedPreReadCount == preReadCount
+                                            && !scanFilled
+                                            && !scanHeldBack) {
+                                        admission.scanCaughtUp();
                                     }
-                                    // transaction end
-                                    long cost = System.currentTimeMillis() - start;
+
+                                    // scan end
+                                    long cost = clock.currentTimeMillis() - start;
 
                                     // Wait seconds, align second
                                     if (cost < 1000) { // scan-overtime, not wait
                                         try {
                                             // pre-read period: success > scan each second; fail >
                                             // skip this period;
-                                            TimeUnit.MILLISECONDS.sleep(
+                                            clock.sleep(
                                                     (preReadSuc ? 1000 : PRE_READ_MS)
-                                                            - System.currentTimeMillis() % 1000);
+                                                            - clock.currentTimeMillis() % 1000);
                                         } catch (Throwable e) {
                                             if (!scheduleThreadToStop) {
                                                 logger.error(e.getMessage(), e);
@@ -305,84 +216,11 @@ public class JobScheduleHelper {
                             public void run() {
 
                                 while (!ringThreadToStop) {
-
-                                    // align second
                                     try {
-                                        TimeUnit.MILLISECONDS.sleep(
-                                                ONE_SECOND_MS
-                                                        - System.currentTimeMillis()
-                                                                % ONE_SECOND_MS);
-                                    } catch (Throwable e) {
-                                        if (!ringThreadToStop) {
-                                            logger.error(e.getMessage(), e);
-                                        }
-                                    }
-
-                                    try {
-                                        // second data
-                                        List<RingItem> ringItemData = new ArrayList<>();
-
-                                        // collect ring data, by second
-                                        int nowSecond = Calendar.getInstance().get(Calendar.SECOND);
-                                        for (int i = 0;
-                                                i <= DRIFT_TOLERANCE_SECONDS;
-                                                i++) { // Avoid scheduling miss: check current + 2
-                                            // previous seconds
-                                            List<RingItem> ringItemList =
-                                                    ringData.remove(
-                                                            (nowSecond + RING_SIZE - i)
-                                                                    % RING_SIZE);
-                                            if (CollectionTool.isNotEmpty(ringItemList)) {
-                                                // distinct by jobId for each second
-                                                List<RingItem> ringItemListDistinct =
-                                                        ringItemList.stream()
-                                                                .filter(
-                                                                        item ->
-                                                                                ringItemData
-                                                                                        .stream()
-                                                                                        .noneMatch(
-                                                                                                existing ->
-                                                                                                        existing
-                                                                                                                        .jobId()
-                                                                                                                == item
-                                                                                                                        .jobId()))
-                                                                .toList();
-                                                if (ringItemListDistinct.size()
-                                                        < ringItemList.size()) {
-                                                    logger.warn(
-                                                            ">>>>>>>>>>> orth, time-ring found job repeat beat : {} = {}",
-                                                            nowSecond,
-                                                            ringItemData);
-                                                }
-
-                                                // collect ring item
-                                                ringItemData.addAll(ringItemListDistinct);
-                                            }
-                                        }
-
-                                        // ring trigger
-                                        logger.debug(
-                                                ">>>>>>>>>>> orth, time-ring beat : {} = {}",
-                                                nowSecond,
-                                                ringItemData);
-                                        if (CollectionTool.isNotEmpty(ringItemData)) {
-                                            // do trigger
-                                            for (RingItem item : ringItemData) {
-                                                // do trigger with schedule time
-                                                OrthAdminBootstrap.getInstance()
-                                                        .getJobTriggerPoolHelper()
-                                                        .trigger(
-                                                                item.jobId(),
-                                                                TriggerTypeEnum.CRON,
-                                                                -1,
-                                                                null,
-                                                                null,
-                                                                null,
-                                                                item.scheduleTime());
-                                            }
-                                            // clear
-                                            ringItemData.clear();
-                                        }
+                                        // fire every entry due up to now
+                                        timingWheel.advanceTo(
+                                                clock.currentTimeMillis(),
+                                                JobScheduleHelper::ringTrigger);
                                     } catch (Throwable e) {
                                         if (!ringThreadToStop) {
                                             logger.error(
@@ -391,6 +229,28 @@ public class JobScheduleHelper {
                                                     e);
                                         }
                                     }
+
+                                    // next tick
+                                    clock.parkNanos(RING_TICK_NANOS);
+                                }
+
+                                // entries still pending (jittered far ahead): fire those due
+                                // within the grace period, roll the others back for the next
+                                // lease holder
+                                if (timingWheel.size() > 0) {
+                                    logger.warn(
+                                            ">>>>>>>>>>> orth, JobScheduleHelper#ringThread stop, pending={}",
+                                            timingWheel.size());
+                                    Map<Integer, Long> firstDropped = new HashMap<>();
+                                    timingWheel.drain(
+                                            clock.currentTimeMillis() + RING_STOP_GRACE_MS,
+                                            JobScheduleHelper::ringTrigger,
+                                            entry ->
+                                                    firstDropped.merge(
+                                                            entry.jobId(),
+                                                            entry.scheduleTime(),
+                                                            Math::min));
+                                    rollbackNextTriggerTimes(firstDropped);
                                 }
                                 logger.info(">>>>>>>>>>> orth, JobScheduleHelper#ringThread stop");
                             }
@@ -400,6 +260,448 @@ public class JobScheduleHelper {
         ringThread.start();
     }
 
+    /**
+     * Moves the next trigger time of jobs whose ring entries were dropped on stop back to their
+     * first dropped fire, so the next lease holder reads and triggers them. Jobs of a partition
+     * whose lease is no longer held are left alone: the new holder may already have read them.
+     *
+     * @param firstDropped first dropped schedule time per job ID
+     */
+    private void rollbackNextTriggerTimes(Map<Integer, Long> firstDropped) {
+        JobScheduleLeaseHelper leaseHelper =
+                OrthAdminBootstrap.getInstance().getJobScheduleLeaseHelper();
+        int partitionCount =
+                OrthAdminBootstrap.getInstance()
+                        .getJobSchedulePartitionHelper()
+                        .getPartitionCount();
+        int rolledBack = 0;
+        for (Map.Entry<Integer, Long> dropped : firstDropped.entrySet()) {
+            int partition = dropped.getKey() % partitionCount;
+            long fencingToken = leaseHelper.getFencingToken(partition);
+            if (fencingToken == 0) {
+                continue;
+            }
+            try {
+                rolledBack +=
+                        OrthAdminBootstrap.getInstance()
+                                .getJobInfoMapper()
+                                .scheduleRollback(
+                                        dropped.getKey(),
+                                        dropped.getValue(),
+                                        JobSchedulePartitionHelper.leaseName(partition),
+                                        fencingToken);
+            } catch (Throwable e) {
+                logger.error(
+                        ">>>>>>>>>>> orth, schedule rollback error, jobId={}", dropped.getKey(), e);
+            }
+        }
+        logger.info(
+                ">>>>>>>>>>> orth, JobScheduleHelper#ringThread stop, dropped entries rolled back, jobs={}, rolledBack={}",
+                firstDropped.size(),
+                rolledBack);
+    }
+
+    /** Trigger a timing wheel entry with its logical schedule time. */
+    private static void ringTrigger(TimingWheel.Entry item) {
+        OrthAdminBootstrap.getInstance()
+                .getJobTriggerPoolHelper()
+                .trigger(
+                        item.jobId(),
+                        TriggerTypeEnum.CRON,
+                        -1,
+                        null,
+                        null,
+                        null,
+                        item.scheduleTime());
+    }
+
+    /**
+     * Scan one schedule partition and push due jobs to the time ring.
+     *
+     * <p>No transaction is held across the scan. Instead, next trigger times are written back in
+     * chunks guarded by the partition lease's fencing token, and a chunk's jobs are only triggered
+     * or pushed to the time ring once its write succeeded. If another node acquired the lease in
+     * the meantime the write updates nothing and the chunk is skipped, so a partition is never
+     * scheduled by two nodes.
+     *
+     * <p>With the {@link JobScheduleIndexHelper schedule index} enabled, due jobs are looked up in
+     * memory first: an idle partition is skipped without touching the DB, and only the rows of due
+     * jobs are read.
+     *
+     * @param partition partition index
+     * @param partitionCount total partitions
+     * @param preReadCount max jobs to pre-read for this partition
+     * @param fencingToken fencing token of the held partition lease
+     * @return true if any job was pre-read
+     */
+    private boolean schedulePartition(
+            int partition, int partitionCount, int preReadCount, long fencingToken) {
+        boolean preReadSuc = true;
+
+        // index lookup: nothing due in this partition, skip DB
+        JobScheduleIndexHelper scheduleIndex =
+                OrthAdminBootstrap.getInstance().getJobScheduleIndexHelper();
+        List<Integer> dueIds = null;
+        if (scheduleIndex != null) {
+            dueIds =
+                    scheduleIndex.findDue(
+                            partition, clock.currentTimeMillis() + PRE_READ_MS, preReadCount);
+            if (dueIds.isEmpty()) {
+                return false;
+            }
+            scanFilled |= dueIds.size() >= preReadCount;
+        }
+
+        try {
+            long nowTime = clock.currentTimeMillis();
+
+            // 1、scan due jobs
+            List<JobInfo> scheduleList =
+                    scheduleIndex != null
+                            ? loadIndexedDueJobs(scheduleIndex, dueIds, nowTime)
+                            : OrthAdminBootstrap.getInstance()
+                                    .getJobInfoMapper()
+                                    .scheduleJobQuery(
+                                            nowTime + PRE_READ_MS,
+                                            preReadCount,
+                                            partitionCount,
+                                            partition);
+            if (scheduleIndex == null && scheduleList != null) {
+                scanFilled |= scheduleList.size() >= preReadCount;
+            }
+            if (CollectionTool.isNotEmpty(scheduleList)) {
+
+                // 2、make next-trigger-time, collect dispatch actions
+                List<Runnable> dispatchList = new ArrayList<>(scheduleList.size());
+                for (JobInfo jobInfo : scheduleList) {
+                    dispatchList.add(scheduleJob(jobInfo, nowTime));
+                }
+
+                // 3、fenced write-back per chunk, then dispatch the chunk
+                String leaseName = JobSchedulePartitionHelper.leaseName(partition);
+                int batchSize = OrthAdminBootstrap.getInstance().getScheduleUpdateBatchSize();
+                for (int from = 0; from < scheduleList.size(); from += batchSize) {
+                    int to = Math.min(from + batchSize, scheduleList.size());
+                    List<JobInfo> batch = scheduleList.subList(from, to);
+                    int updated =
+                            OrthAdminBootstrap.getInstance()
+                                    .getJobInfoMapper()
+                                    .scheduleUpdateBatch(batch, leaseName, fencingToken);
+                    if (updated < 1) {
+                        logger.warn(
+                                ">>>>>>>>>>> orth, schedule write-back rejected, lease lost or jobs stopped, partition={}, fencingToken={}",
+                                partition,
+                                fencingToken);
+                        continue;
+                    }
+
+                    // push time-ring / trigger
+                    for (Runnable dispatch : dispatchList.subList(from, to)) {
+                        dispatch.run();
+                    }
+
+                    // move jobs to their new next-trigger-time in the index
+                    if (scheduleIndex != null) {
+                        for (JobInfo jobInfo : batch) {
+                            scheduleIndex.refresh(jobInfo);
+                        }
+                    }
+                }
+
+            } else {
+                preReadSuc = false;
+            }
+
+        } catch (Throwable e) {
+            if (!scheduleThreadToStop) {
+                logger.error(
+                        ">>>>>>>>>>> orth, JobScheduleHelper#scheduleThread error, partition={}:{}",
+                        partition,
+                        e.getMessage(),
+                        e);
+            }
+        }
+        return preReadSuc;
+    }
+
+    /**
+     * Load the rows of the jobs the schedule index reports as due.
+     *
+     * <p>The index is a hint, so each row is re-checked: jobs no longer running are dropped from
+     * the index, and jobs whose next trigger time moved outside the pre-read window (edited or
+     * scheduled elsewhere) are re-indexed and skipped.
+     *
+     * @param scheduleIndex schedule index
+     * @param dueIds job IDs due according to the index
+     * @param nowTime scan time in milliseconds
+     * @return jobs actually due within the pre-read window
+     */
+    private List<JobInfo> loadIndexedDueJobs(
+            JobScheduleIndexHelper scheduleIndex, List<Integer> dueIds, long nowTime) {
+        List<JobInfo> rows =
+                OrthAdminBootstrap.getInstance().getJobInfoMapper().scheduleJobQueryByIds(dueIds);
+
+        Set<Integer> runningIds = new HashSet<>();
+        List<JobInfo> dueJobs = new ArrayList<>();
+        if (rows != null) {
+            for (JobInfo jobInfo : rows) {
+                runningIds.add(jobInfo.getId());
+                if (jobInfo.getTriggerNextTime() <= nowTime + PRE_READ_MS) {
+                    dueJobs.add(jobInfo);
+                } else {
+                    scheduleIndex.refresh(jobInfo);
+                }
+            }
+        }
+        for (Integer jobId : dueIds) {
+            if (!runningIds.contains(jobId)) {
+                scheduleIndex.remove(jobId);
+            }
+        }
+        return dueJobs;
+    }
+
+    /**
+     * Process one pre-read job: misfire, direct trigger, or push to the time ring.
+     *
+     * <p>Next trigger times are refreshed immediately, but the dispatch is returned instead of
+     * executed, so it only happens after the new trigger times were written back.
+     *
+     * @param jobInfo the pre-read job (trigger times are refreshed in place)
+     * @param nowTime scan time in milliseconds
+     * @return dispatch action (misfire handling, triggers and time-ring pushes) for this job
+     */
+    private Runnable scheduleJob(JobInfo jobInfo, long nowTime) {
+        OrthAdminBootstrap.getInstance()
+                .getJobTriggerPoolHelper()
+                .notePriority(jobInfo.getId(), jobInfo.getPriority());
+        if (ScheduleTypeEnum.FIX_RATE_MS.name().equals(jobInfo.getScheduleType())) {
+            return scheduleFixRateMsJob(jobInfo, nowTime);
+        }
+        int jobId = jobInfo.getId();
+        long jitterMs = jitterOffsetMs(jobId, jobInfo.getScheduleJitter());
+
+        // time-ring jump
+        long fireTime = jobInfo.getTriggerNextTime() + jitterMs;
+        boolean heldBack = nowTime > fireTime && admission.isHeldBack(fireTime);
+        scanHeldBack |= heldBack;
+        if (nowTime > fireTime + PRE_READ_MS && !heldBack) {
+            // 2.1、trigger-expire > 5s：pass && make next-trigger-time
+
+            // 1、misfire handle
+            MisfireHandler misfireHandler =
+                    MisfireStrategyEnum.match(
+                                    jobInfo.getMisfireStrategy(), MisfireStrategyEnum.DO_NOTHING)
+                            .getMisfireHandler();
+            long firstMissedTime = jobInfo.getTriggerNextTime();
+            long resumeTime = misfireHandler.resumeTime(jobInfo, firstMissedTime, nowTime);
+            if (resumeTime > 0) {
+                // 2、handled in steps: keep the rest of the window, the next scans resume there
+                jobInfo.setTriggerNextTime(resumeTime);
+                return () -> misfireHandler.handle(jobInfo, firstMissedTime, resumeTime - 1);
+            }
+
+            // 2、fresh next
+            refreshNextTriggerTime(jobInfo, new Date(clock.currentTimeMillis()));
+
+            return () -> misfireHandler.handle(jobInfo, firstMissedTime, nowTime);
+
+        } else if (nowTime > fireTime) {
+            // 2.2、trigger-expire < 5s, or held back by admission：direct-trigger && make
+            // next-trigger-time
+
+            // Capture schedule time before refresh
+            long currentScheduleTime = jobInfo.getTriggerNextTime();
+
+            // 1、fresh next; held back: from this fire, the next scans trigger the later ones
+            refreshNextTriggerTime(
+                    jobInfo, new Date(heldBack ? currentScheduleTime : clock.currentTimeMillis()));
+
+            // next-trigger-time in 5s, pre-read again
+            long preReadScheduleTime = -1;
+            if (jobInfo.getTriggerStatus() == TriggerStatus.RUNNING.getValue()
+                    && nowTime + PRE_READ_MS > jobInfo.getTriggerNextTime()) {
+                preReadScheduleTime = jobInfo.getTriggerNextTime();
+
+                // 2、fresh next
+                refreshNextTriggerTime(jobInfo, new Date(jobInfo.getTriggerNextTime()));
+            }
+
+            long pushScheduleTime = preReadScheduleTime;
+            return () -> {
+                // trigger direct
+                OrthAdminBootstrap.getInstance()
+                        .getJobTriggerPoolHelper()
+                        .trigger(
+                                jobId,
+                                TriggerTypeEnum.CRON,
+                                -1,
+                                null,
+                                null,
+                                null,
+                                currentScheduleTime);
+                logger.debug(
+                        ">>>>>>>>>>> orth, schedule expire, direct trigger : jobId = {}", jobId);
+
+                // push time ring (pre read) with schedule time
+                if (pushScheduleTime > 0) {
+                    pushTimeRing(jobId, pushScheduleTime, jitterMs);
+                    logger.debug(
+                            ">>>>>>>>>>> orth, schedule pre-read, push trigger : jobId = {}",
+                            jobId);
+                }
+            };
+
+        } else {
+            // 2.3、trigger-pre-read：time-ring trigger && make next-trigger-time
+
+            // Capture schedule time before refresh
+            long currentScheduleTime = jobInfo.getTriggerNextTime();
+
+            // 1、fresh next
+            refreshNextTriggerTime(jobInfo, new Date(jobInfo.getTriggerNextTime()));
+
+            return () -> {
+                // push time ring with schedule time
+                pushTimeRing(jobId, currentScheduleTime, jitterMs);
+                logger.debug(">>>>>>>>>>> orth, schedule normal, push trigger : jobId = {}", jobId);
+            };
+        }
+    }
+
+    /**
+     * Process one pre-read FIX_RATE_MS job: push every fire of the pre-read window to the time
+     * ring.
+     *
+     * <p>The sub-second cadence lives in the timing wheel for the window, and only a checkpoint
+     * (last pushed fire, first fire after the window) is written back, so a 100ms job costs one row
+     * update per scan instead of one per fire. Fires stay on the job's phase ({@code
+     * triggerNextTime + k * interval}).
+     *
+     * <p>Late fires are not replayed one by one: more than {@value #PRE_READ_MS} ms late, the
+     * misfire strategy is applied once and the cadence restarts from now (a strategy working in
+     * steps keeps the next trigger time on its resume time instead); less late, or held back by
+     * admission, the most recent missed fire is triggered directly.
+     *
+     * @param jobInfo the pre-read job (trigger times are refreshed in place)
+     * @param nowTime scan time in milliseconds
+     * @return dispatch action (misfire handling, triggers and time-ring pushes) for this job
+     */
+    private Runnable scheduleFixRateMsJob(JobInfo jobInfo, long nowTime) {
+        int jobId = jobInfo.getId();
+        long intervalMs;
+        try {
+            intervalMs = FixRateMsScheduleType.intervalMs(jobInfo);
+        } catch (Throwable e) {
+            // invalid interval, stop job
+            refreshNextTriggerTime(jobInfo, new Date(clock.currentTimeMillis()));
+            return () -> {};
+        }
+
+        Runnable lateDispatch = null;
+        long nextTime = jobInfo.getTriggerNextTime();
+        boolean heldBack = nowTime > nextTime && admission.isHeldBack(nextTime);
+        scanHeldBack |= heldBack;
+        if (nowTime > nextTime + PRE_READ_MS && !heldBack) {
+            // misfire: handle once, restart cadence
+            MisfireHandler misfireHandler =
+                    MisfireStrategyEnum.match(
+                                    jobInfo.getMisfireStrategy(), MisfireStrategyEnum.DO_NOTHING)
+                            .getMisfireHandler();
+            long firstMissedTime = nextTime;
+            long resumeTime = misfireHandler.resumeTime(jobInfo, firstMissedTime, nowTime);
+            if (resumeTime > 0) {
+                // handled in steps: keep the rest of the window, the next scans resume there
+                jobInfo.setTriggerStatus(-1);
+                jobInfo.setTriggerNextTime(resumeTime);
+                return () -> misfireHandler.handle(jobInfo, firstMissedTime, resumeTime - 1);
+            }
+            lateDispatch = () -> misfireHandler.handle(jobInfo, firstMissedTime, nowTime);
+            nextTime = nowTime + intervalMs;
+        } else if (nowTime > nextTime) {
+            // expired < 5s or held back by admission: trigger the most recent missed fire, skip
+            // the others
+            long missedFires = (nowTime - nextTime) / intervalMs + 1;
+            long lateScheduleTime = nextTime + (missedFires - 1) * intervalMs;
+            lateDispatch =
+                    () ->
+                            OrthAdminBootstrap.getInstance()
+                                    .getJobTriggerPoolHelper()
+                                    .trigger(
+                                            jobId,
+                                            TriggerTypeEnum.CRON,
+                                            -1,
+                                            null,
+                                            null,
+                                            null,
+                                            lateScheduleTime);
+            nextTime += missedFires * intervalMs;
+        }
+
+        // checkpoint: last pushed fire, first fire after the window
+        long[] fireTimes = windowFireTimes(nextTime, intervalMs, nowTime + PRE_READ_MS);
+        long lastFireTime =
+                fireTimes.length > 0 ? fireTimes[fireTimes.length - 1] : nextTime - intervalMs;
+        jobInfo.setTriggerStatus(-1); // pass, may be Inaccurate
+        jobInfo.setTriggerLastTime(lastFireTime);
+        jobInfo.setTriggerNextTime(lastFireTime + intervalMs);
+
+        Runnable missedDispatch = lateDispatch;
+        return () -> {
+            if (missedDispatch != null) {
+                missedDispatch.run();
+            }
+            for (long fireTime : fireTimes) {
+                pushTimeRing(jobId, fireTime, 0);
+            }
+        };
+    }
+
+    /**
+     * Fire times of a fixed-rate cadence within a pre-read window.
+     *
+     * @param firstFireTime first fire time of the cadence
+     * @param intervalMs interval in milliseconds
+     * @param windowEnd last time of the window (inclusive)
+     * @return fire times {@code firstFireTime + k * intervalMs <= windowEnd}, ascending
+     */
+    static long[] windowFireTimes(long firstFireTime, long intervalMs, long windowEnd) {
+        if (firstFireTime > windowEnd) {
+            return new long[0];
+        }
+        long[] fireTimes = new long[(int) ((windowEnd - firstFireTime) / intervalMs) + 1];
+        for (int i = 0; i < fireTimes.length; i++) {
+            fireTimes[i] = firstFireTime + i * intervalMs;
+        }
+        return fireTimes;
+    }
+
+    /**
+     * Jitter offset of a job: a fixed point in its jitter window, derived from a hash of the job
+     * ID.
+     *
+     * <p>The offset is deterministic, so every admin node and every scan fires the job at the same
+     * offset, and the job keeps a steady cadence.
+     *
+     * @param jobId job ID
+     * @param jitterSeconds jitter window in seconds, 0 or less for none
+     * @return offset in milliseconds, within {@code [0, jitterSeconds * 1000)}
+     */
+    static long jitterOffsetMs(int jobId, int jitterSeconds) {
+        if (jitterSeconds <= 0) {
+            return 0;
+        }
+        // murmur3 finalizer: spread consecutive job IDs over the whole window
+        int hash = jobId;
+        hash ^= hash >>> 16;
+        hash *= 0x85ebca6b;
+        hash ^= hash >>> 13;
+        hash *= 0xc2b2ae35;
+        hash ^= hash >>> 16;
+        long windowMs = Math.min(jitterSeconds, MAX_SCHEDULE_JITTER_SECONDS) * ONE_SECOND_MS;
+        return Integer.toUnsignedLong(hash) % windowMs;
+    }
+
     /**
      * Refresh the next trigger time for a job.
      *
@@ -450,33 +752,29 @@ public class JobScheduleHelper {
     }
 
     /**
-     * Push a job to the time ring at the specified second slot.
+     * Push a job to the timing wheel.
      *
-     * <p>The time ring has 60 slots (0-59) representing seconds in a minute. Jobs are added to the
-     * slot corresponding to the second they should be triggered.
+     * <p>The job fires on the exact millisecond of its schedule time plus its jitter offset.
      *
-     * @param ringSecond the second slot (0-59) to add the job to
      * @param jobId the job ID
      * @param scheduleTime theoretical schedule time in milliseconds (for logical execution time
      *     tracking)
+     * @param jitterMs jitter offset in milliseconds
      */
-    private void pushTimeRing(int ringSecond, int jobId, long scheduleTime) {
-        // get ringItemData, init when not exists
-        List<RingItem> ringItemList = ringData.computeIfAbsent(ringSecond, k -> new ArrayList<>());
-
-        // push async ring
-        ringItemList.add(new RingItem(jobId, scheduleTime));
+    private void pushTimeRing(int jobId, long scheduleTime, long jitterMs) {
+        timingWheel.add(jobId, scheduleTime, scheduleTime + jitterMs);
         logger.debug(
-                ">>>>>>>>>>> orth, schedule push time-ring : {} = {}",
-                ringSecond,
-                List.of(ringItemList));
+                ">>>>>>>>>>> orth, schedule push time-ring : jobId = {}, scheduleTime = {}, jitterMs = {}",
+                jobId,
+                scheduleTime,
+                jitterMs);
     }
 
     /**
      * Stop the scheduler and ring threads.
      *
      * <p>Gracefully shuts down both threads, waiting for in-flight ring items to complete. Waits up
-     * to 8 seconds if there is pending ring data.
+     * to 8 seconds while there is pending ring data.
      */
     public void stop() {
 
@@ -497,22 +795,14 @@ public class JobScheduleHelper {
             }
         }
 
-        // if has ring data
-        boolean hasRingData = false;
-        if (MapTool.isNotEmpty(ringData)) {
-            for (int second : ringData.keySet()) {
-                List<RingItem> ringItemList = ringData.get(second);
-                if (CollectionTool.isNotEmpty(ringItemList)) {
-                    hasRingData = true;
-                    break;
-                }
-            }
-        }
-        if (hasRingData) {
+        // wait pending ring data (pre-read window) to fire
+        long waitUntil = System.currentTimeMillis() + RING_DRAIN_TIMEOUT_MS;
+        while (timingWheel.size() > 0 && System.currentTimeMillis() < waitUntil) {
             try {
-                TimeUnit.SECONDS.sleep(8);
+                TimeUnit.MILLISECONDS.sleep(100);
             } catch (Throwable e) {
                 logger.error(e.getMessage(), e);
+                break;
             }
         }
 
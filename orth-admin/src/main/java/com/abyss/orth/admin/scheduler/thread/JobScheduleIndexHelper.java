@@ -0,0 +1,248 @@
+package com.abyss.orth.admin.scheduler.thread;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.abyss.orth.admin.constant.TriggerStatus;
+import com.abyss.orth.admin.model.JobInfo;
+import com.abyss.orth.admin.scheduler.config.OrthAdminBootstrap;
+
+/**
+ * In-memory schedule index of running jobs, ordered by next trigger time.
+ *
+ * <p>Lets the schedule thread find due jobs without querying {@code orth_job_info} every second:
+ * the database is only read for the jobs the index reports as due in a leased partition.
+ *
+ * <p><b>Structure</b>: one skip-list of {@code (triggerNextTime, jobId)} per schedule partition,
+ * plus a {@code jobId → triggerNextTime} map. Upsert and remove are O(log n); a due lookup is O(log
+ * n + k).
+ *
+ * <p><b>Freshness</b>:
+ *
+ * <ul>
+ *   <li>Loaded once at startup
+ *   <li>Updated by {@code JobServiceImpl} add/update/start/stop/remove on this node
+ *   <li>Updated by the schedule thread after each write-back
+ *   <li>Polled every second for rows whose {@code update_time} changed (edits made on other admin
+ *       nodes)
+ *   <li>Fully reconciled every {@value #RECONCILE_INTERVAL_SECONDS} seconds
+ * </ul>
+ *
+ * <p>The index is only a hint: the database stays the source of truth. A stale entry that looks due
+ * is corrected when the schedule thread reads the actual row.
+ */
+public class JobScheduleIndexHelper {
+    private static final Logger logger = LoggerFactory.getLogger(JobScheduleIndexHelper.class);
+
+    private static final int POLL_INTERVAL_SECONDS = 1; // Changed-row poll interval
+    private static final int RECONCILE_INTERVAL_SECONDS = 60; // Full reload interval
+    private static final long POLL_OVERLAP_MS = 5000; // Tolerates clock skew between nodes
+
+    /** Index entry ordered by next trigger time, then job ID. */
+    private record IndexEntry(long triggerNextTime, int jobId) implements Comparable<IndexEntry> {
+        @Override
+        public int compareTo(IndexEntry other) {
+            int cmp = Long.compare(triggerNextTime, other.triggerNextTime);
+            return cmp != 0 ? cmp : Integer.compare(jobId, other.jobId);
+        }
+    }
+
+    private final Map<Integer, Long> nextTimeByJob = new ConcurrentHashMap<>();
+    private ConcurrentSkipListSet<IndexEntry>[] partitionIndex;
+    private int partitionCount;
+    private ScheduledExecutorService refreshScheduler;
+    private volatile long lastPollTime;
+
+    /**
+     * Starts the schedule index.
+     *
+     * <p>Loads every running job, then schedules the changed-row poll and the full reconciliation.
+     */
+    public void start() {
+        init(OrthAdminBootstrap.getInstance().getJobSchedulePartitionHelper().getPartitionCount());
+
+        // initial load
+        lastPollTime = System.currentTimeMillis();
+        reconcile();
+
+        refreshScheduler =
+                Executors.newSingleThreadScheduledExecutor(
+                        r -> {
+                            Thread t = new Thread(r, "orth-admin-JobScheduleIndexHelper-refresh");
+                            t.setDaemon(true);
+                            return t;
+                        });
+        refreshScheduler.scheduleWithFixedDelay(
+                ScheduledTaskUtil.safeRunnable("schedule-index-poll", this::pollChanged),
+                POLL_INTERVAL_SECONDS,
+                POLL_INTERVAL_SECONDS,
+                TimeUnit.SECONDS);
+        refreshScheduler.scheduleWithFixedDelay(
+                ScheduledTaskUtil.safeRunnable("schedule-index-reconcile", this::reconcile),
+                RECONCILE_INTERVAL_SECONDS,
+                RECONCILE_INTERVAL_SECONDS,
+                TimeUnit.SECONDS);
+
+        logger.info(">>>>>>>>>>> orth, schedule index start, runningJobs={}", size());
+    }
+
+    /**
+     * Creates the empty per-partition index.
+     *
+     * @param partitionCount total schedule partitions
+     */
+    @SuppressWarnings("unchecked")
+    void init(int partitionCount) {
+        this.partitionCount = partitionCount;
+        partitionIndex = new ConcurrentSkipListSet[partitionCount];
+        for (int i = 0; i < partitionCount; i++) {
+            partitionIndex[i] = new ConcurrentSkipListSet<>();
+        }
+    }
+
+    /** Reloads every running job and drops index entries that are no longer running. */
+    private void reconcile() {
+        List<JobInfo> runningJobs =
+                OrthAdminBootstrap.getInstance().getJobInfoMapper().scheduleIndexLoad();
+        Set<Integer> runningIds = new HashSet<>();
+        if (runningJobs != null) {
+            for (JobInfo jobInfo : runningJobs) {
+                runningIds.add(jobInfo.getId());
+                upsert(jobInfo.getId(), jobInfo.getTriggerNextTime());
+            }
+        }
+        for (Integer jobId : new ArrayList<>(nextTimeByJob.keySet())) {
+            if (!runningIds.contains(jobId)) {
+                remove(jobId);
+            }
+        }
+        logger.debug(
+                ">>>>>>>>>>> orth, schedule index reconciled, runningJobs={}", runningIds.size());
+    }
+
+    /** Applies rows changed since the previous poll, including edits made on other nodes. */
+    private void pollChanged() {
+        long pollTime = System.currentTimeMillis();
+        List<JobInfo> changedJobs =
+                OrthAdminBootstrap.getInstance()
+                        .getJobInfoMapper()
+                        .scheduleIndexLoadUpdated(new Date(lastPollTime - POLL_OVERLAP_MS));
+        if (changedJobs != null) {
+            for (JobInfo jobInfo : changedJobs) {
+                refresh(jobInfo);
+            }
+        }
+        lastPollTime = pollTime;
+    }
+
+    /**
+     * Refreshes the index entry of a job from its current state.
+     *
+     * <p>Running jobs are (re)indexed at their next trigger time, any other job is removed. A
+     * negative status is the schedule thread's "unchanged" marker on a job it just fired, which was
+     * read as running, and is indexed like one.
+     *
+     * @param jobInfo job with current trigger status and next trigger time
+     */
+    public void refresh(JobInfo jobInfo) {
+        if ((jobInfo.getTriggerStatus() == TriggerStatus.RUNNING.getValue()
+                        || jobInfo.getTriggerStatus() < 0)
+                && jobInfo.getTriggerNextTime() > 0) {
+            upsert(jobInfo.getId(), jobInfo.getTriggerNextTime());
+        } else {
+            remove(jobInfo.getId());
+        }
+    }
+
+    /**
+     * Inserts or moves a job in the index.
+     *
+     * @param jobId job ID
+     * @param triggerNextTime next trigger time in milliseconds
+     */
+    public void upsert(int jobId, long triggerNextTime) {
+        ConcurrentSkipListSet<IndexEntry> index = partitionIndex[partitionOf(jobId)];
+        nextTimeByJob.compute(
+                jobId,
+                (id, previous) -> {
+                    if (previous != null) {
+                        if (previous == triggerNextTime) {
+                            return previous;
+                        }
+                        index.remove(new IndexEntry(previous, id));
+                    }
+                    index.add(new IndexEntry(triggerNextTime, id));
+                    return triggerNextTime;
+                });
+    }
+
+    /**
+     * Removes a job from the index.
+     *
+     * @param jobId job ID
+     */
+    public void remove(int jobId) {
+        ConcurrentSkipListSet<IndexEntry> index = partitionIndex[partitionOf(jobId)];
+        nextTimeByJob.computeIfPresent(
+                jobId,
+                (id, previous) -> {
+                    index.remove(new IndexEntry(previous, id));
+                    return null;
+                });
+    }
+
+    /**
+     * Finds jobs of a partition whose next trigger time is at or before {@code maxNextTime}.
+     *
+     * @param partition partition index
+     * @param maxNextTime maximum next trigger time (inclusive)
+     * @param limit maximum number of job IDs to return
+     * @return due job IDs, ordered by next trigger time
+     */
+    public List<Integer> findDue(int partition, long maxNextTime, int limit) {
+        List<Integer> dueIds = new ArrayList<>();
+        for (IndexEntry entry :
+                partitionIndex[partition].headSet(
+                        new IndexEntry(maxNextTime, Integer.MAX_VALUE), true)) {
+            dueIds.add(entry.jobId());
+            if (dueIds.size() >= limit) {
+                break;
+            }
+        }
+        return dueIds;
+    }
+
+    /**
+     * Number of indexed running jobs.
+     *
+     * @return index size
+     */
+    public int size() {
+        return nextTimeByJob.size();
+    }
+
+    private int partitionOf(int jobId) {
+        return partitionCount > 1 ? Math.floorMod(jobId, partitionCount) : 0;
+    }
+
+    /** Stops the poll and reconciliation scheduler. */
+    public void stop() {
+        refreshScheduler.shutdown();
+        try {
+            if (!refreshScheduler.awaitTermination(5, TimeUnit.SECONDS)) {
+                refreshScheduler.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            refreshScheduler.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        logger.info(">>>>>>>>>>> orth, JobScheduleIndexHelper stop");
+    }
+}
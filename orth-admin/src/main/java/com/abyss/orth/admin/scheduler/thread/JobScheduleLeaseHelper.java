@@ -0,0 +1,240 @@
+package com.abyss.orth.admin.scheduler.thread;
+
+import java.util.*;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.abyss.orth.admin.mapper.JobLeaseMapper;
+import com.abyss.orth.admin.model.JobLease;
+import com.abyss.orth.admin.scheduler.config.OrthAdminBootstrap;
+
+/**
+ * Schedule lease helper, holding one expiring lease per schedule partition.
+ *
+ * <p>Replaces the {@code SELECT ... FOR UPDATE} lock that stayed open for the whole schedule
+ * cycle. A lease row in {@code orth_job_lease} records its owner, an expiry (database clock) and a
+ * fencing token that is incremented on every acquisition. The schedule thread writes trigger times
+ * with the token it holds, and the write is rejected once another node acquired the lease, so a
+ * paused or partitioned node cannot double-schedule a partition after losing it.
+ *
+ * <p><b>Renew cycle</b> (every {@code leaseMs / 4}, off the schedule thread):
+ *
+ * <ul>
+ *   <li>Renew every unexpired lease held by this node
+ *   <li>Acquire expired leases of owned partitions, or preempt them once partition ownership has
+ *       been stable for {@value #PREEMPT_STABLE_MS} ms (rebalance hand-off)
+ *   <li>Acquire leases of any partition expired for more than one renew interval, so a crashed
+ *       node's partitions fail over within about one lease interval, before the admin registry
+ *       notices the node is gone
+ * </ul>
+ *
+ * <p>Each held lease is tracked with a local deadline derived from the database expiry and the
+ * monotonic clock at the start of the renew cycle, so a node whose renewals stall stops scanning
+ * before its lease can be taken over.
+ */
+public class JobScheduleLeaseHelper {
+    private static final Logger logger = LoggerFactory.getLogger(JobScheduleLeaseHelper.class);
+
+    private static final long PREEMPT_STABLE_MS = 10_000; // 2 partition heartbeats
+    private static final long MIN_RENEW_INTERVAL_MS = 250;
+
+    /** Lease held by this node. */
+    private record HeldLease(long fencingToken, long validUntilNanos) {}
+
+    private ScheduledExecutorService renewScheduler;
+    private String owner;
+    private long leaseMs;
+    private long renewIntervalMs;
+    private volatile HeldLease[] heldLeases = new HeldLease[0];
+
+    /**
+     * Starts the lease helper.
+     *
+     * <p>Creates missing lease rows, then renews and acquires leases every {@code leaseMs / 4}.
+     */
+    public void start() {
+        owner = OrthAdminBootstrap.getInstance().getAdminAddress();
+        leaseMs = OrthAdminBootstrap.getInstance().getScheduleLeaseMs();
+        renewIntervalMs = Math.max(MIN_RENEW_INTERVAL_MS, leaseMs / 4);
+        int partitionCount =
+                OrthAdminBootstrap.getInstance()
+                        .getJobSchedulePartitionHelper()
+                        .getPartitionCount();
+        heldLeases = new HeldLease[partitionCount];
+
+        // init lease rows
+        for (int partition = 0; partition < partitionCount; partition++) {
+            OrthAdminBootstrap.getInstance()
+                    .getJobLeaseMapper()
+                    .initLease(JobSchedulePartitionHelper.leaseName(partition));
+        }
+
+        renewScheduler =
+                Executors.newSingleThreadScheduledExecutor(
+                        r -> {
+                            Thread t = new Thread(r, "orth-admin-JobScheduleLeaseHelper-renew");
+                            t.setDaemon(true);
+                            return t;
+                        });
+        renewScheduler.scheduleAtFixedRate(
+                ScheduledTaskUtil.safeRunnable("schedule-lease-renew", this::renewCycle),
+                0,
+                renewIntervalMs,
+                TimeUnit.MILLISECONDS);
+
+        logger.info(
+                ">>>>>>>>>>> orth, schedule lease helper start, owner={}, leaseMs={}, renewIntervalMs={}",
+                owner,
+                leaseMs,
+                renewIntervalMs);
+    }
+
+    /** Renews held leases, acquires free or owned ones, and refreshes the local lease table. */
+    private void renewCycle() {
+        long cycleStartNanos = System.nanoTime();
+        JobLeaseMapper leaseMapper = OrthAdminBootstrap.getInstance().getJobLeaseMapper();
+        JobSchedulePartitionHelper partitionHelper =
+                OrthAdminBootstrap.getInstance().getJobSchedulePartitionHelper();
+
+        // 1、renew
+        leaseMapper.renew(owner, leaseMs);
+
+        // 2、acquire
+        Map<String, JobLease> leases = loadLeases(leaseMapper);
+        long dbNow = leaseMapper.dbTime();
+        Set<Integer> owned = new HashSet<>();
+        for (int partition : partitionHelper.getOwnedPartitions()) {
+            owned.add(partition);
+        }
+        boolean preempt = partitionHelper.getOwnershipAgeMs() >= PREEMPT_STABLE_MS;
+
+        boolean acquired = false;
+        for (int partition = 0; partition < heldLeases.length; partition++) {
+            String leaseName = JobSchedulePartitionHelper.leaseName(partition);
+            if (isHeld(leases.get(leaseName), dbNow)) {
+                continue;
+            }
+            int ret =
+                    owned.contains(partition)
+                            ? leaseMapper.acquire(leaseName, owner, leaseMs, preempt, 0)
+                            : leaseMapper.acquire(
+                                    leaseName, owner, leaseMs, false, renewIntervalMs);
+            acquired |= ret > 0;
+        }
+        if (acquired) {
+            leases = loadLeases(leaseMapper);
+            dbNow = leaseMapper.dbTime();
+        }
+
+        // 3、refresh local view
+        HeldLease[] newHeld = new HeldLease[heldLeases.length];
+        for (int partition = 0; partition < newHeld.length; partition++) {
+            JobLease lease = leases.get(JobSchedulePartitionHelper.leaseName(partition));
+            if (isHeld(lease, dbNow)) {
+                newHeld[partition] =
+                        new HeldLease(
+                                lease.getFencingToken(),
+                                cycleStartNanos
+                                        + TimeUnit.MILLISECONDS.toNanos(
+                                                lease.getExpireTime() - dbNow));
+            }
+        }
+        logChanges(heldLeases, newHeld);
+        heldLeases = newHeld;
+    }
+
+    private Map<String, JobLease> loadLeases(JobLeaseMapper leaseMapper) {
+        Map<String, JobLease> leases = new HashMap<>();
+        List<JobLease> leaseList = leaseMapper.findAll();
+        if (leaseList != null) {
+            for (JobLease lease : leaseList) {
+                leases.put(lease.getLeaseName(), lease);
+            }
+        }
+        return leases;
+    }
+
+    private boolean isHeld(JobLease lease, long dbNow) {
+        return lease != null && owner.equals(lease.getOwner()) && lease.getExpireTime() >= dbNow;
+    }
+
+    private void logChanges(HeldLease[] oldHeld, HeldLease[] newHeld) {
+        for (int partition = 0; partition < newHeld.length; partition++) {
+            HeldLease before = oldHeld[partition];
+            HeldLease after = newHeld[partition];
+            if (after != null
+                    && (before == null || before.fencingToken() != after.fencingToken())) {
+                logger.info(
+                        ">>>>>>>>>>> orth, schedule lease acquired, partition={}, fencingToken={}",
+                        partition,
+                        after.fencingToken());
+            } else if (after == null && before != null) {
+                logger.info(
+                        ">>>>>>>>>>> orth, schedule lease lost, partition={}, fencingToken={}",
+                        partition,
+                        before.fencingToken());
+            }
+        }
+    }
+
+    /**
+     * Gets the fencing token of a partition lease held by this node.
+     *
+     * @param partition partition index
+     * @return fencing token, or 0 if the lease is not held or may already have expired
+     */
+    public long getFencingToken(int partition) {
+        HeldLease[] held = heldLeases;
+        if (partition >= held.length) {
+            return 0;
+        }
+        HeldLease lease = held[partition];
+        if (lease == null || System.nanoTime() - lease.validUntilNanos() >= 0) {
+            return 0;
+        }
+        return lease.fencingToken();
+    }
+
+    /**
+     * Gets the partitions whose lease is currently held by this node.
+     *
+     * @return held partition indexes
+     */
+    public int[] getHeldPartitions() {
+        HeldLease[] held = heldLeases;
+        long now = System.nanoTime();
+        int[] partitions = new int[held.length];
+        int count = 0;
+        for (int partition = 0; partition < held.length; partition++) {
+            if (held[partition] != null && now - held[partition].validUntilNanos() < 0) {
+                partitions[count++] = partition;
+            }
+        }
+        return Arrays.copyOf(partitions, count);
+    }
+
+    /** Stops renewing and releases every held lease so other nodes take over immediately. */
+    public void stop() {
+        renewScheduler.shutdown();
+        try {
+            if (!renewScheduler.awaitTermination(5, TimeUnit.SECONDS)) {
+                renewScheduler.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            renewScheduler.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        heldLeases = new HeldLease[heldLeases.length];
+
+        try {
+            OrthAdminBootstrap.getInstance().getJobLeaseMapper().release(owner);
+        } catch (Throwable e) {
+            logger.error(">>>>>>>>>>> orth, schedule lease release error, owner={}", owner, e);
+        }
+        logger.info(">>>>>>>>>>> orth, JobScheduleLeaseHelper stop");
+    }
+}
@@ -0,0 +1,224 @@
+package com.abyss.orth.admin.scheduler.thread;
+
+import java.util.*;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.abyss.orth.admin.model.JobRegistry;
+import com.abyss.orth.admin.scheduler.config.OrthAdminBootstrap;
+import com.abyss.orth.core.constant.RegistType;
+
+/**
+ * Schedule partition helper for multi-leader scheduling.
+ *
+ * <p>The job table is split into N partitions by {@code id % N}. Each partition has its own lease
+ * row ({@code schedule_<n>}) in {@code orth_job_lease}, so admin nodes scanning different
+ * partitions never contend on the same row.
+ *
+ * <p><b>Ownership</b>:
+ *
+ * <ul>
+ *   <li>Every admin node heartbeats an ADMIN entry into {@code orth_job_registry}
+ *   <li>Live admin addresses are sorted; node at index i owns partitions where {@code p % size ==
+ *       i}
+ *   <li>Ownership is recomputed on every heartbeat, so partitions rebalance when nodes join or
+ *       leave
+ * </ul>
+ *
+ * <p>Ownership is only an assignment hint used by {@link JobScheduleLeaseHelper} to decide which
+ * leases to acquire: the lease fencing token still guarantees that only one node writes a
+ * partition's trigger times while two nodes briefly disagree during a rebalance.
+ */
+public class JobSchedulePartitionHelper {
+    private static final Logger logger = LoggerFactory.getLogger(JobSchedulePartitionHelper.class);
+
+    /** Registry key used by admin nodes (registry_group = ADMIN). */
+    public static final String ADMIN_REGISTRY_KEY = "orth-admin";
+
+    private static final String LEASE_NAME_PREFIX = "schedule_";
+    private static final int HEARTBEAT_SECONDS = 5; // Admin heartbeat interval
+    private static final int ADMIN_DEAD_TIMEOUT_SECONDS = 15; // 3 missed heartbeats
+
+    private ScheduledExecutorService heartbeatScheduler;
+    private int partitionCount;
+    private String adminAddress;
+    private volatile int[] ownedPartitions;
+    private volatile long ownershipChangedAt;
+    private volatile int liveAdminCount = 1;
+
+    /**
+     * Starts the partition helper.
+     *
+     * <p>Heartbeats this admin node and recomputes partition ownership every {@value
+     * #HEARTBEAT_SECONDS} seconds. Until the first heartbeat completes the node owns every
+     * partition, which is safe because partition leases still serialize the scan.
+     */
+    public void start() {
+        partitionCount = OrthAdminBootstrap.getInstance().getSchedulePartitions();
+        adminAddress = OrthAdminBootstrap.getInstance().getAdminAddress();
+        ownedPartitions = allPartitions(partitionCount);
+        ownershipChangedAt = System.currentTimeMillis();
+
+        // heartbeat + rebalance
+        heartbeatScheduler =
+                Executors.newSingleThreadScheduledExecutor(
+                        r -> {
+                            Thread t =
+                                    new Thread(
+                                            r, "orth-admin-JobSchedulePartitionHelper-heartbeat");
+                            t.setDaemon(true);
+                            return t;
+                        });
+        heartbeatScheduler.scheduleWithFixedDelay(
+                ScheduledTaskUtil.safeRunnable("partition-heartbeat", this::heartbeat),
+                0,
+                HEARTBEAT_SECONDS,
+                TimeUnit.SECONDS);
+
+        logger.info(
+                ">>>>>>>>>>> orth, schedule partition helper start, adminAddress={}, partitions={}",
+                adminAddress,
+                partitionCount);
+    }
+
+    /** Registers this admin node and recomputes owned partitions from the live admin list. */
+    private void heartbeat() {
+        Date now = new Date();
+        OrthAdminBootstrap.getInstance()
+                .getJobRegistryMapper()
+                .registrySaveOrUpdate(
+                        RegistType.ADMIN.name(), ADMIN_REGISTRY_KEY, adminAddress, now);
+
+        List<JobRegistry> registryList =
+                OrthAdminBootstrap.getInstance()
+                        .getJobRegistryMapper()
+                        .findAll(ADMIN_DEAD_TIMEOUT_SECONDS, now);
+        TreeSet<String> liveAdmins = new TreeSet<>();
+        if (registryList != null) {
+            for (JobRegistry registry : registryList) {
+                if (RegistType.ADMIN.name().equals(registry.getRegistryGroup())
+                        && ADMIN_REGISTRY_KEY.equals(registry.getRegistryKey())) {
+                    liveAdmins.add(registry.getRegistryValue());
+                }
+            }
+        }
+        liveAdmins.add(adminAddress);
+
+        liveAdminCount = liveAdmins.size();
+        int[] newOwned =
+                computeOwnedPartitions(
+                        partitionCount, liveAdmins.headSet(adminAddress).size(), liveAdmins.size());
+        if (!Arrays.equals(newOwned, ownedPartitions)) {
+            logger.info(
+                    ">>>>>>>>>>> orth, schedule partitions rebalanced, adminAddress={}, liveAdmins={}, owned={}",
+                    adminAddress,
+                    liveAdmins,
+                    Arrays.toString(newOwned));
+            ownedPartitions = newOwned;
+            ownershipChangedAt = System.currentTimeMillis();
+        }
+    }
+
+    /**
+     * Computes the partitions owned by the node at {@code nodeIndex} among {@code nodeCount} sorted
+     * live nodes.
+     *
+     * @param partitionCount total partitions
+     * @param nodeIndex index of this node in the sorted live node list
+     * @param nodeCount number of live nodes
+     * @return owned partition indexes, ascending
+     */
+    static int[] computeOwnedPartitions(int partitionCount, int nodeIndex, int nodeCount) {
+        if (nodeCount <= 1) {
+            return allPartitions(partitionCount);
+        }
+        return IntStream.range(0, partitionCount)
+                .filter(partition -> partition % nodeCount == nodeIndex)
+                .toArray();
+    }
+
+    private static int[] allPartitions(int partitionCount) {
+        return IntStream.range(0, partitionCount).toArray();
+    }
+
+    /**
+     * Gets the partitions currently owned by this admin node.
+     *
+     * <p>May be empty when there are more admin nodes than partitions.
+     *
+     * @return owned partition indexes
+     */
+    public int[] getOwnedPartitions() {
+        return ownedPartitions;
+    }
+
+    /**
+     * Gets the number of live admin nodes, this one included, as of the last heartbeat.
+     *
+     * @return live admin node count, at least 1
+     */
+    public int getLiveAdminCount() {
+        return liveAdminCount;
+    }
+
+    /**
+     * Gets how long the owned partitions have been unchanged.
+     *
+     * @return milliseconds since the last ownership change
+     */
+    public long getOwnershipAgeMs() {
+        return System.currentTimeMillis() - ownershipChangedAt;
+    }
+
+    /**
+     * Gets the total partition count (identical on every admin node).
+     *
+     * @return partition count
+     */
+    public int getPartitionCount() {
+        return partitionCount;
+    }
+
+    /**
+     * Gets the lease row name guarding a partition.
+     *
+     * @param partition partition index
+     * @return lease name
+     */
+    public static String leaseName(int partition) {
+        return LEASE_NAME_PREFIX + partition;
+    }
+
+    /**
+     * Stops the heartbeat and deregisters this admin node so that other nodes take over its
+     * partitions on their next heartbeat.
+     */
+    public void stop() {
+        heartbeatScheduler.shutdown();
+        try {
+            if (!heartbeatScheduler.awaitTermination(5, TimeUnit.SECONDS)) {
+                heartbeatScheduler.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            heartbeatScheduler.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+
+        try {
+            OrthAdminBootstrap.getInstance()
+                    .getJobRegistryMapper()
+                    .registryDelete(RegistType.ADMIN.name(), ADMIN_REGISTRY_KEY, adminAddress);
+        } catch (Throwable e) {
+            logger.error(
+                    ">>>>>>>>>>> orth, schedule partition deregister error, adminAddress={}",
+                    adminAddress,
+                    e);
+        }
+        logger.info(">>>>>>>>>>> orth, JobSchedulePartitionHelper stop");
+    }
+}
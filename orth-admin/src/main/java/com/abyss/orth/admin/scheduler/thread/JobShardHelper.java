@@ -0,0 +1,419 @@
+package com.abyss.orth.admin.scheduler.thread;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.abyss.orth.admin.mapper.JobLogMapper;
+import com.abyss.orth.admin.mapper.JobShardMapper;
+import com.abyss.orth.admin.model.JobLog;
+import com.abyss.orth.admin.model.JobShard;
+import com.abyss.orth.admin.model.JobShardProgress;
+import com.abyss.orth.admin.scheduler.config.OrthAdminBootstrap;
+import com.abyss.orth.admin.scheduler.trigger.TriggerDiagnostics;
+import com.abyss.orth.core.context.OrthJobContext;
+import com.abyss.orth.core.openapi.model.ShardAckRequest;
+import com.abyss.orth.core.openapi.model.ShardLease;
+import com.abyss.orth.core.openapi.model.ShardLeaseRequest;
+import com.xxl.tool.response.Response;
+
+/**
+ * Virtual shard helper, serving shard leases to the executors of virtually sharded runs.
+ *
+ * <p>A {@code SHARDING_BROADCAST} job with a {@code shard_count} splits each run into that many
+ * shards, independent of the executor count. The run has one parent log; its executors lease
+ * pending shards one at a time as they free up and ack each when handled, so faster executors take
+ * more shards:
+ *
+ * <ul>
+ *   <li><b>Retry</b>: a failed shard is pending again while its attempts (1 + the job's fail retry
+ *       count) allow, so only failed shards are retried, by whichever executor is free
+ *   <li><b>Reclaim</b>: a lease not acked within {@code orth.job.shard.lease.seconds} counts as a
+ *       failed attempt; its late ack is rejected by the lease token
+ *   <li><b>Stall</b>: pending shards no executor leased for a lease period (every executor of the
+ *       run stopped) fail
+ *   <li><b>Completion</b>: once no shard is open, the parent log completes once, successfully if no
+ *       shard failed, with a shard summary as its handle message; the shards are then deleted
+ * </ul>
+ *
+ * <p>All state is in the shard rows, so any admin node serves leases, acks and reclaims of any run.
+ */
+public class JobShardHelper {
+    private static final Logger logger = LoggerFactory.getLogger(JobShardHelper.class);
+
+    private static final int SAVE_BATCH_SIZE = 1000;
+    private static final int RECLAIM_BATCH_SIZE = 500;
+    private static final int STALL_CHECK_TICKS = 10;
+    private static final int FAILED_INDEXES_SHOWN = 20;
+    private static final int MAX_HANDLE_MSG_LENGTH = 512;
+    private static final String MSG_LEASE_EXPIRED = "Shard lease expired";
+    private static final String MSG_STALLED = "No executor leased the shard in time";
+
+    /**
+     * Sharding param prefix of a virtually sharded run's parent log, followed by the shard count
+     */
+    private static final String VIRTUAL_SHARDING_PREFIX = "*/";
+
+    /** Shard and parent log persistence, replaced in tests. */
+    interface ShardStore {
+        void save(long jobLogId, List<Integer> shardIndexes, int maxAttempts);
+
+        JobShard lease(long jobLogId, long leaseToken, String leaseOwner, long leaseMs);
+
+        boolean ack(
+                long jobLogId, int shardIndex, long leaseToken, boolean success, String handleMsg);
+
+        JobShardProgress progress(long jobLogId);
+
+        List<Integer> findFailed(long jobLogId, int limit);
+
+        List<JobShard> findExpired(int limit);
+
+        boolean reclaim(JobShard shard, String handleMsg);
+
+        List<Long> findStalled(long idleMs, int limit);
+
+        void failPending(long jobLogId, String handleMsg);
+
+        void delete(long jobLogId);
+
+        /**
+         * Completes the parent log unless a result was already recorded.
+         *
+         * @return false if the log is gone or was completed by another call
+         */
+        boolean complete(long jobLogId, int handleCode, String handleMsg);
+    }
+
+    private final AtomicLong leaseCount = new AtomicLong();
+    private final AtomicLong reclaimCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+    private ShardStore store;
+    private long leaseMs;
+    private ScheduledExecutorService monitor;
+    private int ticks;
+
+    /** Starts the lease monitor. */
+    public void start() {
+        JobShardMapper jobShardMapper = OrthAdminBootstrap.getInstance().getJobShardMapper();
+        JobLogMapper jobLogMapper = OrthAdminBootstrap.getInstance().getJobLogMapper();
+        init(
+                OrthAdminBootstrap.getInstance().getShardLeaseMs(),
+                new ShardStore() {
+                    @Override
+                    public void save(long jobLogId, List<Integer> shardIndexes, int maxAttempts) {
+                        jobShardMapper.saveBatch(jobLogId, shardIndexes, maxAttempts);
+                    }
+
+                    @Override
+                    public JobShard lease(
+                            long jobLogId, long leaseToken, String leaseOwner, long leaseMs) {
+                        return jobShardMapper.lease(jobLogId, leaseToken, leaseOwner, leaseMs) > 0
+                                ? jobShardMapper.loadByToken(jobLogId, leaseToken)
+                                : null;
+                    }
+
+                    @Override
+                    public boolean ack(
+                            long jobLogId,
+                            int shardIndex,
+                            long leaseToken,
+                            boolean success,
+                            String handleMsg) {
+                        return jobShardMapper.ack(
+                                        jobLogId, shardIndex, leaseToken, success, handleMsg)
+                                > 0;
+                    }
+
+                    @Override
+                    public JobShardProgress progress(long jobLogId) {
+                        return jobShardMapper.progress(jobLogId);
+                    }
+
+                    @Override
+                    public List<Integer> findFailed(long jobLogId, int limit) {
+                        return jobShardMapper.findFailed(jobLogId, limit);
+                    }
+
+                    @Override
+                    public List<JobShard> findExpired(int limit) {
+                        return jobShardMapper.findExpired(limit);
+                    }
+
+                    @Override
+                    public boolean reclaim(JobShard shard, String handleMsg) {
+                        return jobShardMapper.reclaim(
+                                        shard.getJobLogId(),
+                                        shard.getShardIndex(),
+                                        shard.getLeaseToken(),
+                                        handleMsg)
+                                > 0;
+                    }
+
+                    @Override
+                    public List<Long> findStalled(long idleMs, int limit) {
+                        return jobShardMapper.findStalled(idleMs, limit);
+                    }
+
+                    @Override
+                    public void failPending(long jobLogId, String handleMsg) {
+                        jobShardMapper.failPending(jobLogId, handleMsg);
+                    }
+
+                    @Override
+                    public void delete(long jobLogId) {
+                        jobShardMapper.delete(jobLogId);
+                    }
+
+                    @Override
+                    public boolean complete(long jobLogId, int handleCode, String handleMsg) {
+                        JobLog jobLog = jobLogMapper.load(jobLogId);
+                        if (jobLog == null) {
+                            return false;
+                        }
+                        jobLog.setHandleTime(
+                                new Date(
+                                        OrthAdminBootstrap.getInstance()
+                                                .getClock()
+                                                .currentTimeMillis()));
+                        jobLog.setHandleCode(handleCode);
+                        jobLog.setHandleMsg(handleMsg);
+                        if (jobLogMapper.updateHandleInfoIfRunning(jobLog) == 0) {
+                            return false;
+                        }
+                        // claimed: child jobs and the final message, exactly once
+                        OrthAdminBootstrap.getInstance().getJobCompleter().complete(jobLog);
+                        return true;
+                    }
+                },
+                Executors.newSingleThreadScheduledExecutor(
+                        r -> {
+                            Thread t = new Thread(r, "orth-admin-JobShardHelper-monitor");
+                            t.setDaemon(true);
+                            return t;
+                        }));
+    }
+
+    /**
+     * Starts with explicit settings.
+     *
+     * @param leaseMs lease duration in milliseconds
+     * @param store shard persistence
+     * @param monitor runs the reclaim and stall checks every second; null to run them manually
+     */
+    void init(long leaseMs, ShardStore store, ScheduledExecutorService monitor) {
+        this.leaseMs = leaseMs;
+        this.store = store;
+        this.monitor = monitor;
+        if (monitor != null) {
+            monitor.scheduleWithFixedDelay(
+                    ScheduledTaskUtil.safeRunnable("shard-monitor", this::monitorTick),
+                    1,
+                    1,
+                    TimeUnit.SECONDS);
+        }
+        logger.info(">>>>>>>>>>> orth, shard helper start, leaseMs={}", leaseMs);
+    }
+
+    /** Stops the lease monitor. */
+    public void stop() {
+        if (monitor != null) {
+            monitor.shutdownNow();
+        }
+        logger.info(">>>>>>>>>>> orth, shard helper stop");
+    }
+
+    /**
+     * Formats the sharding param of a virtually sharded run's parent log.
+     *
+     * @param shardCount virtual shard count
+     * @return sharding param, the shard count after an asterisk and a slash
+     */
+    public static String virtualShardingParam(int shardCount) {
+        return VIRTUAL_SHARDING_PREFIX + shardCount;
+    }
+
+    /**
+     * Tells whether a log is the parent log of a virtually sharded run; such a log completes with
+     * its last shard, not with its executors' callbacks.
+     *
+     * @param jobLog job log
+     * @return true if virtually sharded
+     */
+    public static boolean isVirtualShardRun(JobLog jobLog) {
+        return jobLog.getExecutorShardingParam() != null
+                && jobLog.getExecutorShardingParam().startsWith(VIRTUAL_SHARDING_PREFIX);
+    }
+
+    /**
+     * Creates the pending shards of a run.
+     *
+     * @param jobLogId parent log ID
+     * @param shardCount virtual shard count
+     * @param maxAttempts max leases per shard, 1 + the job's fail retry count
+     */
+    public void createShards(long jobLogId, int shardCount, int maxAttempts) {
+        List<Integer> batch = new ArrayList<>(Math.min(shardCount, SAVE_BATCH_SIZE));
+        for (int i = 0; i < shardCount; i++) {
+            batch.add(i);
+            if (batch.size() == SAVE_BATCH_SIZE || i == shardCount - 1) {
+                store.save(jobLogId, batch, Math.max(1, maxAttempts));
+                batch = new ArrayList<>(Math.min(shardCount - i - 1, SAVE_BATCH_SIZE));
+            }
+        }
+    }
+
+    /**
+     * Deletes the shards of a run no executor accepted.
+     *
+     * @param jobLogId parent log ID
+     */
+    public void discardShards(long jobLogId) {
+        store.delete(jobLogId);
+    }
+
+    /**
+     * Leases the next pending shard of a run.
+     *
+     * @param request run and leasing executor
+     * @return the lease; shard index -1 if none is pending, with the run's open shard count
+     */
+    public Response<ShardLease> lease(ShardLeaseRequest request) {
+        long leaseToken = ThreadLocalRandom.current().nextLong(1, Long.MAX_VALUE);
+        JobShard shard = store.lease(request.getLogId(), leaseToken, request.getWorker(), leaseMs);
+        if (shard != null) {
+            leaseCount.incrementAndGet();
+        }
+        JobShardProgress progress = store.progress(request.getLogId());
+        return Response.ofSuccess(
+                new ShardLease(
+                        shard != null ? shard.getShardIndex() : -1,
+                        progress != null ? progress.getTotal() : 0,
+                        shard != null ? leaseToken : 0,
+                        progress != null ? progress.getOpen() : 0));
+    }
+
+    /**
+     * Acks a leased shard; completes the run once it was the last open shard.
+     *
+     * @param request shard, lease token and handle result
+     * @return success, or failure if the lease expired and the shard was reclaimed
+     */
+    public Response<String> ack(ShardAckRequest request) {
+        boolean success = request.getHandleCode() == OrthJobContext.HANDLE_CODE_SUCCESS;
+        boolean acked =
+                store.ack(
+                        request.getLogId(),
+                        request.getShardIndex(),
+                        request.getLeaseToken(),
+                        success,
+                        truncate(request.getHandleMsg()));
+        if (!acked) {
+            return Response.ofFail("Shard lease expired, shard reclaimed");
+        }
+        completeIfDone(request.getLogId());
+        return Response.ofSuccess();
+    }
+
+    /**
+     * Shard counts of a run, for the progress of a running parent log.
+     *
+     * @param jobLogId parent log ID
+     * @return shard counts; total 0 once the run completed
+     */
+    public JobShardProgress progress(long jobLogId) {
+        return store.progress(jobLogId);
+    }
+
+    /** Reclaims expired leases; every {@value #STALL_CHECK_TICKS} ticks, fails stalled runs. */
+    void monitorTick() {
+        reclaimExpired();
+        if (++ticks % STALL_CHECK_TICKS == 0) {
+            failStalled();
+        }
+    }
+
+    /** Takes back expired leases and completes runs whose last shard failed with its lease. */
+    void reclaimExpired() {
+        for (JobShard shard : store.findExpired(RECLAIM_BATCH_SIZE)) {
+            if (store.reclaim(shard, MSG_LEASE_EXPIRED)) {
+                reclaimCount.incrementAndGet();
+                logger.warn(
+                        ">>>>>>>>>>> orth, shard lease expired, logId={}, shard={}, owner={}",
+                        shard.getJobLogId(),
+                        shard.getShardIndex(),
+                        shard.getLeaseOwner());
+                completeIfDone(shard.getJobLogId());
+            }
+        }
+    }
+
+    /** Fails the pending shards of runs no executor leases from any more. */
+    void failStalled() {
+        for (long jobLogId : store.findStalled(leaseMs, RECLAIM_BATCH_SIZE)) {
+            logger.warn(
+                    ">>>>>>>>>>> orth, shard run stalled, pending shards fail, logId={}", jobLogId);
+            store.failPending(jobLogId, MSG_STALLED);
+            completeIfDone(jobLogId);
+        }
+    }
+
+    private void completeIfDone(long jobLogId) {
+        JobShardProgress progress = store.progress(jobLogId);
+        if (progress == null || progress.getTotal() == 0 || progress.getOpen() > 0) {
+            return;
+        }
+        List<Integer> failedIndexes =
+                progress.getFailed() > 0
+                        ? store.findFailed(jobLogId, FAILED_INDEXES_SHOWN)
+                        : List.of();
+        String summary =
+                TriggerDiagnostics.shardSummary(
+                        progress.getTotal(),
+                        progress.getDone(),
+                        progress.getFailed(),
+                        failedIndexes);
+        int handleCode =
+                progress.getFailed() == 0
+                        ? OrthJobContext.HANDLE_CODE_SUCCESS
+                        : OrthJobContext.HANDLE_CODE_FAIL;
+        if (store.complete(jobLogId, handleCode, summary)) {
+            failedCount.addAndGet(progress.getFailed());
+            logger.info(
+                    ">>>>>>>>>>> orth, shard run complete, logId={}, total={}, failed={}",
+                    jobLogId,
+                    progress.getTotal(),
+                    progress.getFailed());
+        }
+        store.delete(jobLogId);
+    }
+
+    private static String truncate(String handleMsg) {
+        return handleMsg != null && handleMsg.length() > MAX_HANDLE_MSG_LENGTH
+                ? handleMsg.substring(0, MAX_HANDLE_MSG_LENGTH)
+                : handleMsg;
+    }
+
+    /** Shard leases granted. */
+    public long getLeaseCount() {
+        return leaseCount.get();
+    }
+
+    /** Shard leases reclaimed after expiring. */
+    public long getReclaimCount() {
+        return reclaimCount.get();
+    }
+
+    /** Shards failed after their last attempt, in completed runs. */
+    public long getFailedCount() {
+        return failedCount.get();
+    }
+}
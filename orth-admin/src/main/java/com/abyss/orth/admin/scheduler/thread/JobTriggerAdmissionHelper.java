@@ -0,0 +1,495 @@
+package com.abyss.orth.admin.scheduler.thread;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.DoubleSupplier;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.abyss.orth.admin.mapper.JobTriggerDeferredMapper;
+import com.abyss.orth.admin.model.JobTriggerDeferred;
+import com.abyss.orth.admin.scheduler.config.OrthAdminBootstrap;
+import com.abyss.orth.admin.scheduler.thread.JobTriggerPoolHelper.PendingTrigger;
+import com.abyss.orth.admin.scheduler.trigger.TriggerTypeEnum;
+
+/**
+ * Trigger admission helper, deferring the triggers rejected by saturated trigger pools instead of
+ * dropping them.
+ *
+ * <p>A rejected trigger is queued here and resubmitted with exponential backoff ({@value
+ * #BASE_BACKOFF_MS} ms doubling up to {@value #MAX_BACKOFF_MS} ms). The retry stops at the first
+ * trigger the pools reject again, so a saturated pool is not hammered. A trigger is dropped (and
+ * counted) only when it was rejected {@code orth.job.admission.max-defers} times or the defer queue
+ * ({@code orth.job.admission.queuesize}) is full.
+ *
+ * <p><b>Persistence</b>: deferred CRON triggers are written to {@code orth_job_trigger_deferred} by
+ * the retry thread, so they survive an admin node stop. Rows whose retry is more than {@value
+ * #OVERDUE_GRACE_MS} ms overdue are recovered by any node; a row is claimed by deleting it before
+ * the retry, so a trigger fires at most once. Other trigger types are retried from memory only.
+ *
+ * <p><b>Backpressure</b>: {@link JobScheduleHelper} scales its pre-read count by {@link
+ * #admitPreReadCount(int, int)}, reading fewer due jobs per scan as the pools saturate or the defer
+ * queue fills up. Jobs left unread are picked up by the following scans, later but not lost: a job
+ * that fell due while scans were throttled is {@link #isHeldBack held back}, and the scheduler
+ * triggers its late fires one by one instead of applying its misfire strategy.
+ */
+public class JobTriggerAdmissionHelper {
+    private static final Logger logger = LoggerFactory.getLogger(JobTriggerAdmissionHelper.class);
+
+    static final long BASE_BACKOFF_MS = 100;
+    static final long MAX_BACKOFF_MS = 5000;
+    static final long OVERDUE_GRACE_MS = 30_000; // then a persisted row is recovered by any node
+    private static final long DISPATCH_INTERVAL_MS = 50;
+    private static final long RECOVERY_INTERVAL_MS = 10_000;
+    private static final int RECOVERY_BATCH_SIZE = 100;
+
+    /** Resubmits a trigger; {@link JobTriggerPoolHelper#tryTrigger} outside of tests. */
+    interface Resubmitter {
+        boolean submit(PendingTrigger trigger);
+    }
+
+    /** Deferred trigger store; {@link JobTriggerDeferredMapper} outside of tests. */
+    interface DeferStore {
+        long save(int jobId, long scheduleTime, int deferCount, long retryTime);
+
+        boolean claim(long id);
+
+        List<Deferral> loadOverdue(long retryTimeBefore, int limit);
+    }
+
+    /** A deferred trigger waiting for its retry. */
+    static class Deferral {
+        final PendingTrigger trigger;
+        final int deferCount;
+        final long retryAt;
+        final boolean durable;
+        long persistId; // 0 until persisted
+
+        Deferral(
+                PendingTrigger trigger,
+                int deferCount,
+                long retryAt,
+                boolean durable,
+                long persistId) {
+            this.trigger = trigger;
+            this.deferCount = deferCount;
+            this.retryAt = retryAt;
+            this.durable = durable;
+            this.persistId = persistId;
+        }
+    }
+
+    private final PriorityQueue<Deferral> deferred =
+            new PriorityQueue<>(Comparator.comparingLong(deferral -> deferral.retryAt));
+    private final ArrayDeque<Deferral> unpersisted = new ArrayDeque<>();
+    private final Set<Long> persistedIds = new HashSet<>(); // rows held in memory by this node
+    private final AtomicLong deferCount = new AtomicLong();
+    private final AtomicLong retryCount = new AtomicLong();
+    private final AtomicLong dropCount = new AtomicLong();
+    private final AtomicLong throttledScanCount = new AtomicLong();
+    private ScheduledExecutorService dispatchScheduler;
+    private int queueCapacity;
+    private int maxDefers;
+    private LongSupplier clock;
+    private DoubleSupplier poolSaturation;
+    private Predicate<PendingTrigger> durable;
+    private Resubmitter resubmitter;
+    private DeferStore deferStore;
+    private long nextRecoveryAt;
+    private volatile long throttledSince; // first throttled scan not caught up since, 0 if none
+
+    /** Starts deferring the triggers rejected by {@link JobTriggerPoolHelper}. */
+    public void start() {
+        OrthAdminBootstrap bootstrap = OrthAdminBootstrap.getInstance();
+        JobTriggerPoolHelper triggerPool = bootstrap.getJobTriggerPoolHelper();
+        JobTriggerDeferredMapper mapper = bootstrap.getJobTriggerDeferredMapper();
+        init(
+                bootstrap.getAdmissionQueueCapacity(),
+                bootstrap.getAdmissionMaxDefers(),
+                bootstrap.getClock()::currentTimeMillis,
+                triggerPool::getSaturation,
+                trigger ->
+                        trigger.triggerType() == TriggerTypeEnum.CRON
+                                && trigger.scheduleTime() != null,
+                triggerPool::tryTrigger,
+                new DeferStore() {
+                    @Override
+                    public long save(int jobId, long scheduleTime, int deferCount, long retryTime) {
+                        JobTriggerDeferred row = new JobTriggerDeferred();
+                        row.setJobId(jobId);
+                        row.setScheduleTime(scheduleTime);
+                        row.setDeferCount(deferCount);
+                        row.setRetryTime(retryTime);
+                        mapper.save(row);
+                        return row.getId();
+                    }
+
+                    @Override
+                    public boolean claim(long id) {
+                        return mapper.delete(id) > 0;
+                    }
+
+                    @Override
+                    public List<Deferral> loadOverdue(long retryTimeBefore, int limit) {
+                        List<Deferral> recovered = new ArrayList<>();
+                        for (JobTriggerDeferred row : mapper.findOverdue(retryTimeBefore, limit)) {
+                            PendingTrigger trigger =
+                                    new PendingTrigger(
+                                            row.getJobId(),
+                                            TriggerTypeEnum.CRON,
+                                            -1,
+                                            null,
+                                            null,
+                                            null,
+                                            row.getScheduleTime(),
+                                            null);
+                            recovered.add(
+                                    new Deferral(
+                                            trigger, row.getDeferCount(), 0, true, row.getId()));
+                        }
+                        return recovered;
+                    }
+                });
+        triggerPool.setRejectionHandler(this::defer);
+
+        dispatchScheduler =
+                Executors.newSingleThreadScheduledExecutor(
+                        r -> {
+                            Thread t = new Thread(r, "orth-admin-JobTriggerAdmissionHelper-retry");
+                            t.setDaemon(true);
+                            return t;
+                        });
+        dispatchScheduler.scheduleWithFixedDelay(
+                ScheduledTaskUtil.safeRunnable("trigger-admission-retry", this::dispatch),
+                DISPATCH_INTERVAL_MS,
+                DISPATCH_INTERVAL_MS,
+                TimeUnit.MILLISECONDS);
+
+        logger.info(
+                ">>>>>>>>>>> orth, trigger admission helper start, queueCapacity={}, maxDefers={}",
+                queueCapacity,
+                maxDefers);
+    }
+
+    /**
+     * Sets limits, time source and collaborators, without starting the retry thread.
+     *
+     * @param queueCapacity max deferred triggers
+     * @param maxDefers rejections after which a trigger is dropped
+     * @param clock time source in milliseconds
+     * @param poolSaturation trigger pool saturation in [0, 1]
+     * @param durable selects the deferred triggers to persist
+     * @param resubmitter resubmits a trigger, false if rejected again
+     * @param deferStore deferred trigger store
+     */
+    void init(
+            int queueCapacity,
+            int maxDefers,
+            LongSupplier clock,
+            DoubleSupplier poolSaturation,
+            Predicate<PendingTrigger> durable,
+            Resubmitter resubmitter,
+            DeferStore deferStore) {
+        this.queueCapacity = queueCapacity;
+        this.maxDefers = maxDefers;
+        this.clock = clock;
+        this.poolSaturation = poolSaturation;
+        this.durable = durable;
+        this.resubmitter = resubmitter;
+        this.deferStore = deferStore;
+    }
+
+    /** Stops the retry thread. Persisted triggers are left for recovery, the others are dropped. */
+    public void stop() {
+        if (dispatchScheduler != null) {
+            dispatchScheduler.shutdownNow();
+            try {
+                dispatchScheduler.awaitTermination(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (deferStore == null) {
+            return;
+        }
+
+        persistPending();
+        List<Deferral> rest;
+        synchronized (this) {
+            rest = new ArrayList<>(deferred);
+            deferred.clear();
+        }
+        for (Deferral deferral : rest) {
+            if (deferral.persistId == 0) {
+                drop(deferral.trigger, "admin stopping");
+            }
+        }
+        logger.info(">>>>>>>>>>> orth, JobTriggerAdmissionHelper stop");
+    }
+
+    /**
+     * Defers a trigger rejected by the trigger pools for the first time.
+     *
+     * @param trigger rejected trigger
+     */
+    public void defer(PendingTrigger trigger) {
+        defer(trigger, 0);
+    }
+
+    private void defer(PendingTrigger trigger, int previousDefers) {
+        if (previousDefers >= maxDefers) {
+            drop(trigger, "rejected " + previousDefers + " times");
+            return;
+        }
+
+        Deferral deferral =
+                new Deferral(
+                        trigger,
+                        previousDefers + 1,
+                        clock.getAsLong() + backoffMs(previousDefers),
+                        durable.test(trigger),
+                        0);
+        synchronized (this) {
+            if (deferred.size() < queueCapacity) {
+                deferred.add(deferral);
+                if (deferral.durable) {
+                    unpersisted.add(deferral); // written by the retry thread, not the caller
+                }
+                deferral = null;
+            }
+        }
+        if (deferral != null) {
+            drop(trigger, "defer queue full");
+            return;
+        }
+        deferCount.incrementAndGet();
+    }
+
+    /**
+     * Backoff before the retry of a trigger rejected {@code previousDefers} times before.
+     *
+     * @param previousDefers earlier rejections
+     * @return backoff in milliseconds
+     */
+    static long backoffMs(int previousDefers) {
+        return Math.min(MAX_BACKOFF_MS, BASE_BACKOFF_MS << Math.min(previousDefers, 16));
+    }
+
+    /** Persists new durable deferrals, retries due ones and recovers overdue rows. */
+    void dispatch() {
+        persistPending();
+
+        long now = clock.getAsLong();
+        while (true) {
+            Deferral deferral;
+            synchronized (this) {
+                deferral = deferred.peek();
+                if (deferral == null || deferral.retryAt > now) {
+                    break;
+                }
+                deferred.poll();
+            }
+
+            // persisted: claim the row first, another node may have recovered it
+            if (deferral.persistId > 0 && !claim(deferral.persistId)) {
+                JobTriggerPoolHelper.notifyComplete(deferral.trigger.onComplete());
+                continue;
+            }
+            if (!resubmitter.submit(deferral.trigger)) {
+                defer(deferral.trigger, deferral.deferCount);
+                break; // still saturated, retry the rest later
+            }
+            retryCount.incrementAndGet();
+        }
+
+        if (now >= nextRecoveryAt) {
+            nextRecoveryAt = now + RECOVERY_INTERVAL_MS;
+            recoverOverdue(now);
+        }
+    }
+
+    private void persistPending() {
+        while (true) {
+            Deferral deferral;
+            synchronized (this) {
+                deferral = unpersisted.poll();
+            }
+            if (deferral == null) {
+                return;
+            }
+            try {
+                long persistId =
+                        deferStore.save(
+                                deferral.trigger.jobId(),
+                                deferral.trigger.scheduleTime(),
+                                deferral.deferCount,
+                                deferral.retryAt);
+                synchronized (this) {
+                    deferral.persistId = persistId;
+                    persistedIds.add(persistId);
+                }
+            } catch (Throwable e) {
+                logger.warn(
+                        ">>>>>>>>>>> orth, deferred trigger not persisted, kept in memory, jobId={}",
+                        deferral.trigger.jobId(),
+                        e);
+            }
+        }
+    }
+
+    private boolean claim(long persistId) {
+        synchronized (this) {
+            persistedIds.remove(persistId);
+        }
+        try {
+            return deferStore.claim(persistId);
+        } catch (Throwable e) {
+            logger.warn(
+                    ">>>>>>>>>>> orth, deferred trigger claim failed, retrying anyway, id={}",
+                    persistId,
+                    e);
+            return true;
+        }
+    }
+
+    private void recoverOverdue(long now) {
+        List<Deferral> overdue;
+        try {
+            overdue = deferStore.loadOverdue(now - OVERDUE_GRACE_MS, RECOVERY_BATCH_SIZE);
+        } catch (Throwable e) {
+            logger.warn(">>>>>>>>>>> orth, deferred trigger recovery failed", e);
+            return;
+        }
+        int recovered = 0;
+        synchronized (this) {
+            for (Deferral deferral : overdue) {
+                if (deferred.size() >= queueCapacity) {
+                    break; // the rest stays persisted for a later pass
+                }
+                if (!persistedIds.add(deferral.persistId)) {
+                    continue; // still held here, behind a saturated pool
+                }
+                deferred.add(
+                        new Deferral(
+                                deferral.trigger,
+                                deferral.deferCount,
+                                now,
+                                true,
+                                deferral.persistId));
+                recovered++;
+            }
+        }
+        if (recovered > 0) {
+            logger.info(">>>>>>>>>>> orth, recovered {} overdue deferred triggers", recovered);
+        }
+    }
+
+    private void drop(PendingTrigger trigger, String reason) {
+        dropCount.incrementAndGet();
+        logger.error(
+                ">>>>>>>>>>> orth, trigger dropped, jobId={}, scheduleTime={}, reason={}",
+                trigger.jobId(),
+                trigger.scheduleTime(),
+                reason);
+        JobTriggerPoolHelper.notifyComplete(trigger.onComplete());
+    }
+
+    /**
+     * Scales a pre-read count down by the trigger pool pressure: the pool saturation or the defer
+     * queue's fill level, whichever is higher. A few deferred triggers barely slow the scans; a
+     * full defer queue cuts them to {@code minCount}.
+     *
+     * @param preReadCount pre-read count of an idle pool
+     * @param minCount lower bound of the result
+     * @return admitted pre-read count
+     */
+    public int admitPreReadCount(int preReadCount, int minCount) {
+        double deferredFill = queueCapacity > 0 ? (double) getDeferredCount() / queueCapacity : 0;
+        double pressure = Math.min(1, Math.max(poolSaturation.getAsDouble(), deferredFill));
+        int admitted = Math.max(minCount, (int) (preReadCount * (1 - pressure)));
+        if (admitted < preReadCount) {
+            throttledScanCount.incrementAndGet();
+            if (throttledSince == 0) {
+                throttledSince = clock.getAsLong();
+            }
+        }
+        return Math.min(admitted, preReadCount);
+    }
+
+    /**
+     * Ends the hold-back once a scan with its full pre-read count found fewer due jobs, none of
+     * them late through admission: every job held back by throttled scans has caught up.
+     */
+    public void scanCaughtUp() {
+        throttledSince = 0;
+    }
+
+    /**
+     * Whether a fire may be late because scans were throttled: it fell due after the first
+     * throttled scan, and no full scan caught up since.
+     *
+     * @param fireTime fire time in milliseconds
+     * @return true if the fire is late through admission, not missed
+     */
+    public boolean isHeldBack(long fireTime) {
+        long since = throttledSince;
+        return since > 0 && fireTime >= since;
+    }
+
+    /**
+     * Number of triggers waiting for their retry.
+     *
+     * @return deferred trigger count
+     */
+    public synchronized int getDeferredCount() {
+        return deferred.size();
+    }
+
+    /**
+     * Number of times a trigger was deferred.
+     *
+     * @return defer count
+     */
+    public long getDeferCount() {
+        return deferCount.get();
+    }
+
+    /**
+     * Number of deferred triggers the pools accepted on retry.
+     *
+     * @return retry count
+     */
+    public long getRetryCount() {
+        return retryCount.get();
+    }
+
+    /**
+     * Number of triggers dropped (too many rejections, defer queue full, admin stopping).
+     *
+     * @return drop count
+     */
+    public long getDropCount() {
+        return dropCount.get();
+    }
+
+    /**
+     * Number of schedule scans whose pre-read count was reduced.
+     *
+     * @return throttled scan count
+     */
+    public long getThrottledScanCount() {
+        return throttledScanCount.get();
+    }
+}
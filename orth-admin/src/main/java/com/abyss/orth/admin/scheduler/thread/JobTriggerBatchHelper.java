@@ -0,0 +1,280 @@
+package com.abyss.orth.admin.scheduler.thread;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.abyss.orth.admin.scheduler.client.AsyncExecutorBiz;
+import com.abyss.orth.admin.scheduler.config.OrthAdminBootstrap;
+import com.abyss.orth.core.openapi.model.TriggerRequest;
+import com.xxl.tool.response.Response;
+
+/**
+ * Trigger batch helper, coalescing run RPCs bound for the same executor address.
+ *
+ * <p>At the top of the minute thousands of triggers go to the same few executors, each as its own
+ * {@code /run} request. Runs submitted here are grouped per address and sent as one {@code
+ * /runBatch} request:
+ *
+ * <ul>
+ *   <li><b>Window</b>: the first run of a batch opens a window of {@code
+ *       orth.job.triggerpool.batch.window-ms}; the batch is sent when it closes
+ *   <li><b>Size</b>: a batch reaching {@code orth.job.triggerpool.batch.max-size} runs is sent at
+ *       once, without waiting for its window
+ *   <li><b>Singletons</b>: a batch holding a single run is sent as a plain {@code /run}
+ * </ul>
+ *
+ * <p>Executors without the {@code /runBatch} endpoint reject the batch as a whole; its runs are
+ * then resent one by one. A batch that fails in transport (connection refused, deadline) fails
+ * every run in it, as the executor may have accepted some of them. A window of 0 disables
+ * coalescing.
+ */
+public class JobTriggerBatchHelper {
+    private static final Logger logger = LoggerFactory.getLogger(JobTriggerBatchHelper.class);
+
+    /** Resolves the client of an executor address. */
+    interface ClientResolver {
+        AsyncExecutorBiz resolve(String address) throws Exception;
+    }
+
+    /** Runs collected for one address within one window. */
+    private static class Batch {
+        final List<TriggerRequest> requests = new ArrayList<>();
+        final List<CompletableFuture<Response<String>>> futures = new ArrayList<>();
+        final List<Runnable> sentCallbacks = new ArrayList<>();
+    }
+
+    private final ConcurrentMap<String, Batch> openBatches = new ConcurrentHashMap<>();
+    private final AtomicLong batchCount = new AtomicLong();
+    private final AtomicLong batchedRunCount = new AtomicLong();
+    private ScheduledExecutorService flushScheduler;
+    private ClientResolver clientResolver;
+    private long windowMs;
+    private int maxSize;
+
+    /** Starts the batch flush timer. */
+    public void start() {
+        start(
+                OrthAdminBootstrap.getInstance().getTriggerBatchWindowMs(),
+                OrthAdminBootstrap.getInstance().getTriggerBatchMaxSize(),
+                OrthAdminBootstrap::getAsyncExecutorBiz);
+    }
+
+    /**
+     * Starts with explicit limits and client resolver.
+     *
+     * @param windowMs max time a run waits for its batch; 0 disables coalescing
+     * @param maxSize max runs per batch
+     * @param clientResolver resolves the client of an executor address
+     */
+    void start(long windowMs, int maxSize, ClientResolver clientResolver) {
+        this.windowMs = windowMs;
+        this.maxSize = maxSize;
+        this.clientResolver = clientResolver;
+
+        if (windowMs > 0) {
+            flushScheduler =
+                    Executors.newSingleThreadScheduledExecutor(
+                            r -> {
+                                Thread t = new Thread(r, "orth-admin-JobTriggerBatchHelper-flush");
+                                t.setDaemon(true);
+                                return t;
+                            });
+        }
+
+        logger.info(
+                ">>>>>>>>>>> orth, trigger batch helper start, windowMs={}, maxSize={}",
+                windowMs,
+                maxSize);
+    }
+
+    /** Sends every open batch and stops the flush timer. */
+    public void stop() {
+        if (flushScheduler != null) {
+            flushScheduler.shutdownNow();
+        }
+        for (String address : openBatches.keySet()) {
+            Batch batch = openBatches.remove(address);
+            if (batch != null) {
+                send(address, batch);
+            }
+        }
+        logger.info(">>>>>>>>>>> orth, trigger batch helper stop");
+    }
+
+    /**
+     * Submits a run RPC, coalesced with other runs bound for the same address.
+     *
+     * @param address executor address
+     * @param triggerRequest trigger parameters
+     * @return future of the run response; completes exceptionally if the request could not be sent
+     *     or no answer arrived
+     */
+    public CompletableFuture<Response<String>> run(String address, TriggerRequest triggerRequest) {
+        return run(address, triggerRequest, () -> {});
+    }
+
+    /**
+     * Submits a run RPC, coalesced with other runs bound for the same address.
+     *
+     * @param address executor address
+     * @param triggerRequest trigger parameters
+     * @param onSent called when the RPC carrying the run goes out, after any batch window
+     * @return future of the run response; completes exceptionally if the request could not be sent
+     *     or no answer arrived
+     */
+    public CompletableFuture<Response<String>> run(
+            String address, TriggerRequest triggerRequest, Runnable onSent) {
+        if (flushScheduler == null) {
+            onSent.run();
+            return sendOne(address, triggerRequest);
+        }
+
+        CompletableFuture<Response<String>> future = new CompletableFuture<>();
+        Batch[] opened = new Batch[1];
+        Batch[] full = new Batch[1];
+        openBatches.compute(
+                address,
+                (key, batch) -> {
+                    if (batch == null) {
+                        batch = new Batch();
+                        opened[0] = batch;
+                    }
+                    batch.requests.add(triggerRequest);
+                    batch.futures.add(future);
+                    batch.sentCallbacks.add(onSent);
+                    if (batch.requests.size() >= maxSize) {
+                        full[0] = batch;
+                        return null;
+                    }
+                    return batch;
+                });
+
+        if (full[0] != null) {
+            send(address, full[0]);
+        } else if (opened[0] != null) {
+            Batch batch = opened[0];
+            try {
+                flushScheduler.schedule(
+                        () -> flush(address, batch), windowMs, TimeUnit.MILLISECONDS);
+            } catch (Exception e) {
+                // stopping: send right away
+                flush(address, batch);
+            }
+        }
+        return future;
+    }
+
+    /**
+     * Gets the number of multi-run batches sent so far.
+     *
+     * @return batch count
+     */
+    public long getBatchCount() {
+        return batchCount.get();
+    }
+
+    /**
+     * Gets the number of runs sent in multi-run batches so far.
+     *
+     * @return batched run count
+     */
+    public long getBatchedRunCount() {
+        return batchedRunCount.get();
+    }
+
+    /** Sends a batch when its window closes, unless it was already sent for being full. */
+    private void flush(String address, Batch batch) {
+        if (openBatches.remove(address, batch)) {
+            send(address, batch);
+        }
+    }
+
+    private void send(String address, Batch batch) {
+        for (Runnable onSent : batch.sentCallbacks) {
+            onSent.run();
+        }
+        if (batch.requests.size() == 1) {
+            forward(sendOne(address, batch.requests.get(0)), batch.futures.get(0));
+            return;
+        }
+
+        batchCount.incrementAndGet();
+        batchedRunCount.addAndGet(batch.requests.size());
+
+        CompletableFuture<Response<List<Response<String>>>> batchFuture;
+        try {
+            batchFuture = clientResolver.resolve(address).runBatchAsync(batch.requests);
+        } catch (Exception e) {
+            batchFuture = CompletableFuture.failedFuture(e);
+        }
+        batchFuture.whenComplete(
+                (batchResponse, e) -> {
+                    if (e != null) {
+                        for (CompletableFuture<Response<String>> future : batch.futures) {
+                            future.completeExceptionally(e);
+                        }
+                        return;
+                    }
+
+                    List<Response<String>> results =
+                            batchResponse != null && batchResponse.isSuccess()
+                                    ? batchResponse.getData()
+                                    : null;
+                    if (results == null || results.size() != batch.requests.size()) {
+                        // batch rejected as a whole (e.g. executor without /runBatch): resend
+                        logger.warn(
+                                ">>>>>>>>>>> orth, trigger batch rejected by {}, resending {} runs"
+                                        + " one by one: {}",
+                                address,
+                                batch.requests.size(),
+                                batchResponse != null ? batchResponse.getMsg() : null);
+                        for (int i = 0; i < batch.requests.size(); i++) {
+                            forward(sendOne(address, batch.requests.get(i)), batch.futures.get(i));
+                        }
+                        return;
+                    }
+
+                    for (int i = 0; i < results.size(); i++) {
+                        Response<String> result = results.get(i);
+                        batch.futures
+                                .get(i)
+                                .complete(
+                                        result != null
+                                                ? result
+                                                : Response.ofFail("Empty batch item result."));
+                    }
+                });
+    }
+
+    private CompletableFuture<Response<String>> sendOne(
+            String address, TriggerRequest triggerRequest) {
+        try {
+            return clientResolver.resolve(address).runAsync(triggerRequest);
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private static void forward(
+            CompletableFuture<Response<String>> source,
+            CompletableFuture<Response<String>> target) {
+        source.whenComplete(
+                (response, e) -> {
+                    if (e != null) {
+                        target.completeExceptionally(e);
+                    } else {
+                        target.complete(response);
+                    }
+                });
+    }
+}
@@ -1,12 +1,17 @@
 package com.abyss.orth.admin.scheduler.thread;
 
+import java.util.Arrays;
+import java.util.Queue;
 import java.util.concurrent.*;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.abyss.orth.admin.model.JobInfo;
+import com.abyss.orth.admin.scheduler.clock.SchedulerClock;
 import com.abyss.orth.admin.scheduler.config.OrthAdminBootstrap;
+import com.abyss.orth.admin.scheduler.trigger.JobPriorityEnum;
 import com.abyss.orth.admin.scheduler.trigger.TriggerTypeEnum;
 
 /**
@@ -27,11 +32,39 @@ import com.abyss.orth.admin.scheduler.trigger.TriggerTypeEnum;
  *   <li>Prevents slow jobs from blocking fast jobs
  * </ul>
  *
+ * <p><b>Asynchronous RPC</b>: a pool thread only loads, routes and logs the trigger; the executor
+ * RPC is sent without blocking and the trigger stays in flight until it answers. Concurrent RPCs
+ * are bounded by a semaphore per executor address (see {@link #acquireAddressPermit(String)}).
+ *
+ * <p><b>Virtual mode</b> ({@code orth.job.triggerpool.mode=virtual}): every trigger runs on its own
+ * virtual thread (Java 21+) instead of a pooled thread. Admission is governed by a global in-flight
+ * cap and the per-address semaphores instead of the thread count, so one slow executor cannot
+ * occupy the threads of every other one. The fast/slow split becomes a hint: slow jobs wait for one
+ * of {@code orth.job.triggerpool.slow.max} slow permits on their own thread rather than in a
+ * separate pool. On older runtimes virtual mode falls back to a platform thread per trigger, with
+ * the global cap bounded by the pool sizes.
+ *
+ * <p><b>Priority classes</b>: each trigger gets a {@link JobPriorityEnum} class, mapped from its
+ * trigger type ({@code orth.job.triggerpool.priority.*}) or taken from the job. The pool queues are
+ * then {@link WeightedFairTriggerQueue}s weighted by {@code orth.job.triggerpool.priority.weights},
+ * so a backfill flood of LOW triggers no longer delays HIGH triggers queued behind it. Virtual mode
+ * has no queue and ignores the classes.
+ *
+ * <p><b>Admission</b>: a trigger rejected by a saturated pool (or the in-flight cap) is handed to
+ * the {@link RejectionHandler}, {@link JobTriggerAdmissionHelper} outside of tests, which defers it
+ * for a retry; without a handler it is dropped.
+ *
  * @author xuxueli 2018-07-03 21:08:07
  */
 public class JobTriggerPoolHelper {
     private static final Logger logger = LoggerFactory.getLogger(JobTriggerPoolHelper.class);
 
+    /** Trigger pool mode with fast/slow thread pools (default). */
+    public static final String MODE_POOL = "pool";
+
+    /** Trigger pool mode with a thread per trigger and per-address admission. */
+    public static final String MODE_VIRTUAL = "virtual";
+
     // Thread pool configuration constants
     private static final int CORE_POOL_SIZE = 10;
     private static final long KEEP_ALIVE_SECONDS = 60L;
@@ -43,12 +76,67 @@ public class JobTriggerPoolHelper {
     private static final long TRIGGER_TIMEOUT_MS = 500; // 500ms threshold
     private static final long MS_TO_MIN = 60000; // Milliseconds to minutes conversion
 
+    // Admission constants
+    private static final long ADDRESS_PERMIT_WAIT_MS = 10_000; // then fail the trigger
+
+    /**
+     * Runs one trigger; {@code JobTrigger} outside of tests. The trigger counts as in flight until
+     * the returned future completes.
+     */
+    interface TriggerRunner {
+        CompletableFuture<?> run(
+                int jobId,
+                TriggerTypeEnum triggerType,
+                int failRetryCount,
+                String executorShardingParam,
+                String executorParam,
+                String addressList,
+                Long scheduleTime);
+    }
+
+    /** A trigger and its arguments, as passed to {@link #trigger}. */
+    public record PendingTrigger(
+            int jobId,
+            TriggerTypeEnum triggerType,
+            int failRetryCount,
+            String executorShardingParam,
+            String executorParam,
+            String addressList,
+            Long scheduleTime,
+            Runnable onComplete) {}
+
+    /** Resolves the priority class of a trigger. */
+    interface PriorityResolver {
+        JobPriorityEnum resolve(PendingTrigger trigger);
+    }
+
+    /** Takes the triggers rejected by saturated pools, which are not completed yet. */
+    interface RejectionHandler {
+        void rejected(PendingTrigger trigger);
+    }
+
     // fast/slow thread pool
     private ThreadPoolExecutor fastTriggerPool = null;
     private ThreadPoolExecutor slowTriggerPool = null;
+    private SchedulerClock clock;
+    private TriggerRunner triggerRunner;
+    private PriorityResolver priorityResolver; // null: FIFO queues
+    private final ConcurrentMap<Integer, JobPriorityEnum> jobPriorities = new ConcurrentHashMap<>();
+    private final AtomicInteger inFlightCount = new AtomicInteger();
+    private volatile RejectionHandler rejectionHandler;
+
+    // virtual mode: thread per trigger, admission by permits
+    private ExecutorService virtualTriggerExecutor = null;
+    private Semaphore inFlightPermits;
+    private int maxInFlight;
+    private Semaphore slowPermits;
+    private int addressPermits;
+    private final ConcurrentMap<String, Semaphore> addressSemaphores = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Queue<CompletableFuture<Boolean>>> addressWaiters =
+            new ConcurrentHashMap<>(); // pool mode: triggers waiting for a busy address
 
     /**
-     * Start the fast and slow trigger thread pools.
+     * Start the trigger pools of the configured mode.
      *
      * <p>Pool configurations:
      *
@@ -56,56 +144,272 @@ public class JobTriggerPoolHelper {
      *   <li>Fast pool: core=10, max=configurable (default 200), queue=2000
      *   <li>Slow pool: core=10, max=configurable (default 100), queue=5000
      * </ul>
+     *
+     * <p>With priority weights configured, the queue sizes apply per priority class.
      */
     public void start() {
+        OrthAdminBootstrap bootstrap = OrthAdminBootstrap.getInstance();
+        start(
+                bootstrap.getClock(),
+                MODE_VIRTUAL.equals(bootstrap.getTriggerPoolMode()),
+                bootstrap.getTriggerPoolFastMax(),
+                bootstrap.getTriggerPoolSlowMax(),
+                bootstrap.getTriggerPoolVirtualMaxInFlight(),
+                bootstrap.getTriggerPoolPerAddress(),
+                bootstrap.getTriggerPoolPriorityWeights(),
+                this::resolvePriority,
+                (jobId,
+                        triggerType,
+                        failRetryCount,
+                        executorShardingParam,
+                        executorParam,
+                        addressList,
+                        scheduleTime) ->
+                        OrthAdminBootstrap.getInstance()
+                                .getJobTrigger()
+                                .triggerAsync(
+                                        jobId,
+                                        triggerType,
+                                        failRetryCount,
+                                        executorShardingParam,
+                                        executorParam,
+                                        addressList,
+                                        scheduleTime));
+    }
+
+    /**
+     * Starts the trigger pools with FIFO queues.
+     *
+     * @param clock scheduler clock for timeout tracking
+     * @param virtual true for virtual mode, false for fast/slow pools
+     * @param fastMax fast pool max threads
+     * @param slowMax slow pool max threads; slow permits in virtual mode
+     * @param maxInFlight virtual mode global in-flight cap
+     * @param perAddress concurrent RPCs per executor address
+     * @param triggerRunner runs each trigger
+     */
+    void start(
+            SchedulerClock clock,
+            boolean virtual,
+            int fastMax,
+            int slowMax,
+            int maxInFlight,
+            int perAddress,
+            TriggerRunner triggerRunner) {
+        start(clock, virtual, fastMax, slowMax, maxInFlight, perAddress, null, null, triggerRunner);
+    }
+
+    /**
+     * Starts the trigger pools.
+     *
+     * @param clock scheduler clock for timeout tracking
+     * @param virtual true for virtual mode, false for fast/slow pools
+     * @param fastMax fast pool max threads
+     * @param slowMax slow pool max threads; slow permits in virtual mode
+     * @param maxInFlight virtual mode global in-flight cap
+     * @param perAddress concurrent RPCs per executor address
+     * @param priorityWeights weight per {@link JobPriorityEnum} class; null for FIFO queues
+     * @param priorityResolver class of each trigger; ignored without weights
+     * @param triggerRunner runs each trigger
+     */
+    void start(
+            SchedulerClock clock,
+            boolean virtual,
+            int fastMax,
+            int slowMax,
+            int maxInFlight,
+            int perAddress,
+            int[] priorityWeights,
+            PriorityResolver priorityResolver,
+            TriggerRunner triggerRunner) {
+        this.clock = clock;
+        this.triggerRunner = triggerRunner;
+        this.addressPermits = perAddress;
+        currentMinute = clock.currentTimeMillis() / MS_TO_MIN;
+
+        if (virtual) {
+            startVirtual(fastMax, slowMax, maxInFlight, perAddress);
+            return;
+        }
+        this.priorityResolver = priorityWeights != null ? priorityResolver : null;
+        if (this.priorityResolver != null) {
+            logger.info(
+                    ">>>>>>>>>>> orth, trigger pool queues weighted by priority, weights={}",
+                    Arrays.toString(priorityWeights));
+        }
+
         fastTriggerPool =
                 new ThreadPoolExecutor(
                         CORE_POOL_SIZE,
-                        OrthAdminBootstrap.getInstance().getTriggerPoolFastMax(),
+                        fastMax,
                         KEEP_ALIVE_SECONDS,
                         TimeUnit.SECONDS,
-                        new LinkedBlockingQueue<>(FAST_POOL_QUEUE_SIZE),
+                        newQueue(FAST_POOL_QUEUE_SIZE, priorityWeights),
                         r ->
                                 new Thread(
                                         r,
                                         "orth, admin JobTriggerPoolHelper-fastTriggerPool-"
                                                 + r.hashCode()),
-                        (r, executor) ->
-                                logger.error(
-                                        ">>>>>>>>>>> orth, admin JobTriggerPoolHelper-fastTriggerPool execute too fast, Runnable={}",
-                                        r.toString()));
+                        JobTriggerPoolHelper::markRejected);
 
         slowTriggerPool =
                 new ThreadPoolExecutor(
                         CORE_POOL_SIZE,
-                        OrthAdminBootstrap.getInstance().getTriggerPoolSlowMax(),
+                        slowMax,
                         KEEP_ALIVE_SECONDS,
                         TimeUnit.SECONDS,
-                        new LinkedBlockingQueue<>(SLOW_POOL_QUEUE_SIZE),
+                        newQueue(SLOW_POOL_QUEUE_SIZE, priorityWeights),
                         r ->
                                 new Thread(
                                         r,
                                         "orth, admin JobTriggerPoolHelper-slowTriggerPool-"
                                                 + r.hashCode()),
-                        (r, executor) ->
-                                logger.error(
-                                        ">>>>>>>>>>> orth, admin JobTriggerPoolHelper-slowTriggerPool execute too fast, Runnable={}",
-                                        r.toString()));
+                        JobTriggerPoolHelper::markRejected);
+    }
+
+    /** A pool queue: weighted fair across the priority classes, or FIFO without weights. */
+    private BlockingQueue<Runnable> newQueue(int capacity, int[] priorityWeights) {
+        if (priorityResolver == null) {
+            return new LinkedBlockingQueue<>(capacity);
+        }
+        return new WeightedFairTriggerQueue(
+                priorityWeights,
+                capacity,
+                r ->
+                        r instanceof TriggerTask task
+                                ? task.priority.ordinal()
+                                : JobPriorityEnum.NORMAL.ordinal());
+    }
+
+    /**
+     * Remembers the priority class of a job read by the scheduler, so that its scheduled triggers
+     * are classed without a job read on the schedule and ring threads.
+     *
+     * @param jobId job ID
+     * @param priority the job's priority
+     */
+    public void notePriority(int jobId, String priority) {
+        jobPriorities.put(jobId, JobPriorityEnum.match(priority, JobPriorityEnum.NORMAL));
     }
 
     /**
-     * Stop both trigger thread pools immediately.
+     * Forgets the priority class of a deleted job.
+     *
+     * @param jobId job ID
+     */
+    public void forgetPriority(int jobId) {
+        jobPriorities.remove(jobId);
+    }
+
+    /**
+     * Priority class of a trigger: the class its trigger type maps to, else the job's own.
+     *
+     * <p>Triggers are classed when queued, on the thread that submits them. The job's class is
+     * taken from the last scheduler read of the job, which covers every schedule and ring trigger;
+     * only jobs never scheduled on this node (manual, API, retry and child triggers) are read
+     * through the job info cache.
+     */
+    private JobPriorityEnum resolvePriority(PendingTrigger trigger) {
+        OrthAdminBootstrap bootstrap = OrthAdminBootstrap.getInstance();
+        JobPriorityEnum priority =
+                bootstrap.getTriggerPriority(trigger.triggerType(), trigger.scheduleTime());
+        if (priority != null) {
+            return priority;
+        }
+        priority = jobPriorities.get(trigger.jobId());
+        if (priority != null) {
+            return priority;
+        }
+        JobInfoCacheHelper jobInfoCache = bootstrap.getJobInfoCacheHelper();
+        JobInfo jobInfo =
+                jobInfoCache != null
+                        ? jobInfoCache.load(trigger.jobId())
+                        : bootstrap.getJobInfoMapper().loadById(trigger.jobId());
+        return jobInfo != null
+                ? JobPriorityEnum.match(jobInfo.getPriority(), JobPriorityEnum.NORMAL)
+                : JobPriorityEnum.NORMAL;
+    }
+
+    private void startVirtual(int fastMax, int slowMax, int maxInFlight, int perAddress) {
+        virtualTriggerExecutor = newVirtualThreadPerTaskExecutor();
+        boolean virtualThreads = virtualTriggerExecutor != null;
+        if (!virtualThreads) {
+            // platform thread per trigger: the in-flight permits keep the thread count within
+            // the pool sizes, so the executor itself is unbounded (a permit is held until its
+            // trigger's future completes, usually long after its thread went idle; only a
+            // future completed synchronously releases it while the thread is still running)
+            maxInFlight = Math.min(maxInFlight, fastMax + slowMax);
+            AtomicInteger threadIndex = new AtomicInteger();
+            virtualTriggerExecutor =
+                    new ThreadPoolExecutor(
+                            0,
+                            Integer.MAX_VALUE,
+                            KEEP_ALIVE_SECONDS,
+                            TimeUnit.SECONDS,
+                            new SynchronousQueue<>(),
+                            r ->
+                                    new Thread(
+                                            r,
+                                            "orth-admin-JobTriggerPoolHelper-trigger-"
+                                                    + threadIndex.incrementAndGet()));
+            logger.warn(
+                    ">>>>>>>>>>> orth, virtual threads unavailable on Java {}, "
+                            + "trigger pool uses a platform thread per trigger",
+                    Runtime.version().feature());
+        }
+        inFlightPermits = new Semaphore(maxInFlight);
+        this.maxInFlight = maxInFlight;
+        slowPermits = new Semaphore(slowMax);
+
+        logger.info(
+                ">>>>>>>>>>> orth, trigger pool start in virtual mode, virtualThreads={}, maxInFlight={}, perAddress={}, slowPermits={}",
+                virtualThreads,
+                maxInFlight,
+                perAddress,
+                slowMax);
+    }
+
+    /**
+     * Creates a virtual-thread-per-task executor when the runtime supports it (Java 21+).
+     *
+     * @return the executor, or null on older runtimes
+     */
+    private static ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            builder =
+                    builderClass
+                            .getMethod("name", String.class, long.class)
+                            .invoke(builder, "orth-admin-JobTriggerPoolHelper-trigger-", 0L);
+            ThreadFactory factory =
+                    (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+            return (ExecutorService)
+                    Executors.class
+                            .getMethod("newThreadPerTaskExecutor", ThreadFactory.class)
+                            .invoke(null, factory);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Stop the trigger pools immediately.
      *
      * <p>Uses shutdownNow() to attempt to stop all actively executing tasks.
      */
     public void stop() {
-        fastTriggerPool.shutdownNow();
-        slowTriggerPool.shutdownNow();
+        if (virtualTriggerExecutor != null) {
+            virtualTriggerExecutor.shutdownNow();
+        } else if (fastTriggerPool != null) {
+            fastTriggerPool.shutdownNow();
+            slowTriggerPool.shutdownNow();
+        }
         logger.info(">>>>>>>>> orth trigger thread pool shutdown success.");
     }
 
     // job timeout count tracking (per minute)
-    private volatile long currentMinute = System.currentTimeMillis() / MS_TO_MIN;
+    private volatile long currentMinute;
     private volatile ConcurrentMap<Integer, AtomicInteger> jobTimeoutCountMap =
             new ConcurrentHashMap<>();
 
@@ -134,61 +438,361 @@ public class JobTriggerPoolHelper {
             final String executorParam,
             final String addressList,
             final Long scheduleTime) {
+        trigger(
+                jobId,
+                triggerType,
+                failRetryCount,
+                executorShardingParam,
+                executorParam,
+                addressList,
+                scheduleTime,
+                null);
+    }
 
-        // choose thread pool based on recent timeout history
-        ThreadPoolExecutor selectedTriggerPool = fastTriggerPool;
-        AtomicInteger jobTimeoutCount = jobTimeoutCountMap.get(jobId);
-        if (jobTimeoutCount != null && jobTimeoutCount.get() > SLOW_POOL_TIMEOUT_THRESHOLD) {
-            selectedTriggerPool = slowTriggerPool;
+    /**
+     * Trigger a job execution with adaptive pool routing, notifying when the trigger is done.
+     *
+     * @param jobId job ID
+     * @param triggerType trigger type (CRON, MANUAL, API, etc.)
+     * @param failRetryCount retry count (>=0: use this value, <0: use job config)
+     * @param executorShardingParam sharding parameters for distributed execution
+     * @param executorParam execution parameters (null: use job param, not null: override job param)
+     * @param addressList executor address list (null: auto-discover from group)
+     * @param scheduleTime theoretical schedule time in milliseconds (null for manual/API triggers)
+     * @param onComplete invoked once the trigger finished, failed or was rejected (nullable)
+     */
+    public void trigger(
+            final int jobId,
+            final TriggerTypeEnum triggerType,
+            final int failRetryCount,
+            final String executorShardingParam,
+            final String executorParam,
+            final String addressList,
+            final Long scheduleTime,
+            final Runnable onComplete) {
+        PendingTrigger trigger =
+                new PendingTrigger(
+                        jobId,
+                        triggerType,
+                        failRetryCount,
+                        executorShardingParam,
+                        executorParam,
+                        addressList,
+                        scheduleTime,
+                        onComplete);
+        if (tryTrigger(trigger)) {
+            return;
         }
 
-        // trigger execution in selected pool
-        selectedTriggerPool.execute(
-                new Runnable() {
+        // saturated: defer, or drop without a handler
+        RejectionHandler handler = rejectionHandler;
+        if (handler != null) {
+            handler.rejected(trigger);
+            return;
+        }
+        logger.error(
+                ">>>>>>>>>>> orth, admin JobTriggerPoolHelper execute too fast, jobId={}", jobId);
+        notifyComplete(onComplete);
+    }
+
+    /**
+     * Submits a trigger unless the pools are saturated.
+     *
+     * @param trigger trigger to run
+     * @return true if submitted; false if rejected, in which case the trigger is not completed
+     */
+    boolean tryTrigger(PendingTrigger trigger) {
+
+        // slow hint based on recent timeout history
+        AtomicInteger jobTimeoutCount = jobTimeoutCountMap.get(trigger.jobId());
+        final boolean slow =
+                jobTimeoutCount != null && jobTimeoutCount.get() > SLOW_POOL_TIMEOUT_THRESHOLD;
+
+        TriggerTask task =
+                new TriggerTask(trigger) {
                     @Override
                     public void run() {
 
-                        long start = System.currentTimeMillis();
+                        // virtual mode: slow jobs share the slow permits
+                        if (slow && slowPermits != null) {
+                            try {
+                                slowPermits.acquire();
+                            } catch (InterruptedException e) {
+                                Thread.currentThread().interrupt();
+                                complete();
+                                return;
+                            }
+                        }
+
+                        long start = clock.currentTimeMillis();
 
+                        // execute trigger; the RPC completes the future asynchronously
+                        CompletableFuture<?> future;
                         try {
-                            // execute trigger
-                            OrthAdminBootstrap.getInstance()
-                                    .getJobTrigger()
-                                    .trigger(
-                                            jobId,
-                                            triggerType,
-                                            failRetryCount,
-                                            executorShardingParam,
-                                            executorParam,
-                                            addressList,
-                                            scheduleTime);
+                            future =
+                                    triggerRunner.run(
+                                            trigger.jobId(),
+                                            trigger.triggerType(),
+                                            trigger.failRetryCount(),
+                                            trigger.executorShardingParam(),
+                                            trigger.executorParam(),
+                                            trigger.addressList(),
+                                            trigger.scheduleTime());
                         } catch (Throwable e) {
-                            logger.error(e.getMessage(), e);
-                        } finally {
-
-                            // reset timeout count map every minute
-                            long nowMinute = System.currentTimeMillis() / MS_TO_MIN;
-                            if (currentMinute != nowMinute) {
-                                currentMinute = nowMinute;
-                                jobTimeoutCountMap.clear();
-                            }
+                            future = CompletableFuture.failedFuture(e);
+                        }
+                        future.whenComplete(
+                                (result, e) -> {
+                                    if (e != null) {
+                                        logger.error(e.getMessage(), e);
+                                    }
+                                    finish(start);
+                                });
+                    }
+
+                    private void finish(long start) {
+                        if (slow && slowPermits != null) {
+                            slowPermits.release();
+                        }
+
+                        // reset timeout count map every minute
+                        long nowMinute = clock.currentTimeMillis() / MS_TO_MIN;
+                        if (currentMinute != nowMinute) {
+                            currentMinute = nowMinute;
+                            jobTimeoutCountMap.clear();
+                        }
 
-                            // increment timeout count if execution exceeded threshold
-                            long cost = System.currentTimeMillis() - start;
-                            if (cost > TRIGGER_TIMEOUT_MS) {
-                                AtomicInteger timeoutCount =
-                                        jobTimeoutCountMap.putIfAbsent(jobId, new AtomicInteger(1));
-                                if (timeoutCount != null) {
-                                    timeoutCount.incrementAndGet();
-                                }
+                        // increment timeout count if execution exceeded threshold
+                        long cost = clock.currentTimeMillis() - start;
+                        if (cost > TRIGGER_TIMEOUT_MS) {
+                            AtomicInteger timeoutCount =
+                                    jobTimeoutCountMap.putIfAbsent(
+                                            trigger.jobId(), new AtomicInteger(1));
+                            if (timeoutCount != null) {
+                                timeoutCount.incrementAndGet();
                             }
                         }
-                    }
 
-                    @Override
-                    public String toString() {
-                        return "Job Runnable, jobId:" + jobId;
+                        complete();
                     }
-                });
+                };
+
+        if (priorityResolver != null) {
+            try {
+                task.priority = priorityResolver.resolve(trigger);
+            } catch (Throwable e) {
+                logger.error(e.getMessage(), e); // queue as NORMAL
+            }
+        }
+
+        inFlightCount.incrementAndGet();
+        if (virtualTriggerExecutor != null) {
+            // virtual mode: admission by the global in-flight cap
+            if (!inFlightPermits.tryAcquire()) {
+                inFlightCount.decrementAndGet();
+                return false;
+            }
+            task.permitHeld = true;
+            try {
+                virtualTriggerExecutor.execute(task);
+            } catch (RejectedExecutionException e) {
+                // stopping: hand the trigger back, see RejectionHandler
+                task.permitHeld = false;
+                inFlightPermits.release();
+                inFlightCount.decrementAndGet();
+                return false;
+            }
+            return true;
+        }
+
+        // choose thread pool based on the slow hint; a rejection marks the task synchronously
+        ThreadPoolExecutor selectedTriggerPool = slow ? slowTriggerPool : fastTriggerPool;
+        selectedTriggerPool.execute(task);
+        if (task.rejected) {
+            inFlightCount.decrementAndGet();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Sets the handler of triggers rejected by saturated pools.
+     *
+     * @param rejectionHandler rejection handler; null drops rejected triggers
+     */
+    void setRejectionHandler(RejectionHandler rejectionHandler) {
+        this.rejectionHandler = rejectionHandler;
+    }
+
+    /**
+     * Acquires a permit to send a trigger RPC to an executor address.
+     *
+     * <p>At most {@code orth.job.triggerpool.per-address} RPCs run against one address at a time;
+     * callers wait up to {@value #ADDRESS_PERMIT_WAIT_MS} ms for a permit. Trigger RPCs are
+     * asynchronous and hold no pool thread, so in pool mode this is what bounds them too. Only a
+     * virtual thread waits on the calling thread; in pool mode a trigger finding the address busy
+     * queues for the next released permit without holding its pool thread.
+     *
+     * @param address executor address
+     * @return future of true once acquired, the caller must then call {@link
+     *     #releaseAddressPermit(String)}; of false if no permit was free in time
+     */
+    public CompletableFuture<Boolean> acquireAddressPermit(String address) {
+        Semaphore semaphore =
+                addressSemaphores.computeIfAbsent(address, k -> new Semaphore(addressPermits));
+        if (virtualTriggerExecutor != null) {
+            try {
+                return CompletableFuture.completedFuture(
+                        semaphore.tryAcquire(ADDRESS_PERMIT_WAIT_MS, TimeUnit.MILLISECONDS));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return CompletableFuture.completedFuture(false);
+            }
+        }
+        if (semaphore.tryAcquire()) {
+            return CompletableFuture.completedFuture(true);
+        }
+
+        // pool mode: wait for a released permit, see handOverAddressPermits
+        CompletableFuture<Boolean> waiter = new CompletableFuture<>();
+        Queue<CompletableFuture<Boolean>> waiters =
+                addressWaiters.computeIfAbsent(address, k -> new ConcurrentLinkedQueue<>());
+        waiters.add(waiter);
+        waiter.completeOnTimeout(false, ADDRESS_PERMIT_WAIT_MS, TimeUnit.MILLISECONDS)
+                .thenAccept(
+                        acquired -> {
+                            if (!acquired) {
+                                waiters.remove(waiter);
+                            }
+                        });
+        handOverAddressPermits(semaphore, waiters); // a permit released meanwhile
+        return waiter;
+    }
+
+    /**
+     * Takes a permit to send a trigger RPC to an executor address if one is free, without waiting.
+     *
+     * @param address executor address
+     * @return true if acquired; the caller must then call {@link #releaseAddressPermit(String)}
+     */
+    public boolean tryAcquireAddressPermit(String address) {
+        return addressSemaphores
+                .computeIfAbsent(address, k -> new Semaphore(addressPermits))
+                .tryAcquire();
+    }
+
+    /**
+     * Releases a permit acquired by {@link #acquireAddressPermit(String)} or {@link
+     * #tryAcquireAddressPermit(String)}.
+     *
+     * @param address executor address
+     */
+    public void releaseAddressPermit(String address) {
+        Semaphore semaphore = addressSemaphores.get(address);
+        if (semaphore != null) {
+            semaphore.release();
+            Queue<CompletableFuture<Boolean>> waiters = addressWaiters.get(address);
+            if (waiters != null) {
+                handOverAddressPermits(semaphore, waiters);
+            }
+        }
+    }
+
+    /**
+     * Hands free permits of an address to the triggers waiting for it, in arrival order. Runs after
+     * every release and every new waiter, so neither can miss the other.
+     */
+    private static void handOverAddressPermits(
+            Semaphore semaphore, Queue<CompletableFuture<Boolean>> waiters) {
+        while (!waiters.isEmpty() && semaphore.tryAcquire()) {
+            CompletableFuture<Boolean> waiter = waiters.poll();
+            if (waiter == null || !waiter.complete(true)) {
+                semaphore.release(); // taken by another hand-over, or timed out
+                if (waiter == null) {
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Number of triggers submitted and not yet completed (queued or running).
+     *
+     * @return in-flight trigger count
+     */
+    public int getInFlightCount() {
+        return inFlightCount.get();
+    }
+
+    /**
+     * How full the trigger pools are: the fill ratio of the fuller pool queue, or of the in-flight
+     * cap in virtual mode.
+     *
+     * @return saturation in [0, 1]
+     */
+    public double getSaturation() {
+        if (virtualTriggerExecutor != null) {
+            return maxInFlight > 0
+                    ? 1 - (double) inFlightPermits.availablePermits() / maxInFlight
+                    : 0;
+        }
+        if (fastTriggerPool == null) {
+            return 0;
+        }
+        return Math.max(
+                queueFill(fastTriggerPool, FAST_POOL_QUEUE_SIZE),
+                queueFill(slowTriggerPool, SLOW_POOL_QUEUE_SIZE));
+    }
+
+    /** Fill ratio of a pool queue; of its fullest class when weighted by priority. */
+    private static double queueFill(ThreadPoolExecutor pool, int capacity) {
+        if (pool.getQueue() instanceof WeightedFairTriggerQueue queue) {
+            return queue.getFillRatio();
+        }
+        return (double) pool.getQueue().size() / capacity;
+    }
+
+    /** Marks a trigger task rejected by a saturated pool; runs on the submitting thread. */
+    private static void markRejected(Runnable r, ThreadPoolExecutor executor) {
+        if (r instanceof TriggerTask task) {
+            task.rejected = true;
+        }
+    }
+
+    /** Runs a trigger's completion callback. */
+    static void notifyComplete(Runnable onComplete) {
+        if (onComplete != null) {
+            try {
+                onComplete.run();
+            } catch (Throwable e) {
+                logger.error(e.getMessage(), e);
+            }
+        }
+    }
+
+    /** Trigger runnable carrying its trigger and completion callback. */
+    private abstract class TriggerTask implements Runnable {
+        private final PendingTrigger trigger;
+        private JobPriorityEnum priority = JobPriorityEnum.NORMAL;
+        private boolean permitHeld;
+        private boolean rejected;
+
+        TriggerTask(PendingTrigger trigger) {
+            this.trigger = trigger;
+        }
+
+        void complete() {
+            if (permitHeld) {
+                permitHeld = false;
+                inFlightPermits.release();
+            }
+            inFlightCount.decrementAndGet();
+            notifyComplete(trigger.onComplete());
+        }
+
+        @Override
+        public String toString() {
+            return "Job Runnable, jobId:" + trigger.jobId();
+        }
     }
 }
@@ -0,0 +1,31 @@
+package com.abyss.orth.admin.scheduler.thread;
+
+import java.util.concurrent.ScheduledExecutorService;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/** Helpers for the periodic tasks of the scheduler helpers. */
+final class ScheduledTaskUtil {
+    private static final Logger logger = LoggerFactory.getLogger(ScheduledTaskUtil.class);
+
+    private ScheduledTaskUtil() {}
+
+    /**
+     * Wraps a runnable to catch and log exceptions, preventing {@link ScheduledExecutorService}
+     * from silently cancelling future executions on uncaught exceptions.
+     *
+     * @param taskName task name, for the log
+     * @param task periodic task
+     * @return the task, never throwing
+     */
+    static Runnable safeRunnable(String taskName, Runnable task) {
+        return () -> {
+            try {
+                task.run();
+            } catch (Throwable e) {
+                logger.error("Scheduled task '{}' threw exception", taskName, e);
+            }
+        };
+    }
+}
@@ -0,0 +1,318 @@
+package com.abyss.orth.admin.scheduler.thread;
+
+import java.util.*;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.ToIntFunction;
+
+/**
+ * Bounded trigger queue served weighted fair across priority classes.
+ *
+ * <p>Each class has its own FIFO queue and capacity, so a flood of one class cannot take the queue
+ * slots of another. Takes follow smooth weighted round-robin over the non-empty classes: with
+ * weights 8,4,1 and every class backlogged, 8 of every 13 takes serve the first class, spread
+ * evenly rather than in bursts. A class without queued triggers leaves its share to the others, so
+ * a lone backlog still drains at full speed, and a backlogged class is never starved.
+ *
+ * <p>Used as the work queue of the trigger thread pools; a full class makes {@link #offer} fail,
+ * which the pool turns into a rejection.
+ */
+final class WeightedFairTriggerQueue extends AbstractQueue<Runnable>
+        implements BlockingQueue<Runnable> {
+
+    private final int[] weights;
+    private final int[] current; // smooth weighted round-robin credit per class
+    private final ArrayDeque<Runnable>[] queues;
+    private final int capacityPerClass;
+    private final ToIntFunction<Runnable> classifier;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+    private int count;
+
+    /**
+     * Creates the queue.
+     *
+     * @param weights weight per class, each at least 1; class {@code i} has weight {@code
+     *     weights[i]}
+     * @param capacityPerClass max queued triggers per class
+     * @param classifier class of a queued runnable, out of range values are clamped
+     */
+    @SuppressWarnings("unchecked")
+    WeightedFairTriggerQueue(
+            int[] weights, int capacityPerClass, ToIntFunction<Runnable> classifier) {
+        this.weights = weights.clone();
+        this.current = new int[weights.length];
+        this.queues = new ArrayDeque[weights.length];
+        for (int i = 0; i < weights.length; i++) {
+            queues[i] = new ArrayDeque<>();
+        }
+        this.capacityPerClass = capacityPerClass;
+        this.classifier = classifier;
+    }
+
+    private int classOf(Runnable r) {
+        int priorityClass = classifier.applyAsInt(r);
+        return Math.max(0, Math.min(queues.length - 1, priorityClass));
+    }
+
+    /** Removes the next runnable by smooth weighted round-robin; the queue must not be empty. */
+    private Runnable dequeue() {
+        int total = 0;
+        int selected = -1;
+        for (int i = 0; i < queues.length; i++) {
+            if (queues[i].isEmpty()) {
+                continue;
+            }
+            current[i] += weights[i];
+            total += weights[i];
+            if (selected < 0 || current[i] > current[selected]) {
+                selected = i;
+            }
+        }
+        current[selected] -= total;
+        count--;
+        notFull.signalAll();
+        return queues[selected].poll();
+    }
+
+    private void enqueue(Runnable r, int priorityClass) {
+        queues[priorityClass].add(r);
+        count++;
+        notEmpty.signal();
+    }
+
+    @Override
+    public boolean offer(Runnable r) {
+        Objects.requireNonNull(r);
+        int priorityClass = classOf(r);
+        lock.lock();
+        try {
+            if (queues[priorityClass].size() >= capacityPerClass) {
+                return false;
+            }
+            enqueue(r, priorityClass);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean offer(Runnable r, long timeout, TimeUnit unit) throws InterruptedException {
+        Objects.requireNonNull(r);
+        int priorityClass = classOf(r);
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (queues[priorityClass].size() >= capacityPerClass) {
+                if (nanos <= 0) {
+                    return false;
+                }
+                nanos = notFull.awaitNanos(nanos);
+            }
+            enqueue(r, priorityClass);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void put(Runnable r) throws InterruptedException {
+        Objects.requireNonNull(r);
+        int priorityClass = classOf(r);
+        lock.lockInterruptibly();
+        try {
+            while (queues[priorityClass].size() >= capacityPerClass) {
+                notFull.await();
+            }
+            enqueue(r, priorityClass);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Runnable poll() {
+        lock.lock();
+        try {
+            return count > 0 ? dequeue() : null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Runnable poll(long timeout, TimeUnit unit) throws InterruptedException {
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (count == 0) {
+                if (nanos <= 0) {
+                    return null;
+                }
+                nanos = notEmpty.awaitNanos(nanos);
+            }
+            return dequeue();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Runnable take() throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            while (count == 0) {
+                notEmpty.await();
+            }
+            return dequeue();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** The runnable the next take returns. */
+    @Override
+    public Runnable peek() {
+        lock.lock();
+        try {
+            int selected = -1;
+            for (int i = 0; i < queues.length; i++) {
+                if (!queues[i].isEmpty()
+                        && (selected < 0
+                                || current[i] + weights[i]
+                                        > current[selected] + weights[selected])) {
+                    selected = i;
+                }
+            }
+            return selected < 0 ? null : queues[selected].peek();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        if (o == null) {
+            return false;
+        }
+        lock.lock();
+        try {
+            for (ArrayDeque<Runnable> queue : queues) {
+                if (queue.remove(o)) {
+                    count--;
+                    notFull.signalAll();
+                    return true;
+                }
+            }
+            return false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int size() {
+        lock.lock();
+        try {
+            return count;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int remainingCapacity() {
+        lock.lock();
+        try {
+            return capacityPerClass * queues.length - count;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * How full the fullest class is; the pool rejects triggers of a class once it is full.
+     *
+     * @return fill ratio in [0, 1]
+     */
+    double getFillRatio() {
+        lock.lock();
+        try {
+            int max = 0;
+            for (ArrayDeque<Runnable> queue : queues) {
+                max = Math.max(max, queue.size());
+            }
+            return (double) max / capacityPerClass;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int drainTo(Collection<? super Runnable> c) {
+        return drainTo(c, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public int drainTo(Collection<? super Runnable> c, int maxElements) {
+        Objects.requireNonNull(c);
+        if (c == this) {
+            throw new IllegalArgumentException();
+        }
+        lock.lock();
+        try {
+            int drained = 0;
+            while (count > 0 && drained < maxElements) {
+                c.add(dequeue());
+                drained++;
+            }
+            return drained;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Iterates over a snapshot, in class order; {@code remove} removes from the queue. */
+    @Override
+    public Iterator<Runnable> iterator() {
+        List<Runnable> snapshot = new ArrayList<>();
+        lock.lock();
+        try {
+            for (ArrayDeque<Runnable> queue : queues) {
+                snapshot.addAll(queue);
+            }
+        } finally {
+            lock.unlock();
+        }
+        Iterator<Runnable> it = snapshot.iterator();
+        return new Iterator<>() {
+            private Runnable last;
+
+            @Override
+            public boolean hasNext() {
+                return it.hasNext();
+            }
+
+            @Override
+            public Runnable next() {
+                last = it.next();
+                return last;
+            }
+
+            @Override
+            public void remove() {
+                if (last == null) {
+                    throw new IllegalStateException();
+                }
+                WeightedFairTriggerQueue.this.remove(last);
+                last = null;
+            }
+        };
+    }
+}
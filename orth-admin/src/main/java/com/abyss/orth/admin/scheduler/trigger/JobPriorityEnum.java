@@ -0,0 +1,43 @@
+package com.abyss.orth.admin.scheduler.trigger;
+
+import java.util.Arrays;
+
+/**
+ * Defines the priority classes of job triggers.
+ *
+ * <p>Each job has a priority, and each trigger type maps to a class: its own (e.g. HIGH for manual
+ * triggers) or the job's. Queued triggers are served weighted fair across the classes, so a flood
+ * of LOW triggers (such as a backfill) only takes its share of the trigger pools and HIGH triggers
+ * keep their latency.
+ *
+ * <p>Classes are ordered from the highest priority; {@link #ordinal()} indexes the class weights.
+ */
+public enum JobPriorityEnum {
+
+    /** Latency-critical jobs and user-initiated triggers */
+    HIGH,
+
+    /** Default class */
+    NORMAL,
+
+    /** Bulk work such as backfills and misfire compensation */
+    LOW;
+
+    /**
+     * Finds a priority class by its enum name, with fallback to a default.
+     *
+     * @param name the enum constant name (e.g., "HIGH", "LOW")
+     * @param defaultItem the fallback value if name is null or not found
+     * @return the matching priority class, or defaultItem if not found
+     */
+    public static JobPriorityEnum match(String name, JobPriorityEnum defaultItem) {
+        if (name == null) {
+            return defaultItem;
+        }
+
+        return Arrays.stream(values())
+                .filter(item -> item.name().equals(name))
+                .findFirst()
+                .orElse(defaultItem);
+    }
+}
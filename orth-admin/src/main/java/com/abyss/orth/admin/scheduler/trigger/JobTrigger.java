@@ -1,7 +1,12 @@
 package com.abyss.orth.admin.scheduler.trigger;
 
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -9,20 +14,23 @@ import org.springframework.stereotype.Component;
 
 import com.abyss.orth.admin.mapper.JobGroupMapper;
 import com.abyss.orth.admin.mapper.JobInfoMapper;
-import com.abyss.orth.admin.mapper.JobLogMapper;
 import com.abyss.orth.admin.model.JobGroup;
 import com.abyss.orth.admin.model.JobInfo;
 import com.abyss.orth.admin.model.JobLog;
 import com.abyss.orth.admin.scheduler.config.OrthAdminBootstrap;
 import com.abyss.orth.admin.scheduler.route.ExecutorRouteStrategyEnum;
-import com.abyss.orth.admin.util.I18nUtil;
+import com.abyss.orth.admin.scheduler.thread.ExecutorCircuitBreakerHelper;
+import com.abyss.orth.admin.scheduler.thread.ExecutorInflightHelper;
+import com.abyss.orth.admin.scheduler.thread.JobGroupRateLimitHelper;
+import com.abyss.orth.admin.scheduler.thread.JobInfoCacheHelper;
+import com.abyss.orth.admin.scheduler.thread.JobLogWriteHelper;
+import com.abyss.orth.admin.scheduler.thread.JobShardHelper;
+import com.abyss.orth.admin.scheduler.thread.JobTriggerPoolHelper;
 import com.abyss.orth.core.constant.ExecutorBlockStrategyEnum;
 import com.abyss.orth.core.context.OrthJobContext;
-import com.abyss.orth.core.openapi.ExecutorBiz;
 import com.abyss.orth.core.openapi.model.TriggerRequest;
 import com.xxl.tool.core.StringTool;
 import com.xxl.tool.exception.ThrowableTool;
-import com.xxl.tool.http.IPTool;
 import com.xxl.tool.response.Response;
 
 import jakarta.annotation.Resource;
@@ -72,32 +80,8 @@ public class JobTrigger {
     private static final String LOG_SUPERTASK_NOT_FOUND =
             ">>>>>>>>>>> orth trigger fail, SuperTask not found, jobId={}, superTaskId={}";
 
-    // Constants for error messages
-    private static final String MSG_ADDRESS_ROUTER_FAIL = "Address router failed";
-    private static final String MSG_ADDRESS_ROUTE_FAIL_PREFIX = "address route fail";
-    private static final String MSG_ADDRESS_ROUTE_FAIL_DEFAULT = "address route fail.";
-    private static final String MSG_TRIGGER_SUCCESS = "success";
-    private static final String MSG_TRIGGER_ERROR_PREFIX = "error";
-    private static final String MSG_TRIGGER_FAIL = "fail";
-
-    // HTML formatting constants
-    private static final String HTML_LINE_BREAK = "<br>";
-    private static final String HTML_COLON = "：";
-    private static final String HTML_SEPARATOR_START =
-            "<br><br><span style=\"color:#00c0ef;\" > >>>>>>>>>>>";
-    private static final String HTML_SEPARATOR_END = "<<<<<<<<<<< </span><br>";
-    private static final String HTML_PAREN_OPEN = "(";
-    private static final String HTML_PAREN_CLOSE = ")";
-
-    // Constants for labels
-    private static final String LABEL_JOB_HANDLER = "JobHandler";
-    private static final String LABEL_ADDRESS = "address";
-    private static final String LABEL_CODE = "code";
-    private static final String LABEL_MSG = "msg";
-
     @Resource private JobInfoMapper jobInfoMapper;
     @Resource private JobGroupMapper jobGroupMapper;
-    @Resource private JobLogMapper jobLogMapper;
 
     /**
      * Triggers job execution on remote executors.
@@ -126,12 +110,51 @@ public class JobTrigger {
             String executorParam,
             String addressList,
             Long scheduleTime) {
+        triggerAsync(
+                        jobId,
+                        triggerType,
+                        failRetryCount,
+                        executorShardingParam,
+                        executorParam,
+                        addressList,
+                        scheduleTime)
+                .join();
+    }
+
+    /**
+     * Triggers job execution on remote executors without waiting for the executor RPC.
+     *
+     * <p>Job loading, routing and log creation run on the calling thread; the run RPC is sent with
+     * the non-blocking executor client and the log's trigger info is written when it answers.
+     *
+     * @param jobId unique identifier of the job to trigger
+     * @param triggerType the type of trigger (CRON, MANUAL, API, RETRY, PARENT, etc.)
+     * @param failRetryCount number of retry attempts on failure; if negative, uses job
+     *     configuration
+     * @param executorShardingParam explicit sharding parameter in "index/total" format; if null,
+     *     computed automatically
+     * @param executorParam runtime execution parameter; if non-null, overrides job's configured
+     *     parameter
+     * @param addressList comma-separated executor addresses; if non-null, overrides executor group
+     *     registry
+     * @param scheduleTime theoretical schedule time in milliseconds since epoch; null for
+     *     manual/API triggers
+     * @return future completed once the trigger info of every shard is written
+     */
+    public CompletableFuture<Void> triggerAsync(
+            int jobId,
+            TriggerTypeEnum triggerType,
+            int failRetryCount,
+            String executorShardingParam,
+            String executorParam,
+            String addressList,
+            Long scheduleTime) {
 
         // Guard: Load job data
-        JobInfo jobInfo = jobInfoMapper.loadById(jobId);
+        JobInfo jobInfo = loadJobInfo(jobId);
         if (jobInfo == null) {
             logger.warn(LOG_JOB_INVALID, jobId);
-            return;
+            return CompletableFuture.completedFuture(null);
         }
 
         // Apply runtime parameter override
@@ -141,7 +164,7 @@ public class JobTrigger {
 
         // Guard: Apply SuperTask inheritance
         if (!applySuperTaskInheritance(jobInfo)) {
-            return; // SuperTask not found, already logged
+            return CompletableFuture.completedFuture(null); // SuperTask not found, already logged
         }
 
         // Resolve final retry count
@@ -155,7 +178,19 @@ public class JobTrigger {
 
         // Parse and route trigger
         int[] shardingParam = parseShardingParam(executorShardingParam);
-        routeTrigger(jobInfo, group, finalFailRetryCount, triggerType, shardingParam, scheduleTime);
+        return routeTrigger(
+                jobInfo, group, finalFailRetryCount, triggerType, shardingParam, scheduleTime);
+    }
+
+    /**
+     * Loads a job row through the job info cache, or from the database when the cache is disabled.
+     *
+     * @param jobId job ID
+     * @return job row the caller may modify; null if not found
+     */
+    private JobInfo loadJobInfo(int jobId) {
+        JobInfoCacheHelper jobInfoCache = OrthAdminBootstrap.getInstance().getJobInfoCacheHelper();
+        return jobInfoCache != null ? jobInfoCache.load(jobId) : jobInfoMapper.loadById(jobId);
     }
 
     /**
@@ -178,7 +213,7 @@ public class JobTrigger {
             return true;
         }
 
-        JobInfo superTask = jobInfoMapper.loadById(jobInfo.getSuperTaskId());
+        JobInfo superTask = loadJobInfo(jobInfo.getSuperTaskId());
         if (superTask == null) {
             logger.warn(LOG_SUPERTASK_NOT_FOUND, jobInfo.getId(), jobInfo.getSuperTaskId());
             return false;
@@ -252,8 +287,9 @@ public class JobTrigger {
      * @param triggerType the trigger type
      * @param shardingParam explicit sharding parameter; null for auto-routing
      * @param scheduleTime theoretical schedule time
+     * @return future completed once every shard is processed
      */
-    private void routeTrigger(
+    private CompletableFuture<Void> routeTrigger(
             JobInfo jobInfo,
             JobGroup group,
             int finalFailRetryCount,
@@ -270,16 +306,21 @@ public class JobTrigger {
                 group.getRegistryList() != null && !group.getRegistryList().isEmpty();
         boolean needsBroadcast = isShardingBroadcast && hasRegistryList && shardingParam == null;
 
-        if (needsBroadcast) {
+        if (needsBroadcast && jobInfo.getShardCount() > 0) {
+            // Virtual shards: every executor leases shards of one run until none is left
+            return triggerVirtualShards(
+                    group, jobInfo, finalFailRetryCount, triggerType, scheduleTime);
+        } else if (needsBroadcast) {
             // Broadcast to all executors with individual shard indices
-            broadcastToAllExecutors(group, jobInfo, finalFailRetryCount, triggerType, scheduleTime);
+            return broadcastToAllExecutors(
+                    group, jobInfo, finalFailRetryCount, triggerType, scheduleTime);
         } else {
             // Single executor routing
             int[] effectiveSharding =
                     shardingParam != null
                             ? shardingParam
                             : new int[] {DEFAULT_SHARDING_INDEX, DEFAULT_SHARDING_TOTAL};
-            processTrigger(
+            return pacedTrigger(
                     group,
                     jobInfo,
                     finalFailRetryCount,
@@ -293,13 +334,21 @@ public class JobTrigger {
     /**
      * Broadcasts trigger to all registered executors with unique shard indices.
      *
+     * <p>The fan-out takes about one executor round trip whatever the group size: every shard is
+     * routed on the calling thread, the shard logs are inserted with one multi-row statement, all
+     * shard RPCs are in flight concurrently, and the answers are collected until the executor RPC
+     * timeout and written back with one multi-row update. A shard answering after that is written
+     * on its own. Shards of a rate limited group are instead paced one by one, see {@link
+     * #pacedTrigger}.
+     *
      * @param group the executor group with registry list
      * @param jobInfo the job configuration
      * @param finalFailRetryCount the retry count
      * @param triggerType the trigger type
      * @param scheduleTime theoretical schedule time
+     * @return future completed once every shard is processed
      */
-    private void broadcastToAllExecutors(
+    private CompletableFuture<Void> broadcastToAllExecutors(
             JobGroup group,
             JobInfo jobInfo,
             int finalFailRetryCount,
@@ -309,24 +358,329 @@ public class JobTrigger {
         List<String> registryList = group.getRegistryList();
         int totalShards = registryList.size();
 
+        // Rate limited group: each shard waits for its own token
+        if (OrthAdminBootstrap.getInstance().getJobGroupRateLimitHelper() != null
+                && group.getTriggerRate() > 0) {
+            CompletableFuture<?>[] shards = new CompletableFuture<?>[totalShards];
+            for (int shardIndex = 0; shardIndex < totalShards; shardIndex++) {
+                shards[shardIndex] =
+                        pacedTrigger(
+                                group,
+                                jobInfo,
+                                finalFailRetryCount,
+                                triggerType,
+                                shardIndex,
+                                totalShards,
+                                scheduleTime);
+            }
+            return CompletableFuture.allOf(shards);
+        }
+
+        // Route every shard, then insert all shard logs together
+        List<PreparedTrigger> shards = new ArrayList<>(totalShards);
+        List<JobLog> shardLogs = new ArrayList<>(totalShards);
         for (int shardIndex = 0; shardIndex < totalShards; shardIndex++) {
-            processTrigger(
-                    group,
-                    jobInfo,
-                    finalFailRetryCount,
-                    triggerType,
-                    shardIndex,
-                    totalShards,
-                    scheduleTime);
+            PreparedTrigger shard =
+                    prepareTrigger(
+                            true,
+                            group,
+                            jobInfo,
+                            finalFailRetryCount,
+                            triggerType,
+                            shardIndex,
+                            totalShards,
+                            scheduleTime);
+            shards.add(shard);
+            shardLogs.add(shard.jobLog);
+        }
+        JobLogWriteHelper logWriter = OrthAdminBootstrap.getInstance().getJobLogWriteHelper();
+        List<CompletableFuture<JobLog>> savedLogs = logWriter.saveAll(shardLogs);
+
+        // Send all shard RPCs without waiting for each other, nor for busy addresses
+        List<CompletableFuture<Response<String>>> results = new ArrayList<>(totalShards);
+        for (int shardIndex = 0; shardIndex < totalShards; shardIndex++) {
+            PreparedTrigger shard = shards.get(shardIndex);
+            results.add(
+                    executeTrigger(
+                            shard.request,
+                            shard.address,
+                            savedLogs.get(shardIndex),
+                            shard.diagnostics,
+                            false));
+        }
+
+        // Collect the answers until the RPC timeout, then write them back together
+        long deadlineMs = TimeUnit.SECONDS.toMillis(OrthAdminBootstrap.getInstance().getTimeout());
+        return CompletableFuture.allOf(results.toArray(new CompletableFuture<?>[0]))
+                .handle((ignored, e) -> (Void) null)
+                .completeOnTimeout(null, deadlineMs, TimeUnit.MILLISECONDS)
+                .thenCompose(ignored -> writeBackShards(shards, results, logWriter))
+                .thenRun(() -> logger.debug(LOG_TRIGGER_END, shards.get(0).jobLog.getId()));
+    }
+
+    /**
+     * Starts a virtually sharded run on all registered executors.
+     *
+     * <p>The run has one parent log and {@code shard_count} shard rows. Every executor is sent a
+     * run carrying the parent log ID and the virtual shard count, and leases shards until none is
+     * left; see {@code JobShardHelper}. Failed shards are retried on their own, so the parent log
+     * carries no fail retry count unless no executor accepted the run: its shards are then
+     * discarded and the run is retried whole.
+     *
+     * <p>The runs are sent once the parent log is inserted, without holding the calling thread.
+     * Like the shards of a broadcast, each takes a token of a rate limited group and fails at once
+     * on a busy address.
+     *
+     * @param group the executor group with registry list
+     * @param jobInfo the job configuration, with its shard count
+     * @param finalFailRetryCount the retry count, of each shard
+     * @param triggerType the trigger type
+     * @param scheduleTime theoretical schedule time
+     * @return future completed once the parent log's trigger info is written
+     */
+    private CompletableFuture<Void> triggerVirtualShards(
+            JobGroup group,
+            JobInfo jobInfo,
+            int finalFailRetryCount,
+            TriggerTypeEnum triggerType,
+            Long scheduleTime) {
+
+        // Insert the parent log and its shards before any executor can lease
+        JobLog parentLog = newJobLog(jobInfo, scheduleTime);
+        JobLogWriteHelper logWriter = OrthAdminBootstrap.getInstance().getJobLogWriteHelper();
+        JobShardHelper shardHelper = OrthAdminBootstrap.getInstance().getJobShardHelper();
+        return logWriter
+                .save(parentLog)
+                .thenCompose(
+                        savedLog -> {
+                            shardHelper.createShards(
+                                    parentLog.getId(),
+                                    jobInfo.getShardCount(),
+                                    1 + finalFailRetryCount);
+                            return sendVirtualShardRuns(
+                                    group,
+                                    jobInfo,
+                                    finalFailRetryCount,
+                                    triggerType,
+                                    scheduleTime,
+                                    parentLog);
+                        })
+                .thenAccept(updatedLog -> logger.debug(LOG_TRIGGER_END, updatedLog.getId()));
+    }
+
+    /**
+     * Sends every executor a run of an inserted parent log, then writes the parent log's trigger
+     * info.
+     *
+     * @param group the executor group with registry list
+     * @param jobInfo the job configuration, with its shard count
+     * @param finalFailRetryCount the retry count, of each shard
+     * @param triggerType the trigger type
+     * @param scheduleTime theoretical schedule time
+     * @param parentLog the inserted parent log
+     * @return future of the updated parent log
+     */
+    private CompletableFuture<JobLog> sendVirtualShardRuns(
+            JobGroup group,
+            JobInfo jobInfo,
+            int finalFailRetryCount,
+            TriggerTypeEnum triggerType,
+            Long scheduleTime,
+            JobLog parentLog) {
+
+        List<String> registryList = group.getRegistryList();
+        int workerTotal = registryList.size();
+        ExecutorBlockStrategyEnum blockStrategy =
+                ExecutorBlockStrategyEnum.match(
+                        jobInfo.getExecutorBlockStrategy(),
+                        ExecutorBlockStrategyEnum.SERIAL_EXECUTION);
+        JobLogWriteHelper logWriter = OrthAdminBootstrap.getInstance().getJobLogWriteHelper();
+        JobShardHelper shardHelper = OrthAdminBootstrap.getInstance().getJobShardHelper();
+
+        // Send every executor a run of the parent log, each once the group's rate admits it
+        PreparedTrigger[] workers = new PreparedTrigger[workerTotal];
+        List<CompletableFuture<Response<String>>> results = new ArrayList<>(workerTotal);
+        for (int workerIndex = 0; workerIndex < workerTotal; workerIndex++) {
+            int index = workerIndex;
+            String shardingParam =
+                    formatShardingParam(
+                            ExecutorRouteStrategyEnum.SHARDING_BROADCAST, index, workerTotal);
+            TriggerRequest request =
+                    buildTriggerRequest(
+                            jobInfo, parentLog, index, workerTotal, scheduleTime, shardingParam);
+            request.setVirtualShardTotal(jobInfo.getShardCount());
+            TriggerDiagnostics diagnostics =
+                    new TriggerDiagnostics(
+                            triggerType,
+                            group,
+                            ExecutorRouteStrategyEnum.SHARDING_BROADCAST,
+                            shardingParam,
+                            blockStrategy,
+                            jobInfo,
+                            finalFailRetryCount);
+            results.add(
+                    pacedTrigger(
+                            group,
+                            admitted -> {
+                                String address = null;
+                                if (admitted) {
+                                    address =
+                                            resolveExecutorAddress(
+                                                    group,
+                                                    ExecutorRouteStrategyEnum.SHARDING_BROADCAST,
+                                                    index,
+                                                    request,
+                                                    diagnostics);
+                                } else {
+                                    diagnostics.routeFailed(
+                                            TriggerDiagnostics.Outcome.RATE_LIMITED, null);
+                                }
+                                workers[index] =
+                                        new PreparedTrigger(
+                                                parentLog,
+                                                request,
+                                                address,
+                                                jobInfo,
+                                                shardingParam,
+                                                finalFailRetryCount,
+                                                diagnostics);
+                                return executeTrigger(
+                                        request,
+                                        address,
+                                        CompletableFuture.completedFuture(parentLog),
+                                        diagnostics,
+                                        false);
+                            }));
         }
+
+        return CompletableFuture.allOf(results.toArray(new CompletableFuture<?>[0]))
+                .thenCompose(
+                        ignored -> {
+                            StringBuilder triggerMsg = new StringBuilder();
+                            String acceptedAddress = null;
+                            for (int workerIndex = 0; workerIndex < workerTotal; workerIndex++) {
+                                PreparedTrigger worker = workers[workerIndex];
+                                Response<String> result = results.get(workerIndex).join();
+                                worker.diagnostics.result(result);
+                                triggerMsg.append(worker.diagnostics.encode());
+                                if (acceptedAddress == null && result.isSuccess()) {
+                                    acceptedAddress = worker.address;
+                                }
+                            }
+
+                            parentLog.setExecutorAddress(
+                                    acceptedAddress != null ? acceptedAddress : workers[0].address);
+                            parentLog.setExecutorHandler(jobInfo.getExecutorHandler());
+                            parentLog.setExecutorParam(jobInfo.getExecutorParam());
+                            parentLog.setExecutorShardingParam(
+                                    JobShardHelper.virtualShardingParam(jobInfo.getShardCount()));
+                            parentLog.setTriggerMsg(triggerMsg.toString());
+                            if (acceptedAddress != null) {
+                                parentLog.setExecutorFailRetryCount(0);
+                                parentLog.setTriggerCode(OrthJobContext.HANDLE_CODE_SUCCESS);
+                            } else {
+                                shardHelper.discardShards(parentLog.getId());
+                                parentLog.setExecutorFailRetryCount(finalFailRetryCount);
+                                parentLog.setTriggerCode(OrthJobContext.HANDLE_CODE_FAIL);
+                            }
+                            return logWriter.updateTriggerInfo(parentLog);
+                        });
+    }
+
+    /**
+     * Writes the trigger info of a broadcast's shards: the answered shards with one multi-row
+     * update, each late shard on its own once it answers.
+     *
+     * @param shards prepared shards
+     * @param results trigger result per shard, in shard order
+     * @param logWriter log writer
+     * @return future completed once the trigger info of every shard is written; completed
+     *     exceptionally if a shard log could not be inserted
+     */
+    private CompletableFuture<Void> writeBackShards(
+            List<PreparedTrigger> shards,
+            List<CompletableFuture<Response<String>>> results,
+            JobLogWriteHelper logWriter) {
+
+        List<JobLog> answered = new ArrayList<>(shards.size());
+        List<CompletableFuture<?>> writes = new ArrayList<>(shards.size());
+        for (int shardIndex = 0; shardIndex < shards.size(); shardIndex++) {
+            PreparedTrigger shard = shards.get(shardIndex);
+            CompletableFuture<Response<String>> result = results.get(shardIndex);
+            if (result.isDone() && !result.isCompletedExceptionally()) {
+                fillTriggerInfo(shard, result.join());
+                answered.add(shard.jobLog);
+            } else {
+                // late, or its log insert failed (then propagated)
+                writes.add(
+                        result.thenCompose(
+                                triggerResult -> {
+                                    fillTriggerInfo(shard, triggerResult);
+                                    return logWriter.updateTriggerInfo(shard.jobLog);
+                                }));
+            }
+        }
+        writes.addAll(logWriter.updateTriggerInfoAll(answered));
+        return CompletableFuture.allOf(writes.toArray(new CompletableFuture<?>[0]));
+    }
+
+    /**
+     * Processes a single trigger once the executor group's rate limit admits it.
+     *
+     * <p>A trigger of a rate limited group finding no token waits for one without holding the
+     * calling thread; see {@code JobGroupRateLimitHelper}.
+     *
+     * @return future completed once the log's trigger info is written
+     * @see #processTrigger
+     */
+    private CompletableFuture<Void> pacedTrigger(
+            JobGroup group,
+            JobInfo jobInfo,
+            int finalFailRetryCount,
+            TriggerTypeEnum triggerType,
+            int shardIndex,
+            int shardTotal,
+            Long scheduleTime) {
+        return pacedTrigger(
+                group,
+                admitted ->
+                        processTrigger(
+                                admitted,
+                                group,
+                                jobInfo,
+                                finalFailRetryCount,
+                                triggerType,
+                                shardIndex,
+                                shardTotal,
+                                scheduleTime));
+    }
+
+    /**
+     * Runs a trigger RPC once the executor group's rate limit admits it; at once if the group has
+     * no rate.
+     *
+     * @param group the executor group
+     * @param task sends the trigger; called with false if the group's rate limit turned it away
+     * @return future of the task's result
+     */
+    private <T> CompletableFuture<T> pacedTrigger(
+            JobGroup group, Function<Boolean, CompletableFuture<T>> task) {
+        JobGroupRateLimitHelper rateLimiter =
+                OrthAdminBootstrap.getInstance().getJobGroupRateLimitHelper();
+        return rateLimiter != null ? rateLimiter.submit(group, task) : task.apply(true);
     }
 
     /**
      * Processes a single trigger execution including logging and remote RPC call.
      *
-     * <p>Creates execution log, resolves executor address via routing strategy, sends trigger to
-     * executor, and records detailed diagnostics for troubleshooting.
+     * <p>Resolves executor address via routing strategy, creates the execution log, sends trigger
+     * to executor, and records compact {@link TriggerDiagnostics} for troubleshooting, rendered
+     * only when the log is read. Only routing runs on the calling thread: the log writes go through
+     * the batching stages of {@code JobLogWriteHelper} and the RPC is sent without blocking once
+     * the log ID is known.
      *
+     * @param admitted false if the group's rate limit turned the trigger away; it then fails
+     *     without routing
      * @param group executor group (registry list may be empty)
      * @param jobInfo job configuration
      * @param finalFailRetryCount the resolved fail-retry count
@@ -334,8 +688,52 @@ public class JobTrigger {
      * @param shardIndex shard index for broadcast routing (0-based)
      * @param shardTotal total shard count for broadcast routing
      * @param scheduleTime theoretical schedule time in milliseconds; null for manual/API triggers
+     * @return future completed once the log's trigger info is written
+     */
+    private CompletableFuture<Void> processTrigger(
+            boolean admitted,
+            JobGroup group,
+            JobInfo jobInfo,
+            int finalFailRetryCount,
+            TriggerTypeEnum triggerType,
+            int shardIndex,
+            int shardTotal,
+            Long scheduleTime) {
+
+        // Steps 1-3: Create log, build request, resolve executor address
+        PreparedTrigger trigger =
+                prepareTrigger(
+                        admitted,
+                        group,
+                        jobInfo,
+                        finalFailRetryCount,
+                        triggerType,
+                        shardIndex,
+                        shardTotal,
+                        scheduleTime);
+
+        // Step 4: Trigger remote executor once the log is inserted
+        JobLogWriteHelper logWriter = OrthAdminBootstrap.getInstance().getJobLogWriteHelper();
+        CompletableFuture<JobLog> savedLog = logWriter.save(trigger.jobLog);
+        return executeTrigger(trigger.request, trigger.address, savedLog, trigger.diagnostics, true)
+                .thenCompose(
+                        triggerResult -> {
+                            // Step 5: Update execution log
+                            fillTriggerInfo(trigger, triggerResult);
+                            return logWriter.updateTriggerInfo(trigger.jobLog);
+                        })
+                .thenAccept(updatedLog -> logger.debug(LOG_TRIGGER_END, updatedLog.getId()));
+    }
+
+    /**
+     * Creates the execution log and trigger request of a trigger and routes it, without writing or
+     * sending anything.
+     *
+     * @return the prepared trigger; its address is null if routing failed
+     * @see #processTrigger
      */
-    private void processTrigger(
+    private PreparedTrigger prepareTrigger(
+            boolean admitted,
             JobGroup group,
             JobInfo jobInfo,
             int finalFailRetryCount,
@@ -355,9 +753,8 @@ public class JobTrigger {
         // Format sharding parameter for broadcast mode
         String shardingParam = formatShardingParam(routeStrategy, shardIndex, shardTotal);
 
-        // Step 1: Create execution log
-        JobLog jobLog = createJobLog(jobInfo, scheduleTime);
-        logger.debug(LOG_TRIGGER_START, jobLog.getId());
+        // Step 1: Create execution log (inserted by the log writer, ID assigned later)
+        JobLog jobLog = newJobLog(jobInfo, scheduleTime);
 
         // Step 2: Build trigger request
         TriggerRequest triggerRequest =
@@ -365,36 +762,33 @@ public class JobTrigger {
                         jobInfo, jobLog, shardIndex, shardTotal, scheduleTime, shardingParam);
 
         // Step 3: Resolve executor address
-        AddressResolutionResult addressResult =
-                resolveExecutorAddress(group, routeStrategy, shardIndex, triggerRequest);
-
-        // Step 4: Trigger remote executor
-        Response<String> triggerResult = executeTrigger(triggerRequest, addressResult.address);
-
-        // Step 5: Build diagnostics message
-        String diagnosticsMessage =
-                buildDiagnosticsMessage(
+        TriggerDiagnostics diagnostics =
+                new TriggerDiagnostics(
                         triggerType,
                         group,
                         routeStrategy,
+                        shardingParam,
                         blockStrategy,
                         jobInfo,
-                        finalFailRetryCount,
-                        shardingParam,
-                        addressResult,
-                        triggerResult);
+                        finalFailRetryCount);
+        String address;
+        if (admitted) {
+            address =
+                    resolveExecutorAddress(
+                            group, routeStrategy, shardIndex, triggerRequest, diagnostics);
+        } else {
+            address = null;
+            diagnostics.routeFailed(TriggerDiagnostics.Outcome.RATE_LIMITED, null);
+        }
 
-        // Step 6: Update execution log
-        updateJobLog(
+        return new PreparedTrigger(
                 jobLog,
-                addressResult.address,
+                triggerRequest,
+                address,
                 jobInfo,
                 shardingParam,
                 finalFailRetryCount,
-                triggerResult,
-                diagnosticsMessage);
-
-        logger.debug(LOG_TRIGGER_END, jobLog.getId());
+                diagnostics);
     }
 
     /**
@@ -414,23 +808,22 @@ public class JobTrigger {
     }
 
     /**
-     * Creates and persists a new job execution log.
+     * Creates a new job execution log, not yet persisted.
      *
      * @param jobInfo the job configuration
      * @param scheduleTime theoretical schedule time; null for manual triggers
-     * @return the persisted job log with generated ID
+     * @return the job log, without ID
      */
-    private JobLog createJobLog(JobInfo jobInfo, Long scheduleTime) {
+    private JobLog newJobLog(JobInfo jobInfo, Long scheduleTime) {
         JobLog jobLog = new JobLog();
         jobLog.setJobGroup(jobInfo.getJobGroup());
         jobLog.setJobId(jobInfo.getId());
-        jobLog.setTriggerTime(new Date());
+        jobLog.setTriggerTime(
+                new Date(OrthAdminBootstrap.getInstance().getClock().currentTimeMillis()));
 
         if (scheduleTime != null) {
             jobLog.setScheduleTime(new Date(scheduleTime));
         }
-
-        jobLogMapper.save(jobLog);
         return jobLog;
     }
 
@@ -438,7 +831,7 @@ public class JobTrigger {
      * Builds trigger request with all execution parameters.
      *
      * @param jobInfo the job configuration
-     * @param jobLog the execution log
+     * @param jobLog the execution log; its ID is set on the request once inserted
      * @param shardIndex the shard index
      * @param shardTotal the total shard count
      * @param scheduleTime theoretical schedule time
@@ -460,7 +853,6 @@ public class JobTrigger {
         request.setExecutorBlockStrategy(jobInfo.getExecutorBlockStrategy());
         request.setExecutorConcurrency(jobInfo.getExecutorConcurrency());
         request.setExecutorTimeout(jobInfo.getExecutorTimeout());
-        request.setLogId(jobLog.getId());
         request.setLogDateTime(jobLog.getTriggerTime().getTime());
         request.setGlueType(jobInfo.getGlueType());
         request.setGlueSource(jobInfo.getGlueSource());
@@ -478,37 +870,46 @@ public class JobTrigger {
      * @param routeStrategy the routing strategy
      * @param shardIndex the shard index for broadcast mode
      * @param triggerRequest the trigger request for routing context
-     * @return address resolution result containing address and routing response
+     * @param diagnostics records the address, or why there is none
+     * @return the executor address; null if routing failed
      */
-    private AddressResolutionResult resolveExecutorAddress(
+    private String resolveExecutorAddress(
             JobGroup group,
             ExecutorRouteStrategyEnum routeStrategy,
             int shardIndex,
-            TriggerRequest triggerRequest) {
+            TriggerRequest triggerRequest,
+            TriggerDiagnostics diagnostics) {
 
         List<String> registryList = group.getRegistryList();
 
         // Guard: Check if registry list is empty
         if (registryList == null || registryList.isEmpty()) {
-            Response<String> errorResponse =
-                    Response.of(
-                            OrthJobContext.HANDLE_CODE_FAIL,
-                            I18nUtil.getString("jobconf_trigger_address_empty"));
-            return new AddressResolutionResult(null, errorResponse);
+            diagnostics.routeFailed(TriggerDiagnostics.Outcome.ADDRESS_EMPTY, null);
+            return null;
         }
 
-        // Sharding broadcast: Direct index mapping
+        // Sharding broadcast: Direct index mapping; an open circuit fails the shard at once
         if (ExecutorRouteStrategyEnum.SHARDING_BROADCAST == routeStrategy) {
             String address = resolveShardingAddress(registryList, shardIndex);
-            return new AddressResolutionResult(address, Response.ofSuccess(address));
+            ExecutorCircuitBreakerHelper breaker =
+                    OrthAdminBootstrap.getInstance().getExecutorCircuitBreakerHelper();
+            if (breaker != null && !breaker.allowRequest(address)) {
+                diagnostics.routeFailed(TriggerDiagnostics.Outcome.CIRCUIT_OPEN, address);
+                return null;
+            }
+            diagnostics.routed(address);
+            return address;
         }
 
-        // Other strategies: Use router
+        // Other strategies: Use router, skipping addresses with an open circuit
         Response<String> routeResult =
-                routeStrategy.getRouter().route(triggerRequest, registryList);
-
-        String address = routeResult.isSuccess() ? routeResult.getData() : null;
-        return new AddressResolutionResult(address, routeResult);
+                routeStrategy.getRouter().routeAvailable(triggerRequest, registryList);
+        if (!routeResult.isSuccess() || routeResult.getData() == null) {
+            diagnostics.routeFailed(TriggerDiagnostics.Outcome.ROUTE_FAILED, routeResult.getMsg());
+            return null;
+        }
+        diagnostics.routed(routeResult.getData());
+        return routeResult.getData();
     }
 
     /**
@@ -528,265 +929,183 @@ public class JobTrigger {
     /**
      * Executes trigger on remote executor or returns failure response.
      *
-     * @param triggerRequest the trigger request containing job parameters
+     * <p>The per-address permit is taken before the RPC, waiting for a busy address only if asked
+     * to (on the calling thread only in virtual mode, see {@link
+     * JobTriggerPoolHelper#acquireAddressPermit}): a broadcast, or a virtually sharded run, takes
+     * one per executor in a loop, where each wait would delay every later executor, so its runs on
+     * a busy address fail at once instead. The RPC is sent once the log is inserted, with the
+     * non-blocking executor client, batched with other runs bound for the same executor by {@code
+     * JobTriggerBatchHelper}; no thread waits for the answer.
+     *
+     * @param triggerRequest the trigger request containing job parameters, without log ID
      * @param address the executor address; null if routing failed
-     * @return trigger execution result
+     * @param savedLog future of the inserted execution log
+     * @param diagnostics records the send and answer times, or a busy address
+     * @param waitForPermit true to wait for a permit of a busy address, false to fail at once
+     * @return future of the trigger execution result; completed exceptionally only if the log could
+     *     not be inserted, in which case nothing is sent
      */
-    private Response<String> executeTrigger(TriggerRequest triggerRequest, String address) {
+    private CompletableFuture<Response<String>> executeTrigger(
+            TriggerRequest triggerRequest,
+            String address,
+            CompletableFuture<JobLog> savedLog,
+            TriggerDiagnostics diagnostics,
+            boolean waitForPermit) {
         if (address == null) {
-            return Response.of(OrthJobContext.HANDLE_CODE_FAIL, MSG_ADDRESS_ROUTER_FAIL);
+            return savedLog.thenApply(jobLog -> Response.of(OrthJobContext.HANDLE_CODE_FAIL, null));
         }
 
-        Response<String> runResult;
-        try {
-            ExecutorBiz executorBiz = OrthAdminBootstrap.getExecutorBiz(address);
-            runResult = executorBiz.run(triggerRequest);
-        } catch (Exception e) {
-            logger.error(LOG_TRIGGER_ERROR, address, e);
-            runResult = Response.of(OrthJobContext.HANDLE_CODE_FAIL, ThrowableTool.toString(e));
-        }
-        return formatRPCResult(runResult, address);
+        // per-address admission
+        JobTriggerPoolHelper triggerPool =
+                OrthAdminBootstrap.getInstance().getJobTriggerPoolHelper();
+        CompletableFuture<Boolean> permit =
+                waitForPermit
+                        ? triggerPool.acquireAddressPermit(address)
+                        : CompletableFuture.completedFuture(
+                                triggerPool.tryAcquireAddressPermit(address));
+        return permit.thenCompose(
+                permitted -> {
+                    if (!permitted) {
+                        diagnostics.addressBusy();
+                        return savedLog.thenApply(
+                                jobLog -> Response.of(OrthJobContext.HANDLE_CODE_FAIL, null));
+                    }
+                    return sendTrigger(triggerRequest, address, savedLog, diagnostics, triggerPool);
+                });
     }
 
     /**
-     * Formats RPC result with execution details.
+     * Sends a trigger RPC holding a permit of its address, released once the executor answers.
      *
-     * @param runResult the raw RPC result
-     * @param address the executor address
-     * @return formatted result with HTML diagnostics
+     * @return future of the trigger execution result; completed exceptionally only if the log could
+     *     not be inserted
+     * @see #executeTrigger
      */
-    private Response<String> formatRPCResult(Response<String> runResult, String address) {
-        StringBuilder resultBuilder =
-                new StringBuilder(I18nUtil.getString("jobconf_trigger_run") + HTML_COLON);
-        resultBuilder
-                .append(HTML_LINE_BREAK)
-                .append(LABEL_ADDRESS)
-                .append(HTML_COLON)
-                .append(address);
-        resultBuilder
-                .append(HTML_LINE_BREAK)
-                .append(LABEL_CODE)
-                .append(HTML_COLON)
-                .append(runResult.getCode());
-        resultBuilder
-                .append(HTML_LINE_BREAK)
-                .append(LABEL_MSG)
-                .append(HTML_COLON)
-                .append(runResult.getMsg());
-
-        runResult.setMsg(resultBuilder.toString());
-        return runResult;
+    private CompletableFuture<Response<String>> sendTrigger(
+            TriggerRequest triggerRequest,
+            String address,
+            CompletableFuture<JobLog> savedLog,
+            TriggerDiagnostics diagnostics,
+            JobTriggerPoolHelper triggerPool) {
+        CompletableFuture<Response<String>> result =
+                savedLog.thenCompose(
+                        jobLog -> {
+                            logger.debug(LOG_TRIGGER_START, jobLog.getId());
+                            triggerRequest.setLogId(jobLog.getId());
+
+                            // in flight until the run reports back, see ExecutorInflightHelper
+                            ExecutorInflightHelper inflight = inflightHelper(triggerRequest);
+                            if (inflight != null) {
+                                inflight.dispatched(jobLog.getId(), address);
+                            }
+
+                            // coalesced with other runs bound for the same executor; the RPC
+                            // time, and the circuit's latency, count from when the batch goes out
+                            return OrthAdminBootstrap.getInstance()
+                                    .getJobTriggerBatchHelper()
+                                    .run(address, triggerRequest, diagnostics::sent)
+                                    .handle(
+                                            (runResult, e) -> {
+                                                recordCircuitOutcome(
+                                                        address, e == null, diagnostics.answered());
+                                                if (e != null) {
+                                                    Throwable cause =
+                                                            e instanceof CompletionException
+                                                                    ? e.getCause()
+                                                                    : e;
+                                                    logger.error(LOG_TRIGGER_ERROR, address, cause);
+                                                    runResult =
+                                                            Response.of(
+                                                                    OrthJobContext.HANDLE_CODE_FAIL,
+                                                                    ThrowableTool.toString(cause));
+                                                }
+                                                if (inflight != null && !runResult.isSuccess()) {
+                                                    inflight.completed(jobLog.getId());
+                                                }
+                                                return runResult;
+                                            });
+                        });
+        result.whenComplete((runResult, e) -> triggerPool.releaseAddressPermit(address));
+        return result;
     }
 
     /**
-     * Builds comprehensive diagnostics message for execution log.
+     * Gets the in-flight counters a run is counted in.
      *
-     * @param triggerType the trigger type
-     * @param group the executor group
-     * @param routeStrategy the routing strategy
-     * @param blockStrategy the block strategy
-     * @param jobInfo the job configuration
-     * @param finalFailRetryCount the retry count
-     * @param shardingParam the sharding parameter
-     * @param addressResult the address resolution result
-     * @param triggerResult the trigger execution result
-     * @return HTML-formatted diagnostics message
+     * @param triggerRequest the run
+     * @return the in-flight helper, or null for the workers of a virtually sharded run, which share
+     *     one log ID
      */
-    private String buildDiagnosticsMessage(
-            TriggerTypeEnum triggerType,
-            JobGroup group,
-            ExecutorRouteStrategyEnum routeStrategy,
-            ExecutorBlockStrategyEnum blockStrategy,
-            JobInfo jobInfo,
-            int finalFailRetryCount,
-            String shardingParam,
-            AddressResolutionResult addressResult,
-            Response<String> triggerResult) {
-
-        StringBuilder msg = new StringBuilder();
-
-        // Configuration section
-        appendTriggerConfig(
-                msg,
-                triggerType,
-                group,
-                routeStrategy,
-                blockStrategy,
-                jobInfo,
-                finalFailRetryCount,
-                shardingParam);
-
-        // Execution section
-        appendExecutionResult(msg, addressResult, jobInfo, triggerResult);
-
-        return msg.toString();
-    }
-
-    /** Appends trigger configuration section to diagnostics message. */
-    private void appendTriggerConfig(
-            StringBuilder msg,
-            TriggerTypeEnum triggerType,
-            JobGroup group,
-            ExecutorRouteStrategyEnum routeStrategy,
-            ExecutorBlockStrategyEnum blockStrategy,
-            JobInfo jobInfo,
-            int finalFailRetryCount,
-            String shardingParam) {
-
-        // Trigger type
-        msg.append(I18nUtil.getString("jobconf_trigger_type"))
-                .append(HTML_COLON)
-                .append(triggerType.getTitle());
-
-        // Admin address
-        msg.append(HTML_LINE_BREAK)
-                .append(I18nUtil.getString("jobconf_trigger_admin_adress"))
-                .append(HTML_COLON)
-                .append(IPTool.getIp());
-
-        // Registry type
-        msg.append(HTML_LINE_BREAK)
-                .append(I18nUtil.getString("jobconf_trigger_exe_regtype"))
-                .append(HTML_COLON)
-                .append(
-                        group.getAddressType() == ADDRESS_TYPE_AUTO
-                                ? I18nUtil.getString("jobgroup_field_addressType_0")
-                                : I18nUtil.getString("jobgroup_field_addressType_1"));
-
-        // Registry addresses
-        msg.append(HTML_LINE_BREAK)
-                .append(I18nUtil.getString("jobconf_trigger_exe_regaddress"))
-                .append(HTML_COLON)
-                .append(group.getRegistryList());
-
-        // Route strategy
-        msg.append(HTML_LINE_BREAK)
-                .append(I18nUtil.getString("jobinfo_field_executorRouteStrategy"))
-                .append(HTML_COLON)
-                .append(routeStrategy.getTitle());
-        if (shardingParam != null) {
-            msg.append(HTML_PAREN_OPEN).append(shardingParam).append(HTML_PAREN_CLOSE);
-        }
-
-        // Block strategy
-        msg.append(HTML_LINE_BREAK)
-                .append(I18nUtil.getString("jobinfo_field_executorBlockStrategy"))
-                .append(HTML_COLON)
-                .append(blockStrategy.getTitle());
-
-        // Timeout
-        msg.append(HTML_LINE_BREAK)
-                .append(I18nUtil.getString("jobinfo_field_timeout"))
-                .append(HTML_COLON)
-                .append(jobInfo.getExecutorTimeout());
-
-        // Retry count
-        msg.append(HTML_LINE_BREAK)
-                .append(I18nUtil.getString("jobinfo_field_executorFailRetryCount"))
-                .append(HTML_COLON)
-                .append(finalFailRetryCount);
+    private ExecutorInflightHelper inflightHelper(TriggerRequest triggerRequest) {
+        return triggerRequest.getVirtualShardTotal() > 0
+                ? null
+                : OrthAdminBootstrap.getInstance().getExecutorInflightHelper();
     }
 
-    /** Appends execution result section to diagnostics message. */
-    private void appendExecutionResult(
-            StringBuilder msg,
-            AddressResolutionResult addressResult,
-            JobInfo jobInfo,
-            Response<String> triggerResult) {
-
-        // Section separator
-        msg.append(HTML_SEPARATOR_START)
-                .append(I18nUtil.getString("jobconf_trigger_run"))
-                .append(HTML_SEPARATOR_END);
-
-        // Executor address
-        msg.append(HTML_LINE_BREAK)
-                .append(I18nUtil.getString("joblog_field_executorAddress"))
-                .append(HTML_COLON);
-
-        if (StringTool.isNotBlank(addressResult.address)) {
-            msg.append(addressResult.address);
-        } else {
-            msg.append(MSG_ADDRESS_ROUTE_FAIL_PREFIX);
-            if (addressResult.routeResponse != null && !addressResult.routeResponse.isSuccess()) {
-                String routeMsg = addressResult.routeResponse.getMsg();
-                if (routeMsg != null) {
-                    msg.append(", ").append(routeMsg);
-                }
-            } else {
-                msg.append(".");
-            }
-        }
-
-        // Job handler
-        if (StringTool.isNotBlank(jobInfo.getExecutorHandler())) {
-            msg.append(HTML_LINE_BREAK)
-                    .append(LABEL_JOB_HANDLER)
-                    .append(HTML_COLON)
-                    .append(jobInfo.getExecutorHandler());
+    /**
+     * Records a trigger RPC outcome in the executor's circuit.
+     *
+     * @param address executor address
+     * @param answered true if the executor answered, false on transport failure
+     * @param latencyMs time from send to answer
+     */
+    private void recordCircuitOutcome(String address, boolean answered, long latencyMs) {
+        ExecutorCircuitBreakerHelper breaker =
+                OrthAdminBootstrap.getInstance().getExecutorCircuitBreakerHelper();
+        if (breaker == null) {
+            return;
         }
-
-        // Executor parameters
-        msg.append(HTML_LINE_BREAK)
-                .append(I18nUtil.getString("jobinfo_field_executorparam"))
-                .append(HTML_COLON)
-                .append(jobInfo.getExecutorParam());
-
-        // Trigger result
-        msg.append(HTML_LINE_BREAK)
-                .append(I18nUtil.getString("joblog_field_triggerMsg"))
-                .append(HTML_COLON);
-
-        if (triggerResult.isSuccess()) {
-            msg.append(MSG_TRIGGER_SUCCESS);
+        if (answered) {
+            breaker.recordSuccess(address, latencyMs);
         } else {
-            msg.append(MSG_TRIGGER_ERROR_PREFIX);
-            String errorMsg = triggerResult.getMsg();
-            if (errorMsg != null) {
-                msg.append(", ").append(errorMsg);
-            }
+            breaker.recordFailure(address);
         }
     }
 
     /**
-     * Updates job log with execution results.
+     * Fills job log with execution results, to be written by the log writer.
      *
-     * @param jobLog the job log to update
-     * @param address the resolved executor address
-     * @param jobInfo the job configuration
-     * @param shardingParam the sharding parameter
-     * @param finalFailRetryCount the retry count
+     * @param trigger the prepared trigger whose log to update
      * @param triggerResult the trigger execution result
-     * @param diagnosticsMessage the formatted diagnostics message
      */
-    private void updateJobLog(
-            JobLog jobLog,
-            String address,
-            JobInfo jobInfo,
-            String shardingParam,
-            int finalFailRetryCount,
-            Response<String> triggerResult,
-            String diagnosticsMessage) {
-
-        jobLog.setExecutorAddress(address);
-        jobLog.setExecutorHandler(jobInfo.getExecutorHandler());
-        jobLog.setExecutorParam(jobInfo.getExecutorParam());
-        jobLog.setExecutorShardingParam(shardingParam);
-        jobLog.setExecutorFailRetryCount(finalFailRetryCount);
+    private void fillTriggerInfo(PreparedTrigger trigger, Response<String> triggerResult) {
+        trigger.diagnostics.result(triggerResult);
+
+        JobLog jobLog = trigger.jobLog;
+        jobLog.setExecutorAddress(trigger.address);
+        jobLog.setExecutorHandler(trigger.jobInfo.getExecutorHandler());
+        jobLog.setExecutorParam(trigger.jobInfo.getExecutorParam());
+        jobLog.setExecutorShardingParam(trigger.shardingParam);
+        jobLog.setExecutorFailRetryCount(trigger.finalFailRetryCount);
         jobLog.setTriggerCode(triggerResult.getCode());
-        jobLog.setTriggerMsg(diagnosticsMessage);
-
-        jobLogMapper.updateTriggerInfo(jobLog);
+        jobLog.setTriggerMsg(trigger.diagnostics.encode());
     }
 
-    /** Result of address resolution containing both address and routing response. */
-    private static class AddressResolutionResult {
+    /** A routed trigger: its log row, request and address, not yet written or sent. */
+    private static final class PreparedTrigger {
+        final JobLog jobLog;
+        final TriggerRequest request;
         final String address;
-        final Response<String> routeResponse;
-
-        AddressResolutionResult(String address, Response<String> routeResponse) {
+        final JobInfo jobInfo;
+        final String shardingParam;
+        final int finalFailRetryCount;
+        final TriggerDiagnostics diagnostics;
+
+        PreparedTrigger(
+                JobLog jobLog,
+                TriggerRequest request,
+                String address,
+                JobInfo jobInfo,
+                String shardingParam,
+                int finalFailRetryCount,
+                TriggerDiagnostics diagnostics) {
+            this.jobLog = jobLog;
+            this.request = request;
             this.address = address;
-            this.routeResponse = routeResponse;
+            this.jobInfo = jobInfo;
+            this.shardingParam = shardingParam;
+            this.finalFailRetryCount = finalFailRetryCount;
+            this.diagnostics = diagnostics;
         }
     }
 }
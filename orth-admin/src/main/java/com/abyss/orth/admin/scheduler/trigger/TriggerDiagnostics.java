@@ -0,0 +1,579 @@
+package com.abyss.orth.admin.scheduler.trigger;
+
+import java.text.MessageFormat;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.abyss.orth.admin.model.JobGroup;
+import com.abyss.orth.admin.model.JobInfo;
+import com.abyss.orth.admin.model.JobLog;
+import com.abyss.orth.admin.scheduler.route.ExecutorRouteStrategyEnum;
+import com.abyss.orth.admin.util.I18nUtil;
+import com.abyss.orth.core.constant.ExecutorBlockStrategyEnum;
+import com.abyss.orth.core.context.OrthJobContext;
+import com.xxl.tool.core.StringTool;
+import com.xxl.tool.http.IPTool;
+import com.xxl.tool.response.Response;
+
+/**
+ * Compact diagnostics of a trigger, stored in the log's {@code trigger_msg} and rendered to
+ * localized HTML only when the log is read.
+ *
+ * <p>Diagnostics are written for every trigger into the busiest table, so they are kept to codes
+ * and values: enum names, addresses, shard, outcome, RPC code and timings, without labels or
+ * markup. The executor handler and param are read from their own log columns when rendering. A
+ * typical record is about 100 bytes:
+ *
+ * <pre>
+ * ␞1|CRON|10.0.0.5|0|3|ROUND||SERIAL_EXECUTION|0|0|http://10.0.0.7:9999/|SENT|200|2|14|
+ * </pre>
+ *
+ * <p>Structured segments start with {@link #SEGMENT} (ASCII record separator), which is how they
+ * are told apart from plain text: rows written before this format, and the executor's own handle
+ * message, render unchanged. Besides the trigger record, a segment can mark a fail retry ({@code
+ * r}, in {@code trigger_msg}), list the child jobs triggered on completion ({@code c|...}, in
+ * {@code handle_msg}) or sum up the virtual shards of a run ({@code s|...}, in {@code handle_msg}).
+ */
+public final class TriggerDiagnostics {
+
+    static final char SEGMENT = '\u001E';
+
+    private static final char FIELD = '|';
+    private static final String TRIGGER_SEGMENT = "1";
+    private static final String RETRY_SEGMENT = "r";
+    private static final String CHILD_SEGMENT = "c";
+    private static final String SHARD_SEGMENT = "s";
+    private static final int TRIGGER_FIELDS = 16;
+
+    private static final char CHILD_DELIMITER = ',';
+    private static final char CHILD_TRIGGERED = '+';
+    private static final char CHILD_INVALID = '!';
+    private static final char CHILD_SKIPPED = '-';
+    private static final int SHARD_FIELDS = 4;
+
+    // Rendering
+    private static final String HTML_LINE_BREAK = "<br>";
+    private static final String HTML_COLON = "：";
+    private static final String HTML_SEPARATOR_START =
+            "<br><br><span style=\"color:#00c0ef;\" > >>>>>>>>>>>";
+    private static final String HTML_SEPARATOR_END = "<<<<<<<<<<< </span><br>";
+    private static final String LABEL_JOB_HANDLER = "JobHandler";
+    private static final String LABEL_ADDRESS = "address";
+    private static final String LABEL_CODE = "code";
+    private static final String LABEL_MSG = "msg";
+    private static final String LABEL_TIME = "time";
+    private static final String MSG_ADDRESS_ROUTE_FAIL = "address route fail";
+    private static final String MSG_ADDRESS_ROUTER_FAIL = "Address router failed";
+    private static final String MSG_ADDRESS_BUSY = "Executor address busy, trigger not sent";
+    private static final String MSG_CIRCUIT_OPEN = "Executor circuit open, trigger not sent";
+    private static final String MSG_RATE_LIMITED =
+            "Executor group rate limit backlog full, trigger not sent";
+    private static final String MSG_TRIGGER_SUCCESS = "success";
+    private static final String MSG_TRIGGER_ERROR = "error";
+
+    /** How a trigger ended on the admin side. */
+    public enum Outcome {
+
+        /** Run RPC sent; the code tells the executor's answer */
+        SENT,
+
+        /** Executor group without addresses */
+        ADDRESS_EMPTY,
+
+        /** Routing strategy found no address; the detail holds the router's message */
+        ROUTE_FAILED,
+
+        /** Sharding broadcast shard whose executor circuit is open; the detail holds the address */
+        CIRCUIT_OPEN,
+
+        /** Executor group rate limit backlog full */
+        RATE_LIMITED,
+
+        /** Per-address in-flight limit reached */
+        ADDRESS_BUSY
+    }
+
+    // configuration
+    private String triggerType;
+    private String adminAddress;
+    private int addressType;
+    private int registryCount;
+    private String routeStrategy;
+    private String shardingParam;
+    private String blockStrategy;
+    private int executorTimeout;
+    private int failRetryCount;
+
+    // result
+    private String address;
+    private Outcome outcome = Outcome.SENT;
+    private int code;
+    private long waitMs = -1;
+    private long rpcMs = -1;
+    private String detail;
+
+    private long startNanos;
+    private long sendNanos;
+
+    private TriggerDiagnostics() {}
+
+    /**
+     * Starts the diagnostics of a trigger; the wait before the RPC is counted from here.
+     *
+     * @param triggerType the trigger type
+     * @param group the executor group
+     * @param routeStrategy the routing strategy
+     * @param shardingParam the "index/total" sharding parameter; null unless broadcast
+     * @param blockStrategy the block strategy
+     * @param jobInfo the job configuration
+     * @param failRetryCount the resolved retry count
+     */
+    TriggerDiagnostics(
+            TriggerTypeEnum triggerType,
+            JobGroup group,
+            ExecutorRouteStrategyEnum routeStrategy,
+            String shardingParam,
+            ExecutorBlockStrategyEnum blockStrategy,
+            JobInfo jobInfo,
+            int failRetryCount) {
+        this.startNanos = System.nanoTime();
+        this.triggerType = triggerType != null ? triggerType.name() : null;
+        this.adminAddress = IPTool.getIp();
+        this.addressType = group.getAddressType();
+        this.registryCount = group.getRegistryList() != null ? group.getRegistryList().size() : 0;
+        this.routeStrategy = routeStrategy != null ? routeStrategy.name() : null;
+        this.shardingParam = shardingParam;
+        this.blockStrategy = blockStrategy != null ? blockStrategy.name() : null;
+        this.executorTimeout = jobInfo.getExecutorTimeout();
+        this.failRetryCount = failRetryCount;
+    }
+
+    // ---------------------- trigger path ----------------------
+
+    /** Records the executor address picked by routing. */
+    void routed(String address) {
+        this.address = address;
+    }
+
+    /**
+     * Records why the trigger was not routed to an executor.
+     *
+     * @param outcome the route failure
+     * @param detail router message or address; may be null
+     */
+    void routeFailed(Outcome outcome, String detail) {
+        this.outcome = outcome;
+        this.detail = detail;
+    }
+
+    /** Records that the address was busy and the RPC was not sent. */
+    void addressBusy() {
+        this.outcome = Outcome.ADDRESS_BUSY;
+    }
+
+    /**
+     * Records the RPC send, when the batch holding the run goes out; the wait before it covers the
+     * log insert and the batch window, so the RPC time is the executor's answer time alone.
+     */
+    void sent() {
+        sendNanos = System.nanoTime();
+        waitMs = TimeUnit.NANOSECONDS.toMillis(sendNanos - startNanos);
+    }
+
+    /**
+     * Records the RPC answer (or transport failure).
+     *
+     * @return RPC latency in milliseconds
+     */
+    long answered() {
+        rpcMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - sendNanos);
+        return rpcMs;
+    }
+
+    /**
+     * Records the trigger result; its message is kept only for failures.
+     *
+     * @param triggerResult the RPC result, or the failure of an unsent trigger
+     */
+    void result(Response<String> triggerResult) {
+        code = triggerResult.getCode();
+        if (code != OrthJobContext.HANDLE_CODE_SUCCESS && detail == null) {
+            detail = triggerResult.getMsg();
+        }
+    }
+
+    /**
+     * Encodes the diagnostics as a {@code trigger_msg} segment.
+     *
+     * @return compact segment, starting with {@link #SEGMENT}
+     */
+    String encode() {
+        StringBuilder sb = new StringBuilder(128);
+        sb.append(SEGMENT).append(TRIGGER_SEGMENT);
+        field(sb, triggerType);
+        field(sb, adminAddress);
+        sb.append(FIELD).append(addressType);
+        sb.append(FIELD).append(registryCount);
+        field(sb, routeStrategy);
+        field(sb, shardingParam);
+        field(sb, blockStrategy);
+        sb.append(FIELD).append(executorTimeout);
+        sb.append(FIELD).append(failRetryCount);
+        field(sb, address);
+        sb.append(FIELD).append(outcome.name());
+        sb.append(FIELD).append(code);
+        sb.append(FIELD).append(waitMs);
+        sb.append(FIELD).append(rpcMs);
+        // free text last: it may contain the field delimiter, never the segment one
+        sb.append(FIELD);
+        if (detail != null) {
+            sb.append(detail.replace(SEGMENT, ' '));
+        }
+        return sb.toString();
+    }
+
+    private static void field(StringBuilder sb, String value) {
+        sb.append(FIELD);
+        if (value != null) {
+            sb.append(value);
+        }
+    }
+
+    /**
+     * Decodes a trigger segment, without its leading {@link #SEGMENT}.
+     *
+     * @param segment the segment
+     * @return decoded diagnostics, or null if the segment is not a trigger record
+     */
+    static TriggerDiagnostics decode(String segment) {
+        String[] fields = segment.split("\\|", TRIGGER_FIELDS);
+        if (fields.length != TRIGGER_FIELDS || !TRIGGER_SEGMENT.equals(fields[0])) {
+            return null;
+        }
+        try {
+            TriggerDiagnostics diagnostics = new TriggerDiagnostics();
+            diagnostics.triggerType = emptyToNull(fields[1]);
+            diagnostics.adminAddress = emptyToNull(fields[2]);
+            diagnostics.addressType = Integer.parseInt(fields[3]);
+            diagnostics.registryCount = Integer.parseInt(fields[4]);
+            diagnostics.routeStrategy = emptyToNull(fields[5]);
+            diagnostics.shardingParam = emptyToNull(fields[6]);
+            diagnostics.blockStrategy = emptyToNull(fields[7]);
+            diagnostics.executorTimeout = Integer.parseInt(fields[8]);
+            diagnostics.failRetryCount = Integer.parseInt(fields[9]);
+            diagnostics.address = emptyToNull(fields[10]);
+            diagnostics.outcome = Outcome.valueOf(fields[11]);
+            diagnostics.code = Integer.parseInt(fields[12]);
+            diagnostics.waitMs = Long.parseLong(fields[13]);
+            diagnostics.rpcMs = Long.parseLong(fields[14]);
+            diagnostics.detail = emptyToNull(fields[15]);
+            return diagnostics;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static String emptyToNull(String value) {
+        return value.isEmpty() ? null : value;
+    }
+
+    String getTriggerType() {
+        return triggerType;
+    }
+
+    String getShardingParam() {
+        return shardingParam;
+    }
+
+    String getAddress() {
+        return address;
+    }
+
+    Outcome getOutcome() {
+        return outcome;
+    }
+
+    int getCode() {
+        return code;
+    }
+
+    long getWaitMs() {
+        return waitMs;
+    }
+
+    long getRpcMs() {
+        return rpcMs;
+    }
+
+    String getDetail() {
+        return detail;
+    }
+
+    // ---------------------- markers ----------------------
+
+    /**
+     * Marks a log's trigger as retried by the fail monitor.
+     *
+     * @param triggerMsg the stored trigger message; may be null
+     * @return trigger message with a retry segment appended
+     */
+    public static String markRetried(String triggerMsg) {
+        return (triggerMsg != null ? triggerMsg : "") + SEGMENT + RETRY_SEGMENT;
+    }
+
+    /** Child jobs triggered by a completed job, appended to its {@code handle_msg}. */
+    public static final class ChildTriggers {
+        private final StringBuilder sb = new StringBuilder().append(SEGMENT).append(CHILD_SEGMENT);
+        private int count;
+
+        /** A child job triggered. */
+        public ChildTriggers triggered(String childJobId) {
+            return add(childJobId, CHILD_TRIGGERED);
+        }
+
+        /** A child job ID that is not a valid job ID. */
+        public ChildTriggers invalid(String childJobId) {
+            return add(childJobId, CHILD_INVALID);
+        }
+
+        /** A child job skipped, such as the parent itself. */
+        public ChildTriggers skipped(String childJobId) {
+            return add(childJobId, CHILD_SKIPPED);
+        }
+
+        private ChildTriggers add(String childJobId, char state) {
+            sb.append(count++ == 0 ? FIELD : CHILD_DELIMITER);
+            sb.append(childJobId.replace(CHILD_DELIMITER, ' ').replace(SEGMENT, ' ')).append(state);
+            return this;
+        }
+
+        /** The segment; empty if no child was added. */
+        public String encode() {
+            return count > 0 ? sb.toString() : "";
+        }
+    }
+
+    /**
+     * Sums up the virtual shards of a finished run, for its {@code handle_msg}.
+     *
+     * @param total shard count
+     * @param done shards handled successfully
+     * @param failed shards failed after their last attempt
+     * @param failedIndexes indexes of failed shards; may be a prefix of them
+     * @return the segment
+     */
+    public static String shardSummary(
+            int total, int done, int failed, List<Integer> failedIndexes) {
+        StringBuilder sb =
+                new StringBuilder()
+                        .append(SEGMENT)
+                        .append(SHARD_SEGMENT)
+                        .append(FIELD)
+                        .append(total)
+                        .append(FIELD)
+                        .append(done)
+                        .append(FIELD)
+                        .append(failed)
+                        .append(FIELD);
+        for (int i = 0; i < failedIndexes.size(); i++) {
+            if (i > 0) {
+                sb.append(CHILD_DELIMITER);
+            }
+            sb.append(failedIndexes.get(i));
+        }
+        return sb.toString();
+    }
+
+    // ---------------------- rendering ----------------------
+
+    /**
+     * Renders a log's trigger message to localized HTML.
+     *
+     * @param jobLog the log, for its executor handler and param
+     * @return HTML; messages without structured segments are returned as stored
+     */
+    public static String renderTriggerMsg(JobLog jobLog) {
+        return render(jobLog.getTriggerMsg(), jobLog);
+    }
+
+    /**
+     * Renders a handle message to localized HTML.
+     *
+     * @param handleMsg the stored handle message; may be null
+     * @return HTML; messages without structured segments are returned as stored
+     */
+    public static String renderHandleMsg(String handleMsg) {
+        return render(handleMsg, null);
+    }
+
+    private static String render(String msg, JobLog jobLog) {
+        int start = msg != null ? msg.indexOf(SEGMENT) : -1;
+        if (start < 0) {
+            return msg;
+        }
+
+        StringBuilder html = new StringBuilder(msg.length() * 8);
+        html.append(msg, 0, start);
+        while (start >= 0) {
+            int end = msg.indexOf(SEGMENT, start + 1);
+            String segment = msg.substring(start + 1, end >= 0 ? end : msg.length());
+            renderSegment(html, segment, jobLog);
+            start = end;
+        }
+        return html.toString();
+    }
+
+    private static void renderSegment(StringBuilder html, String segment, JobLog jobLog) {
+        if (RETRY_SEGMENT.equals(segment)) {
+            html.append(HTML_SEPARATOR_START)
+                    .append(I18nUtil.getString("jobconf_trigger_type_retry"))
+                    .append(HTML_SEPARATOR_END);
+        } else if (segment.startsWith(CHILD_SEGMENT + FIELD)) {
+            renderChildTriggers(html, segment.substring(2));
+        } else if (segment.startsWith(SHARD_SEGMENT + FIELD)) {
+            renderShardSummary(html, segment.substring(2));
+        } else {
+            TriggerDiagnostics diagnostics = decode(segment);
+            if (diagnostics != null) {
+                diagnostics.renderTo(html, jobLog);
+            }
+        }
+    }
+
+    private void renderTo(StringBuilder html, JobLog jobLog) {
+        // Trigger config
+        html.append(I18nUtil.getString("jobconf_trigger_type"))
+                .append(HTML_COLON)
+                .append(
+                        TriggerTypeEnum.fromName(triggerType)
+                                .map(TriggerTypeEnum::getTitle)
+                                .orElse(triggerType));
+        line(html, I18nUtil.getString("jobconf_trigger_admin_adress"), adminAddress);
+        line(
+                html,
+                I18nUtil.getString("jobconf_trigger_exe_regtype"),
+                I18nUtil.getString("jobgroup_field_addressType_" + addressType));
+        line(html, I18nUtil.getString("jobconf_trigger_exe_regaddress"), registryCount);
+        ExecutorRouteStrategyEnum route = ExecutorRouteStrategyEnum.match(routeStrategy, null);
+        line(
+                html,
+                I18nUtil.getString("jobinfo_field_executorRouteStrategy"),
+                route != null ? route.getTitle() : routeStrategy);
+        if (shardingParam != null) {
+            html.append('(').append(shardingParam).append(')');
+        }
+        ExecutorBlockStrategyEnum block = ExecutorBlockStrategyEnum.match(blockStrategy, null);
+        line(
+                html,
+                I18nUtil.getString("jobinfo_field_executorBlockStrategy"),
+                block != null ? block.getTitle() : blockStrategy);
+        line(html, I18nUtil.getString("jobinfo_field_timeout"), executorTimeout);
+        line(html, I18nUtil.getString("jobinfo_field_executorFailRetryCount"), failRetryCount);
+
+        // Trigger result
+        html.append(HTML_SEPARATOR_START)
+                .append(I18nUtil.getString("jobconf_trigger_run"))
+                .append(HTML_SEPARATOR_END);
+        boolean routedToAddress = outcome == Outcome.SENT || outcome == Outcome.ADDRESS_BUSY;
+        line(
+                html,
+                I18nUtil.getString("joblog_field_executorAddress"),
+                routedToAddress ? address : MSG_ADDRESS_ROUTE_FAIL + ", " + routeFailure());
+        if (jobLog != null && StringTool.isNotBlank(jobLog.getExecutorHandler())) {
+            line(html, LABEL_JOB_HANDLER, jobLog.getExecutorHandler());
+        }
+        line(
+                html,
+                I18nUtil.getString("jobinfo_field_executorparam"),
+                jobLog != null ? jobLog.getExecutorParam() : null);
+        if (rpcMs >= 0) {
+            line(html, LABEL_TIME, "wait " + waitMs + " ms, rpc " + rpcMs + " ms");
+        }
+        html.append(HTML_LINE_BREAK)
+                .append(I18nUtil.getString("joblog_field_triggerMsg"))
+                .append(HTML_COLON);
+        if (code == OrthJobContext.HANDLE_CODE_SUCCESS) {
+            html.append(MSG_TRIGGER_SUCCESS);
+        } else if (!routedToAddress) {
+            html.append(MSG_TRIGGER_ERROR).append(", ").append(MSG_ADDRESS_ROUTER_FAIL);
+        } else {
+            html.append(MSG_TRIGGER_ERROR)
+                    .append(", ")
+                    .append(I18nUtil.getString("jobconf_trigger_run"))
+                    .append(HTML_COLON);
+            line(html, LABEL_ADDRESS, address);
+            line(html, LABEL_CODE, code);
+            line(html, LABEL_MSG, outcome == Outcome.ADDRESS_BUSY ? MSG_ADDRESS_BUSY : detail);
+        }
+    }
+
+    private String routeFailure() {
+        switch (outcome) {
+            case ADDRESS_EMPTY:
+                return I18nUtil.getString("jobconf_trigger_address_empty");
+            case CIRCUIT_OPEN:
+                return MSG_CIRCUIT_OPEN + ", " + detail;
+            case RATE_LIMITED:
+                return MSG_RATE_LIMITED;
+            default:
+                return String.valueOf(detail);
+        }
+    }
+
+    private static void renderChildTriggers(StringBuilder html, String children) {
+        html.append(HTML_SEPARATOR_START)
+                .append(I18nUtil.getString("jobconf_trigger_child_run"))
+                .append(HTML_SEPARATOR_END);
+        String[] entries = children.split(String.valueOf(CHILD_DELIMITER));
+        for (int i = 0; i < entries.length; i++) {
+            String entry = entries[i];
+            if (entry.isEmpty()) {
+                continue;
+            }
+            char state = entry.charAt(entry.length() - 1);
+            String childJobId = entry.substring(0, entry.length() - 1);
+            if (state == CHILD_TRIGGERED) {
+                html.append(
+                        MessageFormat.format(
+                                I18nUtil.getString("jobconf_callback_child_msg1"),
+                                i + 1,
+                                entries.length,
+                                childJobId,
+                                I18nUtil.getString("system_success"),
+                                ""));
+            } else if (state == CHILD_INVALID) {
+                html.append(
+                        MessageFormat.format(
+                                I18nUtil.getString("jobconf_callback_child_msg2"),
+                                i + 1,
+                                entries.length,
+                                childJobId));
+            }
+        }
+    }
+
+    private static void renderShardSummary(StringBuilder html, String summary) {
+        String[] fields = summary.split("\\|", -1);
+        if (fields.length != SHARD_FIELDS) {
+            return;
+        }
+        html.append(HTML_SEPARATOR_START)
+                .append(I18nUtil.getString("jobconf_shard_run"))
+                .append(HTML_SEPARATOR_END);
+        html.append(I18nUtil.getString("jobinfo_shard_total")).append(HTML_COLON).append(fields[0]);
+        line(html, I18nUtil.getString("jobconf_shard_done"), fields[1]);
+        line(html, I18nUtil.getString("jobconf_shard_failed"), fields[2]);
+        if (!fields[3].isEmpty()) {
+            int listed = fields[3].split(String.valueOf(CHILD_DELIMITER)).length;
+            boolean truncated = !fields[2].equals(String.valueOf(listed));
+            line(
+                    html,
+                    I18nUtil.getString("jobinfo_shard_index"),
+                    fields[3] + (truncated ? ", ..." : ""));
+        }
+    }
+
+    private static void line(StringBuilder html, String label, Object value) {
+        html.append(HTML_LINE_BREAK).append(label).append(HTML_COLON).append(value);
+    }
+}
@@ -3,6 +3,7 @@ package com.abyss.orth.admin.scheduler.type;
 import java.util.Arrays;
 
 import com.abyss.orth.admin.scheduler.type.strategy.CronScheduleType;
+import com.abyss.orth.admin.scheduler.type.strategy.FixRateMsScheduleType;
 import com.abyss.orth.admin.scheduler.type.strategy.FixRateScheduleType;
 import com.abyss.orth.admin.scheduler.type.strategy.NoneScheduleType;
 import com.abyss.orth.admin.util.I18nUtil;
@@ -19,6 +20,7 @@ import com.abyss.orth.admin.util.I18nUtil;
  *   <li><b>NONE</b>: No automatic scheduling; job must be triggered manually
  *   <li><b>CRON</b>: Schedule based on cron expression (standard Unix cron syntax)
  *   <li><b>FIX_RATE</b>: Schedule at fixed intervals (specified in seconds)
+ *   <li><b>FIX_RATE_MS</b>: Schedule at fixed sub-second intervals (specified in milliseconds)
  * </ul>
  *
  * <p>Each enum constant holds both an internationalized title and a concrete strategy
@@ -34,7 +36,10 @@ public enum ScheduleTypeEnum {
     CRON(I18nUtil.getString("schedule_type_cron"), new CronScheduleType()),
 
     /** Fixed-rate scheduling with interval in seconds */
-    FIX_RATE(I18nUtil.getString("schedule_type_fix_rate"), new FixRateScheduleType());
+    FIX_RATE(I18nUtil.getString("schedule_type_fix_rate"), new FixRateScheduleType()),
+
+    /** Fixed-rate scheduling with interval in milliseconds */
+    FIX_RATE_MS(I18nUtil.getString("schedule_type_fix_rate_ms"), new FixRateMsScheduleType());
 
     // Note: FIX_DELAY (fixed delay after completion) is not currently implemented
     // but reserved for future use
@@ -3,13 +3,14 @@ package com.abyss.orth.admin.scheduler.type.strategy;
 import java.util.Date;
 
 import com.abyss.orth.admin.model.JobInfo;
-import com.abyss.orth.admin.scheduler.cron.CronExpression;
+import com.abyss.orth.admin.scheduler.cron.CronExpressionCache;
 import com.abyss.orth.admin.scheduler.type.ScheduleType;
 
 /**
  * Cron-based scheduling strategy for the Orth scheduler.
  *
- * <p>This strategy uses standard Unix cron expressions to define job schedules.
+ * <p>This strategy uses standard Unix cron expressions to define job schedules. Expressions are
+ * compiled once and shared through {@link CronExpressionCache}.
  *
  * @author xuxueli 2020-10-29
  */
@@ -17,6 +18,6 @@ public class CronScheduleType extends ScheduleType {
 
     @Override
     public Date generateNextTriggerTime(JobInfo jobInfo, Date fromTime) throws Exception {
-        return new CronExpression(jobInfo.getScheduleConf()).getNextValidTimeAfter(fromTime);
+        return CronExpressionCache.get(jobInfo.getScheduleConf()).getNextValidTimeAfter(fromTime);
     }
 }
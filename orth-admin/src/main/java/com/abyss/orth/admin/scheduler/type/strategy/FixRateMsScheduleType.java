@@ -0,0 +1,72 @@
+package com.abyss.orth.admin.scheduler.type.strategy;
+
+import java.util.Date;
+
+import com.abyss.orth.admin.model.JobInfo;
+import com.abyss.orth.admin.scheduler.exception.OrthJobException;
+import com.abyss.orth.admin.scheduler.type.ScheduleType;
+
+/**
+ * Millisecond fixed-rate scheduling strategy for the Orth scheduler.
+ *
+ * <p>Same as {@link FixRateScheduleType}, but the interval is specified in milliseconds, for
+ * streaming jobs that need a sub-second cadence.
+ *
+ * <p>Schedule configuration format: Integer value representing milliseconds between triggers, at
+ * least {@value #MIN_INTERVAL_MS}
+ *
+ * <p>Examples:
+ *
+ * <ul>
+ *   <li>{@code 100} - Every 100 milliseconds
+ *   <li>{@code 500} - Every half second
+ * </ul>
+ *
+ * <p>The schedule thread does not write the next trigger time back after every fire: each scan
+ * pushes all fires of the pre-read window to the timing wheel and checkpoints the trigger times
+ * once, so database writes do not grow with the cadence.
+ */
+public class FixRateMsScheduleType extends ScheduleType {
+
+    /** Smallest supported interval. */
+    public static final long MIN_INTERVAL_MS = 100L;
+
+    /**
+     * Calculates the next trigger time by adding the fixed interval to the reference time.
+     *
+     * @param jobInfo the job configuration containing the interval in milliseconds
+     * @param fromTime the reference time to calculate from
+     * @return the next trigger time (fromTime + interval)
+     * @throws OrthJobException if the schedule configuration is not a valid interval
+     */
+    @Override
+    public Date generateNextTriggerTime(JobInfo jobInfo, Date fromTime) {
+        return new Date(fromTime.getTime() + intervalMs(jobInfo));
+    }
+
+    /**
+     * Parses the interval of a job.
+     *
+     * @param jobInfo the job configuration containing the interval in milliseconds
+     * @return interval in milliseconds
+     * @throws OrthJobException if the schedule configuration is not a valid interval
+     */
+    public static long intervalMs(JobInfo jobInfo) {
+        try {
+            long intervalMs = Long.parseLong(jobInfo.getScheduleConf());
+
+            if (intervalMs < MIN_INTERVAL_MS) {
+                throw new OrthJobException(
+                        "Fixed-rate interval must be at least "
+                                + MIN_INTERVAL_MS
+                                + "ms: "
+                                + intervalMs);
+            }
+            return intervalMs;
+
+        } catch (NumberFormatException e) {
+            throw new OrthJobException(
+                    "Invalid fixed-rate schedule configuration: " + jobInfo.getScheduleConf(), e);
+        }
+    }
+}
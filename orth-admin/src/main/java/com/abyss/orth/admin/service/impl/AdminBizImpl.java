@@ -8,6 +8,9 @@ import com.abyss.orth.admin.scheduler.config.OrthAdminBootstrap;
 import com.abyss.orth.core.openapi.AdminBiz;
 import com.abyss.orth.core.openapi.model.CallbackRequest;
 import com.abyss.orth.core.openapi.model.RegistryRequest;
+import com.abyss.orth.core.openapi.model.ShardAckRequest;
+import com.abyss.orth.core.openapi.model.ShardLease;
+import com.abyss.orth.core.openapi.model.ShardLeaseRequest;
 import com.xxl.tool.response.Response;
 
 /**
@@ -20,6 +23,7 @@ import com.xxl.tool.response.Response;
  *   <li>Report job execution results (callback)
  *   <li>Register executor instances (registry)
  *   <li>Deregister executor instances (registryRemove)
+ *   <li>Lease and ack the virtual shards of a run (shardLease, shardAck)
  * </ul>
  *
  * <p>All operations are delegated to appropriate helper threads in the bootstrap for async
@@ -76,4 +80,29 @@ public class AdminBizImpl implements AdminBiz {
                 .getJobRegistryHelper()
                 .registryRemove(registryRequest);
     }
+
+    /**
+     * Leases the next pending virtual shard of a run.
+     *
+     * <p>Executors of a virtually sharded run call this method each time they are free, until the
+     * run has no open shard left.
+     *
+     * @param shardLeaseRequest run log ID and leasing executor
+     * @return the lease, shard index -1 if no shard is pending right now
+     */
+    @Override
+    public Response<ShardLease> shardLease(ShardLeaseRequest shardLeaseRequest) {
+        return OrthAdminBootstrap.getInstance().getJobShardHelper().lease(shardLeaseRequest);
+    }
+
+    /**
+     * Acks a leased virtual shard as processed.
+     *
+     * @param shardAckRequest shard, lease token and handle result
+     * @return success response, or failure if the lease expired and the shard was reclaimed
+     */
+    @Override
+    public Response<String> shardAck(ShardAckRequest shardAckRequest) {
+        return OrthAdminBootstrap.getInstance().getJobShardHelper().ack(shardAckRequest);
+    }
 }
@@ -17,11 +17,15 @@ import com.abyss.orth.admin.model.dto.BatchCopyResult;
 import com.abyss.orth.admin.model.dto.SubTaskConfig;
 import com.abyss.orth.admin.scheduler.config.OrthAdminBootstrap;
 import com.abyss.orth.admin.scheduler.cron.CronExpression;
+import com.abyss.orth.admin.scheduler.cron.CronExpressionCache;
+import com.abyss.orth.admin.scheduler.exception.OrthJobException;
 import com.abyss.orth.admin.scheduler.misfire.MisfireStrategyEnum;
 import com.abyss.orth.admin.scheduler.route.ExecutorRouteStrategyEnum;
 import com.abyss.orth.admin.scheduler.thread.JobScheduleHelper;
+import com.abyss.orth.admin.scheduler.trigger.JobPriorityEnum;
 import com.abyss.orth.admin.scheduler.trigger.TriggerTypeEnum;
 import com.abyss.orth.admin.scheduler.type.ScheduleTypeEnum;
+import com.abyss.orth.admin.scheduler.type.strategy.FixRateMsScheduleType;
 import com.abyss.orth.admin.service.JobService;
 import com.abyss.orth.admin.util.I18nUtil;
 import com.abyss.orth.admin.util.JobGroupPermissionUtil;
@@ -50,6 +54,7 @@ public class JobServiceImpl implements JobService {
     private static final Logger logger = LoggerFactory.getLogger(JobServiceImpl.class);
     private static final int MAX_BATCH_INSTANCES = 100;
     private static final int MIN_FIX_RATE_SECONDS = 1;
+    private static final int MAX_SHARD_COUNT = 65536;
 
     @Resource private JobGroupMapper jobGroupMapper;
 
@@ -146,6 +151,7 @@ public class JobServiceImpl implements JobService {
             return Response.ofFail(
                     I18nUtil.getString("jobinfo_field_add") + I18nUtil.getString("system_fail"));
         }
+        refreshScheduleIndex(jobInfo);
 
         logOperation(userInfo.getUsername(), "jobinfo-save", GsonTool.toJson(jobInfo));
         return Response.ofSuccess(String.valueOf(jobInfo.getId()));
@@ -211,6 +217,8 @@ public class JobServiceImpl implements JobService {
         // Update job fields
         updateJobFields(existingJob, jobInfo, nextTriggerTime);
         jobInfoMapper.update(existingJob);
+        refreshScheduleIndex(existingJob);
+        invalidateJobInfoCache(existingJob.getId());
 
         logOperation(userInfo.getUsername(), "jobinfo-update", GsonTool.toJson(existingJob));
         return Response.ofSuccess();
@@ -239,6 +247,9 @@ public class JobServiceImpl implements JobService {
 
         // Delete job and related data
         jobInfoMapper.delete(id);
+        removeFromScheduleIndex(id);
+        invalidateJobInfoCache(id);
+        forgetTriggerPriority(id);
         jobLogMapper.delete(id);
         jobLogGlueMapper.deleteByJobId(id);
 
@@ -294,6 +305,8 @@ public class JobServiceImpl implements JobService {
         jobInfo.setTriggerNextTime(nextTriggerTime);
         jobInfo.setUpdateTime(new Date());
         jobInfoMapper.update(jobInfo);
+        refreshScheduleIndex(jobInfo);
+        invalidateJobInfoCache(jobInfo.getId());
 
         logOperation(userInfo.getUsername(), "jobinfo-start", String.valueOf(id));
         return Response.ofSuccess();
@@ -317,6 +330,8 @@ public class JobServiceImpl implements JobService {
         jobInfo.setTriggerNextTime(0);
         jobInfo.setUpdateTime(new Date());
         jobInfoMapper.update(jobInfo);
+        refreshScheduleIndex(jobInfo);
+        invalidateJobInfoCache(jobInfo.getId());
 
         logOperation(userInfo.getUsername(), "jobinfo-stop", String.valueOf(id));
         return Response.ofSuccess();
@@ -629,6 +644,22 @@ public class JobServiceImpl implements JobService {
                 return Response.ofFail(
                         I18nUtil.getString("schedule_type") + I18nUtil.getString("system_unvalid"));
             }
+        } else if (scheduleTypeEnum == ScheduleTypeEnum.FIX_RATE_MS) {
+            if (jobInfo.getScheduleConf() == null) {
+                return Response.ofFail(I18nUtil.getString("schedule_type"));
+            }
+            try {
+                FixRateMsScheduleType.intervalMs(jobInfo);
+            } catch (OrthJobException e) {
+                return Response.ofFail(
+                        I18nUtil.getString("schedule_type") + I18nUtil.getString("system_unvalid"));
+            }
+        }
+
+        if (jobInfo.getScheduleJitter() < 0
+                || jobInfo.getScheduleJitter() > JobScheduleHelper.MAX_SCHEDULE_JITTER_SECONDS) {
+            return Response.ofFail(
+                    I18nUtil.getString("schedule_jitter") + I18nUtil.getString("system_unvalid"));
         }
 
         return Response.ofSuccess();
@@ -655,19 +686,40 @@ public class JobServiceImpl implements JobService {
         return Response.ofSuccess();
     }
 
-    /** Validates advanced settings (routing, misfire, block strategy, concurrency). */
+    /**
+     * Validates advanced settings (routing, virtual shards, misfire, priority, block strategy,
+     * concurrency).
+     */
     private Response<String> validateAdvancedSettings(JobInfo jobInfo) {
-        if (ExecutorRouteStrategyEnum.match(jobInfo.getExecutorRouteStrategy(), null) == null) {
+        ExecutorRouteStrategyEnum routeStrategy =
+                ExecutorRouteStrategyEnum.match(jobInfo.getExecutorRouteStrategy(), null);
+        if (routeStrategy == null) {
             return Response.ofFail(
                     I18nUtil.getString("jobinfo_field_executorRouteStrategy")
                             + I18nUtil.getString("system_unvalid"));
         }
 
+        // Virtual shards only apply to sharding broadcast
+        if (routeStrategy != ExecutorRouteStrategyEnum.SHARDING_BROADCAST) {
+            jobInfo.setShardCount(0);
+        } else if (jobInfo.getShardCount() < 0 || jobInfo.getShardCount() > MAX_SHARD_COUNT) {
+            return Response.ofFail(
+                    I18nUtil.getString("jobinfo_field_shardCount")
+                            + I18nUtil.getString("system_unvalid"));
+        }
+
         if (MisfireStrategyEnum.match(jobInfo.getMisfireStrategy(), null) == null) {
             return Response.ofFail(
                     I18nUtil.getString("misfire_strategy") + I18nUtil.getString("system_unvalid"));
         }
 
+        if (jobInfo.getPriority() == null) {
+            jobInfo.setPriority(JobPriorityEnum.NORMAL.name()); // clients predating priorities
+        } else if (JobPriorityEnum.match(jobInfo.getPriority(), null) == null) {
+            return Response.ofFail(
+                    I18nUtil.getString("job_priority") + I18nUtil.getString("system_unvalid"));
+        }
+
         ExecutorBlockStrategyEnum blockStrategy =
                 ExecutorBlockStrategyEnum.match(jobInfo.getExecutorBlockStrategy(), null);
         if (blockStrategy == null) {
@@ -802,6 +854,8 @@ public class JobServiceImpl implements JobService {
         existingJob.setScheduleType(newJobInfo.getScheduleType());
         existingJob.setScheduleConf(newJobInfo.getScheduleConf());
         existingJob.setMisfireStrategy(newJobInfo.getMisfireStrategy());
+        existingJob.setScheduleJitter(newJobInfo.getScheduleJitter());
+        existingJob.setPriority(newJobInfo.getPriority());
         existingJob.setExecutorRouteStrategy(newJobInfo.getExecutorRouteStrategy());
         existingJob.setExecutorHandler(newJobInfo.getExecutorHandler().trim());
         existingJob.setExecutorParam(newJobInfo.getExecutorParam());
@@ -809,6 +863,7 @@ public class JobServiceImpl implements JobService {
         existingJob.setExecutorConcurrency(newJobInfo.getExecutorConcurrency());
         existingJob.setExecutorTimeout(newJobInfo.getExecutorTimeout());
         existingJob.setExecutorFailRetryCount(newJobInfo.getExecutorFailRetryCount());
+        existingJob.setShardCount(newJobInfo.getShardCount());
         existingJob.setChildJobId(newJobInfo.getChildJobId());
         existingJob.setSuperTaskId(
                 sanitizeSuperTaskId(newJobInfo.getSuperTaskId(), existingJob.getId()));
@@ -834,12 +889,13 @@ public class JobServiceImpl implements JobService {
             if (endTime == null) {
                 throw new IllegalArgumentException("End time is required for CRON schedule type");
             }
-            generateCronScheduleTimes(jobInfo, scheduleTypeEnum, startTime, endTime, scheduleTimes);
+            generateCronScheduleTimes(jobInfo, startTime, endTime, scheduleTimes);
 
-        } else if (scheduleTypeEnum == ScheduleTypeEnum.FIX_RATE) {
+        } else if (scheduleTypeEnum == ScheduleTypeEnum.FIX_RATE
+                || scheduleTypeEnum == ScheduleTypeEnum.FIX_RATE_MS) {
             if (endTime == null) {
                 throw new IllegalArgumentException(
-                        "End time is required for FIX_RATE schedule type");
+                        "End time is required for " + scheduleTypeEnum.name() + " schedule type");
             }
             generateFixRateScheduleTimes(
                     jobInfo, scheduleTypeEnum, startTime, endTime, scheduleTimes);
@@ -860,30 +916,23 @@ public class JobServiceImpl implements JobService {
         return scheduleTimes;
     }
 
-    /** Generates CRON-based schedule times. */
+    /**
+     * Generates CRON-based schedule times in [startTime, endTime) from the cached compiled
+     * expression; fire times strictly after {@code startTime - 1} ms include a fire time at {@code
+     * startTime} itself, and none before it.
+     */
     private void generateCronScheduleTimes(
-            JobInfo jobInfo,
-            ScheduleTypeEnum scheduleTypeEnum,
-            Date startTime,
-            Date endTime,
-            List<Long> scheduleTimes)
+            JobInfo jobInfo, Date startTime, Date endTime, List<Long> scheduleTimes)
             throws Exception {
-        Date currentTime =
-                scheduleTypeEnum
-                        .getScheduleType()
-                        .generateNextTriggerTime(jobInfo, new Date(startTime.getTime() - 1000));
-
-        while (currentTime != null && scheduleTimes.size() < MAX_BATCH_INSTANCES) {
-            if (currentTime.getTime() >= startTime.getTime() && currentTime.before(endTime)) {
-                scheduleTimes.add(currentTime.getTime());
-            } else if (currentTime.getTime() >= endTime.getTime()) {
+        long[] fireTimes =
+                CronExpressionCache.get(jobInfo.getScheduleConf())
+                        .nextN(startTime.getTime() - 1, MAX_BATCH_INSTANCES);
+
+        for (long fireTime : fireTimes) {
+            if (fireTime >= endTime.getTime()) {
                 break;
             }
-
-            currentTime =
-                    scheduleTypeEnum
-                            .getScheduleType()
-                            .generateNextTriggerTime(jobInfo, currentTime);
+            scheduleTimes.add(fireTime);
         }
     }
 
@@ -1016,6 +1065,8 @@ public class JobServiceImpl implements JobService {
         clone.setScheduleType(template.getScheduleType());
         clone.setScheduleConf(template.getScheduleConf());
         clone.setMisfireStrategy(template.getMisfireStrategy());
+        clone.setScheduleJitter(template.getScheduleJitter());
+        clone.setPriority(template.getPriority());
         clone.setExecutorRouteStrategy(template.getExecutorRouteStrategy());
         clone.setExecutorHandler(template.getExecutorHandler());
         clone.setExecutorParam(template.getExecutorParam());
@@ -1023,6 +1074,7 @@ public class JobServiceImpl implements JobService {
         clone.setExecutorConcurrency(template.getExecutorConcurrency());
         clone.setExecutorTimeout(template.getExecutorTimeout());
         clone.setExecutorFailRetryCount(template.getExecutorFailRetryCount());
+        clone.setShardCount(template.getShardCount());
         clone.setGlueType(template.getGlueType());
         clone.setGlueSource(template.getGlueSource());
         clone.setGlueRemark(template.getGlueRemark());
@@ -1063,6 +1115,38 @@ public class JobServiceImpl implements JobService {
                 .replace("{index}", String.valueOf(index));
     }
 
+    /** Applies a saved job's trigger state to the in-memory schedule index, if enabled. */
+    private void refreshScheduleIndex(JobInfo jobInfo) {
+        OrthAdminBootstrap bootstrap = OrthAdminBootstrap.getInstance();
+        if (bootstrap != null && bootstrap.getJobScheduleIndexHelper() != null) {
+            bootstrap.getJobScheduleIndexHelper().refresh(jobInfo);
+        }
+    }
+
+    /** Removes a deleted job from the in-memory schedule index, if enabled. */
+    private void removeFromScheduleIndex(int jobId) {
+        OrthAdminBootstrap bootstrap = OrthAdminBootstrap.getInstance();
+        if (bootstrap != null && bootstrap.getJobScheduleIndexHelper() != null) {
+            bootstrap.getJobScheduleIndexHelper().remove(jobId);
+        }
+    }
+
+    /** Drops the priority class the trigger pool remembers for a deleted job. */
+    private void forgetTriggerPriority(int jobId) {
+        OrthAdminBootstrap bootstrap = OrthAdminBootstrap.getInstance();
+        if (bootstrap != null && bootstrap.getJobTriggerPoolHelper() != null) {
+            bootstrap.getJobTriggerPoolHelper().forgetPriority(jobId);
+        }
+    }
+
+    /** Drops a saved or deleted job from the job info cache, if enabled. */
+    private void invalidateJobInfoCache(int jobId) {
+        OrthAdminBootstrap bootstrap = OrthAdminBootstrap.getInstance();
+        if (bootstrap != null && bootstrap.getJobInfoCacheHelper() != null) {
+            bootstrap.getJobInfoCacheHelper().invalidate(jobId);
+        }
+    }
+
     /** Logs operation for audit trail. */
     private void logOperation(String username, String type, String content) {
         logger.info(
@@ -37,6 +37,8 @@ public class JobInfoMapperTest {
     private static final String TEST_EXECUTOR_HANDLER = "testJobHandler";
     private static final String TEST_EXECUTOR_PARAM = "param1=value1";
     private static final String TEST_EXECUTOR_BLOCK_STRATEGY = "SERIAL_EXECUTION";
+    private static final String TEST_LEASE_NAME = "test_schedule_lease";
+    private static final String TEST_LEASE_OWNER = "test-admin:8080";
     private static final String TEST_GLUE_TYPE = "BEAN";
     private static final String TEST_GLUE_SOURCE = "// Test source code";
     private static final String TEST_GLUE_REMARK = "Initial version";
@@ -59,6 +61,7 @@ public class JobInfoMapperTest {
     private static final int TRIGGER_STATUS_ALL = -1;
 
     @Resource private JobInfoMapper jobInfoMapper;
+    @Resource private JobLeaseMapper jobLeaseMapper;
 
     /**
      * Tests paginated job list queries and group-based filtering.
@@ -145,6 +148,123 @@ public class JobInfoMapperTest {
         logger.info("Total job count: {}", totalJobCount);
     }
 
+    /**
+     * Tests batched trigger-time write-back used by the schedule cycle.
+     *
+     * <p>Verifies:
+     *
+     * <ul>
+     *   <li>Running jobs get their trigger times updated in one statement
+     *   <li>Stopped jobs are skipped by the per-row {@code trigger_status = 1} guard
+     *   <li>A stale fencing token updates nothing
+     * </ul>
+     */
+    @Test
+    public void testScheduleUpdateBatch() {
+        // Create one running and one stopped job
+        JobInfo runningJob = createTestJobInfo();
+        runningJob.setTriggerStatus(1);
+        jobInfoMapper.save(runningJob);
+        JobInfo stoppedJob = createTestJobInfo();
+        stoppedJob.setTriggerStatus(0);
+        jobInfoMapper.save(stoppedJob);
+
+        // Batch update trigger times (status -1 = keep current status)
+        long now = System.currentTimeMillis();
+        for (JobInfo job : List.of(runningJob, stoppedJob)) {
+            job.setTriggerLastTime(now);
+            job.setTriggerNextTime(now + 1000);
+            job.setTriggerStatus(-1);
+        }
+        jobLeaseMapper.initLease(TEST_LEASE_NAME);
+        jobLeaseMapper.release(TEST_LEASE_OWNER);
+        jobLeaseMapper.acquire(TEST_LEASE_NAME, TEST_LEASE_OWNER, 60_000, true, 0);
+        long fencingToken = currentFencingToken();
+        int updateResult =
+                jobInfoMapper.scheduleUpdateBatch(
+                        List.of(runningJob, stoppedJob), TEST_LEASE_NAME, fencingToken);
+        assertEquals(1, updateResult, "Only the running job should be updated");
+
+        // Stale token after another acquisition is rejected
+        jobLeaseMapper.acquire(TEST_LEASE_NAME, TEST_LEASE_OWNER + "-other", 60_000, true, 0);
+        runningJob.setTriggerNextTime(now + 2000);
+        int staleResult =
+                jobInfoMapper.scheduleUpdateBatch(
+                        List.of(runningJob), TEST_LEASE_NAME, fencingToken);
+        assertEquals(0, staleResult, "Stale fencing token should update nothing");
+
+        // Verify
+        JobInfo loadedRunning = jobInfoMapper.loadById(runningJob.getId());
+        assertEquals(now + 1000, loadedRunning.getTriggerNextTime());
+        assertEquals(1, loadedRunning.getTriggerStatus());
+        JobInfo loadedStopped = jobInfoMapper.loadById(stoppedJob.getId());
+        assertEquals(0, loadedStopped.getTriggerNextTime());
+
+        // Cleanup
+        jobInfoMapper.delete(runningJob.getId());
+        jobInfoMapper.delete(stoppedJob.getId());
+        jobLeaseMapper.release(TEST_LEASE_OWNER + "-other");
+    }
+
+    /**
+     * Tests moving a job's next trigger time back to a fire dropped on stop.
+     *
+     * <p>Verifies:
+     *
+     * <ul>
+     *   <li>The time only moves backwards
+     *   <li>A stale fencing token updates nothing
+     * </ul>
+     */
+    @Test
+    public void testScheduleRollback() {
+        // Create a running job, written back to now + 60s
+        long now = System.currentTimeMillis();
+        JobInfo job = createTestJobInfo();
+        job.setTriggerStatus(1);
+        job.setTriggerNextTime(now + 60_000);
+        jobInfoMapper.save(job);
+        jobLeaseMapper.initLease(TEST_LEASE_NAME);
+        jobLeaseMapper.release(TEST_LEASE_OWNER);
+        jobLeaseMapper.release(TEST_LEASE_OWNER + "-other");
+        jobLeaseMapper.acquire(TEST_LEASE_NAME, TEST_LEASE_OWNER, 60_000, true, 0);
+        long fencingToken = currentFencingToken();
+
+        // Roll back to the dropped fire, not forwards again
+        assertEquals(
+                1,
+                jobInfoMapper.scheduleRollback(
+                        job.getId(), now + 30_000, TEST_LEASE_NAME, fencingToken));
+        assertEquals(
+                0,
+                jobInfoMapper.scheduleRollback(
+                        job.getId(), now + 45_000, TEST_LEASE_NAME, fencingToken),
+                "A later time should not be written");
+
+        // Stale token after another acquisition is rejected
+        jobLeaseMapper.acquire(TEST_LEASE_NAME, TEST_LEASE_OWNER + "-other", 60_000, true, 0);
+        assertEquals(
+                0,
+                jobInfoMapper.scheduleRollback(
+                        job.getId(), now + 10_000, TEST_LEASE_NAME, fencingToken),
+                "Stale fencing token should update nothing");
+
+        // Verify
+        assertEquals(now + 30_000, jobInfoMapper.loadById(job.getId()).getTriggerNextTime());
+
+        // Cleanup
+        jobInfoMapper.delete(job.getId());
+        jobLeaseMapper.release(TEST_LEASE_OWNER + "-other");
+    }
+
+    private long currentFencingToken() {
+        return jobLeaseMapper.findAll().stream()
+                .filter(lease -> TEST_LEASE_NAME.equals(lease.getLeaseName()))
+                .findFirst()
+                .orElseThrow()
+                .getFencingToken();
+    }
+
     /**
      * Creates a test job info instance with fixed-rate schedule configuration.
      *
@@ -0,0 +1,83 @@
+package com.abyss.orth.admin.mapper;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.abyss.orth.admin.model.JobLease;
+
+import jakarta.annotation.Resource;
+
+/**
+ * Integration tests for {@link JobLeaseMapper}.
+ *
+ * <p>Tests schedule lease acquisition, renewal and fencing token progression.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+public class JobLeaseMapperTest {
+
+    // Test data constants
+    private static final String TEST_LEASE_NAME = "test_lease";
+    private static final String TEST_OWNER_A = "test-admin-a:8080";
+    private static final String TEST_OWNER_B = "test-admin-b:8080";
+    private static final long TEST_LEASE_MS = 60_000;
+
+    @Resource private JobLeaseMapper jobLeaseMapper;
+
+    /**
+     * Tests lease acquisition and fencing.
+     *
+     * <p>Verifies:
+     *
+     * <ul>
+     *   <li>A released lease can be acquired, incrementing the fencing token
+     *   <li>A valid lease cannot be acquired by another owner without preemption
+     *   <li>Renewal keeps the fencing token, preemption increments it
+     *   <li>Release frees the lease
+     * </ul>
+     */
+    @Test
+    public void testAcquireRenewRelease() {
+        // Start from a released lease
+        jobLeaseMapper.initLease(TEST_LEASE_NAME);
+        jobLeaseMapper.release(TEST_OWNER_A);
+        jobLeaseMapper.release(TEST_OWNER_B);
+        long initialToken = load().getFencingToken();
+
+        // Acquire free lease
+        assertEquals(
+                1, jobLeaseMapper.acquire(TEST_LEASE_NAME, TEST_OWNER_A, TEST_LEASE_MS, false, 0));
+        JobLease acquired = load();
+        assertEquals(TEST_OWNER_A, acquired.getOwner());
+        assertEquals(initialToken + 1, acquired.getFencingToken());
+        assertTrue(acquired.getExpireTime() > jobLeaseMapper.dbTime(), "Lease should be valid");
+
+        // Valid lease is not taken without preemption
+        assertEquals(
+                0, jobLeaseMapper.acquire(TEST_LEASE_NAME, TEST_OWNER_B, TEST_LEASE_MS, false, 0));
+
+        // Renew keeps the token
+        assertTrue(jobLeaseMapper.renew(TEST_OWNER_A, TEST_LEASE_MS) >= 1, "Renew should succeed");
+        assertEquals(initialToken + 1, load().getFencingToken());
+
+        // Preemption moves the lease and increments the token
+        assertEquals(
+                1, jobLeaseMapper.acquire(TEST_LEASE_NAME, TEST_OWNER_B, TEST_LEASE_MS, true, 0));
+        JobLease preempted = load();
+        assertEquals(TEST_OWNER_B, preempted.getOwner());
+        assertEquals(initialToken + 2, preempted.getFencingToken());
+
+        // Release
+        jobLeaseMapper.release(TEST_OWNER_B);
+        assertEquals("", load().getOwner());
+    }
+
+    private JobLease load() {
+        return jobLeaseMapper.findAll().stream()
+                .filter(lease -> TEST_LEASE_NAME.equals(lease.getLeaseName()))
+                .findFirst()
+                .orElseThrow();
+    }
+}
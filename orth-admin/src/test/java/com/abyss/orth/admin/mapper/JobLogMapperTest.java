@@ -91,6 +91,10 @@ public class JobLogMapperTest {
         // Load and verify
         JobLog loadedLog = jobLogMapper.load(log.getId());
         assertNotNull(loadedLog, "Loaded log should not be null");
+        assertEquals(
+                List.of(log.getId()),
+                jobLogMapper.findRunningLogIds(List.of(log.getId())),
+                "Log without result should be running");
 
         // Update trigger info (admin-side scheduling data)
         updateTriggerInfo(log);
@@ -107,6 +111,10 @@ public class JobLogMapperTest {
 
         loadedLog = jobLogMapper.load(log.getId());
         assertNotNull(loadedLog.getHandleTime(), "Handle time should be set");
+        assertEquals(
+                List.of(),
+                jobLogMapper.findRunningLogIds(List.of(log.getId())),
+                "Handled log should not be running");
 
         // Find logs eligible for cleanup
         List<Long> clearLogIds =
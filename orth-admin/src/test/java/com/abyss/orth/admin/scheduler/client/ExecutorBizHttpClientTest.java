@@ -0,0 +1,156 @@
+package com.abyss.orth.admin.scheduler.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.abyss.orth.core.constant.Const;
+import com.abyss.orth.core.openapi.model.LogRequest;
+import com.abyss.orth.core.openapi.model.LogResult;
+import com.abyss.orth.core.openapi.model.TriggerRequest;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import com.xxl.tool.response.Response;
+
+/** Tests for {@link ExecutorBizHttpClient} against an in-process HTTP server. */
+class ExecutorBizHttpClientTest {
+
+    private static final String TOKEN = "default_token";
+
+    private HttpServer server;
+    private String address;
+    private final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+    private volatile String lastPath;
+    private volatile String lastToken;
+    private volatile String lastBody;
+    private volatile long delayMs;
+    private volatile int status = 200;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/", this::handle);
+        server.start();
+        address = "http://127.0.0.1:" + server.getAddress().getPort() + "/";
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        clientPorts.add(exchange.getRemoteAddress().getPort());
+        lastPath = exchange.getRequestURI().getPath();
+        lastToken = exchange.getRequestHeaders().getFirst(Const.ORTH_ACCESS_TOKEN);
+        lastBody = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+        if (delayMs > 0) {
+            try {
+                Thread.sleep(delayMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        String body =
+                "/log".equals(lastPath)
+                        ? "{\"code\":200,\"data\":{\"fromLineNum\":1,\"toLineNum\":2,\"logContent\":\"ok\",\"end\":true}}"
+                        : "{\"code\":200,\"msg\":\"done\"}";
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private ExecutorBizHttpClient newClient(long timeoutMs) {
+        HttpClient httpClient = ExecutorBizHttpClient.newHttpClient(timeoutMs);
+        return new ExecutorBizHttpClient(httpClient, address, TOKEN, timeoutMs);
+    }
+
+    @Test
+    void testRunAsync_shouldPostJsonWithTokenAndParseResponse() throws Exception {
+        // Given
+        TriggerRequest triggerRequest = new TriggerRequest();
+        triggerRequest.setJobId(42);
+        triggerRequest.setExecutorHandler("demoJobHandler");
+
+        // When
+        Response<String> response =
+                newClient(3_000).runAsync(triggerRequest).get(5, TimeUnit.SECONDS);
+
+        // Then
+        assertThat(response.isSuccess()).isTrue();
+        assertThat(response.getMsg()).isEqualTo("done");
+        assertThat(lastPath).isEqualTo("/run");
+        assertThat(lastToken).isEqualTo(TOKEN);
+        assertThat(lastBody).contains("\"jobId\":42").contains("demoJobHandler");
+    }
+
+    @Test
+    void testLog_shouldParseTypedData() {
+        // When
+        Response<LogResult> response = newClient(3_000).log(new LogRequest());
+
+        // Then
+        assertThat(lastPath).isEqualTo("/log");
+        assertThat(response.getData().getLogContent()).isEqualTo("ok");
+        assertThat(response.getData().isEnd()).isTrue();
+    }
+
+    @Test
+    void testBeat_sequentialCalls_shouldReuseOneConnection() {
+        // Given
+        ExecutorBizHttpClient client = newClient(3_000);
+
+        // When
+        for (int i = 0; i < 20; i++) {
+            assertThat(client.beat().isSuccess()).isTrue();
+        }
+
+        // Then
+        assertThat(lastPath).isEqualTo("/beat");
+        assertThat(clientPorts).hasSize(1);
+    }
+
+    @Test
+    void testRunAsync_slowExecutor_shouldFailAtDeadline() {
+        // Given
+        delayMs = 2_000;
+
+        // When
+        CompletableFuture<Response<String>> future = newClient(200).runAsync(new TriggerRequest());
+
+        // Then
+        assertThatThrownBy(() -> future.get(1, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(HttpTimeoutException.class);
+    }
+
+    @Test
+    void testBeat_non200Status_shouldThrow() {
+        // Given
+        status = 500;
+
+        // When / Then
+        assertThatThrownBy(() -> newClient(3_000).beat())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("statusCode(500)");
+    }
+}
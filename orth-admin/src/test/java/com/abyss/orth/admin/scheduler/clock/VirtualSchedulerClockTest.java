@@ -0,0 +1,78 @@
+package com.abyss.orth.admin.scheduler.clock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.Test;
+
+/** Unit tests for {@link VirtualSchedulerClock}. */
+class VirtualSchedulerClockTest {
+
+    private static final long START = 1_700_000_000_000L;
+
+    @Test
+    void testAdvance_shouldJumpToEarliestWakeupInOrder() throws Exception {
+        // Given - two threads sleeping 300ms and 1000ms
+        VirtualSchedulerClock clock = new VirtualSchedulerClock(START, 1);
+        List<Long> wokenAt = new CopyOnWriteArrayList<>();
+        Thread fast = sleeper(clock, 300, wokenAt);
+        Thread slow = sleeper(clock, 1_000, wokenAt);
+
+        // When
+        assertThat(clock.advance(2, () -> true, 5_000)).isTrue();
+        fast.join(5_000);
+        assertThat(clock.advance(1, () -> true, 5_000)).isTrue();
+        slow.join(5_000);
+
+        // Then
+        assertThat(wokenAt).containsExactly(START + 300, START + 1_000);
+        assertThat(clock.currentTimeMillis()).isEqualTo(START + 1_000);
+    }
+
+    @Test
+    void testSleep_shouldRoundWakeupUpToQuantum() throws Exception {
+        // Given
+        VirtualSchedulerClock clock = new VirtualSchedulerClock(START, 10);
+        List<Long> wokenAt = new CopyOnWriteArrayList<>();
+        Thread ticker = sleeper(clock, 1, wokenAt);
+
+        // When
+        assertThat(clock.advance(1, () -> true, 5_000)).isTrue();
+        ticker.join(5_000);
+
+        // Then
+        assertThat(wokenAt).containsExactly(START + 10);
+    }
+
+    @Test
+    void testAdvance_notIdle_shouldTimeOutWithoutMovingTime() throws Exception {
+        // Given
+        VirtualSchedulerClock clock = new VirtualSchedulerClock(START, 1);
+        Thread sleeper = sleeper(clock, 100, new CopyOnWriteArrayList<>());
+
+        // When / Then
+        assertThat(clock.advance(1, () -> false, 50)).isFalse();
+        assertThat(clock.currentTimeMillis()).isEqualTo(START);
+        sleeper.interrupt();
+        sleeper.join(5_000);
+        assertThat(clock.getSleeperCount()).isZero();
+    }
+
+    private static Thread sleeper(VirtualSchedulerClock clock, long millis, List<Long> wokenAt) {
+        Thread thread =
+                new Thread(
+                        () -> {
+                            try {
+                                clock.sleep(millis);
+                                wokenAt.add(clock.currentTimeMillis());
+                            } catch (InterruptedException e) {
+                                Thread.currentThread().interrupt();
+                            }
+                        });
+        thread.setDaemon(true);
+        thread.start();
+        return thread;
+    }
+}
@@ -0,0 +1,132 @@
+package com.abyss.orth.admin.scheduler.cron;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.text.ParseException;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.Random;
+import java.util.TimeZone;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link CompiledCronExpression}.
+ *
+ * <p>Fire times are compared against {@link CronExpression} in fixed-offset zones, where both must
+ * agree exactly.
+ */
+class CompiledCronExpressionTest {
+
+    private static final String[] EXPRESSIONS = {
+        "0 0 0 ? * 1",
+        "*/5 * * * * ?",
+        "0 0/15 9-17 ? * MON-FRI",
+        "30 10 2 * * ?",
+        "0 0 12 1,15 * ?",
+        "0 0 0 29 2 ?",
+        "0 0 0 31 * ?",
+        "15 10-50/7 22-3 * * ?",
+        "0 0 0 1 JAN-MAR/2 ?",
+        "5/20 * * ? NOV-FEB TUE",
+        "59 59 23 31 12 ?",
+        // fallback to CronExpression
+        "0 0 0 L * ?",
+        "0 0 12 ? * 6#3",
+        "0 0 0 15W * ?",
+        "0 0 0 1 1 ? 2030"
+    };
+
+    @Test
+    void testNextTimeAfter_fixedOffsetZones_shouldMatchCronExpression() throws ParseException {
+        // Given
+        Random random = new Random(42);
+
+        for (String zoneId : new String[] {"UTC", "Asia/Shanghai"}) {
+            ZoneId zone = ZoneId.of(zoneId);
+            for (String expression : EXPRESSIONS) {
+                CompiledCronExpression compiled = new CompiledCronExpression(expression, zone);
+                CronExpression reference = new CronExpression(expression);
+                reference.setTimeZone(TimeZone.getTimeZone(zone));
+
+                for (int i = 0; i < 200; i++) {
+                    long time = 1_600_000_000_000L + (long) (random.nextDouble() * 4e10);
+
+                    // When
+                    long actual = compiled.nextTimeAfter(time);
+                    Date expected = reference.getNextValidTimeAfter(new Date(time));
+
+                    // Then
+                    assertThat(actual)
+                            .as("%s in %s after %s", expression, zoneId, Instant.ofEpochMilli(time))
+                            .isEqualTo(expected == null ? -1 : expected.getTime());
+                }
+            }
+        }
+    }
+
+    @Test
+    void testNextN_shouldReturnConsecutiveFireTimes() throws ParseException {
+        // Given
+        CompiledCronExpression compiled =
+                new CompiledCronExpression("*/5 * * * * ?", ZoneId.of("UTC"));
+
+        // When / Then - strictly after 'from', second precision
+        assertThat(compiled.nextN(1_000, 3)).containsExactly(5_000, 10_000, 15_000);
+        assertThat(compiled.nextN(5_000, 2)).containsExactly(10_000, 15_000);
+    }
+
+    @Test
+    void testNextN_aroundFireTime_shouldNeverReturnTimeAtOrBeforeFrom() throws ParseException {
+        // Given
+        CompiledCronExpression compiled =
+                new CompiledCronExpression("*/5 * * * * ?", ZoneId.of("UTC"));
+
+        // When / Then - 1 ms before a fire time includes it; on or past it does not
+        assertThat(compiled.nextN(4_999, 2)).containsExactly(5_000, 10_000);
+        assertThat(compiled.nextN(5_000, 2)).containsExactly(10_000, 15_000);
+        assertThat(compiled.nextN(5_499, 2)).containsExactly(10_000, 15_000);
+        for (long from : new long[] {4_999, 5_000, 5_499, 9_999}) {
+            assertThat(compiled.nextN(from, 1)[0])
+                    .isEqualTo(compiled.getNextValidTimeAfter(new Date(from)).getTime());
+        }
+    }
+
+    @Test
+    void testNextN_neverFiring_shouldReturnEmpty() throws ParseException {
+        // Given - February 30th
+        CompiledCronExpression compiled =
+                new CompiledCronExpression("0 0 0 30 2 ?", ZoneId.of("UTC"));
+
+        // When / Then
+        assertThat(compiled.nextN(0, 3)).isEmpty();
+        assertThat(compiled.getNextValidTimeAfter(new Date(0))).isNull();
+    }
+
+    @Test
+    void testNextTimeAfter_dstGap_shouldShiftForward() throws ParseException {
+        // Given - 02:30 does not exist on 2021-03-14 in New York
+        CompiledCronExpression compiled =
+                new CompiledCronExpression("0 30 2 * * ?", ZoneId.of("America/New_York"));
+
+        // When
+        long next = compiled.nextTimeAfter(Instant.parse("2021-03-14T05:00:00Z").toEpochMilli());
+
+        // Then - 03:30 EDT
+        assertThat(Instant.ofEpochMilli(next)).isEqualTo(Instant.parse("2021-03-14T07:30:00Z"));
+    }
+
+    @Test
+    void testCache_shouldReuseCompiledExpressionAndRejectInvalid() throws ParseException {
+        // When
+        CompiledCronExpression first = CronExpressionCache.get("0 0 3 * * ?");
+        CompiledCronExpression second = CronExpressionCache.get("0 0 3 * * ?");
+
+        // Then
+        assertThat(second).isSameAs(first);
+        assertThatThrownBy(() -> CronExpressionCache.get("not a cron"))
+                .isInstanceOf(ParseException.class);
+    }
+}
@@ -0,0 +1,98 @@
+package com.abyss.orth.admin.scheduler.misfire.strategy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import com.abyss.orth.admin.model.JobInfo;
+import com.abyss.orth.admin.scheduler.type.ScheduleType;
+import com.abyss.orth.admin.scheduler.type.strategy.CronScheduleType;
+import com.abyss.orth.admin.scheduler.type.strategy.FixRateScheduleType;
+
+/** Unit tests for missed fire time enumeration in {@link MisfireFireAllMissed}. */
+class MisfireFireAllMissedTest {
+
+    private static final ScheduleType FIX_RATE = new FixRateScheduleType();
+    private static final ScheduleType CRON = new CronScheduleType();
+
+    /**
+     * Built without JobInfoBuilder, and routed to the schedule type strategies directly: the
+     * schedule type and route strategy enums read their titles from i18n, which needs the Spring
+     * context.
+     */
+    private static JobInfo job(String scheduleConf) {
+        JobInfo jobInfo = new JobInfo();
+        jobInfo.setId(1);
+        jobInfo.setScheduleConf(scheduleConf);
+        return jobInfo;
+    }
+
+    @Test
+    void testMissedFireTimes_fixRate_shouldIncludeBothEnds() {
+        // Given - every 10 seconds
+        JobInfo jobInfo = job("10");
+
+        // When
+        long[] missedTimes =
+                MisfireFireAllMissed.missedFireTimes(FIX_RATE, jobInfo, 10_000, 40_000, 100);
+
+        // Then
+        assertThat(missedTimes).containsExactly(10_000, 20_000, 30_000, 40_000);
+    }
+
+    @Test
+    void testMissedFireTimes_cron_shouldFollowExpression() {
+        // Given - every 5 seconds
+        JobInfo jobInfo = job("*/5 * * * * ?");
+
+        // When
+        long[] missedTimes =
+                MisfireFireAllMissed.missedFireTimes(CRON, jobInfo, 5_000, 22_000, 100);
+
+        // Then
+        assertThat(missedTimes).containsExactly(5_000, 10_000, 15_000, 20_000);
+    }
+
+    @Test
+    void testMissedFireTimes_overLimit_shouldStopAtFirstBatch() {
+        // Given - a year of missed fires every second, limit 3
+        JobInfo jobInfo = job("1");
+
+        // When
+        long[] missedTimes =
+                MisfireFireAllMissed.missedFireTimes(
+                        FIX_RATE, jobInfo, 1_000, TimeUnit.DAYS.toMillis(365), 3);
+
+        // Then - the oldest come first, the rest is left for the next scans
+        assertThat(missedTimes).containsExactly(1_000, 2_000, 3_000);
+    }
+
+    @Test
+    void testResumeTime_shouldContinueAfterBatch() {
+        // Given - one time beyond a full batch, and a window ending within the batch
+        int batch = MisfireFireAllMissed.MAX_MISSED_FIRES_PER_SCAN;
+        JobInfo jobInfo = job("1");
+        long[] overBatch =
+                MisfireFireAllMissed.missedFireTimes(
+                        FIX_RATE, jobInfo, 1_000, TimeUnit.DAYS.toMillis(1), batch + 1);
+        long[] withinBatch =
+                MisfireFireAllMissed.missedFireTimes(FIX_RATE, jobInfo, 1_000, 10_000, batch + 1);
+
+        // When / Then - the next scan resumes on the first time after the batch
+        assertThat(MisfireFireAllMissed.resumeTime(overBatch)).isEqualTo((batch + 1) * 1_000L);
+        assertThat(MisfireFireAllMissed.resumeTime(withinBatch)).isEqualTo(-1);
+    }
+
+    @Test
+    void testMissedFireTimes_invalidWindow_shouldReturnEmpty() {
+        // Given
+        JobInfo jobInfo = job("1");
+
+        // When / Then
+        assertThat(MisfireFireAllMissed.missedFireTimes(FIX_RATE, jobInfo, 0, 10_000, 3)).isEmpty();
+        assertThat(MisfireFireAllMissed.missedFireTimes(FIX_RATE, jobInfo, 20_000, 10_000, 3))
+                .isEmpty();
+    }
+}
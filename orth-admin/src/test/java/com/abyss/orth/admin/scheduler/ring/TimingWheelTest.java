@@ -0,0 +1,173 @@
+package com.abyss.orth.admin.scheduler.ring;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link TimingWheel}.
+ *
+ * <p>The wheel is driven with explicit timestamps, so every test is deterministic.
+ */
+class TimingWheelTest {
+
+    private static final long START = 1_700_000_000_000L;
+
+    /** Records fired entries together with the tick that fired them. */
+    private static class Recorder {
+        final List<TimingWheel.Entry> fired = new ArrayList<>();
+        final List<Long> firedAt = new ArrayList<>();
+    }
+
+    private static void advance(TimingWheel wheel, Recorder recorder, long from, long to) {
+        for (long now = from; now <= to; now++) {
+            long tick = now;
+            wheel.advanceTo(
+                    now,
+                    entry -> {
+                        recorder.fired.add(entry);
+                        recorder.firedAt.add(tick);
+                    });
+        }
+    }
+
+    @Test
+    void testAdvance_subSecondDeadline_shouldFireOnExactMillisecond() {
+        // Given
+        TimingWheel wheel = new TimingWheel(START);
+        Recorder recorder = new Recorder();
+        wheel.add(1, START + 250);
+        wheel.add(2, START + 999);
+
+        // When
+        advance(wheel, recorder, START, START + 1500);
+
+        // Then
+        assertThat(recorder.fired).extracting(TimingWheel.Entry::jobId).containsExactly(1, 2);
+        assertThat(recorder.firedAt).containsExactly(START + 250, START + 999);
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void testAdvance_secondAndMinuteLevels_shouldCascadeToExactMillisecond() {
+        // Given
+        TimingWheel wheel = new TimingWheel(START + 10);
+        Recorder recorder = new Recorder();
+        wheel.add(1, START + 4_321); // level 1
+        wheel.add(2, START + 125_007); // level 2
+
+        // When
+        advance(wheel, recorder, START + 10, START + 130_000);
+
+        // Then
+        assertThat(recorder.firedAt).containsExactly(START + 4_321, START + 125_007);
+    }
+
+    @Test
+    void testAdvance_beyondOneHour_shouldFireFromOverflow() {
+        // Given
+        TimingWheel wheel = new TimingWheel(START);
+        Recorder recorder = new Recorder();
+        long deadline = START + 2 * 3_600_000L + 42;
+        wheel.add(7, deadline);
+
+        // When - the consumer thread may jump over many ticks at once
+        wheel.advanceTo(deadline - 1, entry -> recorder.fired.add(entry));
+        assertThat(recorder.fired).isEmpty();
+        wheel.advanceTo(deadline, entry -> recorder.fired.add(entry));
+
+        // Then
+        assertThat(recorder.fired).extracting(TimingWheel.Entry::jobId).containsExactly(7);
+    }
+
+    @Test
+    void testAdvance_lateConsumer_shouldReplayAllElapsedTicksInOrder() {
+        // Given
+        TimingWheel wheel = new TimingWheel(START);
+        Recorder recorder = new Recorder();
+        wheel.add(3, START + 1_800);
+        wheel.add(1, START + 200);
+        wheel.add(2, START + 900);
+
+        // When - single call after 2 seconds
+        wheel.advanceTo(START + 2_000, entry -> recorder.fired.add(entry));
+
+        // Then
+        assertThat(recorder.fired).extracting(TimingWheel.Entry::jobId).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    void testAdd_pastDeadline_shouldFireOnNextAdvance() {
+        // Given
+        TimingWheel wheel = new TimingWheel(START);
+        Recorder recorder = new Recorder();
+        wheel.advanceTo(START + 5_000, entry -> recorder.fired.add(entry));
+        wheel.add(9, START + 1_000);
+
+        // When
+        wheel.advanceTo(START + 5_001, entry -> recorder.fired.add(entry));
+
+        // Then
+        assertThat(recorder.fired)
+                .extracting(TimingWheel.Entry::scheduleTime)
+                .containsExactly(START + 1_000);
+    }
+
+    @Test
+    void testAdvance_duplicateEntry_shouldFireOnce() {
+        // Given
+        TimingWheel wheel = new TimingWheel(START);
+        Recorder recorder = new Recorder();
+        wheel.add(5, START + 300);
+        wheel.add(5, START + 300);
+        wheel.add(5, START + 600);
+
+        // When
+        advance(wheel, recorder, START, START + 1_000);
+
+        // Then
+        assertThat(recorder.fired)
+                .extracting(TimingWheel.Entry::scheduleTime)
+                .containsExactly(START + 300, START + 600);
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void testAdvance_fireTimeAfterScheduleTime_shouldFireAtFireTimeWithLogicalTime() {
+        // Given - jittered entry
+        TimingWheel wheel = new TimingWheel(START);
+        Recorder recorder = new Recorder();
+        wheel.add(4, START, START + 1_234);
+
+        // When
+        advance(wheel, recorder, START, START + 2_000);
+
+        // Then
+        assertThat(recorder.firedAt).containsExactly(START + 1_234);
+        assertThat(recorder.fired.get(0).scheduleTime()).isEqualTo(START);
+    }
+
+    @Test
+    void testDrain_pendingEntries_shouldFireDueOnesAndDropLaterOnes() {
+        // Given - entries on every level, plus one not yet published
+        TimingWheel wheel = new TimingWheel(START);
+        Recorder recorder = new Recorder();
+        List<TimingWheel.Entry> dropped = new ArrayList<>();
+        wheel.add(1, START + 125_000);
+        wheel.add(2, START + 500);
+        wheel.advanceTo(START, entry -> recorder.fired.add(entry));
+        wheel.add(3, START + 3_000);
+        wheel.add(4, START + 60_000);
+
+        // When - entries due within 5 seconds fire, later ones are dropped
+        wheel.drain(START + 5_000, entry -> recorder.fired.add(entry), dropped::add);
+
+        // Then
+        assertThat(recorder.fired).extracting(TimingWheel.Entry::jobId).containsExactly(2, 3);
+        assertThat(dropped).extracting(TimingWheel.Entry::jobId).containsExactly(4, 1);
+        assertThat(wheel.size()).isZero();
+    }
+}
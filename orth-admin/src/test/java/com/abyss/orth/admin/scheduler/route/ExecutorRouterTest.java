@@ -0,0 +1,95 @@
+package com.abyss.orth.admin.scheduler.route;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.Test;
+
+import com.xxl.tool.response.Response;
+
+/**
+ * Tests for {@link ExecutorRouter#probeInOrder}: the sequential probes of FAILOVER and BUSYOVER.
+ */
+class ExecutorRouterTest {
+
+    private static final List<String> ADDRESSES =
+            List.of("http://a:9999/", "http://b:9999/", "http://c:9999/");
+
+    @Test
+    void testProbeInOrder_healthyFirst_shouldProbeOnlyIt() {
+        // Given
+        List<String> probed = new ArrayList<>();
+
+        // When
+        Response<String> result =
+                ExecutorRouter.probeInOrder(
+                                ADDRESSES,
+                                address -> {
+                                    probed.add(address);
+                                    return CompletableFuture.completedFuture(Response.ofSuccess());
+                                },
+                                (address, answer) -> {})
+                        .join();
+
+        // Then
+        assertThat(result.isSuccess()).isTrue();
+        assertThat(result.getData()).isEqualTo("http://a:9999/");
+        assertThat(probed).containsExactly("http://a:9999/");
+    }
+
+    @Test
+    void testProbeInOrder_failedProbes_shouldChainToNextAddress() {
+        // Given - the first answers late and fails, the second is healthy
+        CompletableFuture<Response<String>> firstProbe = new CompletableFuture<>();
+        List<String> probed = new ArrayList<>();
+        List<String> answered = new ArrayList<>();
+
+        // When
+        CompletableFuture<Response<String>> result =
+                ExecutorRouter.probeInOrder(
+                        ADDRESSES,
+                        address -> {
+                            probed.add(address);
+                            return probed.size() == 1
+                                    ? firstProbe
+                                    : CompletableFuture.completedFuture(Response.ofSuccess());
+                        },
+                        (address, answer) -> answered.add(address));
+
+        // Then - the next address is probed only once the first failed
+        assertThat(probed).containsExactly("http://a:9999/");
+        firstProbe.complete(Response.ofFail("timeout"));
+        assertThat(result.join().getData()).isEqualTo("http://b:9999/");
+        assertThat(probed).containsExactly("http://a:9999/", "http://b:9999/");
+        assertThat(answered).containsExactly("http://a:9999/", "http://b:9999/");
+    }
+
+    @Test
+    void testProbeInOrder_allFailed_shouldReturnLastFailure() {
+        // Given
+        List<String> answered = new ArrayList<>();
+
+        // When
+        Response<String> result =
+                ExecutorRouter.probeInOrder(
+                                ADDRESSES,
+                                address ->
+                                        CompletableFuture.completedFuture(
+                                                Response.ofFail("busy " + address)),
+                                (address, answer) -> answered.add(address))
+                        .join();
+
+        // Then
+        assertThat(result.isSuccess()).isFalse();
+        assertThat(result.getMsg()).isEqualTo("busy http://c:9999/");
+        assertThat(answered).containsExactlyElementsOf(ADDRESSES);
+        assertThat(
+                        ExecutorRouter.probeInOrder(List.of(), address -> null, (a, r) -> {})
+                                .join()
+                                .isSuccess())
+                .isFalse();
+    }
+}
@@ -0,0 +1,204 @@
+package com.abyss.orth.admin.scheduler.route.strategy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/** Tests for {@link ExecutorRouteConsistentHash}: ring caching, distribution and stability. */
+class ExecutorRouteConsistentHashTest {
+    private static final Logger logger =
+            LoggerFactory.getLogger(ExecutorRouteConsistentHashTest.class);
+
+    private static final int JOB_COUNT = 100_000;
+
+    private final ExecutorRouteConsistentHash router = new ExecutorRouteConsistentHash();
+
+    private static List<String> addressList(int count) {
+        List<String> list = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            list.add("http://10.0." + (i / 250) + "." + (i % 250 + 1) + ":9999/");
+        }
+        return list;
+    }
+
+    private Map<Integer, String> routeAll(List<String> addresses) {
+        Map<Integer, String> routes = new HashMap<>();
+        for (int jobId = 1; jobId <= JOB_COUNT; jobId++) {
+            routes.put(jobId, router.selectExecutorByHash(jobId, addresses));
+        }
+        return routes;
+    }
+
+    @Test
+    void testRing_equalAddressLists_shouldShareOneRing() {
+        // Given
+        List<String> addresses = addressList(5);
+
+        // When
+        ExecutorRouteConsistentHash.HashRing ring = ExecutorRouteConsistentHash.ring(addresses);
+
+        // Then - another list of the same registry state reuses it; a changed one does not
+        assertThat(ExecutorRouteConsistentHash.ring(new ArrayList<>(addresses))).isSameAs(ring);
+        assertThat(ExecutorRouteConsistentHash.ring(addressList(6))).isNotSameAs(ring);
+        assertThat(ring.size()).isEqualTo(5 * 100);
+    }
+
+    @Test
+    void testSelect_sameJob_shouldSelectSameExecutor() {
+        // Given
+        List<String> addresses = addressList(10);
+
+        // When
+        String first = router.selectExecutorByHash(7, addresses);
+
+        // Then
+        assertThat(router.selectExecutorByHash(7, new ArrayList<>(addresses))).isEqualTo(first);
+        assertThat(router.selectExecutorByHash(7, addresses)).isEqualTo(first);
+        assertThat(router.selectExecutorByHash(7, List.of("http://10.0.0.1:9999/")))
+                .isEqualTo("http://10.0.0.1:9999/");
+    }
+
+    @Test
+    void testSelect_consecutiveJobIds_shouldSpreadEvenly() {
+        // Given
+        int executorCount = 50;
+        List<String> addresses = addressList(executorCount);
+
+        // When
+        Map<String, Integer> counts = new HashMap<>();
+        for (String address : routeAll(addresses).values()) {
+            counts.merge(address, 1, Integer::sum);
+        }
+
+        // Then - every executor gets its share, within the spread of 100 virtual nodes
+        double mean = (double) JOB_COUNT / executorCount;
+        double variance = 0;
+        for (String address : addresses) {
+            int count = counts.getOrDefault(address, 0);
+            assertThat(count).isBetween((int) (mean * 0.6), (int) (mean * 1.4));
+            variance += (count - mean) * (count - mean);
+        }
+        double cv = Math.sqrt(variance / executorCount) / mean;
+        logger.info(
+                "executors={}, jobs={}, coefficient of variation={}", executorCount, JOB_COUNT, cv);
+        assertThat(cv).isLessThan(0.15);
+    }
+
+    @Test
+    void testSelect_executorRemovedOrAdded_shouldOnlyMoveItsJobs() {
+        // Given
+        List<String> addresses = addressList(20);
+        Map<Integer, String> before = routeAll(addresses);
+
+        // When - one executor leaves
+        List<String> shrunk = new ArrayList<>(addresses);
+        String removed = shrunk.remove(7);
+        Map<Integer, String> afterRemove = routeAll(shrunk);
+
+        // Then - only the jobs it had move
+        int moved = 0;
+        for (int jobId = 1; jobId <= JOB_COUNT; jobId++) {
+            if (before.get(jobId).equals(removed)) {
+                moved++;
+            } else {
+                assertThat(afterRemove.get(jobId)).isEqualTo(before.get(jobId));
+            }
+        }
+        assertThat(moved).isBetween(JOB_COUNT / 20 / 2, JOB_COUNT / 20 * 2);
+
+        // When - a new executor joins
+        List<String> grown = new ArrayList<>(addresses);
+        grown.add("http://10.9.9.9:9999/");
+        Map<Integer, String> afterAdd = routeAll(grown);
+
+        // Then - jobs only move to it
+        for (int jobId = 1; jobId <= JOB_COUNT; jobId++) {
+            if (!afterAdd.get(jobId).equals(before.get(jobId))) {
+                assertThat(afterAdd.get(jobId)).isEqualTo("http://10.9.9.9:9999/");
+            }
+        }
+    }
+
+    @Test
+    @Disabled("Benchmark - run manually, takes about 10 seconds")
+    void benchmarkRouteAgainstRingRebuiltPerTrigger() {
+        // Given - 50 executors, as in a large group
+        List<String> addresses = addressList(50);
+        int warmup = 500;
+        int legacyRoutes = 2_000;
+        int cachedRoutes = 2_000_000;
+
+        // When - the former implementation: MD5 ring rebuilt on every trigger
+        for (int i = 0; i < warmup; i++) {
+            legacySelect(i, addresses);
+        }
+        long start = System.nanoTime();
+        int sink = 0;
+        for (int i = 0; i < legacyRoutes; i++) {
+            sink += legacySelect(i, addresses).length();
+        }
+        double legacyNanos = (double) (System.nanoTime() - start) / legacyRoutes;
+
+        // When - cached ring, binary search
+        for (int i = 0; i < warmup * 1000; i++) {
+            router.selectExecutorByHash(i, addresses);
+        }
+        start = System.nanoTime();
+        for (int i = 0; i < cachedRoutes; i++) {
+            sink += router.selectExecutorByHash(i, addresses).length();
+        }
+        double cachedNanos = (double) (System.nanoTime() - start) / cachedRoutes;
+
+        // Then
+        logger.info(
+                "executors={}, rebuilt ring={}us/route, cached ring={}ns/route, speedup={}x, sink={}",
+                addresses.size(),
+                String.format("%.1f", legacyNanos / TimeUnit.MICROSECONDS.toNanos(1)),
+                String.format("%.0f", cachedNanos),
+                String.format("%.0f", legacyNanos / cachedNanos),
+                sink);
+        assertThat(cachedNanos).isLessThan(legacyNanos);
+    }
+
+    /** The ring as routed before it was cached: 100 MD5-hashed nodes per executor per call. */
+    private static String legacySelect(int jobId, List<String> addressList) {
+        TreeMap<Long, String> hashRing = new TreeMap<>();
+        for (String address : addressList) {
+            for (int i = 0; i < 100; i++) {
+                hashRing.put(md5Hash("SHARD-" + address + "-NODE-" + i), address);
+            }
+        }
+        SortedMap<Long, String> clockwiseNodes = hashRing.tailMap(md5Hash(String.valueOf(jobId)));
+        return !clockwiseNodes.isEmpty()
+                ? clockwiseNodes.get(clockwiseNodes.firstKey())
+                : hashRing.firstEntry().getValue();
+    }
+
+    private static long md5Hash(String key) {
+        try {
+            byte[] digest =
+                    MessageDigest.getInstance("MD5").digest(key.getBytes(StandardCharsets.UTF_8));
+            return (((long) (digest[3] & 0xFF) << 24)
+                            | ((long) (digest[2] & 0xFF) << 16)
+                            | ((long) (digest[1] & 0xFF) << 8)
+                            | (digest[0] & 0xFF))
+                    & 0xFFFFFFFFL;
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
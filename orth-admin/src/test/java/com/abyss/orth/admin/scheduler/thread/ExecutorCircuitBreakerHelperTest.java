@@ -0,0 +1,191 @@
+package com.abyss.orth.admin.scheduler.thread;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.ConnectException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.abyss.orth.admin.scheduler.thread.ExecutorCircuitBreakerHelper.State;
+import com.xxl.tool.response.Response;
+
+/**
+ * Unit tests for {@link ExecutorCircuitBreakerHelper} state transitions.
+ *
+ * <p>The breaker runs on a manual clock and a recording prober; probes are triggered explicitly.
+ */
+class ExecutorCircuitBreakerHelperTest {
+
+    private static final String ADDRESS_A = "http://executor-a:9999/";
+    private static final String ADDRESS_B = "http://executor-b:9999/";
+    private static final long SLOW_CALL_MS = 2000;
+    private static final long OPEN_MS = 10_000;
+
+    private final AtomicLong now = new AtomicLong(1_000_000);
+    private final List<String> probes = new CopyOnWriteArrayList<>();
+    private volatile boolean executorUp;
+    private ExecutorCircuitBreakerHelper breaker;
+
+    @BeforeEach
+    void setUp() {
+        breaker = new ExecutorCircuitBreakerHelper();
+        breaker.init(
+                50,
+                SLOW_CALL_MS,
+                OPEN_MS,
+                now::get,
+                address -> {
+                    probes.add(address);
+                    return executorUp
+                            ? CompletableFuture.completedFuture(Response.ofSuccess())
+                            : CompletableFuture.failedFuture(
+                                    new ConnectException("Connection refused"));
+                });
+    }
+
+    private void trip(String address) {
+        for (int i = 0; i < ExecutorCircuitBreakerHelper.MIN_CALLS; i++) {
+            breaker.recordFailure(address);
+        }
+    }
+
+    @Test
+    void testRecord_failuresBelowMinCalls_shouldStayClosed() {
+        // When
+        for (int i = 0; i < ExecutorCircuitBreakerHelper.MIN_CALLS - 1; i++) {
+            breaker.recordFailure(ADDRESS_A);
+        }
+
+        // Then
+        assertThat(breaker.getState(ADDRESS_A)).isEqualTo(State.CLOSED);
+        assertThat(breaker.allowRequest(ADDRESS_A)).isTrue();
+    }
+
+    @Test
+    void testRecord_failureRateReached_shouldOpenAndSkipAddress() {
+        // Given - healthy history, then an outage
+        for (int i = 0; i < 10; i++) {
+            breaker.recordSuccess(ADDRESS_A, 5);
+        }
+
+        // When
+        for (int i = 0; i < 10; i++) {
+            breaker.recordFailure(ADDRESS_A);
+        }
+
+        // Then
+        assertThat(breaker.getState(ADDRESS_A)).isEqualTo(State.OPEN);
+        assertThat(breaker.filterAvailable(List.of(ADDRESS_A, ADDRESS_B)))
+                .containsExactly(ADDRESS_B);
+        assertThat(breaker.getOpenCount()).isEqualTo(1);
+        assertThat(breaker.getTripCount()).isEqualTo(1);
+    }
+
+    @Test
+    void testRecord_slowCalls_shouldCountAsFailures() {
+        // When
+        for (int i = 0; i < ExecutorCircuitBreakerHelper.MIN_CALLS; i++) {
+            breaker.recordSuccess(ADDRESS_A, SLOW_CALL_MS);
+        }
+
+        // Then
+        assertThat(breaker.getState(ADDRESS_A)).isEqualTo(State.OPEN);
+    }
+
+    @Test
+    void testFilterAvailable_allClosed_shouldReturnSameList() {
+        // Given
+        List<String> addressList = List.of(ADDRESS_A, ADDRESS_B);
+        breaker.recordSuccess(ADDRESS_A, 5);
+
+        // Then
+        assertThat(breaker.filterAvailable(addressList)).isSameAs(addressList);
+    }
+
+    @Test
+    void testProbe_beforeOpenTimeElapsed_shouldNotProbe() {
+        // Given
+        trip(ADDRESS_A);
+
+        // When
+        now.addAndGet(OPEN_MS - 1);
+        breaker.probeOpenCircuits();
+
+        // Then
+        assertThat(probes).isEmpty();
+        assertThat(breaker.getState(ADDRESS_A)).isEqualTo(State.OPEN);
+    }
+
+    @Test
+    void testProbe_executorBack_shouldCloseWithFreshWindow() {
+        // Given
+        trip(ADDRESS_A);
+        executorUp = true;
+
+        // When
+        now.addAndGet(OPEN_MS);
+        breaker.probeOpenCircuits();
+
+        // Then - one failure after closing is not enough to reopen
+        assertThat(probes).containsExactly(ADDRESS_A);
+        assertThat(breaker.getState(ADDRESS_A)).isEqualTo(State.CLOSED);
+        breaker.recordFailure(ADDRESS_A);
+        assertThat(breaker.getState(ADDRESS_A)).isEqualTo(State.CLOSED);
+    }
+
+    @Test
+    void testProbe_executorStillDown_shouldReopenForAnotherPeriod() {
+        // Given
+        trip(ADDRESS_A);
+
+        // When
+        now.addAndGet(OPEN_MS);
+        breaker.probeOpenCircuits();
+        now.addAndGet(OPEN_MS - 1);
+        breaker.probeOpenCircuits();
+
+        // Then
+        assertThat(probes).containsExactly(ADDRESS_A);
+        assertThat(breaker.getState(ADDRESS_A)).isEqualTo(State.OPEN);
+        assertThat(breaker.allowRequest(ADDRESS_A)).isFalse();
+    }
+
+    @Test
+    void testProbe_nullBeatResult_shouldReopenAsFailure() {
+        // Given - a prober completing without a response
+        breaker.init(
+                50,
+                SLOW_CALL_MS,
+                OPEN_MS,
+                now::get,
+                address -> CompletableFuture.completedFuture(null));
+        trip(ADDRESS_A);
+
+        // When
+        now.addAndGet(OPEN_MS);
+        breaker.probeOpenCircuits();
+
+        // Then - not stuck half-open
+        assertThat(breaker.getState(ADDRESS_A)).isEqualTo(State.OPEN);
+    }
+
+    @Test
+    void testRetainAddresses_shouldDropCircuitsOfGoneExecutors() {
+        // Given
+        trip(ADDRESS_A);
+        trip(ADDRESS_B);
+
+        // When - A deregistered
+        breaker.retainAddresses(List.of(ADDRESS_B));
+
+        // Then
+        assertThat(breaker.getState(ADDRESS_A)).isEqualTo(State.CLOSED);
+        assertThat(breaker.getState(ADDRESS_B)).isEqualTo(State.OPEN);
+        assertThat(breaker.getOpenCount()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,159 @@
+package com.abyss.orth.admin.scheduler.thread;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/** Tests for {@link ExecutorInflightHelper}, on a manual clock and an in-memory log table. */
+class ExecutorInflightHelperTest {
+    private static final Logger logger = LoggerFactory.getLogger(ExecutorInflightHelperTest.class);
+
+    private static final String A = "http://10.0.0.1:9999/";
+    private static final String B = "http://10.0.0.2:9999/";
+
+    private final AtomicLong now = new AtomicLong(1_000_000);
+    private final Set<Long> runningLogs = new HashSet<>();
+    private final List<List<Long>> lookups = new ArrayList<>();
+    private final ExecutorInflightHelper helper = new ExecutorInflightHelper();
+
+    @BeforeEach
+    void setUp() {
+        helper.init(
+                logIds -> {
+                    lookups.add(List.copyOf(logIds));
+                    return logIds.stream().filter(runningLogs::contains).toList();
+                },
+                now::get);
+    }
+
+    private static List<String> addressList(int count) {
+        List<String> list = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            list.add("http://10.0.1." + (i + 1) + ":9999/");
+        }
+        return list;
+    }
+
+    @Test
+    void testDispatchAndComplete_shouldCountRunsInFlight() {
+        // Given
+        helper.dispatched(1, A);
+        helper.dispatched(2, A);
+        helper.dispatched(3, B);
+
+        // When - 1 reports back twice, 9 was sent by another node
+        helper.completed(1);
+        helper.completed(1);
+        helper.completed(9);
+
+        // Then
+        assertThat(helper.getInflight(A)).isEqualTo(1);
+        assertThat(helper.getInflight(B)).isEqualTo(1);
+        assertThat(helper.getInflight("http://10.0.0.3:9999/")).isZero();
+        assertThat(helper.getInflightCount()).isEqualTo(2);
+    }
+
+    @Test
+    void testSelect_twoAddresses_shouldPickFewerInFlight() {
+        // Given
+        helper.dispatched(1, A);
+
+        // Then - both are always sampled
+        for (int i = 0; i < 20; i++) {
+            assertThat(helper.selectTwoChoices(List.of(A, B))).isEqualTo(B);
+        }
+        assertThat(helper.selectTwoChoices(List.of(A))).isEqualTo(A);
+    }
+
+    @Test
+    void testSelect_mixedDurations_shouldKeepBusiestExecutorNearAverage() {
+        // Given - 20 executors; one trigger per tick, runs last 1 to 200 ticks
+        List<String> addresses = addressList(20);
+
+        // When
+        long randomPeak =
+                simulatePeak(
+                        addresses,
+                        (inflight, list) ->
+                                list.get(ThreadLocalRandom.current().nextInt(list.size())));
+        long twoChoicesPeak = simulatePeak(addresses, ExecutorInflightHelper::selectTwoChoices);
+
+        // Then - about 100 runs in flight, 5 per executor on average
+        logger.info(
+                "peak runs in flight on one executor: random={}, two choices={}",
+                randomPeak,
+                twoChoicesPeak);
+        assertThat(twoChoicesPeak).isLessThan(randomPeak);
+        assertThat(twoChoicesPeak).isLessThanOrEqualTo(11);
+    }
+
+    /** Routes 20000 runs of random duration; returns the most runs one executor had in flight. */
+    private long simulatePeak(
+            List<String> addresses,
+            BiFunction<ExecutorInflightHelper, List<String>, String> router) {
+        int ticks = 20_000;
+        int maxDuration = 200;
+        ExecutorInflightHelper inflight = new ExecutorInflightHelper();
+        inflight.init(logIds -> logIds, now::get);
+        List<List<Long>> endingAt = new ArrayList<>();
+        for (int tick = 0; tick < ticks + maxDuration + 1; tick++) {
+            endingAt.add(new ArrayList<>());
+        }
+
+        long peak = 0;
+        for (int tick = 0; tick < ticks; tick++) {
+            for (long logId : endingAt.get(tick)) {
+                inflight.completed(logId);
+            }
+            String address = router.apply(inflight, addresses);
+            inflight.dispatched(tick, address);
+            endingAt.get(tick + 1 + ThreadLocalRandom.current().nextInt(maxDuration))
+                    .add((long) tick);
+            if (tick >= maxDuration) {
+                peak = Math.max(peak, inflight.getInflight(address));
+            }
+        }
+        return peak;
+    }
+
+    @Test
+    void testReconcile_shouldUncountRunsHandledElsewhere() {
+        // Given - 1 and 2 sent a minute ago, 2 still running; 3 sent just now
+        helper.dispatched(1, A);
+        helper.dispatched(2, A);
+        runningLogs.add(2L);
+        now.addAndGet(60_000);
+        helper.dispatched(3, B);
+
+        // When
+        helper.reconcile();
+
+        // Then - only the old runs were looked up; 1 reported back to another node
+        assertThat(lookups).hasSize(1);
+        assertThat(lookups.get(0)).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(helper.getInflight(A)).isEqualTo(1);
+        assertThat(helper.getInflight(B)).isEqualTo(1);
+
+        // When - 2 reports back here after all, and its counter is dropped when idle
+        helper.completed(2);
+        helper.completed(3);
+        helper.reconcile();
+        helper.dispatched(4, A);
+
+        // Then
+        assertThat(helper.getInflight(A)).isEqualTo(1);
+        assertThat(helper.getInflight(B)).isZero();
+        assertThat(helper.getInflightCount()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,150 @@
+package com.abyss.orth.admin.scheduler.thread;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.abyss.orth.admin.model.JobRegistry;
+import com.abyss.orth.core.constant.RegistType;
+import com.abyss.orth.core.openapi.model.ExecutorLoad;
+
+/** Tests for {@link ExecutorLoadHelper}, on a manual clock. */
+class ExecutorLoadHelperTest {
+
+    private static final long STALE_MS = 90_000;
+    private static final String A = "http://10.0.0.1:9999/";
+    private static final String B = "http://10.0.0.2:9999/";
+    private static final String C = "http://10.0.0.3:9999/";
+
+    private final AtomicLong now = new AtomicLong(1_000_000);
+    private final ExecutorLoadHelper helper = new ExecutorLoadHelper();
+
+    @BeforeEach
+    void setUp() {
+        helper.init(STALE_MS, now::get);
+    }
+
+    private static ExecutorLoad load(int queued, int running, double cpu) {
+        return new ExecutorLoad(running + queued, queued, running, cpu);
+    }
+
+    private static JobRegistry row(String address, ExecutorLoad load, long updateTime) {
+        JobRegistry registry = new JobRegistry();
+        registry.setRegistryGroup(RegistType.EXECUTOR.name());
+        registry.setRegistryKey("app");
+        registry.setRegistryValue(address);
+        if (load != null) {
+            registry.setJobThreads(load.getJobThreads());
+            registry.setQueuedTriggers(load.getQueuedTriggers());
+            registry.setRunningWorkers(load.getRunningWorkers());
+            registry.setCpuLoad(load.getProcessCpu());
+        }
+        registry.setUpdateTime(new Date(updateTime));
+        return registry;
+    }
+
+    @Test
+    void testSelect_shouldPickLowestLoad() {
+        // Given - A has jobs queued, B is busy on CPU, C is nearly idle
+        helper.report(A, load(6, 2, 0.1), now.get());
+        helper.report(B, load(0, 1, 0.9), now.get());
+        helper.report(C, load(0, 1, 0.2), now.get());
+
+        // Then
+        assertThat(helper.selectLeastLoaded(List.of(A, B, C))).isEqualTo(C);
+    }
+
+    @Test
+    void testSelect_burstBetweenHeartbeats_shouldCountTriggersSent() {
+        // Given - A runs 4 jobs, B runs none
+        helper.report(A, load(0, 4, 0), now.get());
+        helper.report(B, load(0, 0, 0), now.get());
+
+        // When - 8 triggers before the next heartbeat
+        Map<String, Integer> counts = new HashMap<>();
+        for (int i = 0; i < 8; i++) {
+            counts.merge(helper.selectLeastLoaded(List.of(A, B)), 1, Integer::sum);
+        }
+
+        // Then - B first takes up to A's load, then they alternate
+        assertThat(counts).containsEntry(A, 2).containsEntry(B, 6);
+
+        // When - B's next heartbeat reports the jobs it got as running
+        now.addAndGet(30_000);
+        helper.report(B, load(1, 6, 0), now.get());
+
+        // Then - sent triggers counted again from the heartbeat
+        assertThat(helper.selectLeastLoaded(List.of(A, B))).isEqualTo(A);
+    }
+
+    @Test
+    void testSelect_equalLoads_shouldSpreadAtRandom() {
+        // Given
+        helper.report(A, load(1, 1, 0), now.get());
+        helper.report(B, load(1, 1, 0), now.get());
+
+        // When - the picks are forgotten with each heartbeat
+        Map<String, Integer> counts = new HashMap<>();
+        for (int i = 0; i < 400; i++) {
+            now.incrementAndGet();
+            helper.report(A, load(1, 1, 0), now.get());
+            helper.report(B, load(1, 1, 0), now.get());
+            counts.merge(helper.selectLeastLoaded(List.of(A, B)), 1, Integer::sum);
+        }
+
+        // Then
+        assertThat(counts.get(A)).isBetween(120, 280);
+        assertThat(counts.get(B)).isBetween(120, 280);
+    }
+
+    @Test
+    void testSelect_staleOrUnreportedLoad_shouldCountSentTriggersOnly() {
+        // Given - A's load is older than the dead timeout, B never reported
+        helper.report(A, load(50, 8, 1), now.get());
+        now.addAndGet(STALE_MS + 1);
+
+        // Then
+        assertThat(helper.getLoad(A)).isNull();
+        assertThat(helper.getReportedCount()).isZero();
+        String first = helper.selectLeastLoaded(List.of(A, B));
+        String second = helper.selectLeastLoaded(List.of(A, B));
+        assertThat(List.of(first, second)).containsExactlyInAnyOrder(A, B);
+    }
+
+    @Test
+    void testRefresh_shouldTakeNewerRowsAndForgetRemovedExecutors() {
+        // Given - A's heartbeat reached this node; 3 triggers sent to A since
+        long heartbeat = now.get();
+        helper.report(A, load(0, 0, 0), heartbeat);
+        helper.report(B, load(0, 5, 0), heartbeat);
+        for (int i = 0; i < 3; i++) {
+            assertThat(helper.selectLeastLoaded(List.of(A))).isEqualTo(A);
+        }
+
+        // When - the registry rows hold the same heartbeat of A, a newer one of B, none of C
+        helper.refresh(
+                List.of(
+                        row(A, load(0, 0, 0), heartbeat),
+                        row(B, load(0, 1, 0), heartbeat + 10_000),
+                        row(C, null, heartbeat)));
+
+        // Then - A keeps its sent triggers, B takes the newer load, C has none
+        assertThat(helper.getLoad(B).getRunningWorkers()).isEqualTo(1);
+        assertThat(helper.selectLeastLoaded(List.of(A, B))).isEqualTo(B);
+        assertThat(helper.getLoad(C)).isNull();
+
+        // When - B deregistered
+        helper.refresh(List.of(row(A, load(0, 0, 0), heartbeat)));
+
+        // Then
+        assertThat(helper.getLoad(B)).isNull();
+        assertThat(helper.getReportedCount()).isEqualTo(1);
+    }
+}
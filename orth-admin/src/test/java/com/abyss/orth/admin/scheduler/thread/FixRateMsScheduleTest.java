@@ -0,0 +1,120 @@
+package com.abyss.orth.admin.scheduler.thread;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.abyss.orth.admin.scheduler.ring.TimingWheel;
+import com.abyss.orth.admin.test.util.TimingTestUtil;
+
+/**
+ * Tests for FIX_RATE_MS window scheduling, plus a dispatch jitter benchmark.
+ *
+ * <p>The benchmark drives a {@link TimingWheel} the way {@link JobScheduleHelper} does: a ring
+ * thread advancing to wall-clock time every millisecond, and a schedule loop pushing each job's
+ * fires for the 5s pre-read window once per second.
+ */
+class FixRateMsScheduleTest {
+    private static final Logger logger = LoggerFactory.getLogger(FixRateMsScheduleTest.class);
+
+    @Test
+    void testWindowFireTimes_shouldKeepPhaseAndIncludeWindowEnd() {
+        // When / Then
+        assertThat(JobScheduleHelper.windowFireTimes(1_000, 100, 1_350))
+                .containsExactly(1_000, 1_100, 1_200, 1_300);
+        assertThat(JobScheduleHelper.windowFireTimes(1_000, 100, 1_300))
+                .containsExactly(1_000, 1_100, 1_200, 1_300);
+        assertThat(JobScheduleHelper.windowFireTimes(1_000, 250, 999)).isEmpty();
+    }
+
+    @Test
+    @Disabled("Benchmark - run manually, takes about 15 seconds")
+    void benchmarkDispatchJitter() {
+        // Given - 200 jobs at 100ms, phases spread over the interval
+        int jobCount = 200;
+        long intervalMs = 100;
+        long durationMs = 10_000;
+        long preReadMs = JobScheduleHelper.PRE_READ_MS;
+
+        long start = System.currentTimeMillis();
+        TimingWheel wheel = new TimingWheel(start);
+        long[] lateness = new long[(int) (jobCount * (durationMs / intervalMs + 1))];
+        AtomicInteger fired = new AtomicInteger();
+        long horizon = start + durationMs;
+
+        Thread ringThread =
+                new Thread(
+                        () -> {
+                            while (!Thread.currentThread().isInterrupted()) {
+                                wheel.advanceTo(
+                                        System.currentTimeMillis(),
+                                        entry -> {
+                                            int i = fired.getAndIncrement();
+                                            if (i < lateness.length) {
+                                                lateness[i] =
+                                                        System.currentTimeMillis()
+                                                                - entry.scheduleTime();
+                                            }
+                                        });
+                                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+                            }
+                        },
+                        "benchmark-ring");
+        ringThread.setDaemon(true);
+        ringThread.start();
+
+        // When - schedule loop, once per second
+        long[] nextTime = new long[jobCount];
+        for (int jobId = 0; jobId < jobCount; jobId++) {
+            nextTime[jobId] = start + 1_000 + jobId % intervalMs;
+        }
+        int expected = 0;
+        for (long now = System.currentTimeMillis();
+                now < horizon;
+                now = System.currentTimeMillis()) {
+            long windowEnd = Math.min(now + preReadMs, horizon);
+            for (int jobId = 0; jobId < jobCount; jobId++) {
+                long[] fireTimes =
+                        JobScheduleHelper.windowFireTimes(nextTime[jobId], intervalMs, windowEnd);
+                for (long fireTime : fireTimes) {
+                    wheel.add(jobId, fireTime);
+                }
+                expected += fireTimes.length;
+                if (fireTimes.length > 0) {
+                    nextTime[jobId] = fireTimes[fireTimes.length - 1] + intervalMs;
+                }
+            }
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1_000 - now % 1_000));
+        }
+        long drainUntil = System.currentTimeMillis() + 2_000;
+        while (wheel.size() > 0 && System.currentTimeMillis() < drainUntil) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(10));
+        }
+        ringThread.interrupt();
+
+        // Then
+        int count = Math.min(fired.get(), lateness.length);
+        long[] sorted = Arrays.copyOf(lateness, count);
+        Arrays.sort(sorted);
+        logger.info(
+                "FIX_RATE_MS jitter: jobs={}, intervalMs={}, fires={}, missed={}, p50={}ms, p99={}ms, p999={}ms, max={}ms",
+                jobCount,
+                intervalMs,
+                count,
+                expected - fired.get(),
+                TimingTestUtil.percentile(sorted, 0.50),
+                TimingTestUtil.percentile(sorted, 0.99),
+                TimingTestUtil.percentile(sorted, 0.999),
+                count > 0 ? sorted[count - 1] : 0);
+        assertThat(fired.get()).isEqualTo(expected);
+        assertThat(TimingTestUtil.percentile(sorted, 0.99)).isLessThan(intervalMs / 2);
+    }
+}
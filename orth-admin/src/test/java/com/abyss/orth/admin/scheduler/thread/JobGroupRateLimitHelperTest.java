@@ -0,0 +1,235 @@
+package com.abyss.orth.admin.scheduler.thread;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.abyss.orth.admin.model.JobGroup;
+
+/**
+ * Tests for {@link JobGroupRateLimitHelper}.
+ *
+ * <p>Token buckets run on a manual clock; {@code submit} runs with the system clock and a real
+ * dispatch thread.
+ */
+class JobGroupRateLimitHelperTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    private final AtomicLong now = new AtomicLong(SECOND);
+    private final JobGroupRateLimitHelper helper = new JobGroupRateLimitHelper();
+
+    @AfterEach
+    void tearDown() {
+        helper.stop();
+    }
+
+    private static JobGroup group(int id, int rate, int burst) {
+        JobGroup group = new JobGroup();
+        group.setId(id);
+        group.setAppname("group-" + id);
+        group.setTriggerRate(rate);
+        group.setTriggerBurst(burst);
+        return group;
+    }
+
+    @Test
+    void testReserve_fullBucket_shouldTakeBurstAtOnce() {
+        // Given
+        JobGroupRateLimitHelper.TokenBucket bucket = new JobGroupRateLimitHelper.TokenBucket();
+
+        // Then - 5 tokens at once, then 10/s
+        for (int i = 0; i < 5; i++) {
+            assertThat(bucket.reserve(10, 5, 100, now::get)).isZero();
+        }
+        assertThat(bucket.reserve(10, 5, 100, now::get)).isEqualTo(SECOND / 10);
+        assertThat(bucket.reserve(10, 5, 100, now::get)).isEqualTo(2 * SECOND / 10);
+    }
+
+    @Test
+    void testReserve_afterIdle_shouldRefillUpToBurst() {
+        // Given - an emptied bucket
+        JobGroupRateLimitHelper.TokenBucket bucket = new JobGroupRateLimitHelper.TokenBucket();
+        for (int i = 0; i < 5; i++) {
+            bucket.reserve(10, 5, 100, now::get);
+        }
+
+        // When - idle far longer than a refill
+        now.addAndGet(10 * SECOND);
+
+        // Then
+        for (int i = 0; i < 5; i++) {
+            assertThat(bucket.reserve(10, 5, 100, now::get)).isZero();
+        }
+        assertThat(bucket.reserve(10, 5, 100, now::get)).isPositive();
+    }
+
+    @Test
+    void testReserve_backlogFull_shouldRejectWithoutTaking() {
+        // Given - burst of one second of rate, 2 reservations allowed
+        JobGroupRateLimitHelper.TokenBucket bucket = new JobGroupRateLimitHelper.TokenBucket();
+        assertThat(bucket.reserve(1, 0, 2, now::get)).isZero();
+        assertThat(bucket.reserve(1, 0, 2, now::get)).isEqualTo(SECOND);
+        assertThat(bucket.reserve(1, 0, 2, now::get)).isEqualTo(2 * SECOND);
+
+        // Then
+        assertThat(bucket.reserve(1, 0, 2, now::get)).isEqualTo(-1);
+
+        // When - one reserved token accrues
+        now.addAndGet(SECOND);
+
+        // Then
+        assertThat(bucket.reserve(1, 0, 2, now::get)).isEqualTo(2 * SECOND);
+    }
+
+    @Test
+    void testUtilization_shouldTrackBurstInUse() {
+        // Given
+        JobGroupRateLimitHelper.TokenBucket bucket = new JobGroupRateLimitHelper.TokenBucket();
+        assertThat(bucket.utilization(now::get)).isZero();
+
+        // When
+        for (int i = 0; i < 5; i++) {
+            bucket.reserve(10, 10, 100, now::get);
+        }
+
+        // Then
+        assertThat(bucket.utilization(now::get)).isEqualTo(0.5);
+        for (int i = 0; i < 6; i++) {
+            bucket.reserve(10, 10, 100, now::get);
+        }
+        assertThat(bucket.utilization(now::get)).isEqualTo(1.0);
+        now.addAndGet(10 * SECOND);
+        assertThat(bucket.utilization(now::get)).isZero();
+    }
+
+    @Test
+    void testSubmit_overRate_shouldQueueInOrderAndPace() {
+        // Given - 20/s, burst 2
+        helper.init(100, () -> 1, System::nanoTime, Executors.newSingleThreadScheduledExecutor());
+        JobGroup group = group(1, 20, 2);
+        List<Integer> runOrder = new CopyOnWriteArrayList<>();
+
+        // When
+        long start = System.nanoTime();
+        CompletableFuture<?>[] results = new CompletableFuture<?>[6];
+        for (int i = 0; i < results.length; i++) {
+            int seq = i;
+            results[i] =
+                    helper.submit(
+                            group,
+                            admitted -> {
+                                if (admitted) {
+                                    runOrder.add(seq);
+                                }
+                                return CompletableFuture.completedFuture(null);
+                            });
+        }
+
+        // Then - 2 at once, 4 paced at 50ms
+        assertThat(runOrder).containsExactly(0, 1);
+        assertThat(helper.getQueuedCount()).isEqualTo(4);
+        assertThat(helper.getDelayedCount()).isEqualTo(4);
+        assertThat(helper.getUtilization(group.getId())).isEqualTo(1.0);
+        CompletableFuture.allOf(results).join();
+        assertThat(runOrder).containsExactly(0, 1, 2, 3, 4, 5);
+        assertThat(System.nanoTime() - start).isGreaterThanOrEqualTo(4 * 50_000_000L);
+        assertThat(helper.getQueuedCount()).isZero();
+    }
+
+    @Test
+    void testSubmit_severalAdminNodes_shouldTakeThisNodesShare() {
+        // Given - 40/s, burst 8, over 4 live admin nodes: 10/s, burst 2 on this one
+        helper.init(100, () -> 4, now::get, Executors.newSingleThreadScheduledExecutor());
+        JobGroup group = group(1, 40, 8);
+        List<Boolean> admissions = new CopyOnWriteArrayList<>();
+
+        // When
+        for (int i = 0; i < 3; i++) {
+            helper.submit(
+                    group,
+                    admitted -> {
+                        admissions.add(admitted);
+                        return CompletableFuture.completedFuture(null);
+                    });
+        }
+
+        // Then - 2 at once, the third waits for this node's next token
+        assertThat(admissions).containsExactly(true, true);
+        assertThat(helper.getQueuedCount()).isEqualTo(1);
+
+        // When - a tenth of a second later, one more token accrued
+        now.addAndGet(SECOND / 10);
+        helper.submit(
+                group,
+                admitted -> {
+                    admissions.add(admitted);
+                    return CompletableFuture.completedFuture(null);
+                });
+
+        // Then - it went to the waiting trigger, this one waits too
+        assertThat(helper.getQueuedCount()).isEqualTo(2);
+    }
+
+    @Test
+    void testSubmit_backlogFullOrStopped_shouldRunNotAdmitted() {
+        // Given - 1/s, 1 trigger allowed to wait
+        helper.init(1, () -> 1, System::nanoTime, Executors.newSingleThreadScheduledExecutor());
+        JobGroup group = group(1, 1, 1);
+        List<Boolean> admissions = new CopyOnWriteArrayList<>();
+
+        // When
+        for (int i = 0; i < 3; i++) {
+            helper.submit(
+                    group,
+                    admitted -> {
+                        admissions.add(admitted);
+                        return CompletableFuture.completedFuture(null);
+                    });
+        }
+
+        // Then - first sent, second waiting, third failed
+        assertThat(admissions).containsExactly(true, false);
+        assertThat(helper.getRejectedCount()).isEqualTo(1);
+
+        // When - stop with the second still waiting
+        helper.stop();
+
+        // Then
+        await().atMost(1, TimeUnit.SECONDS).until(() -> admissions.size() == 3);
+        assertThat(admissions).containsExactly(true, false, false);
+        assertThat(helper.getQueuedCount()).isZero();
+    }
+
+    @Test
+    void testSubmit_noRate_shouldRunInlineWithoutBucket() {
+        // Given
+        helper.init(1, () -> 1, System::nanoTime, Executors.newSingleThreadScheduledExecutor());
+        JobGroup group = group(1, 0, 0);
+        List<Boolean> admissions = new CopyOnWriteArrayList<>();
+
+        // When
+        for (int i = 0; i < 100; i++) {
+            helper.submit(
+                    group,
+                    admitted -> {
+                        admissions.add(admitted);
+                        return CompletableFuture.completedFuture(null);
+                    });
+        }
+
+        // Then
+        assertThat(admissions).hasSize(100).containsOnly(true);
+        assertThat(helper.getLimitedGroupCount()).isZero();
+        assertThat(helper.getUtilization()).isZero();
+    }
+}
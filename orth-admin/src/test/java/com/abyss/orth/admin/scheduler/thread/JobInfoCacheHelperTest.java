@@ -0,0 +1,113 @@
+package com.abyss.orth.admin.scheduler.thread;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.abyss.orth.admin.model.JobInfo;
+
+/**
+ * Unit tests for {@link JobInfoCacheHelper} load and invalidation.
+ *
+ * <p>The cache is initialized with an in-memory row loader, so no database is involved.
+ */
+class JobInfoCacheHelperTest {
+
+    private final Map<Integer, JobInfo> rows = new HashMap<>();
+    private final AtomicInteger reads = new AtomicInteger();
+    private JobInfoCacheHelper cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new JobInfoCacheHelper();
+        cache.init(
+                id -> {
+                    reads.incrementAndGet();
+                    return rows.get(id);
+                });
+    }
+
+    private static JobInfo job(int id, String glueSource) {
+        JobInfo jobInfo = new JobInfo();
+        jobInfo.setId(id);
+        jobInfo.setExecutorHandler("demoJobHandler");
+        jobInfo.setExecutorParam("param");
+        jobInfo.setGlueSource(glueSource);
+        return jobInfo;
+    }
+
+    @Test
+    void testLoad_repeated_shouldReadDatabaseOnce() {
+        // Given
+        rows.put(1, job(1, "v1"));
+
+        // When
+        JobInfo first = cache.load(1);
+        JobInfo second = cache.load(1);
+
+        // Then
+        assertThat(first.getGlueSource()).isEqualTo("v1");
+        assertThat(second.getGlueSource()).isEqualTo("v1");
+        assertThat(reads.get()).isEqualTo(1);
+        assertThat(cache.getMissCount()).isEqualTo(1);
+        assertThat(cache.getHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void testLoad_callerModifiesCopy_shouldNotChangeCachedRow() {
+        // Given
+        rows.put(1, job(1, "v1"));
+
+        // When - the trigger path overrides the parameter and inherits SuperTask code
+        JobInfo loaded = cache.load(1);
+        loaded.setExecutorParam("override");
+        loaded.setGlueSource("inherited");
+
+        // Then
+        JobInfo reloaded = cache.load(1);
+        assertThat(reloaded.getExecutorParam()).isEqualTo("param");
+        assertThat(reloaded.getGlueSource()).isEqualTo("v1");
+        assertThat(reloaded).isNotSameAs(loaded);
+    }
+
+    @Test
+    void testLoad_absentJob_shouldNotBeCached() {
+        // When
+        assertThat(cache.load(404)).isNull();
+        assertThat(cache.load(404)).isNull();
+
+        // Then
+        assertThat(reads.get()).isEqualTo(2);
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void testInvalidate_shouldReloadChangedRow() {
+        // Given
+        rows.put(1, job(1, "v1"));
+        cache.load(1);
+        rows.put(1, job(1, "v2"));
+
+        // When
+        cache.invalidate(1);
+
+        // Then
+        assertThat(cache.load(1).getGlueSource()).isEqualTo("v2");
+        assertThat(reads.get()).isEqualTo(2);
+        assertThat(cache.getInvalidationCount()).isEqualTo(1);
+    }
+
+    @Test
+    void testInvalidate_uncachedJob_shouldNotCount() {
+        // When
+        cache.invalidate(1);
+
+        // Then
+        assertThat(cache.getInvalidationCount()).isZero();
+    }
+}
@@ -0,0 +1,271 @@
+package com.abyss.orth.admin.scheduler.thread;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.abyss.orth.admin.model.JobLog;
+
+/** Tests for {@link JobLogWriteHelper}. */
+class JobLogWriteHelperTest {
+
+    private final JobLogWriteHelper logWriter = new JobLogWriteHelper();
+
+    @AfterEach
+    void tearDown() {
+        logWriter.stop();
+    }
+
+    /**
+     * Store stub assigning auto-increment IDs and recording statement sizes; can hold the writer
+     * threads until released, and fails rows of a given job.
+     */
+    private static class RecordingStore implements JobLogWriteHelper.LogStore {
+        final AtomicLong nextId = new AtomicLong(1);
+        final List<Integer> insertSizes = new CopyOnWriteArrayList<>();
+        final List<Integer> updateSizes = new CopyOnWriteArrayList<>();
+        final List<String> insertThreads = new CopyOnWriteArrayList<>();
+        volatile CountDownLatch hold = new CountDownLatch(0);
+        volatile int failingJobId = -1;
+
+        @Override
+        public void saveBatch(List<JobLog> jobLogs) {
+            await();
+            for (JobLog jobLog : jobLogs) {
+                if (jobLog.getJobId() == failingJobId) {
+                    throw new IllegalStateException("Data too long");
+                }
+            }
+            insertSizes.add(jobLogs.size());
+            insertThreads.add(Thread.currentThread().getName());
+            for (JobLog jobLog : jobLogs) {
+                jobLog.setId(nextId.getAndIncrement());
+            }
+        }
+
+        @Override
+        public void save(JobLog jobLog) {
+            saveBatch(List.of(jobLog));
+        }
+
+        @Override
+        public void updateTriggerInfoBatch(List<JobLog> jobLogs) {
+            updateSizes.add(jobLogs.size());
+        }
+
+        @Override
+        public void updateTriggerInfo(JobLog jobLog) {
+            updateTriggerInfoBatch(List.of(jobLog));
+        }
+
+        private void await() {
+            if (!Thread.currentThread().getName().startsWith("orth-admin-JobLogWriteHelper")) {
+                return; // caller-thread writes are never held
+            }
+            try {
+                hold.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private static JobLog log(int jobId) {
+        JobLog jobLog = new JobLog();
+        jobLog.setJobId(jobId);
+        return jobLog;
+    }
+
+    private List<CompletableFuture<JobLog>> save(int from, int to) {
+        List<CompletableFuture<JobLog>> futures = new ArrayList<>();
+        for (int jobId = from; jobId < to; jobId++) {
+            futures.add(logWriter.save(log(jobId)));
+        }
+        return futures;
+    }
+
+    @Test
+    void testSave_queuedRows_shouldBeInsertedInBatchesWithIdsInOrder() throws Exception {
+        // Given - the first statement is held so the rest of the rows queue up behind it
+        RecordingStore store = new RecordingStore();
+        store.hold = new CountDownLatch(1);
+        logWriter.start(10, 1000, store);
+
+        // When
+        List<CompletableFuture<JobLog>> futures = save(0, 25);
+        store.hold.countDown();
+
+        // Then
+        long previousId = 0;
+        for (int i = 0; i < futures.size(); i++) {
+            JobLog saved = futures.get(i).get(2, TimeUnit.SECONDS);
+            assertThat(saved.getJobId()).isEqualTo(i);
+            assertThat(saved.getId()).isGreaterThan(previousId);
+            previousId = saved.getId();
+        }
+        assertThat(store.insertSizes).allMatch(size -> size <= 10);
+        assertThat(store.insertSizes.stream().mapToInt(Integer::intValue).sum()).isEqualTo(25);
+        assertThat(logWriter.getInsertStage().getBatchCount()).isGreaterThanOrEqualTo(2);
+        assertThat(logWriter.getInsertStage().getRowCount()).isEqualTo(25);
+    }
+
+    @Test
+    void testSave_batchFails_shouldRetryRowByRowAndFailOnlyBadRow() throws Exception {
+        // Given
+        RecordingStore store = new RecordingStore();
+        store.hold = new CountDownLatch(1);
+        store.failingJobId = 3;
+        logWriter.start(10, 1000, store);
+
+        // When
+        List<CompletableFuture<JobLog>> futures = save(0, 6);
+        store.hold.countDown();
+
+        // Then
+        for (int i = 0; i < futures.size(); i++) {
+            CompletableFuture<JobLog> future = futures.get(i);
+            if (i == 3) {
+                assertThatThrownBy(() -> future.get(2, TimeUnit.SECONDS))
+                        .isInstanceOf(ExecutionException.class)
+                        .hasCauseInstanceOf(IllegalStateException.class);
+            } else {
+                assertThat(future.get(2, TimeUnit.SECONDS).getId()).isPositive();
+            }
+        }
+    }
+
+    @Test
+    void testSave_queueFull_shouldWriteOnCallerThread() throws Exception {
+        // Given - a held writer and a queue of one row
+        RecordingStore store = new RecordingStore();
+        store.hold = new CountDownLatch(1);
+        logWriter.start(10, 1, store);
+        CompletableFuture<JobLog> first = logWriter.save(log(0));
+        awaitQueueEmpty(); // the writer holds the first row
+
+        // When - one row fits in the queue, the next is written by the caller
+        CompletableFuture<JobLog> queued = logWriter.save(log(1));
+        CompletableFuture<JobLog> overflow = logWriter.save(log(2));
+        store.hold.countDown();
+
+        // Then
+        assertThat(overflow).isDone();
+        assertThat(store.insertThreads).contains(Thread.currentThread().getName());
+        assertThat(first.get(2, TimeUnit.SECONDS).getId()).isPositive();
+        assertThat(queued.get(2, TimeUnit.SECONDS).getId()).isPositive();
+        assertThat(logWriter.getInsertStage().getOverflowCount()).isEqualTo(1);
+    }
+
+    @Test
+    void testUpdateTriggerInfo_shouldBatchUpdates() throws Exception {
+        // Given
+        RecordingStore store = new RecordingStore();
+        logWriter.start(50, 1000, store);
+        List<JobLog> saved = new ArrayList<>();
+        for (CompletableFuture<JobLog> future : save(0, 20)) {
+            saved.add(future.get(2, TimeUnit.SECONDS));
+        }
+
+        // When
+        List<CompletableFuture<JobLog>> updates = new ArrayList<>();
+        for (JobLog jobLog : saved) {
+            jobLog.setTriggerCode(200);
+            updates.add(logWriter.updateTriggerInfo(jobLog));
+        }
+
+        // Then
+        CompletableFuture.allOf(updates.toArray(new CompletableFuture<?>[0]))
+                .get(2, TimeUnit.SECONDS);
+        assertThat(store.updateSizes.stream().mapToInt(Integer::intValue).sum()).isEqualTo(20);
+        assertThat(logWriter.getUpdateStage().getRowCount()).isEqualTo(20);
+    }
+
+    @Test
+    void testSaveAll_broadcastRows_shouldStayInOneStatement() throws Exception {
+        // Given - a held writer with single rows queued behind it
+        RecordingStore store = new RecordingStore();
+        store.hold = new CountDownLatch(1);
+        logWriter.start(10, 1000, store);
+        logWriter.save(log(0));
+        awaitQueueEmpty();
+        save(1, 5);
+
+        // When - 8 shard rows would not fit after the 4 single rows
+        List<JobLog> shards = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            shards.add(log(100));
+        }
+        List<CompletableFuture<JobLog>> futures = logWriter.saveAll(shards);
+        store.hold.countDown();
+
+        // Then - written as a statement of their own, with consecutive IDs
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0]))
+                .get(2, TimeUnit.SECONDS);
+        assertThat(store.insertSizes).containsExactly(1, 4, 8);
+        for (int i = 1; i < futures.size(); i++) {
+            assertThat(futures.get(i).get().getId())
+                    .isEqualTo(futures.get(i - 1).get().getId() + 1);
+        }
+        assertThat(logWriter.getInsertStage().getRowCount()).isEqualTo(13);
+    }
+
+    @Test
+    void testSaveAll_largerThanBatch_shouldSplitIntoBatches() throws Exception {
+        // Given
+        RecordingStore store = new RecordingStore();
+        logWriter.start(10, 1000, store);
+        List<JobLog> shards = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            shards.add(log(i));
+        }
+
+        // When
+        List<CompletableFuture<JobLog>> futures = logWriter.saveAll(shards);
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0]))
+                .get(2, TimeUnit.SECONDS);
+        List<CompletableFuture<JobLog>> updates = logWriter.updateTriggerInfoAll(shards);
+        CompletableFuture.allOf(updates.toArray(new CompletableFuture<?>[0]))
+                .get(2, TimeUnit.SECONDS);
+
+        // Then
+        assertThat(store.insertSizes).containsExactly(10, 10, 5);
+        assertThat(store.updateSizes).containsExactly(10, 10, 5);
+        assertThat(logWriter.saveAll(List.of())).isEmpty();
+    }
+
+    @Test
+    void testStop_shouldWriteQueuedRows() throws Exception {
+        // Given
+        RecordingStore store = new RecordingStore();
+        store.hold = new CountDownLatch(1);
+        logWriter.start(10, 1000, store);
+        List<CompletableFuture<JobLog>> futures = save(0, 5);
+
+        // When
+        store.hold.countDown();
+        logWriter.stop();
+
+        // Then
+        assertThat(futures).allMatch(CompletableFuture::isDone);
+        assertThat(logWriter.getInsertStage().getRowCount()).isEqualTo(5);
+    }
+
+    private void awaitQueueEmpty() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 2000;
+        while (logWriter.getInsertStage().getQueueSize() > 0
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.abyss.orth.admin.scheduler.thread;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link JobMisfireBackfillHelper} pacing.
+ *
+ * <p>Dispatch is driven with explicit monotonic times and a recording trigger, so no dispatcher
+ * thread or trigger pool is involved.
+ */
+class JobMisfireBackfillHelperTest {
+
+    /** Recorded replay. */
+    private record Replay(int jobId, long scheduleTime, Runnable onComplete) {}
+
+    private final List<Replay> replays = new ArrayList<>();
+
+    private void record(int jobId, long scheduleTime, Runnable onComplete) {
+        replays.add(new Replay(jobId, scheduleTime, onComplete));
+    }
+
+    @Test
+    void testDispatch_window_shouldReleaseNextOnlyAfterCompletion() {
+        // Given - window 1, generous rate
+        JobMisfireBackfillHelper helper = new JobMisfireBackfillHelper();
+        helper.init(1, 1000, 0);
+        helper.enqueue(1, new long[] {1_000, 2_000, 3_000});
+
+        // When / Then - one replay in flight at a time, in schedule order
+        assertThat(helper.dispatch(0, this::record)).isEqualTo(1);
+        assertThat(helper.dispatch(0, this::record)).isZero();
+        replays.get(0).onComplete().run();
+        assertThat(helper.dispatch(0, this::record)).isEqualTo(1);
+        assertThat(replays).extracting(Replay::scheduleTime).containsExactly(1_000L, 2_000L);
+        assertThat(helper.getPendingCount()).isEqualTo(1);
+        assertThat(helper.getPendingCount(1)).isEqualTo(1);
+        assertThat(helper.getPendingCount(2)).isZero();
+    }
+
+    @Test
+    void testDispatch_rate_shouldRefillTokensOverTime() {
+        // Given - 10 replays per second, large window
+        JobMisfireBackfillHelper helper = new JobMisfireBackfillHelper();
+        helper.init(100, 10, 0);
+        long[] scheduleTimes = new long[50];
+        for (int i = 0; i < scheduleTimes.length; i++) {
+            scheduleTimes[i] = (i + 1) * 1_000L;
+        }
+        helper.enqueue(1, scheduleTimes);
+
+        // When / Then - burst of one second, then 10 per second
+        assertThat(helper.dispatch(0, this::record)).isEqualTo(10);
+        assertThat(helper.dispatch(TimeUnit.MILLISECONDS.toNanos(500), this::record)).isEqualTo(5);
+        assertThat(helper.dispatch(TimeUnit.MILLISECONDS.toNanos(500), this::record)).isZero();
+        assertThat(helper.getPendingCount()).isEqualTo(35);
+    }
+
+    @Test
+    void testDispatch_multipleJobs_shouldServeRoundRobin() {
+        // Given
+        JobMisfireBackfillHelper helper = new JobMisfireBackfillHelper();
+        helper.init(100, 4, 0);
+        helper.enqueue(1, new long[] {1_000, 2_000, 3_000, 4_000});
+        helper.enqueue(2, new long[] {1_000, 2_000, 3_000, 4_000});
+
+        // When
+        helper.dispatch(0, this::record);
+
+        // Then - tokens shared evenly across jobs
+        assertThat(replays).extracting(Replay::jobId).containsExactlyInAnyOrder(1, 1, 2, 2);
+    }
+
+    @Test
+    void testEnqueue_repeatedDetection_shouldNotDuplicate() {
+        // Given
+        JobMisfireBackfillHelper helper = new JobMisfireBackfillHelper();
+        helper.init(1, 10, 0);
+
+        // When - overlapping windows for the same outage
+        helper.enqueue(1, new long[] {1_000, 2_000, 3_000});
+        helper.enqueue(1, new long[] {2_000, 3_000, 4_000});
+
+        // Then
+        assertThat(helper.getPendingCount()).isEqualTo(4);
+    }
+}
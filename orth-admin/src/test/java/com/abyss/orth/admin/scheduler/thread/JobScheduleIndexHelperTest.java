@@ -0,0 +1,111 @@
+package com.abyss.orth.admin.scheduler.thread;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.abyss.orth.admin.constant.TriggerStatus;
+import com.abyss.orth.admin.model.JobInfo;
+
+/**
+ * Unit tests for {@link JobScheduleIndexHelper} index operations.
+ *
+ * <p>The index is initialized without the bootstrap, so no database is involved.
+ */
+class JobScheduleIndexHelperTest {
+
+    private static final long NOW = 1_700_000_000_000L;
+
+    private JobScheduleIndexHelper index;
+
+    @BeforeEach
+    void setUp() {
+        index = new JobScheduleIndexHelper();
+        index.init(2);
+    }
+
+    private static JobInfo job(int id, int triggerStatus, long triggerNextTime) {
+        JobInfo jobInfo = new JobInfo();
+        jobInfo.setId(id);
+        jobInfo.setTriggerStatus(triggerStatus);
+        jobInfo.setTriggerNextTime(triggerNextTime);
+        return jobInfo;
+    }
+
+    @Test
+    void testFindDue_shouldReturnJobsInNextTimeOrderWithinPartition() {
+        // Given - even ids in partition 0, odd ids in partition 1
+        index.upsert(4, NOW + 3_000);
+        index.upsert(2, NOW + 1_000);
+        index.upsert(6, NOW + 9_000);
+        index.upsert(3, NOW + 500);
+
+        // When
+        var due = index.findDue(0, NOW + 5_000, 100);
+
+        // Then
+        assertThat(due).containsExactly(2, 4);
+        assertThat(index.findDue(1, NOW + 5_000, 100)).containsExactly(3);
+    }
+
+    @Test
+    void testFindDue_limit_shouldReturnEarliestJobsOnly() {
+        // Given
+        index.upsert(2, NOW + 300);
+        index.upsert(4, NOW + 100);
+        index.upsert(6, NOW + 200);
+
+        // When / Then
+        assertThat(index.findDue(0, NOW + 1_000, 2)).containsExactly(4, 6);
+    }
+
+    @Test
+    void testUpsert_existingJob_shouldMoveEntry() {
+        // Given
+        index.upsert(2, NOW + 1_000);
+
+        // When
+        index.upsert(2, NOW + 60_000);
+
+        // Then
+        assertThat(index.findDue(0, NOW + 5_000, 100)).isEmpty();
+        assertThat(index.findDue(0, NOW + 60_000, 100)).containsExactly(2);
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    void testRefresh_stoppedJob_shouldRemoveEntry() {
+        // Given
+        index.refresh(job(2, TriggerStatus.RUNNING.getValue(), NOW + 1_000));
+        index.refresh(job(3, TriggerStatus.RUNNING.getValue(), NOW + 1_000));
+
+        // When
+        index.refresh(job(2, TriggerStatus.STOPPED.getValue(), 0));
+        index.remove(3);
+
+        // Then
+        assertThat(index.findDue(0, NOW + 5_000, 100)).isEmpty();
+        assertThat(index.findDue(1, NOW + 5_000, 100)).isEmpty();
+        assertThat(index.size()).isZero();
+    }
+
+    @Test
+    void testRefresh_afterScheduleWriteBack_shouldKeepJobForNextFire() {
+        // Given - a running job due in the first window
+        long interval = 10_000;
+        index.refresh(job(2, TriggerStatus.RUNNING.getValue(), NOW + 1_000));
+
+        for (int fire = 1; fire <= 2; fire++) {
+            long windowEnd = NOW + fire * interval;
+
+            // When - due, fired, and written back with the "status unchanged" marker
+            assertThat(index.findDue(0, windowEnd, 100)).as("fire %d", fire).containsExactly(2);
+            index.refresh(job(2, -1, NOW + 1_000 + fire * interval));
+
+            // Then - indexed at its next trigger time, not due again in the same window
+            assertThat(index.findDue(0, windowEnd, 100)).isEmpty();
+            assertThat(index.size()).isEqualTo(1);
+        }
+    }
+}
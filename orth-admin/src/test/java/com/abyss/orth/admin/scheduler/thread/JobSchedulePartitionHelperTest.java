@@ -0,0 +1,64 @@
+package com.abyss.orth.admin.scheduler.thread;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link JobSchedulePartitionHelper} partition ownership.
+ *
+ * <p>Ownership must cover every partition exactly once across the live admin nodes, so that each
+ * partition is scanned by exactly one owner.
+ */
+class JobSchedulePartitionHelperTest {
+
+    @Test
+    void testComputeOwnedPartitions_singleNode_shouldOwnAllPartitions() {
+        // When
+        int[] owned = JobSchedulePartitionHelper.computeOwnedPartitions(8, 0, 1);
+
+        // Then
+        assertThat(owned).containsExactly(0, 1, 2, 3, 4, 5, 6, 7);
+    }
+
+    @Test
+    void testComputeOwnedPartitions_multipleNodes_shouldCoverEachPartitionOnce() {
+        // Given
+        int partitionCount = 8;
+        int nodeCount = 3;
+
+        // When
+        int[] all =
+                IntStream.range(0, nodeCount)
+                        .flatMap(
+                                node ->
+                                        Arrays.stream(
+                                                JobSchedulePartitionHelper.computeOwnedPartitions(
+                                                        partitionCount, node, nodeCount)))
+                        .sorted()
+                        .toArray();
+
+        // Then
+        assertThat(all).containsExactly(0, 1, 2, 3, 4, 5, 6, 7);
+        assertThat(JobSchedulePartitionHelper.computeOwnedPartitions(partitionCount, 1, nodeCount))
+                .containsExactly(1, 4, 7);
+    }
+
+    @Test
+    void testComputeOwnedPartitions_moreNodesThanPartitions_shouldLeaveSomeNodesIdle() {
+        // When
+        int[] owned = JobSchedulePartitionHelper.computeOwnedPartitions(2, 3, 4);
+
+        // Then
+        assertThat(owned).isEmpty();
+    }
+
+    @Test
+    void testLeaseName_shouldBeOneRowPerPartition() {
+        assertThat(JobSchedulePartitionHelper.leaseName(0)).isEqualTo("schedule_0");
+        assertThat(JobSchedulePartitionHelper.leaseName(2)).isEqualTo("schedule_2");
+    }
+}
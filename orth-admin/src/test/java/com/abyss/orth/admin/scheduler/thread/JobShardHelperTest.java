@@ -0,0 +1,346 @@
+package com.abyss.orth.admin.scheduler.thread;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.abyss.orth.admin.model.JobShard;
+import com.abyss.orth.admin.model.JobShardProgress;
+import com.abyss.orth.admin.scheduler.trigger.TriggerDiagnostics;
+import com.abyss.orth.core.context.OrthJobContext;
+import com.abyss.orth.core.openapi.model.ShardAckRequest;
+import com.abyss.orth.core.openapi.model.ShardLease;
+import com.abyss.orth.core.openapi.model.ShardLeaseRequest;
+import com.xxl.tool.response.Response;
+
+/**
+ * Tests for {@link JobShardHelper}.
+ *
+ * <p>Shards live in an in-memory store following the statements of {@code JobShardMapper.xml}, on a
+ * manual clock; the monitor is ticked by hand.
+ */
+class JobShardHelperTest {
+
+    private static final long LOG_ID = 42;
+    private static final long LEASE_MS = 10_000;
+
+    private final AtomicLong now = new AtomicLong(1_000_000);
+    private final InMemoryShardStore store = new InMemoryShardStore();
+    private final JobShardHelper helper = new JobShardHelper();
+
+    @BeforeEach
+    void setUp() {
+        helper.init(LEASE_MS, store, null);
+    }
+
+    @AfterEach
+    void tearDown() {
+        helper.stop();
+    }
+
+    private ShardLease lease(String worker) {
+        Response<ShardLease> response = helper.lease(new ShardLeaseRequest(LOG_ID, worker));
+        assertThat(response.isSuccess()).isTrue();
+        return response.getData();
+    }
+
+    private Response<String> ack(ShardLease lease, int handleCode) {
+        return helper.ack(
+                new ShardAckRequest(
+                        LOG_ID, lease.getShardIndex(), lease.getLeaseToken(), handleCode, null));
+    }
+
+    @Test
+    void testLease_shouldHandOutShardsInOrderUntilNonePending() {
+        // Given
+        helper.createShards(LOG_ID, 3, 1);
+
+        // When
+        ShardLease first = lease("http://a/");
+        ShardLease second = lease("http://b/");
+        ShardLease third = lease("http://a/");
+        ShardLease none = lease("http://b/");
+
+        // Then - leased shards stay open until acked
+        assertThat(first.getShardIndex()).isZero();
+        assertThat(second.getShardIndex()).isEqualTo(1);
+        assertThat(third.getShardIndex()).isEqualTo(2);
+        assertThat(first.getShardTotal()).isEqualTo(3);
+        assertThat(first.getLeaseToken()).isNotEqualTo(second.getLeaseToken());
+        assertThat(none.getShardIndex()).isEqualTo(-1);
+        assertThat(none.getOpenShards()).isEqualTo(3);
+        assertThat(helper.getLeaseCount()).isEqualTo(3);
+    }
+
+    @Test
+    void testAck_allDone_shouldCompleteParentOnceAndDeleteShards() {
+        // Given
+        helper.createShards(LOG_ID, 2, 1);
+        ShardLease first = lease("http://a/");
+        ShardLease second = lease("http://b/");
+
+        // When
+        assertThat(ack(first, OrthJobContext.HANDLE_CODE_SUCCESS).isSuccess()).isTrue();
+        assertThat(store.completions).isEmpty();
+        assertThat(ack(second, OrthJobContext.HANDLE_CODE_SUCCESS).isSuccess()).isTrue();
+
+        // Then
+        assertThat(store.completions).hasSize(1);
+        assertThat(store.completions.get(0).handleCode)
+                .isEqualTo(OrthJobContext.HANDLE_CODE_SUCCESS);
+        assertThat(store.completions.get(0).handleMsg)
+                .isEqualTo(TriggerDiagnostics.shardSummary(2, 2, 0, List.of()));
+        assertThat(store.shards).isEmpty();
+        assertThat(helper.progress(LOG_ID).getTotal()).isZero();
+    }
+
+    @Test
+    void testAck_failedShard_shouldBePendingAgainUntilAttemptsRunOut() {
+        // Given - 2 attempts per shard
+        helper.createShards(LOG_ID, 1, 2);
+
+        // When - first attempt fails
+        ShardLease first = lease("http://a/");
+        ack(first, OrthJobContext.HANDLE_CODE_FAIL);
+
+        // Then - the same shard is leased again, by any executor
+        ShardLease retry = lease("http://b/");
+        assertThat(retry.getShardIndex()).isZero();
+        assertThat(store.completions).isEmpty();
+
+        // When - last attempt fails
+        ack(retry, OrthJobContext.HANDLE_CODE_FAIL);
+
+        // Then
+        assertThat(store.completions).hasSize(1);
+        assertThat(store.completions.get(0).handleCode).isEqualTo(OrthJobContext.HANDLE_CODE_FAIL);
+        assertThat(store.completions.get(0).handleMsg)
+                .isEqualTo(TriggerDiagnostics.shardSummary(1, 0, 1, List.of(0)));
+        assertThat(helper.getFailedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void testReclaim_expiredLease_shouldRejectLateAckAndReleaseShard() {
+        // Given
+        helper.createShards(LOG_ID, 1, 2);
+        ShardLease lost = lease("http://a/");
+
+        // When - the lease expires before the ack
+        now.addAndGet(LEASE_MS + 1);
+        helper.monitorTick();
+
+        // Then
+        assertThat(helper.getReclaimCount()).isEqualTo(1);
+        assertThat(ack(lost, OrthJobContext.HANDLE_CODE_SUCCESS).isSuccess()).isFalse();
+        ShardLease retry = lease("http://b/");
+        assertThat(retry.getShardIndex()).isZero();
+        assertThat(ack(retry, OrthJobContext.HANDLE_CODE_SUCCESS).isSuccess()).isTrue();
+        assertThat(store.completions).hasSize(1);
+        assertThat(store.completions.get(0).handleCode)
+                .isEqualTo(OrthJobContext.HANDLE_CODE_SUCCESS);
+    }
+
+    @Test
+    void testReclaim_lastAttemptExpired_shouldFailRun() {
+        // Given
+        helper.createShards(LOG_ID, 1, 1);
+        lease("http://a/");
+
+        // When
+        now.addAndGet(LEASE_MS + 1);
+        helper.reclaimExpired();
+
+        // Then
+        assertThat(store.completions).hasSize(1);
+        assertThat(store.completions.get(0).handleCode).isEqualTo(OrthJobContext.HANDLE_CODE_FAIL);
+    }
+
+    @Test
+    void testFailStalled_noExecutorLeasing_shouldFailPendingShards() {
+        // Given - one shard done, the rest never leased
+        helper.createShards(LOG_ID, 3, 1);
+        ack(lease("http://a/"), OrthJobContext.HANDLE_CODE_SUCCESS);
+
+        // When - idle shorter than a lease period
+        now.addAndGet(LEASE_MS / 2);
+        helper.failStalled();
+
+        // Then - a recent ack keeps the run alive
+        assertThat(store.completions).isEmpty();
+
+        // When - idle longer than a lease period
+        now.addAndGet(LEASE_MS);
+        helper.failStalled();
+
+        // Then
+        assertThat(store.completions).hasSize(1);
+        assertThat(store.completions.get(0).handleMsg)
+                .isEqualTo(TriggerDiagnostics.shardSummary(3, 1, 2, List.of(1, 2)));
+    }
+
+    @Test
+    void testCreateShards_shouldSaveInBatches() {
+        // When
+        helper.createShards(LOG_ID, 2500, 1);
+
+        // Then
+        assertThat(store.saveCalls).isEqualTo(3);
+        assertThat(helper.progress(LOG_ID).getPending()).isEqualTo(2500);
+    }
+
+    /** Shards and parent log results, following the statements of the shard mapper. */
+    private class InMemoryShardStore implements JobShardHelper.ShardStore {
+        final Map<Integer, JobShard> shards = new TreeMap<>();
+        final List<Completion> completions = new ArrayList<>();
+        int saveCalls;
+
+        @Override
+        public void save(long jobLogId, List<Integer> shardIndexes, int maxAttempts) {
+            saveCalls++;
+            for (int shardIndex : shardIndexes) {
+                JobShard shard = new JobShard();
+                shard.setJobLogId(jobLogId);
+                shard.setShardIndex(shardIndex);
+                shard.setMaxAttempts(maxAttempts);
+                shard.setUpdateTime(now.get());
+                shards.put(shardIndex, shard);
+            }
+        }
+
+        @Override
+        public JobShard lease(long jobLogId, long leaseToken, String leaseOwner, long leaseMs) {
+            for (JobShard shard : shards.values()) {
+                if (shard.getStatus() == JobShard.STATUS_PENDING) {
+                    shard.setStatus(JobShard.STATUS_LEASED);
+                    shard.setAttempt(shard.getAttempt() + 1);
+                    shard.setLeaseToken(leaseToken);
+                    shard.setLeaseOwner(leaseOwner);
+                    shard.setLeaseExpire(now.get() + leaseMs);
+                    shard.setUpdateTime(now.get());
+                    return shard;
+                }
+            }
+            return null;
+        }
+
+        @Override
+        public boolean ack(
+                long jobLogId, int shardIndex, long leaseToken, boolean success, String handleMsg) {
+            JobShard shard = shards.get(shardIndex);
+            if (shard == null
+                    || shard.getLeaseToken() != leaseToken
+                    || shard.getStatus() != JobShard.STATUS_LEASED) {
+                return false;
+            }
+            shard.setStatus(success ? JobShard.STATUS_DONE : release(shard));
+            shard.setUpdateTime(now.get());
+            return true;
+        }
+
+        @Override
+        public JobShardProgress progress(long jobLogId) {
+            JobShardProgress progress = new JobShardProgress();
+            for (JobShard shard : shards.values()) {
+                progress.setTotal(progress.getTotal() + 1);
+                switch (shard.getStatus()) {
+                    case JobShard.STATUS_PENDING -> progress.setPending(progress.getPending() + 1);
+                    case JobShard.STATUS_LEASED -> progress.setLeased(progress.getLeased() + 1);
+                    case JobShard.STATUS_DONE -> progress.setDone(progress.getDone() + 1);
+                    default -> progress.setFailed(progress.getFailed() + 1);
+                }
+            }
+            return progress;
+        }
+
+        @Override
+        public List<Integer> findFailed(long jobLogId, int limit) {
+            return shards.values().stream()
+                    .filter(shard -> shard.getStatus() == JobShard.STATUS_FAILED)
+                    .map(JobShard::getShardIndex)
+                    .limit(limit)
+                    .toList();
+        }
+
+        @Override
+        public List<JobShard> findExpired(int limit) {
+            List<JobShard> expired = new ArrayList<>();
+            for (JobShard shard : shards.values()) {
+                if (shard.getStatus() == JobShard.STATUS_LEASED
+                        && shard.getLeaseExpire() < now.get()) {
+                    JobShard copy = new JobShard();
+                    copy.setJobLogId(shard.getJobLogId());
+                    copy.setShardIndex(shard.getShardIndex());
+                    copy.setLeaseToken(shard.getLeaseToken());
+                    expired.add(copy);
+                }
+            }
+            return expired;
+        }
+
+        @Override
+        public boolean reclaim(JobShard expired, String handleMsg) {
+            JobShard shard = shards.get(expired.getShardIndex());
+            if (shard == null
+                    || shard.getLeaseToken() != expired.getLeaseToken()
+                    || shard.getStatus() != JobShard.STATUS_LEASED) {
+                return false;
+            }
+            shard.setStatus(release(shard));
+            shard.setHandleMsg(handleMsg);
+            shard.setUpdateTime(now.get());
+            return true;
+        }
+
+        @Override
+        public List<Long> findStalled(long idleMs, int limit) {
+            JobShardProgress progress = progress(LOG_ID);
+            long lastUpdate =
+                    shards.values().stream().mapToLong(JobShard::getUpdateTime).max().orElse(0);
+            return progress.getPending() > 0
+                            && progress.getLeased() == 0
+                            && lastUpdate < now.get() - idleMs
+                    ? List.of(LOG_ID)
+                    : List.of();
+        }
+
+        @Override
+        public void failPending(long jobLogId, String handleMsg) {
+            for (JobShard shard : shards.values()) {
+                if (shard.getStatus() == JobShard.STATUS_PENDING) {
+                    shard.setStatus(JobShard.STATUS_FAILED);
+                    shard.setHandleMsg(handleMsg);
+                }
+            }
+        }
+
+        @Override
+        public void delete(long jobLogId) {
+            shards.clear();
+        }
+
+        @Override
+        public boolean complete(long jobLogId, int handleCode, String handleMsg) {
+            if (!completions.isEmpty()) {
+                return false;
+            }
+            completions.add(new Completion(handleCode, handleMsg));
+            return true;
+        }
+
+        private int release(JobShard shard) {
+            return shard.getAttempt() < shard.getMaxAttempts()
+                    ? JobShard.STATUS_PENDING
+                    : JobShard.STATUS_FAILED;
+        }
+    }
+
+    private record Completion(int handleCode, String handleMsg) {}
+}
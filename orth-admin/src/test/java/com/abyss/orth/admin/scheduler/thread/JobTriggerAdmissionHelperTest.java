@@ -0,0 +1,347 @@
+package com.abyss.orth.admin.scheduler.thread;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import com.abyss.orth.admin.scheduler.clock.SystemSchedulerClock;
+import com.abyss.orth.admin.scheduler.thread.JobTriggerAdmissionHelper.Deferral;
+import com.abyss.orth.admin.scheduler.thread.JobTriggerPoolHelper.PendingTrigger;
+
+/**
+ * Tests for {@link JobTriggerAdmissionHelper}.
+ *
+ * <p>The helper runs on a manual clock, with a resubmitter that accepts or rejects on demand and an
+ * in-memory deferred trigger store; retry passes are run explicitly. Triggers with a schedule time
+ * are durable. Trigger types are left null, as {@code TriggerTypeEnum} needs the i18n bundle of a
+ * running admin.
+ */
+class JobTriggerAdmissionHelperTest {
+
+    private static final int MAX_DEFERS = 3;
+
+    private final AtomicLong now = new AtomicLong(1_000_000);
+    private final List<PendingTrigger> submitted = new CopyOnWriteArrayList<>();
+    private final InMemoryStore store = new InMemoryStore();
+    private volatile boolean poolsAccept;
+    private volatile double saturation;
+    private final JobTriggerAdmissionHelper admission = new JobTriggerAdmissionHelper();
+
+    /** Store stub keeping rows in a map; a row removed by "another node" cannot be claimed. */
+    private class InMemoryStore implements JobTriggerAdmissionHelper.DeferStore {
+        final AtomicLong nextId = new AtomicLong(1);
+        final Map<Long, PendingTrigger> rows = new ConcurrentHashMap<>();
+        final Map<Long, Long> retryTimes = new ConcurrentHashMap<>();
+
+        @Override
+        public long save(int jobId, long scheduleTime, int deferCount, long retryTime) {
+            long id = nextId.getAndIncrement();
+            rows.put(id, trigger(jobId, scheduleTime));
+            retryTimes.put(id, retryTime);
+            return id;
+        }
+
+        @Override
+        public boolean claim(long id) {
+            retryTimes.remove(id);
+            return rows.remove(id) != null;
+        }
+
+        @Override
+        public List<Deferral> loadOverdue(long retryTimeBefore, int limit) {
+            List<Deferral> overdue = new ArrayList<>();
+            retryTimes.forEach(
+                    (id, retryTime) -> {
+                        if (retryTime < retryTimeBefore && overdue.size() < limit) {
+                            overdue.add(new Deferral(rows.get(id), 1, 0, true, id));
+                        }
+                    });
+            return overdue;
+        }
+    }
+
+    private void init(int queueCapacity) {
+        admission.init(
+                queueCapacity,
+                MAX_DEFERS,
+                now::get,
+                () -> saturation,
+                trigger -> trigger.scheduleTime() != null,
+                trigger -> {
+                    if (!poolsAccept) {
+                        return false;
+                    }
+                    submitted.add(trigger);
+                    return true;
+                },
+                store);
+    }
+
+    private static PendingTrigger trigger(int jobId, Long scheduleTime) {
+        return trigger(jobId, scheduleTime, null);
+    }
+
+    private static PendingTrigger trigger(int jobId, Long scheduleTime, Runnable onComplete) {
+        return new PendingTrigger(jobId, null, -1, null, null, null, scheduleTime, onComplete);
+    }
+
+    @Test
+    void testDefer_poolsAcceptAfterBackoff_shouldResubmitWithoutCompleting() {
+        // Given
+        init(100);
+        AtomicInteger completions = new AtomicInteger();
+        admission.defer(trigger(1, null, completions::incrementAndGet));
+
+        // When - not due yet
+        poolsAccept = true;
+        now.addAndGet(JobTriggerAdmissionHelper.BASE_BACKOFF_MS - 1);
+        admission.dispatch();
+
+        // Then
+        assertThat(submitted).isEmpty();
+        now.addAndGet(1);
+        admission.dispatch();
+        assertThat(submitted).extracting(PendingTrigger::jobId).containsExactly(1);
+        assertThat(completions.get()).isZero(); // completed by the pool once run
+        assertThat(admission.getDeferCount()).isEqualTo(1);
+        assertThat(admission.getRetryCount()).isEqualTo(1);
+        assertThat(admission.getDeferredCount()).isZero();
+    }
+
+    @Test
+    void testDispatch_poolsStillSaturated_shouldBackOffAndDropAfterMaxDefers() {
+        // Given
+        init(100);
+        AtomicInteger completions = new AtomicInteger();
+        admission.defer(trigger(1, null, completions::incrementAndGet));
+
+        // When - every retry is rejected
+        for (int i = 0; i < MAX_DEFERS; i++) {
+            now.addAndGet(JobTriggerAdmissionHelper.MAX_BACKOFF_MS);
+            admission.dispatch();
+        }
+
+        // Then
+        assertThat(admission.getDeferCount()).isEqualTo(MAX_DEFERS);
+        assertThat(admission.getDropCount()).isEqualTo(1);
+        assertThat(completions.get()).isEqualTo(1);
+        assertThat(admission.getDeferredCount()).isZero();
+    }
+
+    @Test
+    void testBackoff_shouldDoubleUpToMax() {
+        assertThat(JobTriggerAdmissionHelper.backoffMs(0)).isEqualTo(100);
+        assertThat(JobTriggerAdmissionHelper.backoffMs(1)).isEqualTo(200);
+        assertThat(JobTriggerAdmissionHelper.backoffMs(3)).isEqualTo(800);
+        assertThat(JobTriggerAdmissionHelper.backoffMs(30))
+                .isEqualTo(JobTriggerAdmissionHelper.MAX_BACKOFF_MS);
+    }
+
+    @Test
+    void testDefer_queueFull_shouldDropAndComplete() {
+        // Given
+        init(2);
+        AtomicInteger completions = new AtomicInteger();
+
+        // When
+        for (int jobId = 0; jobId < 3; jobId++) {
+            admission.defer(trigger(jobId, null, completions::incrementAndGet));
+        }
+
+        // Then
+        assertThat(admission.getDeferredCount()).isEqualTo(2);
+        assertThat(admission.getDropCount()).isEqualTo(1);
+        assertThat(completions.get()).isEqualTo(1);
+    }
+
+    @Test
+    void testDispatch_durableTrigger_shouldPersistThenClaimBeforeRetry() {
+        // Given
+        init(100);
+        admission.defer(trigger(1, 5_000L));
+        admission.dispatch();
+        assertThat(store.rows).hasSize(1);
+
+        // When
+        poolsAccept = true;
+        now.addAndGet(JobTriggerAdmissionHelper.BASE_BACKOFF_MS);
+        admission.dispatch();
+
+        // Then
+        assertThat(store.rows).isEmpty();
+        assertThat(submitted).extracting(PendingTrigger::scheduleTime).containsExactly(5_000L);
+    }
+
+    @Test
+    void testDispatch_rowClaimedByAnotherNode_shouldNotResubmit() {
+        // Given
+        init(100);
+        admission.defer(trigger(1, 5_000L));
+        admission.dispatch();
+
+        // When - another node recovered and claimed the row
+        store.rows.clear();
+        poolsAccept = true;
+        now.addAndGet(JobTriggerAdmissionHelper.BASE_BACKOFF_MS);
+        admission.dispatch();
+
+        // Then
+        assertThat(submitted).isEmpty();
+        assertThat(admission.getDeferredCount()).isZero();
+    }
+
+    @Test
+    void testDispatch_overdueRowsOfStoppedNode_shouldBeRecoveredOnce() {
+        // Given - a row left by a stopped node, plus one held here
+        init(100);
+        store.save(7, 1_000L, 1, now.get() - JobTriggerAdmissionHelper.OVERDUE_GRACE_MS - 1);
+        admission.defer(trigger(8, 2_000L));
+        admission.dispatch(); // persists job 8, recovers job 7
+
+        // When - job 8's row becomes overdue while held behind saturated pools
+        now.addAndGet(JobTriggerAdmissionHelper.OVERDUE_GRACE_MS * 2);
+        admission.dispatch();
+        poolsAccept = true;
+        now.addAndGet(JobTriggerAdmissionHelper.MAX_BACKOFF_MS);
+        admission.dispatch();
+
+        // Then - each job fires once, the rows are gone
+        assertThat(submitted).extracting(PendingTrigger::jobId).containsExactlyInAnyOrder(7, 8);
+        assertThat(store.rows).isEmpty();
+        assertThat(admission.getDeferredCount()).isZero();
+    }
+
+    @Test
+    void testAdmitPreReadCount_shouldScaleWithPressure() {
+        // Given
+        init(100);
+
+        // Then
+        saturation = 0;
+        assertThat(admission.admitPreReadCount(1000, 10)).isEqualTo(1000);
+        saturation = 0.5;
+        assertThat(admission.admitPreReadCount(1000, 10)).isEqualTo(500);
+        saturation = 0;
+        admission.defer(trigger(1, null));
+        assertThat(admission.admitPreReadCount(1000, 10)).isEqualTo(990);
+        for (int i = 2; i <= 100; i++) {
+            admission.defer(trigger(i, null));
+        }
+        assertThat(admission.admitPreReadCount(1000, 10)).isEqualTo(10);
+        assertThat(admission.getThrottledScanCount()).isEqualTo(3);
+    }
+
+    @Test
+    void testAdmitPreReadCount_throttledScans_shouldHoldBackWithoutDroppingFires() {
+        // Given - 300 jobs firing every 10 s; a scan of the schedule loop every second reads the
+        // admitted count of the earliest due jobs, as JobScheduleHelper does
+        init(100);
+        int preReadCount = 100;
+        long intervalMs = 10_000;
+        long[] nextFire = new long[300];
+        for (int i = 0; i < nextFire.length; i++) {
+            nextFire[i] = now.get() + (i % 10) * 1000;
+        }
+        long windowEnd = now.get() + 179_000 + JobScheduleHelper.PRE_READ_MS;
+        long expected = 0;
+        for (long fire : nextFire) {
+            expected += (windowEnd - fire) / intervalMs + 1;
+        }
+        int fired = 0;
+        int missed = 0;
+        long maxLateMs = 0;
+
+        // When - saturated pools for a minute, then idle pools
+        for (int scan = 0; scan < 180; scan++) {
+            saturation = scan < 60 ? 0.95 : 0;
+            long scanTime = now.get();
+            int admitted = admission.admitPreReadCount(preReadCount, 10);
+            int read = 0;
+            boolean heldBackRead = false;
+            for (int i = 0; i < nextFire.length && read < admitted; i++) {
+                if (nextFire[i] > scanTime + JobScheduleHelper.PRE_READ_MS) {
+                    continue;
+                }
+                read++;
+                long lateMs = scanTime - nextFire[i];
+                maxLateMs = Math.max(maxLateMs, lateMs);
+                if (lateMs > JobScheduleHelper.PRE_READ_MS && !admission.isHeldBack(nextFire[i])) {
+                    missed++; // misfire strategy, DO_NOTHING by default
+                    nextFire[i] = scanTime + intervalMs;
+                } else {
+                    heldBackRead |= lateMs > 0 && admission.isHeldBack(nextFire[i]);
+                    fired++;
+                    nextFire[i] += intervalMs;
+                }
+            }
+            if (admitted == preReadCount && read < admitted && !heldBackRead) {
+                admission.scanCaughtUp();
+            }
+            now.addAndGet(1000);
+        }
+
+        // Then - jobs fell far behind, yet every fire up to the last pre-read window was triggered
+        assertThat(maxLateMs).isGreaterThan(JobScheduleHelper.PRE_READ_MS);
+        assertThat(missed).isZero();
+        assertThat(fired).isEqualTo(expected);
+        assertThat(admission.isHeldBack(now.get())).isFalse();
+    }
+
+    @Test
+    void testTriggerPool_capReached_shouldHandRejectedTriggersToHandler() {
+        // Given - a virtual mode pool whose triggers block until released
+        JobTriggerPoolHelper triggerPool = new JobTriggerPoolHelper();
+        int maxInFlight = 100;
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger completions = new AtomicInteger();
+        List<PendingTrigger> rejected = new CopyOnWriteArrayList<>();
+        triggerPool.start(
+                SystemSchedulerClock.INSTANCE,
+                true,
+                300,
+                200,
+                maxInFlight,
+                64,
+                (jobId, type, retry, sharding, param, addressList, scheduleTime) ->
+                        CompletableFuture.runAsync(
+                                () -> {
+                                    try {
+                                        release.await(5, TimeUnit.SECONDS);
+                                    } catch (InterruptedException e) {
+                                        Thread.currentThread().interrupt();
+                                    }
+                                }));
+        triggerPool.setRejectionHandler(rejected::add);
+
+        try {
+            // When
+            for (int i = 0; i < maxInFlight + 20; i++) {
+                triggerPool.trigger(
+                        i, null, -1, null, null, null, 0L, completions::incrementAndGet);
+            }
+
+            // Then - the 20 over the cap are handed over, not completed
+            assertThat(rejected).hasSize(20);
+            assertThat(completions.get()).isZero();
+            assertThat(triggerPool.getSaturation()).isEqualTo(1.0);
+            release.countDown();
+            await().atMost(5, TimeUnit.SECONDS).until(() -> completions.get() == maxInFlight);
+            assertThat(rejected).allMatch(triggerPool::tryTrigger);
+            await().atMost(5, TimeUnit.SECONDS).until(() -> completions.get() == maxInFlight + 20);
+        } finally {
+            triggerPool.stop();
+        }
+    }
+}
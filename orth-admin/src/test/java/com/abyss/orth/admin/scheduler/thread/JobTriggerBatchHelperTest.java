@@ -0,0 +1,249 @@
+package com.abyss.orth.admin.scheduler.thread;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.net.ConnectException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.abyss.orth.admin.scheduler.client.AsyncExecutorBiz;
+import com.abyss.orth.core.openapi.model.*;
+import com.xxl.tool.response.Response;
+
+/** Tests for {@link JobTriggerBatchHelper}. */
+class JobTriggerBatchHelperTest {
+
+    private static final String ADDRESS_A = "http://executor-a:9999/";
+    private static final String ADDRESS_B = "http://executor-b:9999/";
+
+    private final JobTriggerBatchHelper batchHelper = new JobTriggerBatchHelper();
+
+    @AfterEach
+    void tearDown() {
+        batchHelper.stop();
+    }
+
+    /** Executor stub recording run and batch calls; answers "run-<jobId>" per run. */
+    private static class RecordingExecutor implements AsyncExecutorBiz {
+        final List<Integer> runs = new CopyOnWriteArrayList<>();
+        final List<List<Integer>> batches = new CopyOnWriteArrayList<>();
+        volatile boolean batchSupported = true;
+        volatile Throwable batchFailure;
+
+        @Override
+        public CompletableFuture<Response<String>> runAsync(TriggerRequest triggerRequest) {
+            runs.add(triggerRequest.getJobId());
+            return CompletableFuture.completedFuture(
+                    Response.ofSuccess("run-" + triggerRequest.getJobId()));
+        }
+
+        @Override
+        public CompletableFuture<Response<List<Response<String>>>> runBatchAsync(
+                List<TriggerRequest> triggerRequests) {
+            if (batchFailure != null) {
+                return CompletableFuture.failedFuture(batchFailure);
+            }
+            if (!batchSupported) {
+                return CompletableFuture.completedFuture(
+                        Response.ofFail("Invalid request, URI-mapping(/runBatch) not found."));
+            }
+            List<Integer> jobIds = new ArrayList<>();
+            List<Response<String>> results = new ArrayList<>();
+            for (TriggerRequest triggerRequest : triggerRequests) {
+                jobIds.add(triggerRequest.getJobId());
+                results.add(Response.ofSuccess("run-" + triggerRequest.getJobId()));
+            }
+            batches.add(jobIds);
+            return CompletableFuture.completedFuture(Response.ofSuccess(results));
+        }
+
+        @Override
+        public CompletableFuture<Response<String>> beatAsync() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public CompletableFuture<Response<String>> idleBeatAsync(IdleBeatRequest request) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public CompletableFuture<Response<String>> killAsync(KillRequest killRequest) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public CompletableFuture<Response<LogResult>> logAsync(LogRequest logRequest) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    private static TriggerRequest request(int jobId) {
+        TriggerRequest triggerRequest = new TriggerRequest();
+        triggerRequest.setJobId(jobId);
+        return triggerRequest;
+    }
+
+    private List<CompletableFuture<Response<String>>> submit(String address, int from, int to) {
+        List<CompletableFuture<Response<String>>> futures = new ArrayList<>();
+        for (int jobId = from; jobId < to; jobId++) {
+            futures.add(batchHelper.run(address, request(jobId)));
+        }
+        return futures;
+    }
+
+    private static void assertAnswered(List<CompletableFuture<Response<String>>> futures, int from)
+            throws Exception {
+        for (int i = 0; i < futures.size(); i++) {
+            assertThat(futures.get(i).get(2, TimeUnit.SECONDS).getData())
+                    .isEqualTo("run-" + (from + i));
+        }
+    }
+
+    @Test
+    void testRun_withinWindow_shouldCoalescePerAddress() throws Exception {
+        // Given
+        RecordingExecutor executorA = new RecordingExecutor();
+        RecordingExecutor executorB = new RecordingExecutor();
+        batchHelper.start(50, 64, address -> ADDRESS_A.equals(address) ? executorA : executorB);
+
+        // When
+        List<CompletableFuture<Response<String>>> futuresA = submit(ADDRESS_A, 0, 10);
+        List<CompletableFuture<Response<String>>> futuresB = submit(ADDRESS_B, 10, 13);
+
+        // Then - one batch per address, results matched to runs in order
+        assertAnswered(futuresA, 0);
+        assertAnswered(futuresB, 10);
+        assertThat(executorA.batches).containsExactly(List.of(0, 1, 2, 3, 4, 5, 6, 7, 8, 9));
+        assertThat(executorB.batches).containsExactly(List.of(10, 11, 12));
+        assertThat(executorA.runs).isEmpty();
+        assertThat(batchHelper.getBatchCount()).isEqualTo(2);
+        assertThat(batchHelper.getBatchedRunCount()).isEqualTo(13);
+    }
+
+    @Test
+    void testRun_batchFull_shouldSendWithoutWaitingForWindow() throws Exception {
+        // Given - a window far longer than the test
+        RecordingExecutor executor = new RecordingExecutor();
+        batchHelper.start(60_000, 4, address -> executor);
+
+        // When
+        List<CompletableFuture<Response<String>>> futures = submit(ADDRESS_A, 0, 8);
+
+        // Then
+        assertAnswered(futures, 0);
+        assertThat(executor.batches).containsExactly(List.of(0, 1, 2, 3), List.of(4, 5, 6, 7));
+    }
+
+    @Test
+    void testRun_singleRunInWindow_shouldUsePlainRun() throws Exception {
+        // Given
+        RecordingExecutor executor = new RecordingExecutor();
+        batchHelper.start(10, 64, address -> executor);
+
+        // When
+        List<CompletableFuture<Response<String>>> futures = submit(ADDRESS_A, 0, 1);
+
+        // Then
+        assertAnswered(futures, 0);
+        assertThat(executor.runs).containsExactly(0);
+        assertThat(executor.batches).isEmpty();
+    }
+
+    @Test
+    void testRun_batchRejected_shouldResendOneByOne() throws Exception {
+        // Given - an executor without the /runBatch endpoint
+        RecordingExecutor executor = new RecordingExecutor();
+        executor.batchSupported = false;
+        batchHelper.start(20, 64, address -> executor);
+
+        // When
+        List<CompletableFuture<Response<String>>> futures = submit(ADDRESS_A, 0, 5);
+
+        // Then
+        assertAnswered(futures, 0);
+        assertThat(executor.runs).containsExactly(0, 1, 2, 3, 4);
+    }
+
+    @Test
+    void testRun_batchTransportFailure_shouldFailEveryRunWithoutResend() {
+        // Given
+        RecordingExecutor executor = new RecordingExecutor();
+        executor.batchFailure = new ConnectException("Connection refused");
+        batchHelper.start(20, 64, address -> executor);
+
+        // When
+        List<CompletableFuture<Response<String>>> futures = submit(ADDRESS_A, 0, 3);
+
+        // Then
+        for (CompletableFuture<Response<String>> future : futures) {
+            assertThatThrownBy(() -> future.get(2, TimeUnit.SECONDS))
+                    .isInstanceOf(ExecutionException.class)
+                    .hasCauseInstanceOf(ConnectException.class);
+        }
+        assertThat(executor.runs).isEmpty();
+    }
+
+    @Test
+    void testRun_windowZero_shouldSendEachRunAtOnce() throws Exception {
+        // Given
+        RecordingExecutor executor = new RecordingExecutor();
+        batchHelper.start(0, 64, address -> executor);
+
+        // When
+        List<CompletableFuture<Response<String>>> futures = submit(ADDRESS_A, 0, 3);
+
+        // Then - answered synchronously by the stub
+        assertThat(futures).allMatch(CompletableFuture::isDone);
+        assertAnswered(futures, 0);
+        assertThat(executor.runs).containsExactly(0, 1, 2);
+        assertThat(executor.batches).isEmpty();
+    }
+
+    @Test
+    void testStop_shouldSendOpenBatches() throws Exception {
+        // Given
+        RecordingExecutor executor = new RecordingExecutor();
+        batchHelper.start(60_000, 64, address -> executor);
+        List<CompletableFuture<Response<String>>> futures = submit(ADDRESS_A, 0, 3);
+
+        // When
+        batchHelper.stop();
+
+        // Then
+        assertAnswered(futures, 0);
+        assertThat(executor.batches).containsExactly(List.of(0, 1, 2));
+    }
+
+    @Test
+    void testRun_onSent_shouldWaitForBatchToGoOut() throws Exception {
+        // Given - a window far longer than the test
+        RecordingExecutor executor = new RecordingExecutor();
+        batchHelper.start(60_000, 64, address -> executor);
+        List<Integer> sent = new CopyOnWriteArrayList<>();
+
+        // When
+        CompletableFuture<Response<String>> first =
+                batchHelper.run(ADDRESS_A, request(0), () -> sent.add(0));
+        CompletableFuture<Response<String>> second =
+                batchHelper.run(ADDRESS_A, request(1), () -> sent.add(1));
+
+        // Then - not sent while the window is open
+        assertThat(sent).isEmpty();
+
+        // When
+        batchHelper.stop();
+
+        // Then
+        assertAnswered(List.of(first, second), 0);
+        assertThat(sent).containsExactly(0, 1);
+    }
+}
@@ -0,0 +1,191 @@
+package com.abyss.orth.admin.scheduler.thread;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.abyss.orth.admin.scheduler.clock.SystemSchedulerClock;
+import com.abyss.orth.admin.scheduler.trigger.JobPriorityEnum;
+import com.abyss.orth.admin.test.util.TimingTestUtil;
+
+/**
+ * Tests for the priority classes of {@link JobTriggerPoolHelper}, plus a benchmark of HIGH trigger
+ * latency under a LOW flood.
+ *
+ * <p>Jobs from {@link #HIGH_JOB_ID} on are HIGH, the others LOW; trigger types are left null, as
+ * {@code TriggerTypeEnum} needs the i18n bundle of a running admin. With a fast pool max equal to
+ * the core size, the fast pool runs exactly 10 threads.
+ */
+class JobTriggerPoolPriorityTest {
+    private static final Logger logger = LoggerFactory.getLogger(JobTriggerPoolPriorityTest.class);
+
+    private static final int THREADS = 10;
+    private static final int HIGH_JOB_ID = 100_000;
+    private static final int[] WEIGHTS = {8, 4, 1};
+    private static final CompletableFuture<Void> DONE = CompletableFuture.completedFuture(null);
+
+    private final JobTriggerPoolHelper triggerPool = new JobTriggerPoolHelper();
+
+    @AfterEach
+    void tearDown() {
+        triggerPool.stop();
+    }
+
+    private static JobPriorityEnum priorityOf(JobTriggerPoolHelper.PendingTrigger trigger) {
+        return trigger.jobId() >= HIGH_JOB_ID ? JobPriorityEnum.HIGH : JobPriorityEnum.LOW;
+    }
+
+    private void start(
+            JobTriggerPoolHelper pool, int[] weights, JobTriggerPoolHelper.TriggerRunner runner) {
+        pool.start(
+                SystemSchedulerClock.INSTANCE,
+                false,
+                THREADS,
+                THREADS,
+                10_000,
+                64,
+                weights,
+                JobTriggerPoolPriorityTest::priorityOf,
+                runner);
+    }
+
+    @Test
+    void testTrigger_highQueuedBehindLowBacklog_shouldRunFirst() {
+        // Given - every thread busy, then a LOW backlog and a few HIGH triggers behind it
+        CountDownLatch release = new CountDownLatch(1);
+        List<Integer> runOrder = new CopyOnWriteArrayList<>();
+        AtomicInteger completions = new AtomicInteger();
+        start(
+                triggerPool,
+                WEIGHTS,
+                (jobId, type, retry, sharding, param, addressList, scheduleTime) -> {
+                    runOrder.add(jobId);
+                    TimingTestUtil.awaitQuietly(release);
+                    return DONE;
+                });
+        for (int i = 0; i < THREADS; i++) {
+            triggerPool.trigger(i, null, -1, null, null, null, null, completions::incrementAndGet);
+        }
+        await().atMost(5, TimeUnit.SECONDS).until(() -> runOrder.size() == THREADS);
+
+        // When
+        for (int i = THREADS; i < THREADS + 100; i++) {
+            triggerPool.trigger(i, null, -1, null, null, null, null, completions::incrementAndGet);
+        }
+        for (int i = 0; i < 5; i++) {
+            triggerPool.trigger(
+                    HIGH_JOB_ID + i,
+                    null,
+                    -1,
+                    null,
+                    null,
+                    null,
+                    null,
+                    completions::incrementAndGet);
+        }
+        release.countDown();
+
+        // Then - the HIGH triggers overtake the LOW backlog
+        await().atMost(5, TimeUnit.SECONDS).until(() -> completions.get() == THREADS + 105);
+        assertThat(runOrder.subList(THREADS, 2 * THREADS))
+                .filteredOn(jobId -> jobId >= HIGH_JOB_ID)
+                .hasSize(5);
+    }
+
+    @Test
+    @Disabled("Benchmark - run manually, takes about 3 seconds")
+    void benchmarkHighPriorityLatencyUnderLowFlood() throws InterruptedException {
+        // Given - 10 threads, 2ms of work per trigger, a 3,000 trigger LOW backfill flood
+        int lowCount = 3_000;
+        int highCount = 200;
+        long workMs = 2;
+
+        for (int[] weights : new int[][] {null, WEIGHTS}) {
+            JobTriggerPoolHelper pool = new JobTriggerPoolHelper();
+            Map<Integer, Long> submittedAt = new ConcurrentHashMap<>();
+            long[] highWait = new long[highCount];
+            AtomicInteger completions = new AtomicInteger();
+            start(
+                    pool,
+                    weights,
+                    (jobId, type, retry, sharding, param, addressList, scheduleTime) -> {
+                        if (jobId >= HIGH_JOB_ID) {
+                            highWait[jobId - HIGH_JOB_ID] =
+                                    System.nanoTime() - submittedAt.get(jobId);
+                        }
+                        TimingTestUtil.sleepQuietly(workMs);
+                        return DONE;
+                    });
+            // rejected triggers are retried, as the admission helper does
+            pool.setRejectionHandler(
+                    trigger -> {
+                        while (!pool.tryTrigger(trigger)) {
+                            TimingTestUtil.sleepQuietly(1);
+                        }
+                    });
+
+            // When - the flood, then HIGH triggers every 2ms while it drains
+            Thread flood =
+                    new Thread(
+                            () -> {
+                                for (int i = 0; i < lowCount; i++) {
+                                    pool.trigger(
+                                            i,
+                                            null,
+                                            -1,
+                                            null,
+                                            null,
+                                            null,
+                                            null,
+                                            completions::incrementAndGet);
+                                }
+                            });
+            flood.start();
+            TimingTestUtil.sleepQuietly(50);
+            for (int i = 0; i < highCount; i++) {
+                submittedAt.put(HIGH_JOB_ID + i, System.nanoTime());
+                pool.trigger(
+                        HIGH_JOB_ID + i,
+                        null,
+                        -1,
+                        null,
+                        null,
+                        null,
+                        null,
+                        completions::incrementAndGet);
+                TimingTestUtil.sleepQuietly(2);
+            }
+            flood.join();
+            await().atMost(1, TimeUnit.MINUTES)
+                    .until(() -> completions.get() == lowCount + highCount);
+            pool.stop();
+
+            // Then - queue wait of the HIGH triggers
+            long[] sorted = highWait.clone();
+            Arrays.sort(sorted);
+            logger.info(
+                    "queue={}, low={}, high={}, high wait p50={}ms, p99={}ms, max={}ms",
+                    weights == null ? "fifo" : "weighted " + Arrays.toString(weights),
+                    lowCount,
+                    highCount,
+                    TimeUnit.NANOSECONDS.toMillis(TimingTestUtil.percentile(sorted, 0.50)),
+                    TimeUnit.NANOSECONDS.toMillis(TimingTestUtil.percentile(sorted, 0.99)),
+                    TimeUnit.NANOSECONDS.toMillis(sorted[sorted.length - 1]));
+        }
+    }
+}
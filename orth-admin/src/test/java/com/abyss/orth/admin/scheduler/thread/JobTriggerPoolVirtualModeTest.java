@@ -0,0 +1,336 @@
+package com.abyss.orth.admin.scheduler.thread;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.abyss.orth.admin.scheduler.clock.SystemSchedulerClock;
+import com.abyss.orth.admin.test.util.TimingTestUtil;
+
+/**
+ * Tests for the virtual trigger mode of {@link JobTriggerPoolHelper}, plus a benchmark against the
+ * fast/slow pools.
+ *
+ * <p>Triggers run a stub instead of {@code JobTrigger}: it takes the executor address permit the
+ * way {@code JobTrigger.executeTrigger} does and sleeps for the simulated RPC time, i.e. the
+ * benchmark models a blocking executor client. Trigger types are left null, as {@code
+ * TriggerTypeEnum} needs the i18n bundle of a running admin.
+ *
+ * <p>Run the benchmark on Java 21+: older runtimes fall back to a platform thread per trigger and
+ * cap the in-flight triggers at the pool sizes, so most of the burst is rejected.
+ */
+class JobTriggerPoolVirtualModeTest {
+    private static final Logger logger =
+            LoggerFactory.getLogger(JobTriggerPoolVirtualModeTest.class);
+
+    private static final int FAST_MAX = 300;
+    private static final int SLOW_MAX = 200;
+    private static final CompletableFuture<Void> DONE = CompletableFuture.completedFuture(null);
+
+    private final JobTriggerPoolHelper triggerPool = new JobTriggerPoolHelper();
+
+    @AfterEach
+    void tearDown() {
+        triggerPool.stop();
+    }
+
+    @Test
+    void testTrigger_virtualMode_shouldRunEveryTriggerAndComplete() {
+        // Given
+        AtomicInteger runs = new AtomicInteger();
+        AtomicInteger completions = new AtomicInteger();
+        triggerPool.start(
+                SystemSchedulerClock.INSTANCE,
+                true,
+                FAST_MAX,
+                SLOW_MAX,
+                10_000,
+                64,
+                (jobId, type, retry, sharding, param, addressList, scheduleTime) -> {
+                    runs.incrementAndGet();
+                    return DONE;
+                });
+
+        // When
+        for (int i = 0; i < 1_000; i++) {
+            triggerPool.trigger(i, null, -1, null, null, null, 0L, completions::incrementAndGet);
+        }
+
+        // Then
+        await().atMost(10, TimeUnit.SECONDS).until(() -> completions.get() == 1_000);
+        assertThat(runs.get()).isEqualTo(1_000);
+        assertThat(triggerPool.getInFlightCount()).isZero();
+    }
+
+    @Test
+    void testTrigger_virtualModeCapReached_shouldRejectAndComplete() throws InterruptedException {
+        // Given - every trigger blocks until released
+        int maxInFlight = 100;
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger runs = new AtomicInteger();
+        AtomicInteger completions = new AtomicInteger();
+        triggerPool.start(
+                SystemSchedulerClock.INSTANCE,
+                true,
+                FAST_MAX,
+                SLOW_MAX,
+                maxInFlight,
+                64,
+                (jobId, type, retry, sharding, param, addressList, scheduleTime) -> {
+                    runs.incrementAndGet();
+                    TimingTestUtil.awaitQuietly(release);
+                    return DONE;
+                });
+
+        // When
+        for (int i = 0; i < maxInFlight + 20; i++) {
+            triggerPool.trigger(i, null, -1, null, null, null, 0L, completions::incrementAndGet);
+        }
+
+        // Then - the 20 over the cap complete at once without running
+        assertThat(completions.get()).isEqualTo(20);
+        await().atMost(5, TimeUnit.SECONDS).until(() -> runs.get() == maxInFlight);
+        release.countDown();
+        await().atMost(5, TimeUnit.SECONDS).until(() -> completions.get() == maxInFlight + 20);
+        assertThat(runs.get()).isEqualTo(maxInFlight);
+        assertThat(triggerPool.getInFlightCount()).isZero();
+    }
+
+    @Test
+    void testTrigger_virtualModeStopped_shouldRejectAndReleasePermit() {
+        // Given - a stopped executor rejects every task
+        AtomicInteger completions = new AtomicInteger();
+        triggerPool.start(
+                SystemSchedulerClock.INSTANCE,
+                true,
+                FAST_MAX,
+                SLOW_MAX,
+                10,
+                64,
+                (jobId, type, retry, sharding, param, addressList, scheduleTime) -> DONE);
+        triggerPool.stop();
+
+        // When
+        for (int i = 0; i < 20; i++) {
+            triggerPool.trigger(i, null, -1, null, null, null, 0L, completions::incrementAndGet);
+        }
+
+        // Then - each completes without running, and gives its in-flight permit back
+        assertThat(completions.get()).isEqualTo(20);
+        assertThat(triggerPool.getInFlightCount()).isZero();
+        assertThat(triggerPool.getSaturation()).isZero();
+    }
+
+    @Test
+    void testTrigger_asyncRunner_shouldStayInFlightUntilFutureCompletes() {
+        // Given - the runner returns at once, the RPC answers later
+        CompletableFuture<Void> rpc = new CompletableFuture<>();
+        AtomicInteger completions = new AtomicInteger();
+        triggerPool.start(
+                SystemSchedulerClock.INSTANCE,
+                false,
+                FAST_MAX,
+                SLOW_MAX,
+                10_000,
+                64,
+                (jobId, type, retry, sharding, param, addressList, scheduleTime) -> rpc);
+
+        // When
+        triggerPool.trigger(1, null, -1, null, null, null, 0L, completions::incrementAndGet);
+
+        // Then
+        await().during(200, TimeUnit.MILLISECONDS)
+                .atMost(1, TimeUnit.SECONDS)
+                .until(() -> triggerPool.getInFlightCount() == 1);
+        assertThat(completions.get()).isZero();
+        rpc.complete(null);
+        await().atMost(1, TimeUnit.SECONDS).until(() -> completions.get() == 1);
+        assertThat(triggerPool.getInFlightCount()).isZero();
+    }
+
+    @Test
+    void testAddressPermit_virtualMode_shouldLimitConcurrencyPerAddress() {
+        assertConcurrencyLimitedPerAddress(true);
+    }
+
+    @Test
+    void testAddressPermit_poolMode_shouldLimitConcurrencyPerAddress() {
+        assertConcurrencyLimitedPerAddress(false);
+    }
+
+    @Test
+    void testTryAddressPermit_busyAddress_shouldFailWithoutWaiting() {
+        // Given - one permit per address, taken
+        String address = "http://executor-0:9999/";
+        triggerPool.start(
+                SystemSchedulerClock.INSTANCE,
+                false,
+                FAST_MAX,
+                SLOW_MAX,
+                10_000,
+                1,
+                (jobId, type, retry, sharding, param, addressList, scheduleTime) -> DONE);
+        assertThat(triggerPool.tryAcquireAddressPermit(address)).isTrue();
+
+        // When
+        long start = System.nanoTime();
+        boolean busy = !triggerPool.tryAcquireAddressPermit(address);
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // Then - no wait for the permit; free again once released
+        assertThat(busy).isTrue();
+        assertThat(elapsedMs).isLessThan(1000);
+        triggerPool.releaseAddressPermit(address);
+        assertThat(triggerPool.tryAcquireAddressPermit(address)).isTrue();
+    }
+
+    @Test
+    void testAddressPermit_poolModeBusyAddress_shouldWaitWithoutBlocking() {
+        // Given - one permit per address, taken
+        String address = "http://executor-0:9999/";
+        triggerPool.start(
+                SystemSchedulerClock.INSTANCE,
+                false,
+                FAST_MAX,
+                SLOW_MAX,
+                10_000,
+                1,
+                (jobId, type, retry, sharding, param, addressList, scheduleTime) -> DONE);
+        assertThat(triggerPool.acquireAddressPermit(address).join()).isTrue();
+
+        // When
+        long start = System.nanoTime();
+        CompletableFuture<Boolean> second = triggerPool.acquireAddressPermit(address);
+        CompletableFuture<Boolean> third = triggerPool.acquireAddressPermit(address);
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // Then - the callers return at once; released permits go to the waiters in order
+        assertThat(elapsedMs).isLessThan(1000);
+        assertThat(second).isNotDone();
+        triggerPool.releaseAddressPermit(address);
+        assertThat(second).isCompletedWithValue(true);
+        assertThat(third).isNotDone();
+        triggerPool.releaseAddressPermit(address);
+        assertThat(third).isCompletedWithValue(true);
+        assertThat(triggerPool.tryAcquireAddressPermit(address)).isFalse();
+    }
+
+    private void assertConcurrencyLimitedPerAddress(boolean virtual) {
+        // Given
+        int perAddress = 4;
+        int[] active = new int[2];
+        int[] peak = new int[2];
+        AtomicInteger completions = new AtomicInteger();
+        triggerPool.start(
+                SystemSchedulerClock.INSTANCE,
+                virtual,
+                FAST_MAX,
+                SLOW_MAX,
+                10_000,
+                perAddress,
+                (jobId, type, retry, sharding, param, addressList, scheduleTime) -> {
+                    int executor = jobId % 2;
+                    String address = "http://executor-" + executor + ":9999/";
+                    assertThat(triggerPool.acquireAddressPermit(address).join()).isTrue();
+                    try {
+                        synchronized (active) {
+                            active[executor]++;
+                            peak[executor] = Math.max(peak[executor], active[executor]);
+                        }
+                        TimingTestUtil.sleepQuietly(20);
+                        synchronized (active) {
+                            active[executor]--;
+                        }
+                    } finally {
+                        triggerPool.releaseAddressPermit(address);
+                    }
+                    return DONE;
+                });
+
+        // When
+        for (int i = 0; i < 80; i++) {
+            triggerPool.trigger(i, null, -1, null, null, null, 0L, completions::incrementAndGet);
+        }
+
+        // Then - each address saturated its permits but never exceeded them
+        await().atMost(10, TimeUnit.SECONDS).until(() -> completions.get() == 80);
+        assertThat(peak).containsExactly(perAddress, perAddress);
+    }
+
+    @Test
+    @Disabled("Benchmark - run manually, takes about 30 seconds")
+    void benchmarkPoolVsVirtual() {
+        // Given - 20 executors, 50ms RPC, one executor stalled at 3s (the RPC timeout)
+        int triggerCount = 10_000;
+        int executorCount = 20;
+        long rpcMs = 50;
+        long stalledRpcMs = 3_000;
+
+        for (boolean virtual : new boolean[] {false, true}) {
+            JobTriggerPoolHelper pool = new JobTriggerPoolHelper();
+            long[] latency = new long[triggerCount];
+            long[] submittedAt = new long[triggerCount];
+            AtomicInteger completions = new AtomicInteger();
+            pool.start(
+                    SystemSchedulerClock.INSTANCE,
+                    virtual,
+                    FAST_MAX,
+                    SLOW_MAX,
+                    10_000,
+                    64,
+                    (jobId, type, retry, sharding, param, addressList, scheduleTime) -> {
+                        int executor = jobId % executorCount;
+                        String address = "http://executor-" + executor + ":9999/";
+                        if (pool.acquireAddressPermit(address).join()) {
+                            try {
+                                TimingTestUtil.sleepQuietly(executor == 0 ? stalledRpcMs : rpcMs);
+                            } finally {
+                                pool.releaseAddressPermit(address);
+                            }
+                        }
+                        latency[jobId] = System.nanoTime() - submittedAt[jobId];
+                        return DONE;
+                    });
+
+            // When - all triggers of one top-of-minute burst
+            long start = System.nanoTime();
+            for (int i = 0; i < triggerCount; i++) {
+                submittedAt[i] = System.nanoTime();
+                pool.trigger(i, null, -1, null, null, null, 0L, completions::incrementAndGet);
+            }
+            await().atMost(5, TimeUnit.MINUTES).until(() -> completions.get() == triggerCount);
+            long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            pool.stop();
+
+            // Then - latency of triggers to healthy executors
+            long[] healthy =
+                    IntStream.range(0, triggerCount)
+                            .filter(i -> i % executorCount != 0 && latency[i] > 0)
+                            .mapToLong(i -> latency[i])
+                            .sorted()
+                            .toArray();
+            long executed = Arrays.stream(latency).filter(l -> l > 0).count();
+            logger.info(
+                    "mode={}, java={}, triggers={}, executed={}, elapsed={}ms, healthy p50={}ms, p99={}ms",
+                    virtual ? "virtual" : "pool",
+                    Runtime.version().feature(),
+                    triggerCount,
+                    executed,
+                    elapsedMs,
+                    TimeUnit.NANOSECONDS.toMillis(TimingTestUtil.percentile(healthy, 0.50)),
+                    TimeUnit.NANOSECONDS.toMillis(TimingTestUtil.percentile(healthy, 0.99)));
+        }
+    }
+}
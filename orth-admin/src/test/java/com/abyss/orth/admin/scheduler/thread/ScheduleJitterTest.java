@@ -0,0 +1,55 @@
+package com.abyss.orth.admin.scheduler.thread;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+/** Unit tests for the per-job jitter offset of {@link JobScheduleHelper}. */
+class ScheduleJitterTest {
+
+    @Test
+    void testJitterOffset_noWindow_shouldBeZero() {
+        // When / Then
+        assertThat(JobScheduleHelper.jitterOffsetMs(42, 0)).isZero();
+        assertThat(JobScheduleHelper.jitterOffsetMs(42, -1)).isZero();
+    }
+
+    @Test
+    void testJitterOffset_shouldBeDeterministicAndWithinWindow() {
+        for (int jobId = 1; jobId <= 1_000; jobId++) {
+            // When
+            long offset = JobScheduleHelper.jitterOffsetMs(jobId, 20);
+
+            // Then
+            assertThat(offset).isBetween(0L, 19_999L);
+            assertThat(JobScheduleHelper.jitterOffsetMs(jobId, 20)).isEqualTo(offset);
+        }
+    }
+
+    @Test
+    void testJitterOffset_consecutiveJobIds_shouldSpreadEvenlyAcrossSeconds() {
+        // Given - 10000 jobs sharing a cron time, 20s window
+        int jobCount = 10_000;
+        int windowSeconds = 20;
+        int[] perSecond = new int[windowSeconds];
+
+        // When
+        for (int jobId = 1; jobId <= jobCount; jobId++) {
+            perSecond[(int) (JobScheduleHelper.jitterOffsetMs(jobId, windowSeconds) / 1_000)]++;
+        }
+
+        // Then - each second gets the mean (500) within 20%
+        for (int count : perSecond) {
+            assertThat(count).isBetween(400, 600);
+        }
+    }
+
+    @Test
+    void testJitterOffset_windowOverMax_shouldBeCapped() {
+        for (int jobId = 1; jobId <= 1_000; jobId++) {
+            // When / Then
+            assertThat(JobScheduleHelper.jitterOffsetMs(jobId, 3_600))
+                    .isLessThan(JobScheduleHelper.MAX_SCHEDULE_JITTER_SECONDS * 1_000L);
+        }
+    }
+}
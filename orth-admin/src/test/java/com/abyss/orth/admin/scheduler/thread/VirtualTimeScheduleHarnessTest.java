@@ -0,0 +1,238 @@
+package com.abyss.orth.admin.scheduler.thread;
+
+import static com.abyss.orth.admin.test.util.JobInfoBuilder.aJob;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.text.ParseException;
+import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+
+import com.abyss.orth.admin.AbstractIntegrationTest;
+import com.abyss.orth.admin.mapper.JobGroupMapper;
+import com.abyss.orth.admin.mapper.JobInfoMapper;
+import com.abyss.orth.admin.model.JobGroup;
+import com.abyss.orth.admin.model.JobInfo;
+import com.abyss.orth.admin.scheduler.clock.SchedulerClock;
+import com.abyss.orth.admin.scheduler.clock.VirtualSchedulerClock;
+import com.abyss.orth.admin.scheduler.config.OrthAdminBootstrap;
+import com.abyss.orth.admin.scheduler.cron.CronExpressionCache;
+import com.abyss.orth.admin.test.util.TimingTestUtil;
+import com.abyss.orth.core.glue.GlueTypeEnum;
+import com.abyss.orth.core.openapi.ExecutorBiz;
+import com.abyss.orth.core.openapi.model.*;
+import com.xxl.tool.response.Response;
+
+/**
+ * Virtual-time throughput harness for the schedule loop.
+ *
+ * <p>Runs the real admin (schedule thread, ring thread, trigger pool, {@code JobTrigger} with log
+ * writes) against the TestContainers MySQL database, with a {@link VirtualSchedulerClock} injected
+ * through {@link OrthAdminBootstrap} and every executor replaced by an in-process stub. Virtual
+ * time only advances once the schedule and ring threads sleep and no trigger is in flight, so a
+ * simulated hour takes as long as the scheduling work itself.
+ *
+ * <p>Reports fires per second (mean and peak), schedule lag (trigger time minus intended fire time)
+ * percentiles and missed fires. Lag has the clock quantum as resolution.
+ */
+@Disabled("Benchmark - run manually, needs Docker; takes minutes")
+@Import(VirtualTimeScheduleHarnessTest.VirtualClockConfig.class)
+class VirtualTimeScheduleHarnessTest extends AbstractIntegrationTest {
+    private static final Logger logger =
+            LoggerFactory.getLogger(VirtualTimeScheduleHarnessTest.class);
+
+    private static final long START = 1_893_456_000_000L; // 2030-01-01T00:00:00Z
+    private static final long QUANTUM_MS = 10;
+    private static final int JOB_COUNT = 1_000;
+    private static final String CRON = "0 * * * * ?";
+    private static final int JITTER_SECONDS = 20;
+    private static final long DURATION_MS = TimeUnit.HOURS.toMillis(1);
+    private static final String STUB_ADDRESS = "http://stub-executor:9999/";
+    private static final int CLOCK_SLEEPERS = 2; // schedule thread + ring thread
+
+    /** Replaces the system clock of the admin under test. */
+    @TestConfiguration
+    static class VirtualClockConfig {
+        @Bean
+        SchedulerClock schedulerClock() {
+            return new VirtualSchedulerClock(START, QUANTUM_MS);
+        }
+    }
+
+    /** Executor stub recording {jobId, scheduleTime, triggerTime} for every run request. */
+    private record StubExecutorBiz(Queue<long[]> runs) implements ExecutorBiz {
+        @Override
+        public Response<String> beat() {
+            return Response.ofSuccess();
+        }
+
+        @Override
+        public Response<String> idleBeat(IdleBeatRequest idleBeatRequest) {
+            return Response.ofSuccess();
+        }
+
+        @Override
+        public Response<String> run(TriggerRequest triggerRequest) {
+            runs.add(
+                    new long[] {
+                        triggerRequest.getJobId(),
+                        triggerRequest.getScheduleTime() != null
+                                ? triggerRequest.getScheduleTime()
+                                : -1,
+                        triggerRequest.getLogDateTime()
+                    });
+            return Response.ofSuccess();
+        }
+
+        @Override
+        public Response<String> kill(KillRequest killRequest) {
+            return Response.ofSuccess();
+        }
+
+        @Override
+        public Response<LogResult> log(LogRequest logRequest) {
+            return Response.ofFail("stub executor keeps no logs");
+        }
+    }
+
+    @Autowired private SchedulerClock schedulerClock;
+    @Autowired private JobGroupMapper jobGroupMapper;
+    @Autowired private JobInfoMapper jobInfoMapper;
+
+    @Test
+    void benchmarkVirtualHour() throws Exception {
+        // Given - stub executor group, jobs sharing one cron time
+        VirtualSchedulerClock clock = (VirtualSchedulerClock) schedulerClock;
+        Queue<long[]> runs = new ConcurrentLinkedQueue<>();
+        OrthAdminBootstrap.setExecutorBiz(STUB_ADDRESS, new StubExecutorBiz(runs));
+
+        JobGroup group = new JobGroup();
+        group.setAppname("virtual-time-harness");
+        group.setTitle("Virtual Time Harness");
+        group.setAddressType(1); // manual
+        group.setAddressList(STUB_ADDRESS);
+        group.setUpdateTime(new Date());
+        jobGroupMapper.save(group);
+
+        long firstFire = CronExpressionCache.get(CRON).nextTimeAfter(START);
+        JobScheduleIndexHelper scheduleIndex =
+                OrthAdminBootstrap.getInstance().getJobScheduleIndexHelper();
+        Map<Integer, Long> jitterByJob = new HashMap<>();
+        for (int i = 0; i < JOB_COUNT; i++) {
+            JobInfo jobInfo =
+                    aJob().withJobGroup(group.getId())
+                            .withJobDesc("harness-" + i)
+                            .withGlueType(GlueTypeEnum.BEAN.name())
+                            .withScheduleConf(CRON)
+                            .withTriggerNextTime(firstFire)
+                            .build();
+            jobInfo.setScheduleJitter(JITTER_SECONDS);
+            jobInfoMapper.save(jobInfo);
+            jitterByJob.put(
+                    jobInfo.getId(),
+                    JobScheduleHelper.jitterOffsetMs(jobInfo.getId(), JITTER_SECONDS));
+            if (scheduleIndex != null) {
+                scheduleIndex.refresh(jobInfo);
+            }
+        }
+
+        JobTriggerPoolHelper triggerPool =
+                OrthAdminBootstrap.getInstance().getJobTriggerPoolHelper();
+        await().atMost(30, TimeUnit.SECONDS)
+                .until(
+                        () ->
+                                OrthAdminBootstrap.getInstance()
+                                                .getJobScheduleLeaseHelper()
+                                                .getHeldPartitions()
+                                                .length
+                                        > 0);
+
+        // When - run virtual time
+        long end = START + DURATION_MS;
+        long realStart = System.nanoTime();
+        while (clock.currentTimeMillis() < end) {
+            boolean advanced =
+                    clock.advance(
+                            CLOCK_SLEEPERS, () -> triggerPool.getInFlightCount() == 0, 60_000);
+            assertThat(advanced).as("quiescence at %d", clock.currentTimeMillis()).isTrue();
+        }
+        long realMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - realStart);
+
+        // Then
+        Report report = report(new ArrayList<>(runs), jitterByJob, firstFire, end);
+        logger.info(
+                "Virtual-time schedule harness: jobs={}, cron={}, jitter={}s, virtual={}s, real={}ms, expected={}, fired={}, missed={}, duplicates={}, fires/s mean={}, peak={}, lag p50={}ms, p99={}ms, p999={}ms, max={}ms",
+                JOB_COUNT,
+                CRON,
+                JITTER_SECONDS,
+                DURATION_MS / 1000,
+                realMs,
+                report.expected,
+                report.fired,
+                report.missed,
+                report.duplicates,
+                String.format("%.1f", report.fired * 1000.0 / DURATION_MS),
+                report.peakFiresPerSecond,
+                TimingTestUtil.percentile(report.lags, 0.50),
+                TimingTestUtil.percentile(report.lags, 0.99),
+                TimingTestUtil.percentile(report.lags, 0.999),
+                report.lags.length > 0 ? report.lags[report.lags.length - 1] : 0);
+        assertThat(report.missed).isZero();
+        assertThat(report.duplicates).isZero();
+    }
+
+    /** Aggregated harness results. */
+    private record Report(
+            long expected,
+            long fired,
+            long missed,
+            long duplicates,
+            long peakFiresPerSecond,
+            long[] lags) {}
+
+    private static Report report(
+            List<long[]> runs, Map<Integer, Long> jitterByJob, long firstFire, long end)
+            throws ParseException {
+        long intervalMs = CronExpressionCache.get(CRON).nextTimeAfter(firstFire) - firstFire;
+
+        // expected: every fire whose intended time (schedule time + jitter) is within the run
+        long expected = 0;
+        for (long jitterMs : jitterByJob.values()) {
+            if (firstFire + jitterMs <= end) {
+                expected += (end - firstFire - jitterMs) / intervalMs + 1;
+            }
+        }
+
+        Set<String> seen = new HashSet<>();
+        Map<Long, Long> perSecond = new HashMap<>();
+        long[] lags = new long[runs.size()];
+        long fired = 0;
+        long duplicates = 0;
+        for (long[] run : runs) {
+            Long jitterMs = jitterByJob.get((int) run[0]);
+            if (jitterMs == null || run[1] < 0 || run[1] + jitterMs > end) {
+                continue;
+            }
+            if (!seen.add(run[0] + "@" + run[1])) {
+                duplicates++;
+                continue;
+            }
+            lags[(int) fired++] = run[2] - run[1] - jitterMs;
+            perSecond.merge(run[2] / 1000, 1L, Long::sum);
+        }
+        long[] sortedLags = Arrays.copyOf(lags, (int) fired);
+        Arrays.sort(sortedLags);
+        long peak = perSecond.values().stream().mapToLong(Long::longValue).max().orElse(0);
+        return new Report(expected, fired, expected - fired, duplicates, peak, sortedLags);
+    }
+}
@@ -0,0 +1,157 @@
+package com.abyss.orth.admin.scheduler.thread;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link WeightedFairTriggerQueue}.
+ *
+ * <p>Queued runnables carry their class and a sequence number, so the order of takes can be checked
+ * per class.
+ */
+class WeightedFairTriggerQueueTest {
+
+    private static final int HIGH = 0;
+    private static final int NORMAL = 1;
+    private static final int LOW = 2;
+
+    private record Item(int priorityClass, int seq) implements Runnable {
+        @Override
+        public void run() {}
+    }
+
+    private static WeightedFairTriggerQueue queue(int capacityPerClass) {
+        return new WeightedFairTriggerQueue(
+                new int[] {8, 4, 1}, capacityPerClass, r -> ((Item) r).priorityClass());
+    }
+
+    private static void fill(WeightedFairTriggerQueue queue, int priorityClass, int count) {
+        for (int i = 0; i < count; i++) {
+            assertThat(queue.offer(new Item(priorityClass, i))).isTrue();
+        }
+    }
+
+    private static List<Item> takeAll(WeightedFairTriggerQueue queue, int count) {
+        List<Item> taken = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            taken.add((Item) queue.poll());
+        }
+        return taken;
+    }
+
+    @Test
+    void testPoll_allClassesBacklogged_shouldServeByWeight() {
+        // Given
+        WeightedFairTriggerQueue queue = queue(1000);
+        fill(queue, LOW, 100);
+        fill(queue, NORMAL, 100);
+        fill(queue, HIGH, 100);
+
+        // When - one full round of weights
+        List<Item> taken = takeAll(queue, 13 * 5);
+
+        // Then
+        assertThat(taken).filteredOn(item -> item.priorityClass() == HIGH).hasSize(40);
+        assertThat(taken).filteredOn(item -> item.priorityClass() == NORMAL).hasSize(20);
+        assertThat(taken).filteredOn(item -> item.priorityClass() == LOW).hasSize(5);
+    }
+
+    @Test
+    void testPoll_lowFloodQueuedFirst_shouldServeHighWithinFirstRound() {
+        // Given - a LOW backlog, then a few HIGH triggers behind it
+        WeightedFairTriggerQueue queue = queue(3000);
+        fill(queue, LOW, 3000);
+        fill(queue, HIGH, 5);
+
+        // When
+        List<Item> taken = takeAll(queue, 10);
+
+        // Then - every HIGH trigger is out within the first takes
+        assertThat(taken).filteredOn(item -> item.priorityClass() == HIGH).hasSize(5);
+    }
+
+    @Test
+    void testPoll_shouldKeepFifoOrderWithinClass() {
+        // Given
+        WeightedFairTriggerQueue queue = queue(100);
+        fill(queue, NORMAL, 50);
+        fill(queue, LOW, 50);
+
+        // When
+        List<Item> taken = takeAll(queue, 100);
+
+        // Then
+        assertThat(taken)
+                .filteredOn(item -> item.priorityClass() == NORMAL)
+                .extracting(Item::seq)
+                .isSorted();
+        assertThat(taken)
+                .filteredOn(item -> item.priorityClass() == LOW)
+                .extracting(Item::seq)
+                .isSorted();
+        assertThat(queue.poll()).isNull();
+    }
+
+    @Test
+    void testPeek_shouldReturnNextPolled() {
+        // Given
+        WeightedFairTriggerQueue queue = queue(100);
+        fill(queue, HIGH, 20);
+        fill(queue, LOW, 20);
+
+        // Then
+        for (int i = 0; i < 40; i++) {
+            Runnable next = queue.peek();
+            assertThat(queue.poll()).isSameAs(next);
+        }
+    }
+
+    @Test
+    void testOffer_classFull_shouldRejectOnlyThatClass() {
+        // Given
+        WeightedFairTriggerQueue queue = queue(10);
+        fill(queue, LOW, 10);
+
+        // Then
+        assertThat(queue.offer(new Item(LOW, 10))).isFalse();
+        assertThat(queue.offer(new Item(HIGH, 0))).isTrue();
+        assertThat(queue.size()).isEqualTo(11);
+        assertThat(queue.remainingCapacity()).isEqualTo(19);
+        assertThat(queue.getFillRatio()).isEqualTo(1.0);
+    }
+
+    @Test
+    void testPoll_emptyQueue_shouldTimeOut() throws InterruptedException {
+        // Given
+        WeightedFairTriggerQueue queue = queue(10);
+
+        // Then
+        assertThat(queue.poll(20, TimeUnit.MILLISECONDS)).isNull();
+    }
+
+    @Test
+    void testDrainToAndIteratorRemove_shouldUpdateCount() {
+        // Given
+        WeightedFairTriggerQueue queue = queue(10);
+        fill(queue, HIGH, 3);
+        fill(queue, LOW, 3);
+
+        // When
+        Iterator<Runnable> it = queue.iterator();
+        it.next();
+        it.remove();
+        List<Runnable> drained = new ArrayList<>();
+        int count = queue.drainTo(drained);
+
+        // Then
+        assertThat(count).isEqualTo(5);
+        assertThat(drained).hasSize(5);
+        assertThat(queue).isEmpty();
+    }
+}
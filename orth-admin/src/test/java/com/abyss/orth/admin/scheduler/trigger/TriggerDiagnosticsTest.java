@@ -0,0 +1,139 @@
+package com.abyss.orth.admin.scheduler.trigger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.abyss.orth.admin.model.JobGroup;
+import com.abyss.orth.admin.model.JobInfo;
+import com.abyss.orth.core.constant.ExecutorBlockStrategyEnum;
+import com.abyss.orth.core.context.OrthJobContext;
+import com.xxl.tool.response.Response;
+
+/**
+ * Tests for the stored form of {@link TriggerDiagnostics}.
+ *
+ * <p>Rendering needs the i18n bundle of a running admin and is not covered here; trigger types and
+ * route strategies are left null for the same reason.
+ */
+class TriggerDiagnosticsTest {
+
+    private static TriggerDiagnostics newDiagnostics(String shardingParam) {
+        JobGroup group = new JobGroup();
+        group.setAddressType(0);
+        group.setAddressList("http://10.0.0.7:9999/,http://10.0.0.8:9999/,http://10.0.0.9:9999/");
+        JobInfo jobInfo = new JobInfo();
+        jobInfo.setExecutorTimeout(30);
+        return new TriggerDiagnostics(
+                null,
+                group,
+                null,
+                shardingParam,
+                ExecutorBlockStrategyEnum.SERIAL_EXECUTION,
+                jobInfo,
+                2);
+    }
+
+    private static TriggerDiagnostics roundTrip(TriggerDiagnostics diagnostics) {
+        String encoded = diagnostics.encode();
+        assertThat(encoded.charAt(0)).isEqualTo(TriggerDiagnostics.SEGMENT);
+        return TriggerDiagnostics.decode(encoded.substring(1));
+    }
+
+    @Test
+    void testEncode_sentTrigger_shouldRoundTripCompactly() {
+        // Given
+        TriggerDiagnostics diagnostics = newDiagnostics("1/3");
+        diagnostics.routed("http://10.0.0.8:9999/");
+        diagnostics.sent();
+        diagnostics.answered();
+        diagnostics.result(Response.ofSuccess());
+
+        // When
+        String encoded = diagnostics.encode();
+        TriggerDiagnostics decoded = roundTrip(diagnostics);
+
+        // Then - codes and values only, well under the rendered HTML
+        assertThat(encoded.length()).isLessThan(120);
+        assertThat(decoded.getShardingParam()).isEqualTo("1/3");
+        assertThat(decoded.getAddress()).isEqualTo("http://10.0.0.8:9999/");
+        assertThat(decoded.getOutcome()).isEqualTo(TriggerDiagnostics.Outcome.SENT);
+        assertThat(decoded.getCode()).isEqualTo(OrthJobContext.HANDLE_CODE_SUCCESS);
+        assertThat(decoded.getWaitMs()).isNotNegative();
+        assertThat(decoded.getRpcMs()).isNotNegative();
+        assertThat(decoded.getDetail()).isNull();
+        assertThat(decoded.encode()).isEqualTo(encoded);
+    }
+
+    @Test
+    void testEncode_failedRun_shouldKeepMessageWithDelimiters() {
+        // Given - an executor message containing the field delimiter and a segment marker
+        TriggerDiagnostics diagnostics = newDiagnostics(null);
+        diagnostics.routed("http://10.0.0.7:9999/");
+        diagnostics.sent();
+        diagnostics.answered();
+        diagnostics.result(
+                Response.of(
+                        OrthJobContext.HANDLE_CODE_FAIL,
+                        "handler a|b not found" + TriggerDiagnostics.SEGMENT + "r"));
+
+        // When
+        TriggerDiagnostics decoded = roundTrip(diagnostics);
+
+        // Then
+        assertThat(decoded.getCode()).isEqualTo(OrthJobContext.HANDLE_CODE_FAIL);
+        assertThat(decoded.getDetail()).isEqualTo("handler a|b not found r");
+        assertThat(decoded.getShardingParam()).isNull();
+    }
+
+    @Test
+    void testEncode_routeFailure_shouldKeepOutcomeWithoutTimings() {
+        // Given
+        TriggerDiagnostics diagnostics = newDiagnostics("0/3");
+        diagnostics.routeFailed(TriggerDiagnostics.Outcome.CIRCUIT_OPEN, "http://10.0.0.7:9999/");
+        diagnostics.result(Response.of(OrthJobContext.HANDLE_CODE_FAIL, null));
+
+        // When
+        TriggerDiagnostics decoded = roundTrip(diagnostics);
+
+        // Then
+        assertThat(decoded.getOutcome()).isEqualTo(TriggerDiagnostics.Outcome.CIRCUIT_OPEN);
+        assertThat(decoded.getAddress()).isNull();
+        assertThat(decoded.getDetail()).isEqualTo("http://10.0.0.7:9999/");
+        assertThat(decoded.getWaitMs()).isEqualTo(-1);
+        assertThat(decoded.getRpcMs()).isEqualTo(-1);
+    }
+
+    @Test
+    void testDecode_otherSegments_shouldReturnNull() {
+        assertThat(TriggerDiagnostics.decode("r")).isNull();
+        assertThat(TriggerDiagnostics.decode("c|5+,6!")).isNull();
+        assertThat(TriggerDiagnostics.decode("1|CRON|truncated")).isNull();
+    }
+
+    @Test
+    void testMarkersAndLegacyMessages() {
+        // Given
+        String childTriggers =
+                new TriggerDiagnostics.ChildTriggers()
+                        .triggered("5")
+                        .skipped("7")
+                        .invalid("abc")
+                        .encode();
+
+        // Then
+        assertThat(childTriggers).isEqualTo(TriggerDiagnostics.SEGMENT + "c|5+,7-,abc!");
+        assertThat(new TriggerDiagnostics.ChildTriggers().encode()).isEmpty();
+        assertThat(TriggerDiagnostics.markRetried(null))
+                .isEqualTo(String.valueOf(TriggerDiagnostics.SEGMENT) + "r");
+        assertThat(TriggerDiagnostics.shardSummary(16, 14, 2, List.of(3, 11)))
+                .isEqualTo(TriggerDiagnostics.SEGMENT + "s|16|14|2|3,11");
+        assertThat(TriggerDiagnostics.decode("s|16|16|0|")).isNull();
+
+        // messages without segments, such as rows written as HTML, render as stored
+        assertThat(TriggerDiagnostics.renderHandleMsg("done<br>ok")).isEqualTo("done<br>ok");
+        assertThat(TriggerDiagnostics.renderHandleMsg(null)).isNull();
+    }
+}
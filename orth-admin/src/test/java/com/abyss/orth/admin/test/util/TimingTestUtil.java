@@ -0,0 +1,57 @@
+package com.abyss.orth.admin.test.util;
+
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Timing helpers for concurrency and latency tests.
+ *
+ * <p>Usage:
+ *
+ * <pre>{@code
+ * long[] delays = ...;
+ * Arrays.sort(delays);
+ * long p99 = TimingTestUtil.percentile(delays, 0.99);
+ * }</pre>
+ */
+public class TimingTestUtil {
+
+    /**
+     * Percentile of sorted samples (nearest rank, no interpolation).
+     *
+     * @param sorted samples, ascending
+     * @param p percentile in {@code [0, 1]}
+     * @return the sample at the percentile, 0 when there are no samples
+     */
+    public static long percentile(long[] sorted, double p) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        return sorted[Math.min(sorted.length - 1, (int) (sorted.length * p))];
+    }
+
+    /**
+     * Waits for a latch, restoring the interrupt flag instead of throwing.
+     *
+     * @param latch latch to wait for
+     */
+    public static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Sleeps, restoring the interrupt flag instead of throwing.
+     *
+     * @param ms sleep time in milliseconds
+     */
+    public static void sleepQuietly(long ms) {
+        try {
+            Thread.sleep(ms);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -43,6 +43,9 @@ public class OrthJobContext {
     /** shard total */
     private final int shardTotal;
 
+    /** virtual shard total, 0 if the run is not virtually sharded */
+    private final int virtualShardTotal;
+
     // ---------------------- for schedule ----------------------
 
     /** Theoretical schedule time (milliseconds), null for manual/API triggers */
@@ -69,6 +72,28 @@ public class OrthJobContext {
             int shardIndex,
             int shardTotal,
             Long scheduleTime) {
+        this(
+                jobId,
+                jobParam,
+                logId,
+                logDateTime,
+                logFileName,
+                shardIndex,
+                shardTotal,
+                0,
+                scheduleTime);
+    }
+
+    public OrthJobContext(
+            long jobId,
+            String jobParam,
+            long logId,
+            long logDateTime,
+            String logFileName,
+            int shardIndex,
+            int shardTotal,
+            int virtualShardTotal,
+            Long scheduleTime) {
         this.jobId = jobId;
         this.jobParam = jobParam;
         this.logId = logId;
@@ -76,6 +101,7 @@ public class OrthJobContext {
         this.logFileName = logFileName;
         this.shardIndex = shardIndex;
         this.shardTotal = shardTotal;
+        this.virtualShardTotal = virtualShardTotal;
         this.scheduleTime = scheduleTime;
 
         this.handleCode = HANDLE_CODE_SUCCESS; // default success
@@ -109,6 +135,10 @@ public class OrthJobContext {
         return shardTotal;
     }
 
+    public int getVirtualShardTotal() {
+        return virtualShardTotal;
+    }
+
     /**
      * Get theoretical schedule time (milliseconds), null for manual/API triggers
      *
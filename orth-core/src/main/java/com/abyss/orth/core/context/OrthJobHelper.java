@@ -3,15 +3,24 @@ package com.abyss.orth.core.context;
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.util.Date;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.helpers.FormattingTuple;
 import org.slf4j.helpers.MessageFormatter;
 
+import com.abyss.orth.core.executor.OrthJobExecutor;
 import com.abyss.orth.core.log.OrthJobFileAppender;
+import com.abyss.orth.core.openapi.AdminBiz;
+import com.abyss.orth.core.openapi.model.ShardAckRequest;
+import com.abyss.orth.core.openapi.model.ShardLease;
+import com.abyss.orth.core.openapi.model.ShardLeaseRequest;
+import com.abyss.orth.core.thread.ExecutorRegistryThread;
 import com.xxl.tool.core.DateTool;
+import com.xxl.tool.response.Response;
 
 /**
  * Helper utilities for accessing Orth job execution context.
@@ -23,6 +32,12 @@ public class OrthJobHelper {
 
     private static final Logger logger = LoggerFactory.getLogger("orth-job-logger");
 
+    /** Wait before polling again while other executors hold the run's last shards */
+    private static final long SHARD_POLL_INTERVAL_MS = 1000;
+
+    /** Consecutive failed lease calls (no admin reachable) before the worker gives up */
+    private static final int SHARD_LEASE_MAX_FAILURES = 10;
+
     // ---------------------- Helper Methods ----------------------
 
     /**
@@ -103,6 +118,153 @@ public class OrthJobHelper {
         return getContext().map(OrthJobContext::getShardTotal).orElse(-1);
     }
 
+    /**
+     * Gets the virtual shard count of the run.
+     *
+     * @return virtual shard count, 0 if the run is not virtually sharded, or -1 if not in job
+     *     execution context
+     */
+    public static int getVirtualShardTotal() {
+        return getContext().map(OrthJobContext::getVirtualShardTotal).orElse(-1);
+    }
+
+    /**
+     * Handles one shard of a sharded run.
+     *
+     * <p>A shard fails if the handler throws or calls {@link #handleFail}; see {@link
+     * #forEachVirtualShard}.
+     */
+    @FunctionalInterface
+    public interface ShardHandler {
+        void handle(int shardIndex, int shardTotal) throws Exception;
+    }
+
+    /**
+     * Runs the handler for each shard this executor takes of the run.
+     *
+     * <p>For a virtually sharded run ({@link #getVirtualShardTotal()} &gt; 0), leases shards from
+     * the admin one at a time until none is left, acking each when handled, so faster executors
+     * take more shards. Shards held by other executors whose lease expires are reclaimed and leased
+     * again, so the loop keeps polling while the run has open shards. A failed shard is leased
+     * again (to any executor) while the job's fail retry count allows; the run's result is decided
+     * by the admin once all shards are done.
+     *
+     * <p>For any other run the handler is called once, with the broadcast shard index and total, so
+     * the same handler serves both modes.
+     *
+     * @param handler shard handler
+     * @return shards handled by this executor
+     * @throws Exception from the handler when not virtually sharded, or {@link
+     *     InterruptedException} if the job is stopped
+     */
+    public static int forEachVirtualShard(ShardHandler handler) throws Exception {
+        OrthJobContext context = OrthJobContext.getOrthJobContext();
+        if (context == null) {
+            return 0;
+        }
+        if (context.getVirtualShardTotal() <= 0) {
+            handler.handle(context.getShardIndex(), context.getShardTotal());
+            return 1;
+        }
+
+        ShardLeaseRequest leaseRequest =
+                new ShardLeaseRequest(
+                        context.getLogId(), ExecutorRegistryThread.getInstance().getAddress());
+        int handled = 0;
+        int failed = 0;
+        int leaseFailures = 0;
+        while (true) {
+            ShardLease lease = leaseShard(leaseRequest);
+            if (lease == null) {
+                if (++leaseFailures >= SHARD_LEASE_MAX_FAILURES) {
+                    handleFail("Virtual shard lease failed, admin unreachable");
+                    return handled;
+                }
+                TimeUnit.MILLISECONDS.sleep(SHARD_POLL_INTERVAL_MS);
+                continue;
+            }
+            leaseFailures = 0;
+            if (lease.getShardIndex() < 0) {
+                if (lease.getOpenShards() <= 0) {
+                    break;
+                }
+                TimeUnit.MILLISECONDS.sleep(SHARD_POLL_INTERVAL_MS);
+                continue;
+            }
+
+            context.setHandleCode(OrthJobContext.HANDLE_CODE_SUCCESS);
+            context.setHandleMsg(null);
+            try {
+                handler.handle(lease.getShardIndex(), lease.getShardTotal());
+            } catch (InterruptedException e) {
+                throw e; // stopped: the lease expires and the shard is reclaimed
+            } catch (Exception e) {
+                log(e);
+                handleFail(e.getMessage());
+            }
+
+            handled++;
+            if (context.getHandleCode() != OrthJobContext.HANDLE_CODE_SUCCESS) {
+                failed++;
+            }
+            ackShard(
+                    new ShardAckRequest(
+                            context.getLogId(),
+                            lease.getShardIndex(),
+                            lease.getLeaseToken(),
+                            context.getHandleCode(),
+                            context.getHandleMsg()));
+        }
+
+        context.setHandleCode(OrthJobContext.HANDLE_CODE_SUCCESS);
+        context.setHandleMsg("Virtual shards handled: " + handled + ", failed: " + failed);
+        return handled;
+    }
+
+    /**
+     * Leases the next shard, trying each admin in turn.
+     *
+     * @return the lease, or null if no admin answered
+     */
+    private static ShardLease leaseShard(ShardLeaseRequest request) {
+        List<AdminBiz> adminBizList = OrthJobExecutor.getAdminBizList();
+        if (adminBizList == null) {
+            return null;
+        }
+        for (AdminBiz adminBiz : adminBizList) {
+            try {
+                Response<ShardLease> response = adminBiz.shardLease(request);
+                if (response != null && response.isSuccess() && response.getData() != null) {
+                    return response.getData();
+                }
+                logger.info("Virtual shard lease failed: {}, response: {}", request, response);
+            } catch (Throwable e) {
+                logger.info("Virtual shard lease error: {}", request, e);
+            }
+        }
+        return null;
+    }
+
+    /** Acks a shard, trying each admin in turn; a rejected ack is logged to the job log. */
+    private static void ackShard(ShardAckRequest request) {
+        List<AdminBiz> adminBizList = OrthJobExecutor.getAdminBizList();
+        if (adminBizList == null) {
+            return;
+        }
+        for (AdminBiz adminBiz : adminBizList) {
+            try {
+                Response<String> response = adminBiz.shardAck(request);
+                if (response != null && response.isSuccess()) {
+                    return;
+                }
+                log("Virtual shard {} ack rejected: {}", request.getShardIndex(), response);
+                return;
+            } catch (Throwable e) {
+                logger.info("Virtual shard ack error: {}", request, e);
+            }
+        }
+    }
+
     // ---------------------- Schedule Info ----------------------
 
     /**
@@ -1,5 +1,6 @@
 package com.abyss.orth.core.executor;
 
+import java.lang.management.ManagementFactory;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.List;
@@ -16,6 +17,7 @@ import com.abyss.orth.core.handler.annotation.OrthJob;
 import com.abyss.orth.core.handler.impl.MethodJobHandler;
 import com.abyss.orth.core.log.OrthJobFileAppender;
 import com.abyss.orth.core.openapi.AdminBiz;
+import com.abyss.orth.core.openapi.model.ExecutorLoad;
 import com.abyss.orth.core.server.EmbedServer;
 import com.abyss.orth.core.thread.JobLogFileCleanThread;
 import com.abyss.orth.core.thread.JobThread;
@@ -402,4 +404,31 @@ public class OrthJobExecutor {
     public static JobThread loadJobThread(int jobId) {
         return jobThreadRepository.get(jobId);
     }
+
+    /**
+     * Sums up the load of the job threads, sent with each registry heartbeat.
+     *
+     * @return current executor load
+     */
+    public static ExecutorLoad currentLoad() {
+        int jobThreads = 0;
+        int queuedTriggers = 0;
+        int runningWorkers = 0;
+        for (JobThread jobThread : jobThreadRepository.values()) {
+            jobThreads++;
+            queuedTriggers += jobThread.getQueuedCount();
+            runningWorkers += jobThread.getRunningCount();
+        }
+        return new ExecutorLoad(jobThreads, queuedTriggers, runningWorkers, processCpuLoad());
+    }
+
+    /** Process CPU load in [0, 1], or -1 if the JVM does not report it. */
+    private static double processCpuLoad() {
+        if (ManagementFactory.getOperatingSystemMXBean()
+                instanceof com.sun.management.OperatingSystemMXBean osBean) {
+            double cpu = osBean.getProcessCpuLoad();
+            return cpu >= 0 ? cpu : -1;
+        }
+        return -1;
+    }
 }
@@ -4,13 +4,16 @@ import java.util.List;
 
 import com.abyss.orth.core.openapi.model.CallbackRequest;
 import com.abyss.orth.core.openapi.model.RegistryRequest;
+import com.abyss.orth.core.openapi.model.ShardAckRequest;
+import com.abyss.orth.core.openapi.model.ShardLease;
+import com.abyss.orth.core.openapi.model.ShardLeaseRequest;
 import com.xxl.tool.response.Response;
 
 /**
  * Admin RPC interface for executor-to-admin communication.
  *
  * <p>Executors use this interface to: 1. Send job execution result callbacks 2. Register/deregister
- * with the admin scheduler for service discovery
+ * with the admin scheduler for service discovery 3. Pull and ack the virtual shards of a run
  *
  * <p>Implementations are created via HTTP proxy (see {@link
  * com.abyss.orth.core.executor.OrthJobExecutor#initAdminBizList}).
@@ -53,4 +56,25 @@ public interface AdminBiz {
      * @return success response, or error if deregistration rejected
      */
     Response<String> registryRemove(RegistryRequest registryRequest);
+
+    // ---------------------- Virtual Shard ----------------------
+
+    /**
+     * Leases the next pending virtual shard of a run.
+     *
+     * <p>Called by {@link com.abyss.orth.core.context.OrthJobHelper#forEachVirtualShard} each time
+     * the executor is free, so faster executors take more shards.
+     *
+     * @param shardLeaseRequest run log ID and leasing executor
+     * @return the lease; its shard index is -1 if no shard is pending right now
+     */
+    Response<ShardLease> shardLease(ShardLeaseRequest shardLeaseRequest);
+
+    /**
+     * Acks a leased virtual shard as processed.
+     *
+     * @param shardAckRequest shard, lease token and handle result
+     * @return success response, or error if the lease expired and the shard was reclaimed
+     */
+    Response<String> shardAck(ShardAckRequest shardAckRequest);
 }
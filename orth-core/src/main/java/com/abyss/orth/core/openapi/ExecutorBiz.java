@@ -1,6 +1,10 @@
 package com.abyss.orth.core.openapi;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import com.abyss.orth.core.openapi.model.*;
+import com.xxl.tool.exception.ThrowableTool;
 import com.xxl.tool.response.Response;
 
 /**
@@ -46,6 +50,33 @@ public interface ExecutorBiz {
      */
     Response<String> run(TriggerRequest triggerRequest);
 
+    /**
+     * Triggers several job executions in one call.
+     *
+     * <p>Lets the admin coalesce the triggers bound for one executor into a single request. Each
+     * item is handled exactly like {@link #run(TriggerRequest)}, in list order; a failing item does
+     * not affect the others.
+     *
+     * <p>By default each item is passed to {@link #run(TriggerRequest)} in turn, an item throwing
+     * failing on its own; clients sending the batch as one request override this.
+     *
+     * @param triggerRequests trigger parameters, one per execution
+     * @return success with one run result per request, in request order
+     */
+    default Response<List<Response<String>>> runBatch(List<TriggerRequest> triggerRequests) {
+        List<Response<String>> results = new ArrayList<>(triggerRequests.size());
+        for (TriggerRequest triggerRequest : triggerRequests) {
+            Response<String> result;
+            try {
+                result = run(triggerRequest);
+            } catch (RuntimeException e) {
+                result = Response.ofFail("Request error: " + ThrowableTool.toString(e));
+            }
+            results.add(result);
+        }
+        return Response.ofSuccess(results);
+    }
+
     /**
      * Kills a running job.
      *
@@ -1,6 +1,8 @@
 package com.abyss.orth.core.openapi.impl;
 
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.List;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -17,6 +19,7 @@ import com.abyss.orth.core.log.OrthJobFileAppender;
 import com.abyss.orth.core.openapi.ExecutorBiz;
 import com.abyss.orth.core.openapi.model.*;
 import com.abyss.orth.core.thread.JobThread;
+import com.xxl.tool.exception.ThrowableTool;
 import com.xxl.tool.response.Response;
 
 /**
@@ -267,6 +270,22 @@ public class ExecutorBizImpl implements ExecutorBiz {
         }
     }
 
+    @Override
+    public Response<List<Response<String>>> runBatch(List<TriggerRequest> triggerRequests) {
+        List<Response<String>> results = new ArrayList<>(triggerRequests.size());
+        for (TriggerRequest triggerRequest : triggerRequests) {
+            Response<String> result;
+            try {
+                result = run(triggerRequest);
+            } catch (Throwable e) {
+                logger.error("Batch run failed for job {}", triggerRequest.getJobId(), e);
+                result = Response.ofFail("Request error: " + ThrowableTool.toString(e));
+            }
+            results.add(result);
+        }
+        return Response.ofSuccess(results);
+    }
+
     @Override
     public Response<String> kill(KillRequest killRequest) {
         JobThread jobThread = OrthJobExecutor.loadJobThread(killRequest.getJobId());
@@ -0,0 +1,48 @@
+package com.abyss.orth.core.openapi.model;
+
+import java.io.Serializable;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Executor load, sent with each registry heartbeat.
+ *
+ * <p>The admin keeps the last load of each executor in memory for the {@code LEAST_LOADED} routing
+ * strategy, so routing by load takes no RPC on the trigger path.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExecutorLoad implements Serializable {
+    private static final long serialVersionUID = 42L;
+
+    /** Job threads alive, busy or idle */
+    private int jobThreads;
+
+    /** Triggers waiting in the job threads' queues */
+    private int queuedTriggers;
+
+    /** Jobs running: one per busy serial job thread, plus the busy workers of concurrent ones */
+    private int runningWorkers;
+
+    /** Process CPU load in [0, 1]; -1 if the JVM does not report it */
+    private double processCpu;
+
+    @Override
+    public String toString() {
+        return "ExecutorLoad{"
+                + "jobThreads="
+                + jobThreads
+                + ", queuedTriggers="
+                + queuedTriggers
+                + ", runningWorkers="
+                + runningWorkers
+                + ", processCpu="
+                + processCpu
+                + '}';
+    }
+}
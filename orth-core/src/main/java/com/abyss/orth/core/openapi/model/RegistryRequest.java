@@ -31,6 +31,8 @@ import lombok.Setter;
  *   <li>{@link #registryValue} - Executor address (e.g., "http://127.0.0.1:9999")
  * </ul>
  *
+ * <p>Executor heartbeats also carry the executor's current {@link #load}.
+ *
  * @author xuxueli 2017-05-10 20:22:42
  */
 @Getter
@@ -49,6 +51,13 @@ public class RegistryRequest implements Serializable {
     /** Registry value (executor address URL) */
     private String registryValue;
 
+    /** Executor load at the heartbeat; null for deregistrations and older executors */
+    private ExecutorLoad load;
+
+    public RegistryRequest(String registryGroup, String registryKey, String registryValue) {
+        this(registryGroup, registryKey, registryValue, null);
+    }
+
     @Override
     public String toString() {
         return "RegistryRequest{"
@@ -61,6 +70,8 @@ public class RegistryRequest implements Serializable {
                 + ", registryValue='"
                 + registryValue
                 + '\''
+                + ", load="
+                + load
                 + '}';
     }
 }
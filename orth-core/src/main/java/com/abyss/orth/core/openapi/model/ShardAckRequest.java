@@ -0,0 +1,54 @@
+package com.abyss.orth.core.openapi.model;
+
+import java.io.Serializable;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Virtual shard completion, sent by the lease holder once the shard is processed.
+ *
+ * <p>A failed shard is leased again while the job's fail retry count allows, so only failed shards
+ * are retried.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ShardAckRequest implements Serializable {
+    private static final long serialVersionUID = 42L;
+
+    /** Log ID of the run */
+    private long logId;
+
+    /** Processed shard index */
+    private int shardIndex;
+
+    /** Token of the lease, from {@link ShardLease#getLeaseToken()} */
+    private long leaseToken;
+
+    /** Handle result code (200=success, otherwise failure) */
+    private int handleCode;
+
+    /** Handle result message (optional) */
+    private String handleMsg;
+
+    @Override
+    public String toString() {
+        return "ShardAckRequest{"
+                + "logId="
+                + logId
+                + ", shardIndex="
+                + shardIndex
+                + ", leaseToken="
+                + leaseToken
+                + ", handleCode="
+                + handleCode
+                + ", handleMsg='"
+                + handleMsg
+                + '\''
+                + '}';
+    }
+}
@@ -0,0 +1,52 @@
+package com.abyss.orth.core.openapi.model;
+
+import java.io.Serializable;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Virtual shard lease granted by the admin.
+ *
+ * <p>The holder processes the shard and acks it with {@link ShardAckRequest} before the lease
+ * expires; an expired lease is reclaimed and the shard leased again, so an ack with a stale {@link
+ * #leaseToken} is ignored.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ShardLease implements Serializable {
+    private static final long serialVersionUID = 42L;
+
+    /** Leased shard index (0-based); -1 if no shard is pending right now */
+    private int shardIndex;
+
+    /** Virtual shard count of the run */
+    private int shardTotal;
+
+    /** Token of this lease, sent back with the ack */
+    private long leaseToken;
+
+    /**
+     * Shards of the run not finished yet (pending or leased). With no shard granted but open shards
+     * left, leases held by other executors may still expire and be reclaimed.
+     */
+    private int openShards;
+
+    @Override
+    public String toString() {
+        return "ShardLease{"
+                + "shardIndex="
+                + shardIndex
+                + ", shardTotal="
+                + shardTotal
+                + ", leaseToken="
+                + leaseToken
+                + ", openShards="
+                + openShards
+                + '}';
+    }
+}
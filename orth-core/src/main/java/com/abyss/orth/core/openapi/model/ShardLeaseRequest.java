@@ -0,0 +1,33 @@
+package com.abyss.orth.core.openapi.model;
+
+import java.io.Serializable;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Virtual shard lease request.
+ *
+ * <p>An executor running a virtually sharded job asks the admin for the next pending shard of the
+ * run each time it is free; see {@link ShardLease}.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ShardLeaseRequest implements Serializable {
+    private static final long serialVersionUID = 42L;
+
+    /** Log ID of the run (the parent log every worker of the run shares) */
+    private long logId;
+
+    /** Leasing executor address, recorded as the lease owner */
+    private String worker;
+
+    @Override
+    public String toString() {
+        return "ShardLeaseRequest{" + "logId=" + logId + ", worker='" + worker + '\'' + '}';
+    }
+}
@@ -107,6 +107,14 @@ public class TriggerRequest implements Serializable {
     /** Total shard count (valid when using SHARDING_BROADCAST route strategy) */
     private int broadcastTotal;
 
+    /**
+     * Virtual shard count of the run (0 = not virtually sharded).
+     *
+     * <p>When set, the executor leases shards of the run from the admin until none is left instead
+     * of handling the broadcast shard; see {@code OrthJobHelper.forEachVirtualShard}.
+     */
+    private int virtualShardTotal;
+
     // ---------------------- Scheduling Metadata ----------------------
 
     /** Executor concurrency level (1 = serial, >1 = concurrent execution via internal pool) */
@@ -170,6 +178,8 @@ public class TriggerRequest implements Serializable {
                 + broadcastIndex
                 + ", broadcastTotal="
                 + broadcastTotal
+                + ", virtualShardTotal="
+                + virtualShardTotal
                 + ", scheduleTime="
                 + scheduleTime
                 + '}';
@@ -2,6 +2,7 @@ package com.abyss.orth.core.server;
 
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
+import java.util.List;
 import java.util.concurrent.*;
 
 import org.slf4j.Logger;
@@ -36,6 +37,7 @@ import io.netty.util.CharsetUtil;
  *   <li>/beat - Heartbeat check
  *   <li>/idleBeat - Check if job is idle (not running)
  *   <li>/run - Trigger job execution
+ *   <li>/runBatch - Trigger several job executions in one request
  *   <li>/kill - Kill running job
  *   <li>/log - Retrieve job execution log
  * </ul>
@@ -317,6 +319,10 @@ public class EmbedServer {
                         TriggerRequest triggerParam =
                                 GsonTool.fromJson(requestData, TriggerRequest.class);
                         return executorBiz.run(triggerParam);
+                    case "/runBatch":
+                        List<TriggerRequest> triggerParams =
+                                GsonTool.fromJsonList(requestData, TriggerRequest.class);
+                        return executorBiz.runBatch(triggerParams);
                     case "/kill":
                         KillRequest killParam = GsonTool.fromJson(requestData, KillRequest.class);
                         return executorBiz.kill(killParam);
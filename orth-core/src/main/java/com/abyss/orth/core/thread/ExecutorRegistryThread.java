@@ -17,8 +17,9 @@ import com.xxl.tool.response.Response;
 /**
  * Background thread for executor registration with admin scheduler.
  *
- * <p>Sends periodic heartbeat registrations (every 30 seconds) to all admin endpoints. On shutdown,
- * sends deregistration request to remove executor from service discovery.
+ * <p>Sends periodic heartbeat registrations (every 30 seconds) to all admin endpoints, each
+ * carrying the executor's load for load-aware routing. On shutdown, sends deregistration request to
+ * remove executor from service discovery.
  */
 public class ExecutorRegistryThread {
     private static final Logger logger = LoggerFactory.getLogger(ExecutorRegistryThread.class);
@@ -67,14 +68,28 @@ public class ExecutorRegistryThread {
                 TimeUnit.SECONDS);
     }
 
-    /** Sends a single heartbeat registration to admin. */
+    /**
+     * Gets the address this executor registers with.
+     *
+     * @return executor address, or null if the registry thread was not started
+     */
+    public String getAddress() {
+        return address;
+    }
+
+    /** Sends a single heartbeat registration to admin, with the executor's current load. */
     private void sendHeartbeat() {
         sendRegistration(appname, address);
     }
 
     /** Sends registration heartbeat to all admin endpoints. */
     private void sendRegistration(String appname, String address) {
-        RegistryRequest request = new RegistryRequest(RegistType.EXECUTOR.name(), appname, address);
+        RegistryRequest request =
+                new RegistryRequest(
+                        RegistType.EXECUTOR.name(),
+                        appname,
+                        address,
+                        OrthJobExecutor.currentLoad());
 
         for (AdminBiz adminBiz : OrthJobExecutor.getAdminBizList()) {
             try {
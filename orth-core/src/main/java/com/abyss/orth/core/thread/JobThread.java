@@ -55,7 +55,7 @@ public class JobThread extends Thread {
     // Thread state
     private volatile boolean toStop = false;
     private String stopReason;
-    private boolean running = false; // Currently executing a job (serial mode only)
+    private volatile boolean running = false; // Currently executing a job (serial mode only)
     private int idleTimes = 0; // Consecutive idle poll cycles
 
     /**
@@ -159,6 +159,30 @@ public class JobThread extends Thread {
         return running || !triggerQueue.isEmpty();
     }
 
+    /**
+     * Counts the jobs this thread is running, for the executor load.
+     *
+     * @return 0 or 1 in serial mode; the busy workers in concurrent mode
+     */
+    public int getRunningCount() {
+        if (concurrency > 1) {
+            return Math.min(activeCount.get(), concurrency);
+        }
+        return running ? 1 : 0;
+    }
+
+    /**
+     * Counts the triggers this thread has not started yet, for the executor load.
+     *
+     * @return triggers in the queue, plus those dispatched but waiting for a worker
+     */
+    public int getQueuedCount() {
+        if (concurrency > 1) {
+            return triggerQueue.size() + Math.max(0, activeCount.get() - concurrency);
+        }
+        return triggerQueue.size();
+    }
+
     @Override
     public void run() {
         // Initialize handler
@@ -334,6 +358,7 @@ public class JobThread extends Thread {
                 logFileName,
                 triggerParam.getBroadcastIndex(),
                 triggerParam.getBroadcastTotal(),
+                triggerParam.getVirtualShardTotal(),
                 triggerParam.getScheduleTime());
     }
 
@@ -5,6 +5,9 @@ import java.util.List;
 import com.abyss.orth.core.openapi.AdminBiz;
 import com.abyss.orth.core.openapi.model.CallbackRequest;
 import com.abyss.orth.core.openapi.model.RegistryRequest;
+import com.abyss.orth.core.openapi.model.ShardAckRequest;
+import com.abyss.orth.core.openapi.model.ShardLease;
+import com.abyss.orth.core.openapi.model.ShardLeaseRequest;
 import com.xxl.tool.response.Response;
 
 /**
@@ -58,4 +61,16 @@ public class AdminBizClient implements AdminBiz {
         throw new UnsupportedOperationException(
                 "AdminBizClient is deprecated. Use xxl-tool HTTP client instead.");
     }
+
+    @Override
+    public Response<ShardLease> shardLease(ShardLeaseRequest shardLeaseRequest) {
+        throw new UnsupportedOperationException(
+                "AdminBizClient is deprecated. Use xxl-tool HTTP client instead.");
+    }
+
+    @Override
+    public Response<String> shardAck(ShardAckRequest shardAckRequest) {
+        throw new UnsupportedOperationException(
+                "AdminBizClient is deprecated. Use xxl-tool HTTP client instead.");
+    }
 }
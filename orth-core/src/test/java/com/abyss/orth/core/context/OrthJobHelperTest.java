@@ -1,23 +1,38 @@
 package com.abyss.orth.core.context;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import java.io.IOException;
+import java.lang.reflect.Field;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
 
+import com.abyss.orth.core.executor.OrthJobExecutor;
 import com.abyss.orth.core.log.OrthJobFileAppender;
+import com.abyss.orth.core.openapi.AdminBiz;
+import com.abyss.orth.core.openapi.model.ShardAckRequest;
+import com.abyss.orth.core.openapi.model.ShardLease;
+import com.abyss.orth.core.openapi.model.ShardLeaseRequest;
+import com.xxl.tool.response.Response;
 
 /**
  * Tests for {@link OrthJobHelper}.
  *
  * <p>Covers: job info retrieval, log operations, shard info, handle result methods, context
- * management.
+ * management, virtual shard leasing.
  */
 class OrthJobHelperTest {
 
@@ -34,8 +49,9 @@ class OrthJobHelperTest {
 
     @AfterEach
     void tearDown() throws IOException {
-        // Clear context
+        // Clear context and admin list
         OrthJobContext.setOrthJobContext(null);
+        setAdminBizList(null);
 
         // Restore log path
         if (originalLogPath != null) {
@@ -493,4 +509,75 @@ class OrthJobHelperTest {
         assertThat(logContent).contains("Job started");
         assertThat(logContent).contains("Processing item: 1");
     }
+
+    // ==================== Virtual Shard Tests ====================
+
+    /** Set admin biz list via reflection since there's no public setter. */
+    private static void setAdminBizList(List<AdminBiz> adminBizList) {
+        try {
+            Field field = OrthJobExecutor.class.getDeclaredField("adminBizList");
+            field.setAccessible(true);
+            field.set(null, adminBizList);
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to set adminBizList", e);
+        }
+    }
+
+    @Test
+    void testForEachVirtualShard_notVirtual_shouldRunBroadcastShardOnce() throws Exception {
+        // Given
+        OrthJobContext context = new OrthJobContext(1, null, 7, 0, null, 2, 3, null);
+        OrthJobContext.setOrthJobContext(context);
+        List<String> shards = new ArrayList<>();
+
+        // When
+        int handled =
+                OrthJobHelper.forEachVirtualShard(
+                        (index, total) -> shards.add(index + "/" + total));
+
+        // Then
+        assertThat(handled).isEqualTo(1);
+        assertThat(shards).containsExactly("2/3");
+        assertThat(OrthJobHelper.getVirtualShardTotal()).isZero();
+    }
+
+    @Test
+    void testForEachVirtualShard_virtual_shouldLeaseAndAckUntilNoneOpen() throws Exception {
+        // Given - two shards for this executor, then none open
+        OrthJobContext context = new OrthJobContext(1, null, 7, 0, null, 0, 2, 16, null);
+        OrthJobContext.setOrthJobContext(context);
+        AdminBiz adminBiz = mock(AdminBiz.class);
+        when(adminBiz.shardLease(any(ShardLeaseRequest.class)))
+                .thenReturn(Response.ofSuccess(new ShardLease(4, 16, 101, 12)))
+                .thenReturn(Response.ofSuccess(new ShardLease(9, 16, 102, 11)))
+                .thenReturn(Response.ofSuccess(new ShardLease(-1, 16, 0, 0)));
+        when(adminBiz.shardAck(any(ShardAckRequest.class))).thenReturn(Response.ofSuccess());
+        setAdminBizList(List.of(adminBiz));
+        List<Integer> shards = new ArrayList<>();
+
+        // When - shard 9 fails
+        int handled =
+                OrthJobHelper.forEachVirtualShard(
+                        (index, total) -> {
+                            shards.add(index);
+                            if (index == 9) {
+                                throw new IllegalStateException("bad shard");
+                            }
+                        });
+
+        // Then - each shard acked with its own result, the run itself succeeds
+        assertThat(handled).isEqualTo(2);
+        assertThat(shards).containsExactly(4, 9);
+        ArgumentCaptor<ShardAckRequest> acks = ArgumentCaptor.forClass(ShardAckRequest.class);
+        verify(adminBiz, times(2)).shardAck(acks.capture());
+        assertThat(acks.getAllValues().get(0).getLeaseToken()).isEqualTo(101);
+        assertThat(acks.getAllValues().get(0).getHandleCode())
+                .isEqualTo(OrthJobContext.HANDLE_CODE_SUCCESS);
+        assertThat(acks.getAllValues().get(1).getShardIndex()).isEqualTo(9);
+        assertThat(acks.getAllValues().get(1).getHandleCode())
+                .isEqualTo(OrthJobContext.HANDLE_CODE_FAIL);
+        assertThat(acks.getAllValues().get(1).getHandleMsg()).isEqualTo("bad shard");
+        assertThat(context.getHandleCode()).isEqualTo(OrthJobContext.HANDLE_CODE_SUCCESS);
+        assertThat(context.getHandleMsg()).isEqualTo("Virtual shards handled: 2, failed: 1");
+    }
 }
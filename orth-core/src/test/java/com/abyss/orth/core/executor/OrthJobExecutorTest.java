@@ -20,6 +20,7 @@ import com.abyss.orth.core.handler.IJobHandler;
 import com.abyss.orth.core.handler.annotation.OrthJob;
 import com.abyss.orth.core.log.OrthJobFileAppender;
 import com.abyss.orth.core.openapi.AdminBiz;
+import com.abyss.orth.core.openapi.model.ExecutorLoad;
 import com.abyss.orth.core.thread.JobThread;
 
 /**
@@ -248,6 +249,27 @@ class OrthJobExecutorTest extends AbstractUnitTest {
         OrthJobExecutor.removeJobThread(jobId, "test cleanup");
     }
 
+    @Test
+    void testCurrentLoad_idleJobThreads_shouldCountThreadsOnly() {
+        // Given
+        IJobHandler handler = new TestJobHandler();
+        OrthJobExecutor.registJobThread(1, handler, "test");
+        OrthJobExecutor.registJobThread(2, handler, "test");
+
+        // When
+        ExecutorLoad load = OrthJobExecutor.currentLoad();
+
+        // Then
+        assertThat(load.getJobThreads()).isEqualTo(2);
+        assertThat(load.getQueuedTriggers()).isZero();
+        assertThat(load.getRunningWorkers()).isZero();
+        assertThat(load.getProcessCpu()).isBetween(-1.0, 1.0);
+
+        // Cleanup
+        OrthJobExecutor.removeJobThread(1, "test cleanup");
+        OrthJobExecutor.removeJobThread(2, "test cleanup");
+    }
+
     @Test
     void testLoadJobThread_nonExistentThread_shouldReturnNull() {
         // When
@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.awaitility.Awaitility.await;
 import static org.mockito.Mockito.*;
 
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -39,6 +40,7 @@ import com.xxl.tool.response.Response;
  *   <li>Block strategy application (SERIAL, DISCARD_LATER, COVER_EARLY)
  *   <li>Kill job (running, non-existent)
  *   <li>Log retrieval
+ *   <li>Batch run
  *   <li>Concurrent same job triggers
  * </ul>
  */
@@ -146,6 +148,26 @@ class ExecutorBizImplTest extends AbstractUnitTest {
         assertThat(response.getMsg()).contains("not found");
     }
 
+    @Test
+    void testRunBatch_shouldReturnOneResultPerRequestInOrder() throws Exception {
+        // Given - second request names an unknown handler
+        List<TriggerRequest> requests =
+                List.of(
+                        createBeanTriggerRequest(TEST_JOB_ID, TEST_HANDLER_NAME),
+                        createBeanTriggerRequest(TEST_JOB_ID + 1, "nonExistentHandler"));
+
+        // When
+        Response<List<Response<String>>> response = executorBiz.runBatch(requests);
+
+        // Then
+        assertThat(response.isSuccess()).isTrue();
+        assertThat(response.getData()).hasSize(2);
+        assertThat(response.getData().get(0).isSuccess()).isTrue();
+        assertThat(response.getData().get(1).isSuccess()).isFalse();
+        assertThat(response.getData().get(1).getMsg()).contains("not found");
+        await().atMost(5, TimeUnit.SECONDS).until(() -> testJobHandler.getExecutionCount() > 0);
+    }
+
     @Test
     void testRun_beanGlueType_handlerUpdate_shouldKillOldThread() throws Exception {
         // Given - first execution with original handler
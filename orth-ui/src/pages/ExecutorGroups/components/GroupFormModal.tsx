@@ -1,5 +1,5 @@
 import { useEffect } from 'react';
-import { Modal, Form, Input, Radio, message } from 'antd';
+import { Modal, Form, Input, InputNumber, Radio, Space, message } from 'antd';
 import { useMutation } from '@tanstack/react-query';
 import { showError } from '../../../api/client';
 import { useTranslation } from 'react-i18next';
@@ -58,7 +58,7 @@ export default function GroupFormModal({ open, group, onClose, onSuccess }: Prop
             width={isMobile ? '95vw' : undefined}
             destroyOnClose
         >
-            <Form form={form} layout="vertical" initialValues={{ addressType: 0 }}>
+            <Form form={form} layout="vertical" initialValues={{ addressType: 0, triggerRate: 0, triggerBurst: 0 }}>
                 <Form.Item
                     name="appname"
                     label={t('form.appName')}
@@ -100,6 +100,22 @@ export default function GroupFormModal({ open, group, onClose, onSuccess }: Prop
                         />
                     </Form.Item>
                 )}
+                <Space size="middle" wrap>
+                    <Form.Item
+                        name="triggerRate"
+                        label={t('form.triggerRate')}
+                        tooltip={t('form.triggerRateTooltip')}
+                    >
+                        <InputNumber min={0} precision={0} addonAfter="/s" />
+                    </Form.Item>
+                    <Form.Item
+                        name="triggerBurst"
+                        label={t('form.triggerBurst')}
+                        tooltip={t('form.triggerBurstTooltip')}
+                    >
+                        <InputNumber min={0} precision={0} />
+                    </Form.Item>
+                </Space>
             </Form>
         </Modal>
     );
@@ -76,9 +76,44 @@ export default function ExecutorGroupsPage() {
                     r.addressType === 0
                         ? (r.registryList ?? [])
                         : (r.addressList ?? '').split(',').filter(Boolean);
-                return list.length > 0 ? list.join(', ') : '-';
+                if (list.length === 0) return '-';
+                const open = list.filter(
+                    (a) => (r.circuitStates?.[a] ?? 'CLOSED') !== 'CLOSED',
+                );
+                if (open.length === 0) return list.join(', ');
+                return (
+                    <>
+                        {list.map((a) =>
+                            open.includes(a) ? (
+                                <Tag key={a} color="red">
+                                    {a} ({r.circuitStates?.[a]})
+                                </Tag>
+                            ) : (
+                                <Tag key={a}>{a}</Tag>
+                            ),
+                        )}
+                    </>
+                );
             },
         },
+        {
+            title: t('columns.rateLimit'),
+            dataIndex: 'triggerRate',
+            width: 120,
+            render: (v: number, r: JobGroup) =>
+                v > 0 ? (
+                    <Tag
+                        color={
+                            (r.triggerRateUtilization ?? 0) >= 1 ? 'red' : undefined
+                        }
+                    >
+                        {v}/s ·{' '}
+                        {Math.round((r.triggerRateUtilization ?? 0) * 100)}%
+                    </Tag>
+                ) : (
+                    '-'
+                ),
+        },
         ...(isMobile
             ? []
             : [
@@ -31,9 +31,11 @@ export default function JobFormModal({ open, job, groups, onClose, onSuccess }:
     const blockStrategyOptions = useEnumOptions('ExecutorBlockStrategyEnum');
     const scheduleTypeOptions = useEnumOptions('ScheduleTypeEnum');
     const misfireOptions = useEnumOptions('MisfireStrategyEnum');
+    const priorityOptions = useEnumOptions('JobPriorityEnum');
 
     const [scheduleType, setScheduleType] = useState('NONE');
     const [blockStrategy, setBlockStrategy] = useState('SERIAL_EXECUTION');
+    const [routeStrategy, setRouteStrategy] = useState('FIRST');
     const [nextTimes, setNextTimes] = useState<string[]>([]);
     const [superTaskOptions, setSuperTaskOptions] = useState<
         { value: number; label: string }[]
@@ -44,6 +46,7 @@ export default function JobFormModal({ open, job, groups, onClose, onSuccess }:
             form.setFieldsValue(job);
             setScheduleType(job.scheduleType);
             setBlockStrategy(job.executorBlockStrategy || 'SERIAL_EXECUTION');
+            setRouteStrategy(job.executorRouteStrategy || 'FIRST');
             if (job.superTaskId && job.superTaskId > 0) {
                 setSuperTaskOptions([
                     {
@@ -58,6 +61,7 @@ export default function JobFormModal({ open, job, groups, onClose, onSuccess }:
             form.resetFields();
             setScheduleType('NONE');
             setBlockStrategy('SERIAL_EXECUTION');
+            setRouteStrategy('FIRST');
             setNextTimes([]);
             setSuperTaskOptions([]);
         }
@@ -132,11 +136,14 @@ export default function JobFormModal({ open, job, groups, onClose, onSuccess }:
                     glueType: 'BEAN',
                     scheduleType: 'NONE',
                     misfireStrategy: 'DO_NOTHING',
+                    scheduleJitter: 0,
+                    priority: 'NORMAL',
                     executorRouteStrategy: 'FIRST',
                     executorBlockStrategy: 'SERIAL_EXECUTION',
                     executorConcurrency: 1,
                     executorTimeout: 0,
                     executorFailRetryCount: 0,
+                    shardCount: 0,
                 }}
             >
                 <Tabs
@@ -240,6 +247,31 @@ export default function JobFormModal({ open, job, groups, onClose, onSuccess }:
                                             />
                                         </Form.Item>
                                     )}
+                                    {scheduleType === 'FIX_RATE_MS' && (
+                                        <Form.Item
+                                            name="scheduleConf"
+                                            label={t('form.labels.intervalMs')}
+                                            rules={[{ required: true }]}
+                                        >
+                                            <InputNumber
+                                                min={100}
+                                                style={{ width: '100%' }}
+                                            />
+                                        </Form.Item>
+                                    )}
+                                    {(scheduleType === 'CRON' || scheduleType === 'FIX_RATE') && (
+                                        <Form.Item
+                                            name="scheduleJitter"
+                                            label={t('form.labels.scheduleJitter')}
+                                            tooltip={t('form.labels.scheduleJitterTooltip')}
+                                        >
+                                            <InputNumber
+                                                min={0}
+                                                max={60}
+                                                style={{ width: '100%' }}
+                                            />
+                                        </Form.Item>
+                                    )}
                                     {nextTimes.length > 0 && (
                                         <List
                                             size="small"
@@ -258,6 +290,14 @@ export default function JobFormModal({ open, job, groups, onClose, onSuccess }:
                                     >
                                         <Select options={misfireOptions} />
                                     </Form.Item>
+                                    <Form.Item
+                                        name="priority"
+                                        label={t('form.labels.priority')}
+                                        tooltip={t('form.labels.priorityTooltip')}
+                                        rules={[{ required: true }]}
+                                    >
+                                        <Select options={priorityOptions} />
+                                    </Form.Item>
                                     <Form.Item
                                         name="executorBlockStrategy"
                                         label={t('form.labels.blockStrategy')}
@@ -314,8 +354,24 @@ export default function JobFormModal({ open, job, groups, onClose, onSuccess }:
                                         label={t('form.labels.routeStrategy')}
                                         rules={[{ required: true }]}
                                     >
-                                        <Select options={routeStrategyOptions} />
+                                        <Select
+                                            options={routeStrategyOptions}
+                                            onChange={(v) => setRouteStrategy(v as string)}
+                                        />
                                     </Form.Item>
+                                    {routeStrategy === 'SHARDING_BROADCAST' && (
+                                        <Form.Item
+                                            name="shardCount"
+                                            label={t('form.labels.shardCount')}
+                                            tooltip={t('form.labels.shardCountTooltip')}
+                                        >
+                                            <InputNumber
+                                                min={0}
+                                                max={65536}
+                                                style={{ width: '100%' }}
+                                            />
+                                        </Form.Item>
+                                    )}
                                     <Form.Item
                                         name="executorTimeout"
                                         label={t('form.labels.timeoutSeconds')}
@@ -6,6 +6,10 @@ export interface JobGroup {
   addressList: string;
   updateTime: string;
   registryList: string[];
+  triggerRate: number;
+  triggerBurst: number;
+  triggerRateUtilization?: number;
+  circuitStates?: Record<string, 'CLOSED' | 'OPEN' | 'HALF_OPEN'>;
 }
 
 export interface GroupQueryParams {
@@ -9,6 +9,8 @@ export interface JobInfo {
   scheduleType: string;
   scheduleConf: string;
   misfireStrategy: string;
+  scheduleJitter: number;
+  priority: string;
   executorRouteStrategy: string;
   executorHandler: string;
   executorParam: string;
@@ -16,6 +18,7 @@ export interface JobInfo {
   executorConcurrency: number;
   executorTimeout: number;
   executorFailRetryCount: number;
+  shardCount: number;
   glueType: string;
   glueSource: string;
   glueRemark: string;